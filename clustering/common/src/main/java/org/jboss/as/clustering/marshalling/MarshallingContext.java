@@ -38,4 +38,36 @@ public interface MarshallingContext {
     Unmarshaller createUnmarshaller(int version) throws IOException;
 
     Marshaller createMarshaller(int version) throws IOException;
+
+    /**
+     * Returns an unmarshaller for the specified version, reusing a previously released unmarshaller if one is available.
+     * Unmarshallers that completed successfully should be returned via {@link #releaseUnmarshaller(int, Unmarshaller)} rather than closed.
+     * @param version a marshalling version
+     * @return an unmarshaller
+     * @throws IOException if the unmarshaller could not be created
+     */
+    Unmarshaller acquireUnmarshaller(int version) throws IOException;
+
+    /**
+     * Makes a finished unmarshaller, obtained via {@link #acquireUnmarshaller(int)}, available for reuse.
+     * @param version the version with which the unmarshaller was acquired
+     * @param unmarshaller a finished unmarshaller
+     */
+    void releaseUnmarshaller(int version, Unmarshaller unmarshaller);
+
+    /**
+     * Returns a marshaller for the specified version, reusing a previously released marshaller if one is available.
+     * Marshallers that completed successfully should be returned via {@link #releaseMarshaller(int, Marshaller)} rather than closed.
+     * @param version a marshalling version
+     * @return a marshaller
+     * @throws IOException if the marshaller could not be created
+     */
+    Marshaller acquireMarshaller(int version) throws IOException;
+
+    /**
+     * Makes a finished marshaller, obtained via {@link #acquireMarshaller(int)}, available for reuse.
+     * @param version the version with which the marshaller was acquired
+     * @param marshaller a finished marshaller
+     */
+    void releaseMarshaller(int version, Marshaller marshaller);
 }
@@ -29,11 +29,10 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.marshalling.Marshaller;
 import org.jboss.marshalling.Marshalling;
-import org.jboss.marshalling.SimpleDataInput;
-import org.jboss.marshalling.SimpleDataOutput;
 import org.jboss.marshalling.Unmarshaller;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
@@ -45,6 +44,20 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 public class SimpleMarshalledValue<T> implements MarshalledValue<T, MarshallingContext>, Externalizable {
     private static final long serialVersionUID = -8852566958387608376L;
 
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 128 * 1024;
+
+    // Per-thread output buffer, reused across marshalling operations
+    private static final ThreadLocal<ByteArrayOutputStream> BUFFER = new ThreadLocal<>();
+
+    // Marshalled size of the most recent value of a given class, used to size new buffers
+    private static final ClassValue<AtomicInteger> SIZE_HINTS = new ClassValue<AtomicInteger>() {
+        @Override
+        protected AtomicInteger computeValue(Class<?> targetClass) {
+            return new AtomicInteger();
+        }
+    };
+
     private transient volatile MarshallingContext context;
     private transient volatile T object;
     private transient volatile byte[] bytes;
@@ -68,18 +81,43 @@ public class SimpleMarshalledValue<T> implements MarshalledValue<T, MarshallingC
         if (bytes != null) return bytes;
         if (this.object == null) return null;
         int version = this.context.getCurrentVersion();
-        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        AtomicInteger sizeHint = SIZE_HINTS.get(this.object.getClass());
+        // Reuse this thread's buffer, unless it is already in use by an enclosing marshalled value
+        ByteArrayOutputStream output = BUFFER.get();
+        if (output != null) {
+            BUFFER.remove();
+        } else {
+            output = new ByteArrayOutputStream(Math.max(sizeHint.get(), INITIAL_BUFFER_SIZE));
+        }
         ClassLoader loader = setThreadContextClassLoader(this.context.getClassLoader());
-        try (SimpleDataOutput data = new SimpleDataOutput(Marshalling.createByteOutput(output))) {
-            data.writeInt(version);
-            try (Marshaller marshaller = this.context.createMarshaller(version)) {
-                marshaller.start(data);
+        try {
+            output.reset();
+            output.write(version >>> 24);
+            output.write(version >>> 16);
+            output.write(version >>> 8);
+            output.write(version);
+            Marshaller marshaller = this.context.acquireMarshaller(version);
+            boolean finished = false;
+            try {
+                marshaller.start(Marshalling.createByteOutput(output));
                 marshaller.writeObject(this.object);
                 marshaller.finish();
-                return output.toByteArray();
+                finished = true;
+            } finally {
+                if (finished) {
+                    this.context.releaseMarshaller(version, marshaller);
+                } else {
+                    marshaller.close();
+                }
             }
+            sizeHint.set(output.size());
+            return output.toByteArray();
         } finally {
             setThreadContextClassLoader(loader);
+            // Don't retain unusually large buffers
+            if (output.size() <= MAX_RETAINED_BUFFER_SIZE) {
+                BUFFER.set(output);
+            }
         }
     }
 
@@ -91,16 +129,26 @@ public class SimpleMarshalledValue<T> implements MarshalledValue<T, MarshallingC
     public synchronized T get(MarshallingContext context) throws IOException, ClassNotFoundException {
         if (this.object == null) {
             this.context = context;
-            if (this.bytes != null) {
-                ByteArrayInputStream input = new ByteArrayInputStream(this.bytes);
+            byte[] bytes = this.bytes;
+            if (bytes != null) {
+                int version = ((bytes[0] & 0xff) << 24) | ((bytes[1] & 0xff) << 16) | ((bytes[2] & 0xff) << 8) | (bytes[3] & 0xff);
+                ByteArrayInputStream input = new ByteArrayInputStream(bytes, 4, bytes.length - 4);
                 ClassLoader loader = setThreadContextClassLoader(this.context.getClassLoader());
-                try (SimpleDataInput data = new SimpleDataInput(Marshalling.createByteInput(input))) {
-                    int version = data.readInt();
-                    try (Unmarshaller unmarshaller = context.createUnmarshaller(version)) {
-                        unmarshaller.start(data);
+                try {
+                    Unmarshaller unmarshaller = context.acquireUnmarshaller(version);
+                    boolean finished = false;
+                    try {
+                        unmarshaller.start(Marshalling.createByteInput(input));
                         this.object = (T) unmarshaller.readObject();
                         unmarshaller.finish();
+                        finished = true;
                         this.bytes = null; // Free up memory
+                    } finally {
+                        if (finished) {
+                            context.releaseUnmarshaller(version, unmarshaller);
+                        } else {
+                            unmarshaller.close();
+                        }
                     }
                 } finally {
                     setThreadContextClassLoader(loader);
@@ -22,8 +22,13 @@
 
 package org.jboss.as.clustering.marshalling;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.lang.ref.WeakReference;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.marshalling.Marshaller;
 import org.jboss.marshalling.MarshallerFactory;
@@ -35,6 +40,11 @@ import org.jboss.marshalling.Unmarshaller;
  */
 public class SimpleMarshallingContext implements MarshallingContext {
 
+    // Maximum number of idle marshallers and unmarshallers retained per version
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final ConcurrentMap<Integer, BlockingQueue<Marshaller>> marshallers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, BlockingQueue<Unmarshaller>> unmarshallers = new ConcurrentHashMap<>();
     private final MarshallerFactory factory;
     private final VersionedMarshallingConfiguration configuration;
     private final WeakReference<ClassLoader> loader;
@@ -65,6 +75,52 @@ public class SimpleMarshallingContext implements MarshallingContext {
         return this.factory.createMarshaller(this.getMarshallingConfiguration(version));
     }
 
+    @Override
+    public Unmarshaller acquireUnmarshaller(int version) throws IOException {
+        Unmarshaller unmarshaller = getPool(this.unmarshallers, version).poll();
+        return (unmarshaller != null) ? unmarshaller : this.createUnmarshaller(version);
+    }
+
+    @Override
+    public void releaseUnmarshaller(int version, Unmarshaller unmarshaller) {
+        if (!getPool(this.unmarshallers, version).offer(unmarshaller)) {
+            close(unmarshaller);
+        }
+    }
+
+    @Override
+    public Marshaller acquireMarshaller(int version) throws IOException {
+        Marshaller marshaller = getPool(this.marshallers, version).poll();
+        return (marshaller != null) ? marshaller : this.createMarshaller(version);
+    }
+
+    @Override
+    public void releaseMarshaller(int version, Marshaller marshaller) {
+        if (!getPool(this.marshallers, version).offer(marshaller)) {
+            close(marshaller);
+        }
+    }
+
+    private static <T> BlockingQueue<T> getPool(ConcurrentMap<Integer, BlockingQueue<T>> pools, int version) {
+        BlockingQueue<T> pool = pools.get(version);
+        if (pool == null) {
+            BlockingQueue<T> newPool = new ArrayBlockingQueue<>(POOL_SIZE);
+            pool = pools.putIfAbsent(version, newPool);
+            if (pool == null) {
+                pool = newPool;
+            }
+        }
+        return pool;
+    }
+
+    private static void close(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Ignore
+        }
+    }
+
     private MarshallingConfiguration getMarshallingConfiguration(int version) {
         return this.configuration.getMarshallingConfiguration(version);
     }
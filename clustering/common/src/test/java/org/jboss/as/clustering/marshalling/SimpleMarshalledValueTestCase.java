@@ -0,0 +1,149 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.marshalling;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.marshalling.Marshalling;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SimpleMarshalledValue} covering typical session payloads, i.e. object graphs of 1 KB to 100 KB,
+ * marshalled with reused buffers and marshallers.
+ */
+public class SimpleMarshalledValueTestCase {
+
+    // Approximately 1 KB, 10 KB, 100 KB and, exceeding the retained buffer size, 200 KB
+    private static final int[] ENTRIES = new int[] { 10, 100, 1000, 2000 };
+
+    private final MarshallingContext context;
+
+    public SimpleMarshalledValueTestCase() {
+        VersionedMarshallingConfiguration configuration = new VersionedMarshallingConfiguration() {
+            @Override
+            public int getCurrentMarshallingVersion() {
+                return 0;
+            }
+
+            @Override
+            public MarshallingConfiguration getMarshallingConfiguration(int version) {
+                assertEquals(0, version);
+                return new MarshallingConfiguration();
+            }
+        };
+        this.context = new SimpleMarshallingContext(Marshalling.getMarshallerFactory("river", Marshalling.class.getClassLoader()), configuration, Thread.currentThread().getContextClassLoader());
+    }
+
+    @Test
+    public void reuse() throws Exception {
+        // Alternate between payload sizes, so that each value is marshalled into a buffer previously used for another
+        List<byte[]> expected = new ArrayList<>(ENTRIES.length);
+        for (int entries : ENTRIES) {
+            expected.add(new SimpleMarshalledValue<>(createPayload(entries), this.context).getBytes());
+        }
+        for (int i = 0; i < 3; ++i) {
+            for (int j = 0; j < ENTRIES.length; ++j) {
+                List<Map<String, Object>> payload = createPayload(ENTRIES[j]);
+                byte[] bytes = new SimpleMarshalledValue<>(payload, this.context).getBytes();
+                assertArrayEquals(expected.get(j), bytes);
+
+                SimpleMarshalledValue<Object> value = new SimpleMarshalledValue<>();
+                value.readExternal(new ObjectInputStream(new ByteArrayInputStream(externalize(bytes))));
+                assertEquals(payload, value.get(this.context));
+            }
+        }
+    }
+
+    @Test
+    public void replicate() throws Exception {
+        for (int entries : ENTRIES) {
+            List<Map<String, Object>> payload = createPayload(entries);
+            SimpleMarshalledValue<List<Map<String, Object>>> value = new SimpleMarshalledValue<>(payload, this.context);
+            SimpleMarshalledValue<List<Map<String, Object>>> replica = this.replicate(value);
+
+            assertNull(replica.peek());
+            assertEquals(payload, replica.get(this.context));
+            // Marshalled form must be stable across reused buffers and marshallers
+            assertEquals(value, replica);
+            assertEquals(value.getBytes().length, new SimpleMarshalledValue<>(payload, this.context).getBytes().length);
+        }
+    }
+
+    @Test
+    public void nested() throws Exception {
+        List<Map<String, Object>> payload = createPayload(10);
+        Map<String, Object> outer = new HashMap<>();
+        outer.put("inner", new SimpleMarshalledValue<>(payload, this.context));
+        SimpleMarshalledValue<Map<String, Object>> replica = this.replicate(new SimpleMarshalledValue<>(outer, this.context));
+
+        @SuppressWarnings("unchecked")
+        SimpleMarshalledValue<List<Map<String, Object>>> inner = (SimpleMarshalledValue<List<Map<String, Object>>>) replica.get(this.context).get("inner");
+        assertEquals(payload, inner.get(this.context));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> SimpleMarshalledValue<V> replicate(SimpleMarshalledValue<V> value) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(output)) {
+            out.writeObject(value);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            return (SimpleMarshalledValue<V>) in.readObject();
+        }
+    }
+
+    private static byte[] externalize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(output)) {
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        return output.toByteArray();
+    }
+
+    // Approximately 100 bytes per entry
+    private static List<Map<String, Object>> createPayload(int entries) {
+        List<Map<String, Object>> payload = new ArrayList<>(entries);
+        for (int i = 0; i < entries; ++i) {
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("id", Integer.valueOf(i));
+            entry.put("name", "name-" + i);
+            entry.put("description", "description of entry number " + i);
+            entry.put("amount", Double.valueOf(i * 1.5));
+            payload.add(entry);
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.ejb.infinispan;
+
+import java.util.Collection;
+
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.ee.Batch;
+import org.wildfly.clustering.ejb.infinispan.logging.InfinispanEjbLogger;
+
+/**
+ * Command that evicts multiple beans within a single batch.
+ * Nodes that predate this command only understand {@link BeanEvictionCommand}.
+ */
+public class BeanBatchEvictionCommand<I> implements Command<Void, BeanEvictionContext<I>> {
+    private static final long serialVersionUID = 2405829543817358291L;
+
+    private final Collection<I> ids;
+
+    public BeanBatchEvictionCommand(Collection<I> ids) {
+        this.ids = ids;
+    }
+
+    @Override
+    public Void execute(BeanEvictionContext<I> context) throws Exception {
+        Batch batch = context.getBatcher().createBatch();
+        boolean success = false;
+        try {
+            for (I id: this.ids) {
+                InfinispanEjbLogger.ROOT_LOGGER.tracef("Evicting stateful session bean %s", id);
+                context.getEvictor().evict(id);
+            }
+            success = true;
+        } finally {
+            if (success) {
+                batch.close();
+            } else {
+                batch.discard();
+            }
+        }
+        return null;
+    }
+}
@@ -21,20 +21,34 @@
  */
 package org.wildfly.clustering.ejb.infinispan;
 
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.as.clustering.infinispan.distribution.Locality;
+import org.wildfly.clustering.dispatcher.Command;
 import org.wildfly.clustering.dispatcher.CommandDispatcher;
 import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
 import org.wildfly.clustering.ee.Batcher;
 import org.wildfly.clustering.ee.infinispan.Evictor;
 import org.wildfly.clustering.ee.infinispan.TransactionBatch;
+import org.wildfly.clustering.ejb.BeanPassivationConfiguration;
 import org.wildfly.clustering.ejb.infinispan.logging.InfinispanEjbLogger;
 
 /**
  * Schedules a bean for eviction.
+ * Beans are queued in approximate least recently used order, without locking:
+ * rescheduling or canceling a bean leaves a stale queue entry behind, which is skipped on eviction and purged periodically.
+ * When the number of scheduled beans exceeds the maximum size, a single thread at a time evicts the excess beans,
+ * using one eviction command per batch of beans.
+ * Beans whose eviction command could not be submitted are put back at the head of the queue and retried on the next eviction.
  *
  * @author Paul Ferraro
  *
@@ -44,7 +58,12 @@ import org.wildfly.clustering.ejb.infinispan.logging.InfinispanEjbLogger;
  */
 public class BeanEvictionScheduler<I> implements Scheduler<I>, BeanEvictionContext<I> {
 
-    private final Set<I> evictionQueue = new LinkedHashSet<>();
+    private final ConcurrentMap<I, Entry<I>> entries = new ConcurrentHashMap<>();
+    private final Deque<Entry<I>> evictionQueue = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger staleEntries = new AtomicInteger();
+    // Guards eviction and purging of the eviction queue
+    private final AtomicBoolean maintaining = new AtomicBoolean(false);
     private final Batcher<TransactionBatch> batcher;
     private final Evictor<I> evictor;
     private final CommandDispatcher<BeanEvictionContext<I>> dispatcher;
@@ -67,49 +86,140 @@ public class BeanEvictionScheduler<I> implements Scheduler<I>, BeanEvictionConte
         return this.evictor;
     }
 
+    /**
+     * Returns the number of beans currently scheduled for eviction.
+     * @return the eviction queue depth
+     */
+    public int getQueueDepth() {
+        return this.size.get();
+    }
+
     @Override
     public void cancel(I id) {
-        synchronized (this.evictionQueue) {
-            this.evictionQueue.remove(id);
+        if (this.entries.remove(id) != null) {
+            this.size.decrementAndGet();
+            this.staleEntries.incrementAndGet();
         }
     }
 
     @Override
     public void cancel(Locality locality) {
-        synchronized (this.evictionQueue) {
-            Iterator<I> beans = this.evictionQueue.iterator();
-            while (beans.hasNext()) {
-                I id = beans.next();
-                if (!locality.isLocal(id)) {
-                    beans.remove();
-                }
+        for (I id: this.entries.keySet()) {
+            if (!locality.isLocal(id)) {
+                this.cancel(id);
             }
         }
     }
 
     @Override
     public void schedule(I id) {
-        synchronized (this.evictionQueue) {
-            this.evictionQueue.add(id);
-            // Trigger eviction of oldest bean if necessary
-            if (this.evictionQueue.size() > this.config.getConfiguration().getMaxSize()) {
-                Iterator<I> beans = this.evictionQueue.iterator();
-                I bean = beans.next();
-                try {
-                    this.dispatcher.submitOnCluster(new BeanEvictionCommand<>(bean));
-                    beans.remove();
-                } catch (Exception e) {
-                    InfinispanEjbLogger.ROOT_LOGGER.failedToPassivateBean(e, bean);
+        Entry<I> entry = new Entry<>(id);
+        if (this.entries.put(id, entry) != null) {
+            this.staleEntries.incrementAndGet();
+        } else {
+            this.size.incrementAndGet();
+        }
+        this.evictionQueue.add(entry);
+        // Trigger eviction of oldest beans if necessary
+        BeanPassivationConfiguration configuration = this.config.getConfiguration();
+        int maxSize = configuration.getMaxSize();
+        int batchSize = Math.max(configuration.getEvictionBatchSize(), 1);
+        boolean purge = this.isPurgeNeeded(batchSize);
+        // Threads that fail to acquire the maintenance flag rely on its holder to observe their updates
+        while ((purge || (this.size.get() > maxSize)) && this.maintaining.compareAndSet(false, true)) {
+            boolean evicted;
+            try {
+                if (purge) {
+                    this.purge();
+                    purge = false;
+                }
+                evicted = this.evict(maxSize, batchSize);
+            } finally {
+                this.maintaining.set(false);
+            }
+            // Requeued beans are retried on the next schedule
+            if (!evicted) break;
+        }
+    }
+
+    private boolean evict(int maxSize, int batchSize) {
+        List<I> beans = new ArrayList<>();
+        while (this.size.get() > maxSize) {
+            Entry<I> entry = this.evictionQueue.poll();
+            if (entry == null) break;
+            if (this.entries.remove(entry.id, entry)) {
+                this.size.decrementAndGet();
+                beans.add(entry.id);
+                if (beans.size() == batchSize) {
+                    if (!this.submit(beans)) return false;
+                    beans = new ArrayList<>();
                 }
+            } else {
+                this.staleEntries.decrementAndGet();
+            }
+        }
+        return beans.isEmpty() || this.submit(beans);
+    }
+
+    private boolean submit(List<I> beans) {
+        // A single bean is evicted using the command understood by nodes that predate batch eviction
+        Command<Void, BeanEvictionContext<I>> command = (beans.size() == 1) ? new BeanEvictionCommand<>(beans.get(0)) : new BeanBatchEvictionCommand<>(beans);
+        try {
+            this.dispatcher.submitOnCluster(command);
+            return true;
+        } catch (Exception e) {
+            for (I bean: beans) {
+                InfinispanEjbLogger.ROOT_LOGGER.failedToPassivateBean(e, bean);
+            }
+            this.requeue(beans);
+            return false;
+        }
+    }
+
+    // Puts the specified beans back at the head of the queue, in their original order, unless they were rescheduled in the meantime
+    private void requeue(List<I> beans) {
+        ListIterator<I> iterator = beans.listIterator(beans.size());
+        while (iterator.hasPrevious()) {
+            Entry<I> entry = new Entry<>(iterator.previous());
+            if (this.entries.putIfAbsent(entry.id, entry) == null) {
+                this.size.incrementAndGet();
+                this.evictionQueue.addFirst(entry);
+            }
+        }
+    }
+
+    // Stale entries are purged once they outnumber the scheduled beans
+    private boolean isPurgeNeeded(int batchSize) {
+        int stale = this.staleEntries.get();
+        return (stale > batchSize) && (stale > this.size.get());
+    }
+
+    private void purge() {
+        Iterator<Entry<I>> entries = this.evictionQueue.iterator();
+        while (entries.hasNext()) {
+            Entry<I> entry = entries.next();
+            if (this.entries.get(entry.id) != entry) {
+                entries.remove();
+                this.staleEntries.decrementAndGet();
             }
         }
     }
 
     @Override
     public void close() {
-        synchronized (this.evictionQueue) {
-            this.evictionQueue.clear();
-        }
+        this.entries.clear();
+        this.evictionQueue.clear();
+        this.size.set(0);
+        this.staleEntries.set(0);
         this.dispatcher.close();
     }
+
+    // Identity of an entry distinguishes the most recent scheduling of a bean from stale ones
+    private static class Entry<I> {
+        final I id;
+
+        Entry(I id) {
+            this.id = id;
+        }
+    }
 }
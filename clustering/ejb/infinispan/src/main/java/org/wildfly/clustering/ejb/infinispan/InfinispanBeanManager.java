@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.infinispan.Cache;
 import org.infinispan.affinity.KeyAffinityService;
@@ -91,11 +92,13 @@ public class InfinispanBeanManager<G, I, T> implements BeanManager<G, I, T, Tran
     private final ExpirationConfiguration<T> expiration;
     private final PassivationConfiguration<T> passivation;
     private final AtomicInteger passiveCount = new AtomicInteger();
+    private final AtomicLong passivationCount = new AtomicLong();
     private final Batcher<TransactionBatch> batcher;
     private final Invoker invoker = new RetryingInvoker(0, 10, 100);
 
     volatile CommandDispatcher<Scheduler<I>> dispatcher;
     private volatile Scheduler<I> scheduler;
+    private volatile BeanEvictionScheduler<I> evictionScheduler;
 
     public InfinispanBeanManager(InfinispanBeanManagerConfiguration<T> configuration, final Configuration<I, BeanKey<I>, BeanEntry<G>, BeanFactory<G, I, T>> beanConfiguration, final Configuration<G, G, BeanGroupEntry<I, T>, BeanGroupFactory<G, I, T>> groupConfiguration) {
         this.beanName = configuration.getBeanName();
@@ -152,7 +155,9 @@ public class InfinispanBeanManager<G, I, T> implements BeanManager<G, I, T, Tran
             schedulers.add(new BeanExpirationScheduler<>(this.batcher, new ExpiredBeanRemover<>(this.beanFactory), this.expiration));
         }
         if (this.passivation.isEvictionAllowed()) {
-            schedulers.add(new BeanEvictionScheduler<>(this.beanName + ".eviction", this.batcher, this.beanFactory, this.dispatcherFactory, this.passivation));
+            BeanEvictionScheduler<I> evictionScheduler = new BeanEvictionScheduler<>(this.beanName + ".eviction", this.batcher, this.beanFactory, this.dispatcherFactory, this.passivation);
+            this.evictionScheduler = evictionScheduler;
+            schedulers.add(evictionScheduler);
         }
         this.scheduler = new Scheduler<I>() {
             @Override
@@ -308,10 +313,22 @@ public class InfinispanBeanManager<G, I, T> implements BeanManager<G, I, T, Tran
         return this.passiveCount.get();
     }
 
+    @Override
+    public long getPassivationCount() {
+        return this.passivationCount.get();
+    }
+
+    @Override
+    public int getPassivationQueueDepth() {
+        BeanEvictionScheduler<I> scheduler = this.evictionScheduler;
+        return (scheduler != null) ? scheduler.getQueueDepth() : 0;
+    }
+
     @CacheEntryPassivated
     public void passivated(CacheEntryPassivatedEvent<BeanKey<I>, BeanEntry<G>> event) {
         if (event.isPre()) {
             this.passiveCount.incrementAndGet();
+            this.passivationCount.incrementAndGet();
             if (!this.passivation.isPersistent()) {
                 G groupId = event.getValue().getGroupId();
                 BeanGroupEntry<I, T> entry = this.groupFactory.findValue(groupId);
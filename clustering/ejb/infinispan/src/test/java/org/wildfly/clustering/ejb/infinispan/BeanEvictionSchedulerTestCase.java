@@ -24,6 +24,7 @@ package org.wildfly.clustering.ejb.infinispan;
 import static org.mockito.Mockito.*;
 import static org.junit.Assert.*;
 
+import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.wildfly.clustering.dispatcher.Command;
@@ -36,48 +37,115 @@ import org.wildfly.clustering.ejb.Bean;
 import org.wildfly.clustering.ejb.BeanPassivationConfiguration;
 
 public class BeanEvictionSchedulerTestCase {
+    private final String name = "bean";
+    private final CommandDispatcherFactory dispatcherFactory = mock(CommandDispatcherFactory.class);
+    private final CommandDispatcher<BeanEvictionContext<String>> dispatcher = mock(CommandDispatcher.class);
+    private final Batcher<TransactionBatch> batcher = mock(Batcher.class);
+    private final TransactionBatch batch = mock(TransactionBatch.class);
+    private final Evictor<String> evictor = mock(Evictor.class);
+    private final PassivationConfiguration<Bean<Object, String, Object>> config = mock(PassivationConfiguration.class);
+    private final BeanPassivationConfiguration passivationConfig = mock(BeanPassivationConfiguration.class);
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void init() {
+        when(this.dispatcherFactory.createCommandDispatcher(same(this.name), any(BeanEvictionContext.class))).thenReturn(this.dispatcher);
+        when(this.config.getConfiguration()).thenReturn(this.passivationConfig);
+        when(this.passivationConfig.getEvictionBatchSize()).thenReturn(100);
+        when(this.batcher.createBatch()).thenReturn(this.batch);
+    }
+
+    private BeanEvictionScheduler<String> createScheduler(int maxSize) {
+        when(this.passivationConfig.getMaxSize()).thenReturn(maxSize);
+        return new BeanEvictionScheduler<>(this.name, this.batcher, this.evictor, this.dispatcherFactory, this.config);
+    }
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
     @Test
     public void test() throws Exception {
-        String name = "bean";
         String evictedBeanId = "evicted";
         String activeBeanId = "active";
-        CommandDispatcherFactory dispatcherFactory = mock(CommandDispatcherFactory.class);
-        CommandDispatcher<BeanEvictionContext<String>> dispatcher = mock(CommandDispatcher.class);
-        Batcher<TransactionBatch> batcher = mock(Batcher.class);
-        TransactionBatch batch = mock(TransactionBatch.class);
-        Evictor<String> evictor = mock(Evictor.class);
-        PassivationConfiguration<Bean<Object, String, Object>> config = mock(PassivationConfiguration.class);
-        BeanPassivationConfiguration passivationConfig = mock(BeanPassivationConfiguration.class);
         ArgumentCaptor<Command> capturedCommand = ArgumentCaptor.forClass(Command.class);
         ArgumentCaptor<BeanEvictionContext> capturedContext = ArgumentCaptor.forClass(BeanEvictionContext.class);
 
-        when(dispatcherFactory.createCommandDispatcher(same(name), (BeanEvictionContext<String>) capturedContext.capture())).thenReturn(dispatcher);
-        when(config.getConfiguration()).thenReturn(passivationConfig);
-        when(passivationConfig.getMaxSize()).thenReturn(1);
-
-        try (Scheduler<String> scheduler = new BeanEvictionScheduler<>(name, batcher, evictor, dispatcherFactory, config)) {
+        try (Scheduler<String> scheduler = this.createScheduler(1)) {
+            verify(this.dispatcherFactory).createCommandDispatcher(same(this.name), (BeanEvictionContext<String>) capturedContext.capture());
             BeanEvictionContext<String> context = capturedContext.getValue();
 
             assertSame(scheduler, context);
             
             scheduler.schedule(evictedBeanId);
 
-            verifyZeroInteractions(dispatcher);
+            verifyZeroInteractions(this.dispatcher);
 
             scheduler.schedule(activeBeanId);
 
-            verify(dispatcher).submitOnCluster(capturedCommand.capture());
-
-            when(batcher.createBatch()).thenReturn(batch);
+            verify(this.dispatcher).submitOnCluster(capturedCommand.capture());
 
             capturedCommand.getValue().execute(context);
 
-            verify(evictor).evict(evictedBeanId);
-            verify(evictor, never()).evict(activeBeanId);
-            verify(batch).close();
+            verify(this.evictor).evict(evictedBeanId);
+            verify(this.evictor, never()).evict(activeBeanId);
+            verify(this.batch).close();
+        }
+
+        verify(this.dispatcher).close();
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    public void leastRecentlyUsed() throws Exception {
+        ArgumentCaptor<Command> capturedCommand = ArgumentCaptor.forClass(Command.class);
+
+        try (BeanEvictionScheduler<String> scheduler = this.createScheduler(2)) {
+            scheduler.schedule("a");
+            scheduler.schedule("b");
+            // Rescheduling makes "a" the most recently used bean
+            scheduler.schedule("a");
+            scheduler.cancel("c");
+
+            assertEquals(2, scheduler.getQueueDepth());
+            verifyZeroInteractions(this.dispatcher);
+
+            scheduler.schedule("c");
+
+            assertEquals(2, scheduler.getQueueDepth());
+            verify(this.dispatcher).submitOnCluster(capturedCommand.capture());
+
+            capturedCommand.getValue().execute(scheduler);
+
+            verify(this.evictor).evict("b");
+            verify(this.evictor, never()).evict("a");
+            verify(this.evictor, never()).evict("c");
+            verify(this.batch).close();
         }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    public void retry() throws Exception {
+        ArgumentCaptor<Command> capturedCommand = ArgumentCaptor.forClass(Command.class);
+
+        when(this.dispatcher.submitOnCluster(any(Command.class))).thenThrow(new Exception()).thenReturn(null);
+
+        try (BeanEvictionScheduler<String> scheduler = this.createScheduler(1)) {
+            scheduler.schedule("a");
+            scheduler.schedule("b");
+
+            // Submission failed, so "a" remains queued
+            assertEquals(2, scheduler.getQueueDepth());
 
-        verify(dispatcher).close();
+            scheduler.schedule("c");
+
+            // "a" is retried first, together with "b"
+            verify(this.dispatcher, times(2)).submitOnCluster(capturedCommand.capture());
+            assertEquals(1, scheduler.getQueueDepth());
+
+            capturedCommand.getAllValues().get(1).execute(scheduler);
+
+            verify(this.evictor).evict("a");
+            verify(this.evictor).evict("b");
+            verify(this.evictor, never()).evict("c");
+        }
     }
 }
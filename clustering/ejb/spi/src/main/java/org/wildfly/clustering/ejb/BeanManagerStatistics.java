@@ -25,4 +25,16 @@ public interface BeanManagerStatistics {
     int getActiveCount();
 
     int getPassiveCount();
+
+    /**
+     * Returns the total number of beans passivated since this bean manager started.
+     * @return a number of passivations
+     */
+    long getPassivationCount();
+
+    /**
+     * Returns the number of beans awaiting eviction.
+     * @return a number of beans
+     */
+    int getPassivationQueueDepth();
 }
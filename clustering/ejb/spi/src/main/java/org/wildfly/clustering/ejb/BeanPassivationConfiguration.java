@@ -25,4 +25,8 @@ public interface BeanPassivationConfiguration {
     int getMaxSize();
 
     void setMaxSize(int size);
+
+    int getEvictionBatchSize();
+
+    void setEvictionBatchSize(int size);
 }
@@ -31,6 +31,7 @@ import org.infinispan.Cache;
 import org.infinispan.affinity.KeyAffinityService;
 import org.infinispan.affinity.KeyAffinityServiceImpl;
 import org.infinispan.affinity.KeyGenerator;
+import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.remoting.transport.Address;
 import org.wildfly.security.manager.action.GetAccessControlContextAction;
 import org.jboss.msc.service.Service;
@@ -43,7 +44,8 @@ import static java.security.AccessController.doPrivileged;
 
 /**
  * Key affinity service factory that will only generates keys for use by the local node.
- * Returns a trivial implementation if the specified cache is not distributed.
+ * Keys for distributed caches are generated on demand by a {@link LocalityKeyAffinityService}.
+ * Returns a trivial implementation if the specified cache is not clustered.
  * @author Paul Ferraro
  */
 public class KeyAffinityServiceFactoryService implements Service<KeyAffinityServiceFactory>, KeyAffinityServiceFactory {
@@ -55,6 +57,7 @@ public class KeyAffinityServiceFactoryService implements Service<KeyAffinityServ
     }
 
     private final int bufferSize;
+    private final KeyAffinityStatistics statistics = new KeyAffinityStatistics();
     private volatile ExecutorService executor;
 
     public KeyAffinityServiceFactoryService(int bufferSize) {
@@ -80,10 +83,21 @@ public class KeyAffinityServiceFactoryService implements Service<KeyAffinityServ
         this.executor.shutdown();
     }
 
+    /**
+     * Returns the statistics of the keys generated for the distributed caches of this container.
+     * @return key affinity statistics
+     */
+    public KeyAffinityStatistics getStatistics() {
+        return this.statistics;
+    }
+
     @Override
     public <K> KeyAffinityService<K> createService(Cache<K, ?> cache, KeyGenerator<K> generator) {
-        boolean clustered = cache.getCacheConfiguration().clustering().cacheMode().isClustered();
-        return clustered ? new KeyAffinityServiceImpl<>(this.executor, cache, generator, this.bufferSize, Collections.singleton(cache.getCacheManager().getAddress()), false) : new SimpleKeyAffinityService<>(generator);
+        CacheMode mode = cache.getCacheConfiguration().clustering().cacheMode();
+        if (mode.isDistributed()) {
+            return new LocalityKeyAffinityService<>(cache, generator, this.statistics);
+        }
+        return mode.isClustered() ? new KeyAffinityServiceImpl<>(this.executor, cache, generator, this.bufferSize, Collections.singleton(cache.getCacheManager().getAddress()), false) : new SimpleKeyAffinityService<>(generator);
     }
 
     private static class SimpleKeyAffinityService<K> implements KeyAffinityService<K> {
@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.infinispan.affinity;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics of the keys generated by the {@link LocalityKeyAffinityService} instances of a cache container.
+ */
+public class KeyAffinityStatistics {
+
+    private final AtomicLong keys = new AtomicLong();
+    private final AtomicLong generationNanos = new AtomicLong();
+    private final AtomicLong maxGenerationNanos = new AtomicLong();
+    private final AtomicLong exhaustions = new AtomicLong();
+
+    /**
+     * Records the generation of a key.
+     * @param nanos the time needed to generate the key, in nanoseconds
+     * @param exhausted indicates whether the allotted number of attempts was exhausted
+     */
+    void record(long nanos, boolean exhausted) {
+        this.keys.incrementAndGet();
+        this.generationNanos.addAndGet(nanos);
+        long max = this.maxGenerationNanos.get();
+        while ((nanos > max) && !this.maxGenerationNanos.compareAndSet(max, nanos)) {
+            max = this.maxGenerationNanos.get();
+        }
+        if (exhausted) {
+            this.exhaustions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of generated keys.
+     * @return a number of keys
+     */
+    public long getKeyCount() {
+        return this.keys.get();
+    }
+
+    /**
+     * Returns the average time needed to generate a key.
+     * @return a duration in microseconds
+     */
+    public long getAverageGenerationTime() {
+        long keys = this.keys.get();
+        return (keys > 0) ? TimeUnit.NANOSECONDS.toMicros(this.generationNanos.get() / keys) : 0;
+    }
+
+    /**
+     * Returns the longest time needed to generate a key.
+     * @return a duration in microseconds
+     */
+    public long getMaxGenerationTime() {
+        return TimeUnit.NANOSECONDS.toMicros(this.maxGenerationNanos.get());
+    }
+
+    /**
+     * Returns the number of times a key owned by the requested node could not be found within the allotted number of attempts.
+     * @return a number of exhausted key generations
+     */
+    public long getExhaustionCount() {
+        return this.exhaustions.get();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.infinispan.affinity;
+
+import org.infinispan.Cache;
+import org.infinispan.affinity.KeyAffinityService;
+import org.infinispan.affinity.KeyGenerator;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.ch.ConsistentHash;
+import org.infinispan.remoting.transport.Address;
+import org.jboss.as.clustering.infinispan.distribution.ConsistentHashLocality;
+
+/**
+ * {@link KeyAffinityService} for distributed caches that generates keys on demand, in the calling thread,
+ * until one hashes to a segment for which the requested node is the primary owner.
+ * Unlike the default implementation, it neither relies on a background generator nor blocks when a key buffer is drained.
+ * Segment ownership is recomputed only when the current consistent hash of the cache changes, so testing a candidate key costs a single hash computation.
+ * If no suitable key is found within a number of attempts proportional to the cluster size, a key is returned that may not be owned by the requested node.
+ * @param <K> the key type
+ */
+public class LocalityKeyAffinityService<K> implements KeyAffinityService<K> {
+
+    // Probability of exhausting attempts is approximately e^-ATTEMPTS_PER_MEMBER
+    private static final int ATTEMPTS_PER_MEMBER = 16;
+
+    private final Cache<K, ?> cache;
+    private final KeyGenerator<K> generator;
+    private final KeyAffinityStatistics statistics;
+    private volatile ConsistentHashLocality locality;
+    private volatile boolean started = false;
+
+    public LocalityKeyAffinityService(Cache<K, ?> cache, KeyGenerator<K> generator) {
+        this(cache, generator, new KeyAffinityStatistics());
+    }
+
+    public LocalityKeyAffinityService(Cache<K, ?> cache, KeyGenerator<K> generator, KeyAffinityStatistics statistics) {
+        this.cache = cache;
+        this.generator = generator;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void start() {
+        this.started = true;
+    }
+
+    @Override
+    public void stop() {
+        this.started = false;
+    }
+
+    @Override
+    public boolean isStarted() {
+        return this.started;
+    }
+
+    @Override
+    public K getKeyForAddress(Address address) {
+        DistributionManager dist = this.cache.getAdvancedCache().getDistributionManager();
+        ConsistentHash hash = (dist != null) ? dist.getConsistentHash() : null;
+        ConsistentHashLocality locality;
+        if (address.equals(this.cache.getCacheManager().getAddress())) {
+            // Read the current consistent hash on every generation, so that keys generated right after a topology change are not tested against a stale locality
+            locality = this.locality;
+            if ((locality == null) || (locality.getConsistentHash() != hash)) {
+                locality = new ConsistentHashLocality(address, hash);
+                this.locality = locality;
+            }
+        } else {
+            locality = new ConsistentHashLocality(address, hash);
+        }
+        long start = System.nanoTime();
+        int attempts = Math.max(locality.getMembers(), 1) * ATTEMPTS_PER_MEMBER;
+        boolean exhausted = false;
+        K key = this.generator.getKey();
+        while (!locality.isLocal(key)) {
+            if (--attempts == 0) {
+                exhausted = true;
+                break;
+            }
+            key = this.generator.getKey();
+        }
+        this.statistics.record(System.nanoTime() - start, exhausted);
+        return key;
+    }
+
+    @Override
+    public K getCollocatedKey(K otherKey) {
+        DistributionManager dist = this.cache.getAdvancedCache().getDistributionManager();
+        return this.getKeyForAddress((dist != null) ? dist.getPrimaryLocation(otherKey) : this.cache.getCacheManager().getAddress());
+    }
+}
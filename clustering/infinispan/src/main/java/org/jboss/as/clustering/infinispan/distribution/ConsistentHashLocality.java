@@ -21,6 +21,8 @@
  */
 package org.jboss.as.clustering.infinispan.distribution;
 
+import java.util.BitSet;
+
 import org.infinispan.Cache;
 import org.infinispan.distribution.DistributionManager;
 import org.infinispan.distribution.ch.ConsistentHash;
@@ -28,12 +30,15 @@ import org.infinispan.remoting.transport.Address;
 
 /**
  * {@link Locality} implementation based on a {@link ConsistentHash}.
+ * The segments for which the local node is the primary owner are computed once, so that determining the locality of a key requires only hashing the key.
  * @author Paul Ferraro
  */
 public class ConsistentHashLocality implements Locality {
 
     private final Address localAddress;
     private final ConsistentHash hash;
+    // Segments for which the local address is the primary owner
+    private final BitSet primarySegments;
 
     public ConsistentHashLocality(Cache<?, ?> cache) {
         this(cache.getCacheManager().getAddress(), cache.getAdvancedCache().getDistributionManager());
@@ -46,12 +51,36 @@ public class ConsistentHashLocality implements Locality {
     public ConsistentHashLocality(Address localAddress, ConsistentHash hash) {
         this.localAddress = localAddress;
         this.hash = hash;
+        this.primarySegments = new BitSet();
+        if ((localAddress != null) && (hash != null)) {
+            for (int i = 0; i < hash.getNumSegments(); ++i) {
+                if (localAddress.equals(hash.locatePrimaryOwnerForSegment(i))) {
+                    this.primarySegments.set(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the consistent hash on which this locality is based.
+     * @return a consistent hash, or null if there is none.
+     */
+    public ConsistentHash getConsistentHash() {
+        return this.hash;
+    }
+
+    /**
+     * Returns the number of members of the consistent hash on which this locality is based.
+     * @return a number of members, or 0 if there is no consistent hash.
+     */
+    public int getMembers() {
+        return (this.hash != null) ? this.hash.getMembers().size() : 0;
     }
 
     @Override
     public boolean isLocal(Object key) {
         if (this.localAddress == null) return true;
         if (this.hash == null) return false;
-        return this.localAddress.equals(this.hash.locatePrimaryOwner(key));
+        return this.primarySegments.get(this.hash.getSegment(key));
     }
 }
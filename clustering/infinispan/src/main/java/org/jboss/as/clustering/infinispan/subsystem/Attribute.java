@@ -39,6 +39,7 @@ public enum Attribute {
     ACQUIRE_TIMEOUT(ModelKeys.ACQUIRE_TIMEOUT),
     ALIASES(ModelKeys.ALIASES),
     ASYNC_MARSHALLING(ModelKeys.ASYNC_MARSHALLING),
+    AWAIT_INITIAL_TRANSFER(ModelKeys.AWAIT_INITIAL_TRANSFER),
     BACKUP_FAILURE_POLICY(ModelKeys.BACKUP_FAILURE_POLICY),
     BATCH_SIZE(ModelKeys.BATCH_SIZE),
     @Deprecated BATCHING(ModelKeys.BATCHING),
@@ -180,6 +180,10 @@ public class CacheContainerResourceDefinition extends SimpleResourceDefinition {
             for (CacheContainerMetric metric: CacheContainerMetric.values()) {
                 registration.registerMetric(metric.getDefinition(), handler);
             }
+            OperationStepHandler keyAffinityHandler = new KeyAffinityMetricsHandler();
+            for (KeyAffinityMetric metric: KeyAffinityMetric.values()) {
+                registration.registerMetric(metric.getDefinition(), keyAffinityHandler);
+            }
         }
     }
 
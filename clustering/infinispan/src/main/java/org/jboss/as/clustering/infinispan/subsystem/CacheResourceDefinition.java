@@ -188,6 +188,10 @@ public class CacheResourceDefinition extends SimpleResourceDefinition {
             for (CacheMetric metric: CacheMetric.values()) {
                 registration.registerMetric(metric.getDefinition(), handler);
             }
+            OperationStepHandler nearCacheHandler = new NearCacheMetricsHandler();
+            for (NearCacheMetric metric: NearCacheMetric.values()) {
+                registration.registerMetric(metric.getDefinition(), nearCacheHandler);
+            }
         }
     }
 
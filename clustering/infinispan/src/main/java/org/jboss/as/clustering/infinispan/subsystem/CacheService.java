@@ -98,6 +98,10 @@ public class CacheService<K, V> implements Service<Cache<K, V>> {
             chain.replaceInterceptor(interceptor, org.infinispan.interceptors.TxInterceptor.class);
         }
 
+        if (config.clustering().cacheMode().isDistributed() || config.clustering().cacheMode().isReplicated()) {
+            StateTransferProgress.install(this.cache);
+        }
+
         XAResourceRecoveryRegistry recoveryRegistry = this.dependencies.getRecoveryRegistry();
         if (recoveryRegistry != null) {
             this.recovery = new InfinispanXAResourceRecovery(this.name, container);
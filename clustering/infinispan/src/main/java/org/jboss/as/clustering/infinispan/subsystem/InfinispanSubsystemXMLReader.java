@@ -581,6 +581,12 @@ public class InfinispanSubsystemXMLReader implements XMLElementReader<List<Model
                         break;
                     }
                 }
+                case AWAIT_INITIAL_TRANSFER: {
+                    if (this.schema.since(InfinispanSchema.VERSION_3_0)) {
+                        StateTransferResourceDefinition.AWAIT_INITIAL_TRANSFER.parseAndSetParameter(value, operation, reader);
+                        break;
+                    }
+                }
                 default: {
                     throw ParseUtils.unexpectedAttribute(reader, i);
                 }
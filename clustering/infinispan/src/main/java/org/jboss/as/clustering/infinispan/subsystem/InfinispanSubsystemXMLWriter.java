@@ -208,6 +208,7 @@ public class InfinispanSubsystemXMLWriter implements XMLElementWriter<SubsystemM
             StateTransferResourceDefinition.ENABLED.marshallAsAttribute(stateTransfer, writer);
             StateTransferResourceDefinition.TIMEOUT.marshallAsAttribute(stateTransfer, writer);
             StateTransferResourceDefinition.CHUNK_SIZE.marshallAsAttribute(stateTransfer, writer);
+            StateTransferResourceDefinition.AWAIT_INITIAL_TRANSFER.marshallAsAttribute(stateTransfer, writer);
             writer.writeEndElement();
         }
 
@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.infinispan.subsystem;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.as.clustering.controller.Metric;
+import org.jboss.as.clustering.infinispan.affinity.KeyAffinityStatistics;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Enumeration of management metrics for the keys generated for the local node by the distributed caches of a cache container.
+ */
+public enum KeyAffinityMetric implements Metric<KeyAffinityStatistics> {
+
+    AVERAGE_GENERATION_TIME(MetricKeys.KEY_AFFINITY_AVERAGE_GENERATION_TIME, MeasurementUnit.MICROSECONDS) {
+        @Override
+        public ModelNode getValue(KeyAffinityStatistics statistics) {
+            return new ModelNode(statistics.getAverageGenerationTime());
+        }
+    },
+    EXHAUSTIONS(MetricKeys.KEY_AFFINITY_EXHAUSTIONS, MeasurementUnit.NONE) {
+        @Override
+        public ModelNode getValue(KeyAffinityStatistics statistics) {
+            return new ModelNode(statistics.getExhaustionCount());
+        }
+    },
+    KEYS(MetricKeys.KEY_AFFINITY_KEYS, MeasurementUnit.NONE) {
+        @Override
+        public ModelNode getValue(KeyAffinityStatistics statistics) {
+            return new ModelNode(statistics.getKeyCount());
+        }
+    },
+    MAX_GENERATION_TIME(MetricKeys.KEY_AFFINITY_MAX_GENERATION_TIME, MeasurementUnit.MICROSECONDS) {
+        @Override
+        public ModelNode getValue(KeyAffinityStatistics statistics) {
+            return new ModelNode(statistics.getMaxGenerationTime());
+        }
+    },
+    ;
+    private final AttributeDefinition definition;
+
+    private KeyAffinityMetric(String name, MeasurementUnit unit) {
+        this.definition = new SimpleAttributeDefinitionBuilder(name, ModelType.LONG, true).setMeasurementUnit(unit).setStorageRuntime().build();
+    }
+
+    @Override
+    public AttributeDefinition getDefinition() {
+        return this.definition;
+    }
+
+    private static final Map<String, KeyAffinityMetric> metrics = new HashMap<>();
+
+    static {
+        for (KeyAffinityMetric metric: KeyAffinityMetric.values()) {
+            metrics.put(metric.definition.getName(), metric);
+        }
+    }
+
+    public static KeyAffinityMetric forName(String name) {
+        return metrics.get(name);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.infinispan.subsystem;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import org.jboss.as.clustering.infinispan.InfinispanLogger;
+import org.jboss.as.clustering.infinispan.affinity.KeyAffinityServiceFactory;
+import org.jboss.as.clustering.infinispan.affinity.KeyAffinityServiceFactoryService;
+import org.jboss.as.clustering.msc.ServiceContainerHelper;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Handler for the metrics of the keys generated for the local node by the distributed caches of a cache container.
+ * These are only defined while the key affinity service factory of the container is started, i.e. while a deployment uses it.
+ */
+public class KeyAffinityMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) {
+        // Address is of the form: /subsystem=infinispan/cache-container=*
+        PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
+        String containerName = address.getLastElement().getValue();
+        String name = operation.require(ModelDescriptionConstants.NAME).asString();
+
+        KeyAffinityMetric metric = KeyAffinityMetric.forName(name);
+
+        if (metric == null) {
+            context.getFailureDescription().set(InfinispanLogger.ROOT_LOGGER.unknownMetric(name));
+        } else {
+            KeyAffinityServiceFactory factory = ServiceContainerHelper.findValue(context.getServiceRegistry(false), KeyAffinityServiceFactoryService.getServiceName(containerName));
+            if (factory instanceof KeyAffinityServiceFactoryService) {
+                context.getResult().set(metric.getValue(((KeyAffinityServiceFactoryService) factory).getStatistics()));
+            }
+        }
+        context.completeStep(OperationContext.ResultHandler.NOOP_RESULT_HANDLER);
+    }
+}
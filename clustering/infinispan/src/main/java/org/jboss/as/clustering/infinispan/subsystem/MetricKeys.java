@@ -33,6 +33,10 @@ public class MetricKeys {
     public static final String COORDINATOR_ADDRESS = "coordinator-address";
     public static final String LOCAL_ADDRESS = "local-address";
     public static final String CLUSTER_NAME = "cluster-name";
+    public static final String KEY_AFFINITY_AVERAGE_GENERATION_TIME = "key-affinity-average-generation-time";
+    public static final String KEY_AFFINITY_EXHAUSTIONS = "key-affinity-exhaustions";
+    public static final String KEY_AFFINITY_KEYS = "key-affinity-keys";
+    public static final String KEY_AFFINITY_MAX_GENERATION_TIME = "key-affinity-max-generation-time";
     // cache
     public static final String BYTES_READ = "bytes-read";
     public static final String BYTES_WRITTEN = "bytes-written";
@@ -71,9 +75,19 @@ public class MetricKeys {
 
     public static final String JOIN_COMPLETE = "join-complete";
     public static final String STATE_TRANSFER_IN_PROGRESS = "state-transfer-in-progress";
+    // state transfer
+    public static final String IN_PROGRESS = "in-progress";
+    public static final String PENDING_SEGMENTS = "pending-segments";
+    public static final String RECEIVE_RATE = "receive-rate";
+    public static final String RECEIVED_ENTRIES = "received-entries";
     // Rpc manager
     public static final String AVERAGE_REPLICATION_TIME = "average-replication-time";
     public static final String REPLICATION_COUNT = "replication-count";
     public static final String REPLICATION_FAILURES = "replication-failures";
     public static final String SUCCESS_RATIO = "success-ratio";
+    // registry and service provider registration snapshots
+    public static final String REGISTRY_READS = "registry-reads";
+    public static final String REGISTRY_REBUILDS = "registry-rebuilds";
+    public static final String SERVICE_PROVIDER_READS = "service-provider-reads";
+    public static final String SERVICE_PROVIDER_REBUILDS = "service-provider-rebuilds";
 }
@@ -31,6 +31,7 @@ public class ModelKeys {
     static final String ALIAS = "alias";
     static final String ALIASES = "aliases";
     static final String ASYNC_MARSHALLING = "async-marshalling";
+    static final String AWAIT_INITIAL_TRANSFER = "await-initial-transfer";
     static final String BACKUP = "backup";
     static final String BACKUP_FOR = "backup-for";
     static final String BACKUP_FOR_NAME = "BACKUP_FOR";
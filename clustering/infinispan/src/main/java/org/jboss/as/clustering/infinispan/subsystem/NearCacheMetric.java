@@ -0,0 +1,97 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.infinispan.subsystem;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.as.clustering.controller.Metric;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.wildfly.clustering.spi.CacheServiceNames;
+import org.wildfly.clustering.spi.NearCacheStatistics;
+
+/**
+ * Enumeration of management metrics for the local snapshots of the clustered registry and service provider registrations of a cache.
+ */
+public enum NearCacheMetric implements Metric<NearCacheStatistics> {
+
+    REGISTRY_READS(MetricKeys.REGISTRY_READS, CacheServiceNames.REGISTRY) {
+        @Override
+        public ModelNode getValue(NearCacheStatistics statistics) {
+            return new ModelNode(statistics.getReadCount());
+        }
+    },
+    REGISTRY_REBUILDS(MetricKeys.REGISTRY_REBUILDS, CacheServiceNames.REGISTRY) {
+        @Override
+        public ModelNode getValue(NearCacheStatistics statistics) {
+            return new ModelNode(statistics.getRebuildCount());
+        }
+    },
+    SERVICE_PROVIDER_READS(MetricKeys.SERVICE_PROVIDER_READS, CacheServiceNames.SERVICE_PROVIDER_REGISTRATION) {
+        @Override
+        public ModelNode getValue(NearCacheStatistics statistics) {
+            return new ModelNode(statistics.getReadCount());
+        }
+    },
+    SERVICE_PROVIDER_REBUILDS(MetricKeys.SERVICE_PROVIDER_REBUILDS, CacheServiceNames.SERVICE_PROVIDER_REGISTRATION) {
+        @Override
+        public ModelNode getValue(NearCacheStatistics statistics) {
+            return new ModelNode(statistics.getRebuildCount());
+        }
+    },
+    ;
+    private final AttributeDefinition definition;
+    private final CacheServiceNames service;
+
+    private NearCacheMetric(String name, CacheServiceNames service) {
+        this.definition = new SimpleAttributeDefinitionBuilder(name, ModelType.LONG, true).setStorageRuntime().build();
+        this.service = service;
+    }
+
+    @Override
+    public AttributeDefinition getDefinition() {
+        return this.definition;
+    }
+
+    /**
+     * Returns the service whose value provides this metric.
+     * @return a service name factory
+     */
+    public CacheServiceNames getService() {
+        return this.service;
+    }
+
+    private static final Map<String, NearCacheMetric> metrics = new HashMap<>();
+
+    static {
+        for (NearCacheMetric metric: NearCacheMetric.values()) {
+            metrics.put(metric.definition.getName(), metric);
+        }
+    }
+
+    public static NearCacheMetric forName(String name) {
+        return metrics.get(name);
+    }
+}
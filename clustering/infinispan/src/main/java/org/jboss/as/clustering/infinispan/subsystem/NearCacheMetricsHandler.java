@@ -0,0 +1,62 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.infinispan.subsystem;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import org.jboss.as.clustering.infinispan.InfinispanLogger;
+import org.jboss.as.clustering.msc.ServiceContainerHelper;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.dmr.ModelNode;
+import org.wildfly.clustering.spi.NearCacheStatistics;
+
+/**
+ * Handler for the metrics of the local snapshots of the clustered registry and service provider registrations of a cache.
+ * These are only defined while the respective service is installed for the cache, and backed by a clustered cache.
+ */
+public class NearCacheMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        // Address is of the form: /subsystem=infinispan/cache-container=*/*-cache=*
+        PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
+        String containerName = address.getElement(address.size() - 2).getValue();
+        String cacheName = address.getLastElement().getValue();
+        String name = operation.require(ModelDescriptionConstants.NAME).asString();
+
+        NearCacheMetric metric = NearCacheMetric.forName(name);
+
+        if (metric == null) {
+            context.getFailureDescription().set(InfinispanLogger.ROOT_LOGGER.unknownMetric(name));
+        } else {
+            Object value = ServiceContainerHelper.findValue(context.getServiceRegistry(false), metric.getService().getServiceName(containerName, cacheName));
+            if (value instanceof NearCacheStatistics) {
+                context.getResult().set(metric.getValue((NearCacheStatistics) value));
+            }
+        }
+        context.completeStep(OperationContext.ResultHandler.NOOP_RESULT_HANDLER);
+    }
+}
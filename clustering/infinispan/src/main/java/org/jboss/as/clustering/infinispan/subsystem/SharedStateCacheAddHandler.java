@@ -56,10 +56,12 @@ public abstract class SharedStateCacheAddHandler extends ClusteredCacheAddHandle
             final boolean enabled = StateTransferResourceDefinition.ENABLED.resolveModelAttribute(context, stateTransfer).asBoolean();
             final long timeout = StateTransferResourceDefinition.TIMEOUT.resolveModelAttribute(context, stateTransfer).asLong();
             final int chunkSize = StateTransferResourceDefinition.CHUNK_SIZE.resolveModelAttribute(context, stateTransfer).asInt();
+            final boolean awaitInitialTransfer = StateTransferResourceDefinition.AWAIT_INITIAL_TRANSFER.resolveModelAttribute(context, stateTransfer).asBoolean();
 
             builder.clustering().stateTransfer().fetchInMemoryState(enabled);
             builder.clustering().stateTransfer().timeout(timeout);
             builder.clustering().stateTransfer().chunkSize(chunkSize);
+            builder.clustering().stateTransfer().awaitInitialTransfer(awaitInitialTransfer);
         }
 
         // backup is a child resource
@@ -60,7 +60,7 @@ public class SharedStateCacheResourceDefinition extends ClusteredCacheResourceDe
     public void registerChildren(ManagementResourceRegistration registration) {
         super.registerChildren(registration);
 
-        registration.registerSubModel(new StateTransferResourceDefinition());
+        registration.registerSubModel(new StateTransferResourceDefinition(this.allowRuntimeOnlyRegistration));
         registration.registerSubModel(new BackupSiteResourceDefinition(this.allowRuntimeOnlyRegistration));
         registration.registerSubModel(new BackupForResourceDefinition());
     }
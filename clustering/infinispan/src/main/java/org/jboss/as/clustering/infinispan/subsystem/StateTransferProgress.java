@@ -0,0 +1,180 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.infinispan.subsystem;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.infinispan.Cache;
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.context.Flag;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.distribution.ch.ConsistentHash;
+import org.infinispan.interceptors.base.CommandInterceptor;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.DataRehashed;
+import org.infinispan.notifications.cachelistener.event.DataRehashedEvent;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.statetransfer.StateTransferManager;
+import org.infinispan.topology.CacheTopology;
+
+/**
+ * Tracks the progress of state transfer of a clustered cache.
+ * Received entries are counted by an interceptor that only sees writes flagged as {@link Flag#PUT_FOR_STATE_TRANSFER},
+ * i.e. entries applied by the state consumer, and that is only installed while state transfer is in progress.
+ */
+@Listener(sync = true)
+public class StateTransferProgress {
+
+    private final Cache<?, ?> cache;
+    private final EntryCounter counter = new EntryCounter();
+    private volatile long startTime = 0;
+    private volatile long endTime = 0;
+
+    /**
+     * Starts tracking state transfer progress of the specified cache.
+     * @param cache a started clustered cache
+     * @return a state transfer progress tracker
+     */
+    public static StateTransferProgress install(Cache<?, ?> cache) {
+        StateTransferProgress progress = new StateTransferProgress(cache);
+        cache.addListener(progress);
+        // State transfer may have started before we were able to register our listener
+        if (progress.getStateTransferManager().isStateTransferInProgress()) {
+            progress.start();
+        }
+        return progress;
+    }
+
+    /**
+     * Locates the state transfer progress tracker of the specified cache.
+     * @param cache a cache
+     * @return the progress tracker of the cache, or null if none was installed
+     */
+    public static StateTransferProgress find(Cache<?, ?> cache) {
+        for (Object listener: cache.getListeners()) {
+            if (listener instanceof StateTransferProgress) {
+                return (StateTransferProgress) listener;
+            }
+        }
+        return null;
+    }
+
+    private StateTransferProgress(Cache<?, ?> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Indicates whether state transfer is currently in progress.
+     * @return true, if state transfer is in progress, false otherwise
+     */
+    public boolean isInProgress() {
+        return this.getStateTransferManager().isStateTransferInProgress();
+    }
+
+    /**
+     * Returns the number of segments that this node will own once the current state transfer completes, but does not yet own.
+     * @return a number of segments
+     */
+    public int getPendingSegments() {
+        CacheTopology topology = this.getStateTransferManager().getCacheTopology();
+        if (topology == null) return 0;
+        ConsistentHash pendingHash = topology.getPendingCH();
+        if (pendingHash == null) return 0;
+        Address address = this.cache.getCacheManager().getAddress();
+        Set<Integer> segments = new HashSet<>(pendingHash.getSegmentsForOwner(address));
+        ConsistentHash currentHash = topology.getCurrentCH();
+        if (currentHash != null) {
+            segments.removeAll(currentHash.getSegmentsForOwner(address));
+        }
+        return segments.size();
+    }
+
+    /**
+     * Returns the number of entries received by this cache during the current, or most recent, state transfer.
+     * @return a number of entries
+     */
+    public long getReceivedEntries() {
+        return this.counter.entries.get();
+    }
+
+    /**
+     * Returns the duration of the current, or most recent, state transfer.
+     * @return a duration in milliseconds
+     */
+    public long getElapsedTime() {
+        long start = this.startTime;
+        if (start == 0) return 0;
+        long end = this.endTime;
+        return TimeUnit.NANOSECONDS.toMillis(((end != 0) ? end : System.nanoTime()) - start);
+    }
+
+    /**
+     * Returns the rate at which entries were received during the current, or most recent, state transfer.
+     * @return a number of entries per second
+     */
+    public double getReceiveRate() {
+        long elapsed = this.getElapsedTime();
+        return (elapsed > 0) ? this.getReceivedEntries() * 1000d / elapsed : 0;
+    }
+
+    @DataRehashed
+    public void dataRehashed(DataRehashedEvent<?, ?> event) {
+        if (event.isPre()) {
+            this.start();
+        } else {
+            this.stop();
+        }
+    }
+
+    private synchronized void start() {
+        if ((this.startTime != 0) && (this.endTime == 0)) return;
+        this.counter.entries.set(0);
+        this.endTime = 0;
+        this.startTime = System.nanoTime();
+        this.cache.getAdvancedCache().addInterceptor(this.counter, 0);
+    }
+
+    private synchronized void stop() {
+        if ((this.startTime == 0) || (this.endTime != 0)) return;
+        this.cache.getAdvancedCache().removeInterceptor(EntryCounter.class);
+        this.endTime = System.nanoTime();
+    }
+
+    private StateTransferManager getStateTransferManager() {
+        return this.cache.getAdvancedCache().getComponentRegistry().getStateTransferManager();
+    }
+
+    public static class EntryCounter extends CommandInterceptor {
+        final AtomicLong entries = new AtomicLong();
+
+        @Override
+        public Object visitPutKeyValueCommand(InvocationContext ctx, PutKeyValueCommand command) throws Throwable {
+            if (command.hasFlag(Flag.PUT_FOR_STATE_TRANSFER)) {
+                this.entries.incrementAndGet();
+            }
+            return this.invokeNextInterceptor(ctx, command);
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
 import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.dmr.ModelNode;
@@ -50,6 +51,13 @@ public class StateTransferResourceDefinition extends SimpleResourceDefinition {
     static final PathElement PATH = PathElement.pathElement(ModelKeys.STATE_TRANSFER, ModelKeys.STATE_TRANSFER_NAME);
 
     // attributes
+    static final SimpleAttributeDefinition AWAIT_INITIAL_TRANSFER = new SimpleAttributeDefinitionBuilder(ModelKeys.AWAIT_INITIAL_TRANSFER, ModelType.BOOLEAN, true)
+            .setXmlName(Attribute.AWAIT_INITIAL_TRANSFER.getLocalName())
+            .setAllowExpression(true)
+            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .setDefaultValue(new ModelNode().set(true))
+            .build();
+
     static final SimpleAttributeDefinition CHUNK_SIZE = new SimpleAttributeDefinitionBuilder(ModelKeys.CHUNK_SIZE, ModelType.INT, true)
             .setXmlName(Attribute.CHUNK_SIZE.getLocalName())
             .setAllowExpression(true)
@@ -72,19 +80,29 @@ public class StateTransferResourceDefinition extends SimpleResourceDefinition {
             .setDefaultValue(new ModelNode().set(60000L))
             .build();
 
-    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { ENABLED, TIMEOUT, CHUNK_SIZE };
+    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { ENABLED, TIMEOUT, CHUNK_SIZE, AWAIT_INITIAL_TRANSFER };
 
     static void buildTransformation(ModelVersion version, ResourceTransformationDescriptionBuilder parent) {
         ResourceTransformationDescriptionBuilder builder = parent.addChildResource(PATH);
 
+        if (InfinispanModel.VERSION_3_0_0.requiresTransformation(version)) {
+            builder.getAttributeBuilder()
+                    .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(AWAIT_INITIAL_TRANSFER.getDefaultValue()), AWAIT_INITIAL_TRANSFER)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, AWAIT_INITIAL_TRANSFER)
+                    .end();
+        }
+
         if (InfinispanModel.VERSION_1_4_0.requiresTransformation(version)) {
             builder.getAttributeBuilder().addRejectCheck(RejectAttributeChecker.SIMPLE_EXPRESSIONS, ENABLED, TIMEOUT, CHUNK_SIZE);
         }
     }
 
-    StateTransferResourceDefinition() {
+    private final boolean allowRuntimeOnlyRegistration;
+
+    StateTransferResourceDefinition(boolean allowRuntimeOnlyRegistration) {
         super(PATH, InfinispanExtension.getResourceDescriptionResolver(ModelKeys.STATE_TRANSFER),
                 new ReloadRequiredAddStepHandler(ATTRIBUTES), ReloadRequiredRemoveStepHandler.INSTANCE);
+        this.allowRuntimeOnlyRegistration = allowRuntimeOnlyRegistration;
     }
 
     @Override
@@ -94,5 +112,12 @@ public class StateTransferResourceDefinition extends SimpleResourceDefinition {
         for (AttributeDefinition attr : ATTRIBUTES) {
             resourceRegistration.registerReadWriteAttribute(attr, null, writeHandler);
         }
+
+        if (this.allowRuntimeOnlyRegistration) {
+            OperationStepHandler handler = new StateTransferMetricsHandler();
+            for (StateTransferMetric metric: StateTransferMetric.values()) {
+                resourceRegistration.registerMetric(metric.getDefinition(), handler);
+            }
+        }
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.jgroups;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Incrementally computed statistics of a channel that JGroups does not track itself.
+ * All operations are cheap enough to be invoked on every request, or polled every few seconds.
+ */
+public class ChannelStatistics {
+
+    /**
+     * Number of round trip histogram buckets.
+     * Bucket 0 counts round trips shorter than 1 ms; bucket <em>i</em> counts round trips of at least 2<sup>i-1</sup> ms, but shorter than 2<sup>i</sup> ms.
+     * The last bucket is unbounded.
+     */
+    public static final int ROUND_TRIP_BUCKETS = 16;
+
+    private final AtomicLongArray roundTrips = new AtomicLongArray(ROUND_TRIP_BUCKETS);
+    private final Rate sentMessageRate = new Rate();
+    private final Rate receivedMessageRate = new Rate();
+
+    /**
+     * Records the round trip latency of a synchronous request sent by a command dispatcher via this channel.
+     * Remote invocations issued by Infinispan do not pass through a command dispatcher, and are not recorded.
+     * @param nanos a latency in nanoseconds
+     */
+    public void recordDispatcherRoundTrip(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int bucket = (millis <= 0) ? 0 : Math.min(Long.SIZE - Long.numberOfLeadingZeros(millis), ROUND_TRIP_BUCKETS - 1);
+        this.roundTrips.incrementAndGet(bucket);
+    }
+
+    /**
+     * Returns the number of round trips recorded via {@link #recordDispatcherRoundTrip(long)} per histogram bucket.
+     * @return an array of {@link #ROUND_TRIP_BUCKETS} counts
+     */
+    public long[] getDispatcherRoundTripHistogram() {
+        long[] histogram = new long[ROUND_TRIP_BUCKETS];
+        for (int i = 0; i < ROUND_TRIP_BUCKETS; ++i) {
+            histogram[i] = this.roundTrips.get(i);
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the rate at which messages were sent since the previous sample.
+     * @param sentMessages the current number of sent messages
+     * @return a number of messages per second
+     */
+    public double getSentMessageRate(long sentMessages) {
+        return this.sentMessageRate.sample(sentMessages, System.nanoTime());
+    }
+
+    /**
+     * Returns the rate at which messages were received since the previous sample.
+     * @param receivedMessages the current number of received messages
+     * @return a number of messages per second
+     */
+    public double getReceivedMessageRate(long receivedMessages) {
+        return this.receivedMessageRate.sample(receivedMessages, System.nanoTime());
+    }
+
+    /**
+     * Computes the rate of change of a cumulative counter between successive samples.
+     * Samples taken less than a second apart return the previously computed rate.
+     */
+    static class Rate {
+        private static final long MIN_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+        private long count = -1;
+        private long time;
+        private double rate;
+
+        synchronized double sample(long count, long time) {
+            if (this.count < 0) {
+                this.count = count;
+                this.time = time;
+            } else if (time - this.time >= MIN_INTERVAL) {
+                // Counters are reset if statistics are reset or disabled
+                this.rate = (count >= this.count) ? (double) (count - this.count) * TimeUnit.SECONDS.toNanos(1) / (time - this.time) : 0;
+                this.count = count;
+                this.time = time;
+            }
+            return this.rate;
+        }
+    }
+}
@@ -33,11 +33,21 @@ import org.jgroups.conf.ProtocolStackConfigurator;
  * @author Paul Ferraro
  */
 public class MuxChannel extends JChannel {
+    private final ChannelStatistics statistics = new ChannelStatistics();
+
     public MuxChannel(ProtocolStackConfigurator configurator) throws Exception {
         super(configurator);
         this.setUpHandler(new MuxUpHandler());
     }
 
+    /**
+     * Returns the statistics of this channel that are not tracked by JGroups itself.
+     * @return channel statistics
+     */
+    public ChannelStatistics getStatistics() {
+        return this.statistics;
+    }
+
     @Override
     public void setReceiver(Receiver receiver) {
         super.setReceiver(receiver);
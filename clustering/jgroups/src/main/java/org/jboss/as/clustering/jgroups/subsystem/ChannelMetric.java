@@ -25,11 +25,19 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.jboss.as.clustering.controller.Metric;
+import org.jboss.as.clustering.jgroups.ChannelStatistics;
+import org.jboss.as.clustering.jgroups.MuxChannel;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.PrimitiveListAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jgroups.JChannel;
+import org.jgroups.protocols.FlowControl;
+import org.jgroups.protocols.TP;
+import org.jgroups.protocols.UNICAST3;
+import org.jgroups.protocols.pbcast.NAKACK2;
+import org.jgroups.stack.Protocol;
 
 /**
  * Enumerates management metrics for a channel.
@@ -49,12 +57,62 @@ public enum ChannelMetric implements Metric<JChannel> {
             return new ModelNode(channel.getAddressAsUUID());
         }
     },
+    BLOCKED_TIME(MetricKeys.BLOCKED_TIME, ModelType.LONG) {
+        @Override
+        public ModelNode getValue(JChannel channel) {
+            long time = 0;
+            for (Protocol protocol: channel.getProtocolStack().getProtocols()) {
+                if (protocol instanceof FlowControl) {
+                    time += ((FlowControl) protocol).getTotalTimeBlocked();
+                }
+            }
+            return new ModelNode(time);
+        }
+    },
+    BLOCKINGS(MetricKeys.BLOCKINGS, ModelType.LONG) {
+        @Override
+        public ModelNode getValue(JChannel channel) {
+            long blockings = 0;
+            for (Protocol protocol: channel.getProtocolStack().getProtocols()) {
+                if (protocol instanceof FlowControl) {
+                    blockings += ((FlowControl) protocol).getNumberOfBlockings();
+                }
+            }
+            return new ModelNode(blockings);
+        }
+    },
     DISCARD_OWN_MESSAGES(MetricKeys.DISCARD_OWN_MESSAGES, ModelType.BOOLEAN) {
         @Override
         public ModelNode getValue(JChannel channel) {
             return new ModelNode(channel.getDiscardOwnMessages());
         }
     },
+    DISPATCHER_ROUND_TRIP_HISTOGRAM(new PrimitiveListAttributeDefinition.Builder(MetricKeys.DISPATCHER_ROUND_TRIP_HISTOGRAM, ModelType.LONG).setAllowNull(true).setStorageRuntime().build()) {
+        @Override
+        public ModelNode getValue(JChannel channel) {
+            ChannelStatistics statistics = getStatistics(channel);
+            ModelNode result = new ModelNode();
+            if (statistics != null) {
+                for (long count: statistics.getDispatcherRoundTripHistogram()) {
+                    result.add(count);
+                }
+            }
+            return result;
+        }
+    },
+    INTERNAL_QUEUE_SIZE(MetricKeys.INTERNAL_QUEUE_SIZE, ModelType.INT) {
+        @Override
+        public ModelNode getValue(JChannel channel) {
+            return new ModelNode(getTransport(channel).getInternalQueueSize());
+        }
+    },
+    MULTICAST_RETRANSMISSION_REQUESTS(MetricKeys.MULTICAST_RETRANSMISSION_REQUESTS, ModelType.LONG) {
+        @Override
+        public ModelNode getValue(JChannel channel) {
+            NAKACK2 protocol = (NAKACK2) channel.getProtocolStack().findProtocol(NAKACK2.class);
+            return (protocol != null) ? new ModelNode(protocol.getXmitRequestsSent()) : new ModelNode();
+        }
+    },
     NUM_TASKS_IN_TIMER(MetricKeys.NUM_TASKS_IN_TIMER, ModelType.INT) {
         @Override
         public ModelNode getValue(JChannel channel) {
@@ -67,6 +125,12 @@ public enum ChannelMetric implements Metric<JChannel> {
             return new ModelNode(channel.getTimerThreads());
         }
     },
+    OOB_QUEUE_SIZE(MetricKeys.OOB_QUEUE_SIZE, ModelType.INT) {
+        @Override
+        public ModelNode getValue(JChannel channel) {
+            return new ModelNode(getTransport(channel).getOOBQueueSize());
+        }
+    },
     RECEIVED_BYTES(MetricKeys.RECEIVED_BYTES, ModelType.LONG) {
         @Override
         public ModelNode getValue(JChannel channel) {
@@ -79,6 +143,19 @@ public enum ChannelMetric implements Metric<JChannel> {
             return new ModelNode(channel.getReceivedMessages());
         }
     },
+    RECEIVED_MESSAGE_RATE(MetricKeys.RECEIVED_MESSAGE_RATE, ModelType.DOUBLE) {
+        @Override
+        public ModelNode getValue(JChannel channel) {
+            ChannelStatistics statistics = getStatistics(channel);
+            return (statistics != null) ? new ModelNode(statistics.getReceivedMessageRate(channel.getReceivedMessages())) : new ModelNode();
+        }
+    },
+    REGULAR_QUEUE_SIZE(MetricKeys.REGULAR_QUEUE_SIZE, ModelType.INT) {
+        @Override
+        public ModelNode getValue(JChannel channel) {
+            return new ModelNode(getTransport(channel).getRegularQueueSize());
+        }
+    },
     SENT_BYTES(MetricKeys.SENT_BYTES, ModelType.LONG) {
         @Override
         public ModelNode getValue(JChannel channel) {
@@ -91,6 +168,13 @@ public enum ChannelMetric implements Metric<JChannel> {
             return new ModelNode(channel.getSentMessages());
         }
     },
+    SENT_MESSAGE_RATE(MetricKeys.SENT_MESSAGE_RATE, ModelType.DOUBLE) {
+        @Override
+        public ModelNode getValue(JChannel channel) {
+            ChannelStatistics statistics = getStatistics(channel);
+            return (statistics != null) ? new ModelNode(statistics.getSentMessageRate(channel.getSentMessages())) : new ModelNode();
+        }
+    },
     STATE(MetricKeys.STATE, ModelType.STRING) {
         @Override
         public ModelNode getValue(JChannel channel) {
@@ -103,6 +187,13 @@ public enum ChannelMetric implements Metric<JChannel> {
             return new ModelNode(channel.statsEnabled());
         }
     },
+    UNICAST_RETRANSMISSIONS(MetricKeys.UNICAST_RETRANSMISSIONS, ModelType.LONG) {
+        @Override
+        public ModelNode getValue(JChannel channel) {
+            UNICAST3 protocol = (UNICAST3) channel.getProtocolStack().findProtocol(UNICAST3.class);
+            return (protocol != null) ? new ModelNode(protocol.getNumXmits()) : new ModelNode();
+        }
+    },
     VERSION(MetricKeys.VERSION, ModelType.STRING) {
         @Override
         public ModelNode getValue(JChannel channel) {
@@ -119,7 +210,19 @@ public enum ChannelMetric implements Metric<JChannel> {
     private final AttributeDefinition definition;
 
     private ChannelMetric(String name, ModelType type) {
-        this.definition = new SimpleAttributeDefinitionBuilder(name, type, true).setStorageRuntime().build();
+        this(new SimpleAttributeDefinitionBuilder(name, type, true).setStorageRuntime().build());
+    }
+
+    private ChannelMetric(AttributeDefinition definition) {
+        this.definition = definition;
+    }
+
+    static TP getTransport(JChannel channel) {
+        return channel.getProtocolStack().getTransport();
+    }
+
+    static ChannelStatistics getStatistics(JChannel channel) {
+        return (channel instanceof MuxChannel) ? ((MuxChannel) channel).getStatistics() : null;
     }
 
     @Override
@@ -29,16 +29,26 @@ package org.jboss.as.clustering.jgroups.subsystem;
 public class MetricKeys {
     public static final String ADDRESS = "address";
     public static final String ADDRESS_AS_UUID = "address-as-uuid";
+    public static final String BLOCKED_TIME = "blocked-time";
+    public static final String BLOCKINGS = "blockings";
     public static final String CHANNEL = "channel";
     public static final String DISCARD_OWN_MESSAGES  = "discard-own-messages";
+    public static final String DISPATCHER_ROUND_TRIP_HISTOGRAM = "dispatcher-round-trip-histogram";
+    public static final String INTERNAL_QUEUE_SIZE = "internal-queue-size";
+    public static final String MULTICAST_RETRANSMISSION_REQUESTS = "multicast-retransmission-requests";
     public static final String NUM_TASKS_IN_TIMER = "num-tasks-in-timer";
     public static final String NUM_TIMER_THREADS = "num-timer-threads";
+    public static final String OOB_QUEUE_SIZE = "oob-queue-size";
     public static final String RECEIVED_BYTES = "received-bytes";
     public static final String RECEIVED_MESSAGES = "received-messages";
+    public static final String RECEIVED_MESSAGE_RATE = "received-message-rate";
+    public static final String REGULAR_QUEUE_SIZE = "regular-queue-size";
     public static final String SENT_BYTES = "sent-bytes";
     public static final String SENT_MESSAGES = "sent-messages";
+    public static final String SENT_MESSAGE_RATE = "sent-message-rate";
     public static final String STATE = "state";
     public static final String STATS_ENABLED = "stats-enabled";
+    public static final String UNICAST_RETRANSMISSIONS = "unicast-retransmissions";
     public static final String VERSION = "version";
     public static final String VIEW = "view";
 }
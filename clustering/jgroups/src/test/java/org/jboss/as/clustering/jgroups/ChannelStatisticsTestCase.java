@@ -0,0 +1,63 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.jgroups;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ChannelStatisticsTestCase {
+
+    @Test
+    public void roundTripHistogram() {
+        ChannelStatistics statistics = new ChannelStatistics();
+        statistics.recordDispatcherRoundTrip(TimeUnit.MICROSECONDS.toNanos(500));
+        statistics.recordDispatcherRoundTrip(TimeUnit.MILLISECONDS.toNanos(1));
+        statistics.recordDispatcherRoundTrip(TimeUnit.MILLISECONDS.toNanos(3));
+        statistics.recordDispatcherRoundTrip(TimeUnit.MILLISECONDS.toNanos(4));
+        statistics.recordDispatcherRoundTrip(TimeUnit.HOURS.toNanos(1));
+
+        long[] histogram = statistics.getDispatcherRoundTripHistogram();
+        assertEquals(ChannelStatistics.ROUND_TRIP_BUCKETS, histogram.length);
+        assertEquals(1, histogram[0]);
+        assertEquals(1, histogram[1]);
+        assertEquals(1, histogram[2]);
+        assertEquals(1, histogram[3]);
+        assertEquals(1, histogram[ChannelStatistics.ROUND_TRIP_BUCKETS - 1]);
+    }
+
+    @Test
+    public void rate() {
+        ChannelStatistics.Rate rate = new ChannelStatistics.Rate();
+        long start = TimeUnit.SECONDS.toNanos(10);
+
+        assertEquals(0, rate.sample(100, start), 0);
+        // Samples less than a second apart reuse the previous rate
+        assertEquals(0, rate.sample(150, start + TimeUnit.MILLISECONDS.toNanos(500)), 0);
+        assertEquals(100, rate.sample(300, start + TimeUnit.SECONDS.toNanos(2)), 0);
+        assertEquals(100, rate.sample(400, start + TimeUnit.SECONDS.toNanos(2) + 1), 0);
+        // Counter reset
+        assertEquals(0, rate.sample(0, start + TimeUnit.SECONDS.toNanos(4)), 0);
+    }
+}
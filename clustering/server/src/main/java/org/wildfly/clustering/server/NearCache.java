@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.server;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.wildfly.clustering.spi.NearCacheStatistics;
+
+/**
+ * Local, invalidation-driven snapshot of data read from a clustered cache.
+ * Reads are served from an immutable snapshot, which is lazily rebuilt by the first read following an invalidation.
+ * A snapshot built concurrently with an invalidation is never returned by subsequent reads.
+ * @param <T> the snapshot type, which must be immutable
+ */
+public class NearCache<T> implements NearCacheStatistics {
+
+    /**
+     * Builds a snapshot from the backing cache.
+     * @param <T> the snapshot type
+     */
+    public interface Loader<T> {
+        T load();
+    }
+
+    private final Loader<T> loader;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<Snapshot<T>> snapshot = new AtomicReference<>();
+    private final AtomicLong reads = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+
+    public NearCache(Loader<T> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the current snapshot, rebuilding it if it was invalidated.
+     * @return an immutable snapshot
+     */
+    public T get() {
+        this.reads.incrementAndGet();
+        // Read the generation before loading, so that an invalidation during the load invalidates the loaded snapshot
+        long generation = this.generation.get();
+        Snapshot<T> snapshot = this.snapshot.get();
+        if ((snapshot != null) && (snapshot.generation == generation)) {
+            return snapshot.value;
+        }
+        T value = this.loader.load();
+        this.snapshot.set(new Snapshot<>(generation, value));
+        this.rebuilds.incrementAndGet();
+        return value;
+    }
+
+    /**
+     * Invalidates the current snapshot.
+     */
+    public void invalidate() {
+        this.generation.incrementAndGet();
+    }
+
+    @Override
+    public long getReadCount() {
+        return this.reads.get();
+    }
+
+    @Override
+    public long getRebuildCount() {
+        return this.rebuilds.get();
+    }
+
+    private static class Snapshot<T> {
+        final long generation;
+        final T value;
+
+        Snapshot(long generation, T value) {
+            this.generation = generation;
+            this.value = value;
+        }
+    }
+}
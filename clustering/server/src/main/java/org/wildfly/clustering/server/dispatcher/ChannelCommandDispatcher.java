@@ -34,7 +34,10 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.jboss.as.clustering.jgroups.Addressable;
+import org.jboss.as.clustering.jgroups.ChannelStatistics;
+import org.jboss.as.clustering.jgroups.MuxChannel;
 import org.jgroups.Address;
+import org.jgroups.Channel;
 import org.jgroups.Message;
 import org.jgroups.blocks.MessageDispatcher;
 import org.jgroups.blocks.RequestOptions;
@@ -49,6 +52,8 @@ import org.wildfly.clustering.group.NodeFactory;
 
 /**
  * MessageDispatcher-based command dispatcher.
+ * Commands sent via {@link #sendOnNode(Command, Node)} or {@link #sendOnCluster(Command, Node...)} do not collect responses,
+ * and may be bundled by the transport with other messages sent to the same nodes.
  * @author Paul Ferraro
  *
  * @param <C> command execution context
@@ -72,6 +77,7 @@ public abstract class ChannelCommandDispatcher<C> implements CommandDispatcher<C
     private final NodeFactory<Address> factory;
     private final long timeout;
     private final CommandDispatcher<C> localDispatcher;
+    private final ChannelStatistics channelStatistics;
 
     public ChannelCommandDispatcher(MessageDispatcher dispatcher, CommandMarshaller<C> marshaller, NodeFactory<Address> factory, long timeout, CommandDispatcher<C> localDispatcher) {
         this.dispatcher = dispatcher;
@@ -79,12 +85,16 @@ public abstract class ChannelCommandDispatcher<C> implements CommandDispatcher<C
         this.factory = factory;
         this.timeout = timeout;
         this.localDispatcher = localDispatcher;
+        Channel channel = dispatcher.getChannel();
+        this.channelStatistics = (channel instanceof MuxChannel) ? ((MuxChannel) channel).getStatistics() : null;
     }
 
     @Override
     public <R> Map<Node, CommandResponse<R>> executeOnCluster(Command<R, C> command, Node... excludedNodes) throws Exception {
         RequestOptions options = this.createRequestOptions(excludedNodes);
+        long start = System.nanoTime();
         Map<Address, Rsp<R>> responses = this.dispatcher.castMessage(null, this.createMessage(command), options);
+        this.recordRoundTrip(System.nanoTime() - start);
 
         Map<Node, CommandResponse<R>> results = new HashMap<>();
         for (Map.Entry<Address, Rsp<R>> entry: responses.entrySet()) {
@@ -146,6 +156,7 @@ public abstract class ChannelCommandDispatcher<C> implements CommandDispatcher<C
             return this.localDispatcher.executeOnNode(command, node);
         }
         // Use sendMessageWithFuture(...) instead of sendMessage(...) since we want to differentiate between sender exceptions and receiver exceptions
+        long start = System.nanoTime();
         Future<R> future = this.dispatcher.sendMessageWithFuture(this.createMessage(command, node), this.createRequestOptions());
         try {
             return new SimpleCommandResponse<>(future.get());
@@ -153,6 +164,8 @@ public abstract class ChannelCommandDispatcher<C> implements CommandDispatcher<C
             return new SimpleCommandResponse<>(e);
         } catch (ExecutionException e) {
             return new SimpleCommandResponse<>(e);
+        } finally {
+            this.recordRoundTrip(System.nanoTime() - start);
         }
     }
 
@@ -165,6 +178,37 @@ public abstract class ChannelCommandDispatcher<C> implements CommandDispatcher<C
         return this.dispatcher.sendMessageWithFuture(this.createMessage(command, node), this.createRequestOptions());
     }
 
+    /**
+     * Sends the specified command to the specified node for execution, without waiting for, or collecting, a response.
+     * @param command the command to execute
+     * @param node the node to execute the command on
+     * @throws Exception if the command could not be sent
+     */
+    public <R> void sendOnNode(Command<R, C> command, Node node) throws Exception {
+        // Bypass MessageDispatcher if target node is local
+        if (this.isLocal(node)) {
+            this.localDispatcher.submitOnNode(command, node);
+            return;
+        }
+        this.dispatcher.sendMessage(this.createMessage(command, node), this.createSendOptions());
+    }
+
+    /**
+     * Sends the specified command to all nodes in the group, excluding the specified nodes, without waiting for, or collecting, any responses.
+     * @param command the command to execute
+     * @param excludedNodes the set of nodes to exclude
+     * @throws Exception if the command could not be broadcast
+     */
+    public <R> void sendOnCluster(Command<R, C> command, Node... excludedNodes) throws Exception {
+        this.dispatcher.castMessage(null, this.createMessage(command), this.createSendOptions(excludedNodes));
+    }
+
+    private void recordRoundTrip(long nanos) {
+        if (this.channelStatistics != null) {
+            this.channelStatistics.recordDispatcherRoundTrip(nanos);
+        }
+    }
+
     private <R> Message createMessage(Command<R, C> command) {
         return this.createMessage(command, null);
     }
@@ -186,7 +230,19 @@ public abstract class ChannelCommandDispatcher<C> implements CommandDispatcher<C
     }
 
     private RequestOptions createRequestOptions(Node... excludedNodes) {
-        RequestOptions options = this.createRequestOptions();
+        return exclude(this.createRequestOptions(), excludedNodes);
+    }
+
+    private RequestOptions createRequestOptions() {
+        return new RequestOptions(ResponseMode.GET_ALL, this.timeout, false, FILTER, Message.Flag.DONT_BUNDLE, Message.Flag.OOB);
+    }
+
+    private RequestOptions createSendOptions(Node... excludedNodes) {
+        // Responses are neither awaited nor collected, so allow the transport to bundle these messages
+        return exclude(new RequestOptions(ResponseMode.GET_NONE, this.timeout, false, null, Message.Flag.OOB), excludedNodes);
+    }
+
+    private static RequestOptions exclude(RequestOptions options, Node... excludedNodes) {
         if ((excludedNodes != null) && (excludedNodes.length > 0)) {
             Address[] addresses = new Address[excludedNodes.length];
             for (int i = 0; i < excludedNodes.length; ++i) {
@@ -197,10 +253,6 @@ public abstract class ChannelCommandDispatcher<C> implements CommandDispatcher<C
         return options;
     }
 
-    private RequestOptions createRequestOptions() {
-        return new RequestOptions(ResponseMode.GET_ALL, this.timeout, false, FILTER, Message.Flag.DONT_BUNDLE, Message.Flag.OOB);
-    }
-
     static <R> CommandResponse<R> createCommandResponse(Rsp<R> response) {
         Throwable exception = response.getException();
         return (exception != null) ? new SimpleCommandResponse<R>(exception) : new SimpleCommandResponse<>(response.getValue());
@@ -22,8 +22,10 @@
 package org.wildfly.clustering.server.provider;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -31,7 +33,11 @@ import java.util.concurrent.ConcurrentMap;
 import org.infinispan.Cache;
 import org.infinispan.context.Flag;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryModified;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryRemoved;
+import org.infinispan.notifications.cachelistener.annotation.DataRehashed;
 import org.infinispan.notifications.cachelistener.event.CacheEntryModifiedEvent;
+import org.infinispan.notifications.cachelistener.event.CacheEntryRemovedEvent;
+import org.infinispan.notifications.cachelistener.event.DataRehashedEvent;
 import org.jboss.msc.service.ServiceName;
 import org.wildfly.clustering.dispatcher.CommandDispatcher;
 import org.wildfly.clustering.ee.Batch;
@@ -41,19 +47,23 @@ import org.wildfly.clustering.group.Node;
 import org.wildfly.clustering.provider.ServiceProviderRegistration;
 import org.wildfly.clustering.provider.ServiceProviderRegistration.Listener;
 import org.wildfly.clustering.provider.ServiceProviderRegistrationFactory;
+import org.wildfly.clustering.server.NearCache;
+import org.wildfly.clustering.spi.NearCacheStatistics;
 
 /**
  * Infinispan {@link Cache} based {@link ServiceProviderRegistrationFactory}.
  * This factory can create multiple {@link ServiceProviderRegistration} instance,
  * all of which share the same {@link Cache} instance.
+ * Providers are read from a local snapshot of the cache, which is invalidated on every modification.
  * @author Paul Ferraro
  */
 @org.infinispan.notifications.Listener
-public class CacheServiceProviderRegistrationFactory implements ServiceProviderRegistrationFactory, ServiceRegistry, Group.Listener, AutoCloseable {
+public class CacheServiceProviderRegistrationFactory implements ServiceProviderRegistrationFactory, ServiceRegistry, Group.Listener, NearCacheStatistics, AutoCloseable {
 
     final ConcurrentMap<Object, Listener> listeners = new ConcurrentHashMap<>();
     final Batcher<? extends Batch> batcher;
     final Cache<Object, Set<Node>> cache;
+    final NearCache<Map<Object, Set<Node>>> nearCache;
 
     private final Group group;
     private final CommandDispatcher<ServiceRegistry> dispatcher;
@@ -62,6 +72,20 @@ public class CacheServiceProviderRegistrationFactory implements ServiceProviderR
         this.group = config.getGroup();
         this.cache = config.getCache();
         this.batcher = config.getBatcher();
+        NearCache.Loader<Map<Object, Set<Node>>> loader = new NearCache.Loader<Map<Object, Set<Node>>>() {
+            @Override
+            public Map<Object, Set<Node>> load() {
+                Map<Object, Set<Node>> providers = new HashMap<>();
+                for (Object service: CacheServiceProviderRegistrationFactory.this.cache.keySet()) {
+                    Set<Node> nodes = CacheServiceProviderRegistrationFactory.this.cache.get(service);
+                    if (nodes != null) {
+                        providers.put(service, Collections.unmodifiableSet(new HashSet<>(nodes)));
+                    }
+                }
+                return Collections.unmodifiableMap(providers);
+            }
+        };
+        this.nearCache = new NearCache<>(loader);
         this.dispatcher = config.getCommandDispatcherFactory().<ServiceRegistry>createCommandDispatcher(config.getId(), this);
         this.cache.addListener(this);
         this.group.addListener(this);
@@ -74,6 +98,16 @@ public class CacheServiceProviderRegistrationFactory implements ServiceProviderR
         this.dispatcher.close();
     }
 
+    @Override
+    public long getReadCount() {
+        return this.nearCache.getReadCount();
+    }
+
+    @Override
+    public long getRebuildCount() {
+        return this.nearCache.getRebuildCount();
+    }
+
     @Override
     public Group getGroup() {
         return this.group;
@@ -94,6 +128,8 @@ public class CacheServiceProviderRegistrationFactory implements ServiceProviderR
                 }
             }
         }
+        // Events for local modifications may precede the commit of the batch
+        this.nearCache.invalidate();
         return new AbstractServiceProviderRegistration(service, this) {
             @Override
             public void close() {
@@ -110,6 +146,7 @@ public class CacheServiceProviderRegistrationFactory implements ServiceProviderR
                             }
                         }
                     }
+                    CacheServiceProviderRegistrationFactory.this.nearCache.invalidate();
                 }
             }
         };
@@ -117,8 +154,8 @@ public class CacheServiceProviderRegistrationFactory implements ServiceProviderR
 
     @Override
     public Set<Node> getProviders(final Object service) {
-        Set<Node> nodes = this.cache.get(service);
-        return (nodes != null) ? Collections.unmodifiableSet(nodes) : Collections.<Node>emptySet();
+        Set<Node> nodes = this.nearCache.get().get(service);
+        return (nodes != null) ? nodes : Collections.<Node>emptySet();
     }
 
     @Override
@@ -160,18 +197,32 @@ public class CacheServiceProviderRegistrationFactory implements ServiceProviderR
                     }
                 }
             }
+            this.nearCache.invalidate();
         }
     }
 
     @CacheEntryModified
     public void modified(CacheEntryModifiedEvent<ServiceName, Set<Node>> event) {
         if (event.isPre()) return;
+        this.nearCache.invalidate();
         Listener listener = this.listeners.get(event.getKey());
         if (listener != null) {
             listener.providersChanged(event.getValue());
         }
     }
 
+    @CacheEntryRemoved
+    public void removed(CacheEntryRemovedEvent<ServiceName, Set<Node>> event) {
+        if (event.isPre()) return;
+        this.nearCache.invalidate();
+    }
+
+    @DataRehashed
+    public void dataRehashed(DataRehashedEvent<ServiceName, Set<Node>> event) {
+        if (event.isPre()) return;
+        this.nearCache.invalidate();
+    }
+
     List<Object> getServices(Node node) {
         try {
             return this.dispatcher.executeOnNode(new ServiceRegistryCommand(), node).get();
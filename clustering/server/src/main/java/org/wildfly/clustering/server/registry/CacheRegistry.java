@@ -35,9 +35,11 @@ import org.infinispan.Cache;
 import org.infinispan.context.Flag;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryModified;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryRemoved;
+import org.infinispan.notifications.cachelistener.annotation.DataRehashed;
 import org.infinispan.notifications.cachelistener.annotation.TopologyChanged;
 import org.infinispan.notifications.cachelistener.event.CacheEntryModifiedEvent;
 import org.infinispan.notifications.cachelistener.event.CacheEntryRemovedEvent;
+import org.infinispan.notifications.cachelistener.event.DataRehashedEvent;
 import org.infinispan.notifications.cachelistener.event.TopologyChangedEvent;
 import org.infinispan.remoting.transport.Address;
 import org.wildfly.clustering.ee.Batch;
@@ -47,15 +49,18 @@ import org.wildfly.clustering.group.Node;
 import org.wildfly.clustering.group.NodeFactory;
 import org.wildfly.clustering.registry.Registry;
 import org.wildfly.clustering.registry.RegistryEntryProvider;
+import org.wildfly.clustering.server.NearCache;
+import org.wildfly.clustering.spi.NearCacheStatistics;
 
 /**
  * Clustered {@link Registry} backed by an Infinispan cache.
+ * Reads are served from a local snapshot of the cache, which is invalidated on every modification or topology change.
  * @author Paul Ferraro
  * @param <K> key type
  * @param <V> value type
  */
 @org.infinispan.notifications.Listener
-public class CacheRegistry<K, V> implements Registry<K, V> {
+public class CacheRegistry<K, V> implements Registry<K, V>, NearCacheStatistics {
 
     private final List<Registry.Listener<K, V>> listeners = new CopyOnWriteArrayList<>();
     private final RegistryEntryProvider<K, V> provider;
@@ -63,6 +68,7 @@ public class CacheRegistry<K, V> implements Registry<K, V> {
     private final Batcher<? extends Batch> batcher;
     private final Group group;
     private final NodeFactory<Address> factory;
+    private final NearCache<Snapshot<K, V>> nearCache;
 
     public CacheRegistry(CacheRegistryFactoryConfiguration<K, V> config, RegistryEntryProvider<K, V> provider) {
         this.cache = config.getCache();
@@ -70,6 +76,13 @@ public class CacheRegistry<K, V> implements Registry<K, V> {
         this.group = config.getGroup();
         this.factory = config.getNodeFactory();
         this.provider = provider;
+        NearCache.Loader<Snapshot<K, V>> loader = new NearCache.Loader<Snapshot<K, V>>() {
+            @Override
+            public Snapshot<K, V> load() {
+                return new Snapshot<>(CacheRegistry.this.cache);
+            }
+        };
+        this.nearCache = new NearCache<>(loader);
         this.getLocalEntry();
         this.cache.addListener(this);
     }
@@ -82,6 +95,17 @@ public class CacheRegistry<K, V> implements Registry<K, V> {
         try (Batch batch = this.batcher.createBatch()) {
             this.cache.getAdvancedCache().withFlags(Flag.IGNORE_RETURN_VALUES).remove(node);
         }
+        this.nearCache.invalidate();
+    }
+
+    @Override
+    public long getReadCount() {
+        return this.nearCache.getReadCount();
+    }
+
+    @Override
+    public long getRebuildCount() {
+        return this.nearCache.getRebuildCount();
     }
 
     @Override
@@ -101,19 +125,12 @@ public class CacheRegistry<K, V> implements Registry<K, V> {
 
     @Override
     public Map<K, V> getEntries() {
-        Map<K, V> map = new HashMap<>();
-        for (Node node: this.cache.keySet()) {
-            Map.Entry<K, V> entry = this.cache.get(node);
-            if (entry != null) {
-                map.put(entry.getKey(), entry.getValue());
-            }
-        }
-        return Collections.unmodifiableMap(map);
+        return this.nearCache.get().entries;
     }
 
     @Override
     public Map.Entry<K, V> getEntry(Node node) {
-        return this.cache.get(node);
+        return this.nearCache.get().nodes.get(node);
     }
 
     @Override
@@ -125,12 +142,15 @@ public class CacheRegistry<K, V> implements Registry<K, V> {
         try (Batch batch = this.batcher.createBatch()) {
             this.cache.getAdvancedCache().withFlags(Flag.IGNORE_RETURN_VALUES).put(node, entry);
         }
+        // Events for local modifications may precede the commit of the batch
+        this.nearCache.invalidate();
         return entry;
     }
 
     @TopologyChanged
     public void topologyChanged(TopologyChangedEvent<Address, Node> event) {
         if (event.isPre()) return;
+        this.nearCache.invalidate();
         List<Address> newAddresses = event.getConsistentHashAtEnd().getMembers();
         // Only run on the coordinator
         if (!newAddresses.get(0).equals(event.getCache().getCacheManager().getAddress())) return;
@@ -152,6 +172,7 @@ public class CacheRegistry<K, V> implements Registry<K, V> {
                 }
             }
         }
+        this.nearCache.invalidate();
         if (!removed.isEmpty()) {
             for (Listener<K, V> listener: this.listeners) {
                 listener.removedEntries(removed);
@@ -161,7 +182,9 @@ public class CacheRegistry<K, V> implements Registry<K, V> {
 
     @CacheEntryModified
     public void modified(CacheEntryModifiedEvent<Node, Map.Entry<K, V>> event) {
-        if (event.isOriginLocal() || event.isPre()) return;
+        if (event.isPre()) return;
+        this.nearCache.invalidate();
+        if (event.isOriginLocal()) return;
         if (!this.listeners.isEmpty()) {
             Map.Entry<K, V> entry = event.getValue();
             if (entry != null) {
@@ -179,7 +202,9 @@ public class CacheRegistry<K, V> implements Registry<K, V> {
 
     @CacheEntryRemoved
     public void removed(CacheEntryRemovedEvent<Node, Map.Entry<K, V>> event) {
-        if (event.isOriginLocal() || event.isPre()) return;
+        if (event.isPre()) return;
+        this.nearCache.invalidate();
+        if (event.isOriginLocal()) return;
         Map.Entry<K, V> entry = event.getOldValue();
         if (entry != null) {
             Map<K, V> entries = Collections.singletonMap(entry.getKey(), entry.getValue());
@@ -188,4 +213,32 @@ public class CacheRegistry<K, V> implements Registry<K, V> {
             }
         }
     }
+
+    @DataRehashed
+    public void dataRehashed(DataRehashedEvent<Node, Map.Entry<K, V>> event) {
+        if (event.isPre()) return;
+        this.nearCache.invalidate();
+    }
+
+    /**
+     * Immutable snapshot of the registry entries.
+     */
+    private static class Snapshot<K, V> {
+        final Map<Node, Map.Entry<K, V>> nodes;
+        final Map<K, V> entries;
+
+        Snapshot(Cache<Node, Map.Entry<K, V>> cache) {
+            Map<Node, Map.Entry<K, V>> nodes = new HashMap<>();
+            Map<K, V> entries = new HashMap<>();
+            for (Node node: cache.keySet()) {
+                Map.Entry<K, V> entry = cache.get(node);
+                if (entry != null) {
+                    nodes.put(node, entry);
+                    entries.put(entry.getKey(), entry.getValue());
+                }
+            }
+            this.nodes = Collections.unmodifiableMap(nodes);
+            this.entries = Collections.unmodifiableMap(entries);
+        }
+    }
 }
@@ -65,4 +65,8 @@ public interface InfinispanWebLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 6, value = "Failed to schedule expiration/passivation of session %s on primary owner.")
     void failedToScheduleSession(@Cause Throwable cause, String sessionId);
+
+    @LogMessage(level = WARN)
+    @Message(id = 7, value = "Failed to expire sessions")
+    void failedToExpireSessions(@Cause Throwable cause);
 }
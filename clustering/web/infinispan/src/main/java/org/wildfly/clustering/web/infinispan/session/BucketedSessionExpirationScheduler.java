@@ -0,0 +1,271 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.web.infinispan.session;
+
+import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.clustering.infinispan.distribution.Locality;
+import org.jboss.threads.JBossThreadFactory;
+import org.wildfly.clustering.ee.Batch;
+import org.wildfly.clustering.ee.Batcher;
+import org.wildfly.clustering.ee.infinispan.Remover;
+import org.wildfly.clustering.ee.infinispan.TransactionBatch;
+import org.wildfly.clustering.web.infinispan.logging.InfinispanWebLogger;
+import org.wildfly.clustering.web.session.ImmutableSession;
+import org.wildfly.clustering.web.session.SessionExpirationStatistics;
+import org.wildfly.security.manager.action.GetAccessControlContextAction;
+
+/**
+ * Session expiration scheduler that groups sessions into buckets by expiration second.
+ * Rather than scheduling a task per session, a single task runs once per second,
+ * and removes the sessions of all elapsed buckets using a bounded number of sessions per batch.
+ */
+public class BucketedSessionExpirationScheduler implements Scheduler, SessionExpirationStatistics {
+
+    private static final long BUCKET_DURATION = TimeUnit.SECONDS.toMillis(1);
+    // Delay after which the expiration of a session that failed to expire is retried
+    static final long RETRY_DELAY = TimeUnit.MINUTES.toMillis(1);
+    // Maximum time to wait for an in progress expiration to complete on close
+    private static final long CLOSE_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
+    // Expiration bucket -> identifiers of sessions expiring within that bucket
+    final ConcurrentNavigableMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+    // Session identifier -> expiration bucket
+    final ConcurrentMap<String, Long> expirations = new ConcurrentHashMap<>();
+    final Batcher<TransactionBatch> batcher;
+    final Remover<String> remover;
+    private final int batchSize;
+    private final ScheduledExecutorService executor;
+    private volatile long lag = 0;
+
+    public BucketedSessionExpirationScheduler(Batcher<TransactionBatch> batcher, Remover<String> remover, int batchSize) {
+        this(batcher, remover, createScheduledExecutor(createThreadFactory()), batchSize);
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        return new JBossThreadFactory(new ThreadGroup(BucketedSessionExpirationScheduler.class.getSimpleName()), Boolean.FALSE, null, "%G - %t", null, null, AccessController.doPrivileged(GetAccessControlContextAction.getInstance()));
+    }
+
+    private static ScheduledExecutorService createScheduledExecutor(ThreadFactory factory) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, factory);
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        return executor;
+    }
+
+    public BucketedSessionExpirationScheduler(Batcher<TransactionBatch> batcher, Remover<String> remover, ScheduledExecutorService executor, int batchSize) {
+        this.batcher = batcher;
+        this.remover = remover;
+        this.executor = executor;
+        this.batchSize = Math.max(batchSize, 1);
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                // An exception would cancel all subsequent executions
+                try {
+                    BucketedSessionExpirationScheduler.this.expire(System.currentTimeMillis());
+                } catch (Throwable e) {
+                    InfinispanWebLogger.ROOT_LOGGER.failedToExpireSessions(e);
+                }
+            }
+        };
+        this.executor.scheduleWithFixedDelay(task, BUCKET_DURATION, BUCKET_DURATION, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void schedule(ImmutableSession session) {
+        long timeout = session.getMetaData().getMaxInactiveInterval(TimeUnit.MILLISECONDS);
+        if (timeout > 0) {
+            long lastAccessed = session.getMetaData().getLastAccessedTime().getTime();
+            // Round up, so that sessions never expire early
+            Long bucket = (lastAccessed + timeout + BUCKET_DURATION - 1) / BUCKET_DURATION;
+            String id = session.getId();
+            InfinispanWebLogger.ROOT_LOGGER.tracef("Session %s will expire in %d ms", id, timeout);
+            Long previous = this.expirations.put(id, bucket);
+            if ((previous != null) && !previous.equals(bucket)) {
+                this.removeFromBucket(previous, id);
+            }
+            this.addToBucket(bucket, id);
+        }
+    }
+
+    @Override
+    public void cancel(String sessionId) {
+        Long bucket = this.expirations.remove(sessionId);
+        if (bucket != null) {
+            this.removeFromBucket(bucket, sessionId);
+        }
+    }
+
+    @Override
+    public void cancel(Locality locality) {
+        for (String sessionId: this.expirations.keySet()) {
+            if (!locality.isLocal(sessionId)) {
+                this.cancel(sessionId);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+        try {
+            // Wait for any in progress expiration batch to complete, expiration stops between batches once shutdown
+            this.executor.awaitTermination(CLOSE_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.buckets.clear();
+        this.expirations.clear();
+    }
+
+    @Override
+    public long getExpirationBacklog() {
+        long backlog = 0;
+        for (Set<String> ids: this.buckets.headMap(System.currentTimeMillis() / BUCKET_DURATION, true).values()) {
+            backlog += ids.size();
+        }
+        return backlog;
+    }
+
+    @Override
+    public long getExpirationLag() {
+        return this.lag;
+    }
+
+    private void addToBucket(Long bucket, String id) {
+        while (true) {
+            Set<String> ids = this.buckets.get(bucket);
+            if (ids == null) {
+                Set<String> newIds = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+                ids = this.buckets.putIfAbsent(bucket, newIds);
+                if (ids == null) {
+                    ids = newIds;
+                }
+            }
+            ids.add(id);
+            // If this bucket was drained concurrently, add to a new bucket
+            if (this.buckets.get(bucket) == ids) return;
+        }
+    }
+
+    private void removeFromBucket(Long bucket, String id) {
+        Set<String> ids = this.buckets.get(bucket);
+        if (ids != null) {
+            ids.remove(id);
+        }
+    }
+
+    /**
+     * Expires the sessions of all buckets that elapsed as of the specified time.
+     * @param now the current time, in milliseconds
+     */
+    void expire(long now) {
+        List<String> ids = new ArrayList<>(this.batchSize);
+        long deadline = 0;
+        Map.Entry<Long, Set<String>> entry = this.buckets.firstEntry();
+        while ((entry != null) && (entry.getKey() <= now / BUCKET_DURATION) && !this.executor.isShutdown()) {
+            Long bucket = entry.getKey();
+            if (this.buckets.remove(bucket, entry.getValue())) {
+                for (String id: entry.getValue()) {
+                    // Skip sessions that were canceled or rescheduled
+                    if (this.expirations.remove(id, bucket)) {
+                        if (ids.isEmpty()) {
+                            deadline = bucket * BUCKET_DURATION;
+                        }
+                        ids.add(id);
+                        if (ids.size() == this.batchSize) {
+                            this.remove(ids, deadline, now);
+                            ids.clear();
+                        }
+                    }
+                }
+            }
+            entry = this.buckets.firstEntry();
+        }
+        if (!ids.isEmpty()) {
+            this.remove(ids, deadline, now);
+        }
+    }
+
+    private void remove(List<String> ids, long deadline, long now) {
+        if (!this.remove(ids)) {
+            if (ids.size() > 1) {
+                // Fall back to expiring each session within its own batch
+                for (String id: ids) {
+                    if (!this.remove(Collections.singletonList(id))) {
+                        this.retry(id, now);
+                    }
+                }
+            } else {
+                this.retry(ids.get(0), now);
+            }
+        }
+        this.lag = Math.max(System.currentTimeMillis() - deadline, 0);
+    }
+
+    private boolean remove(List<String> ids) {
+        try {
+            Batch batch = this.batcher.createBatch();
+            boolean success = false;
+            try {
+                for (String id: ids) {
+                    InfinispanWebLogger.ROOT_LOGGER.tracef("Expiring session %s", id);
+                    this.remover.remove(id);
+                }
+                success = true;
+            } finally {
+                if (success) {
+                    batch.close();
+                } else {
+                    batch.discard();
+                }
+            }
+            return true;
+        } catch (Throwable e) {
+            if (ids.size() == 1) {
+                InfinispanWebLogger.ROOT_LOGGER.failedToExpireSession(e, ids.get(0));
+            }
+            return false;
+        }
+    }
+
+    private void retry(String id, long now) {
+        Long bucket = (now + RETRY_DELAY) / BUCKET_DURATION;
+        // Unless the session was rescheduled or canceled in the meantime
+        if (this.expirations.putIfAbsent(id, bucket) == null) {
+            this.addToBucket(bucket, id);
+        }
+    }
+}
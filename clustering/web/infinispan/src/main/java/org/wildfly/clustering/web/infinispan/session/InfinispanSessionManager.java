@@ -21,11 +21,16 @@
  */
 package org.wildfly.clustering.web.infinispan.session;
 
+import java.security.AccessController;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import javax.servlet.http.HttpSession;
@@ -55,11 +60,13 @@ import org.jboss.as.clustering.concurrent.RetryingInvoker;
 import org.jboss.as.clustering.infinispan.distribution.ConsistentHashLocality;
 import org.jboss.as.clustering.infinispan.distribution.Locality;
 import org.jboss.as.clustering.infinispan.distribution.SimpleLocality;
+import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.clustering.dispatcher.Command;
 import org.wildfly.clustering.dispatcher.CommandDispatcher;
 import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
 import org.wildfly.clustering.ee.Batch;
 import org.wildfly.clustering.ee.Batcher;
+import org.wildfly.clustering.ee.infinispan.Remover;
 import org.wildfly.clustering.ee.infinispan.TransactionBatch;
 import org.wildfly.clustering.group.Node;
 import org.wildfly.clustering.group.NodeFactory;
@@ -71,15 +78,19 @@ import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
 import org.wildfly.clustering.web.session.Session;
 import org.wildfly.clustering.web.session.SessionAttributes;
 import org.wildfly.clustering.web.session.SessionContext;
+import org.wildfly.clustering.web.session.SessionExpirationStatistics;
 import org.wildfly.clustering.web.session.SessionManager;
 import org.wildfly.clustering.web.session.SessionMetaData;
+import org.wildfly.clustering.web.session.SessionReplicationStatistics;
+import org.wildfly.security.manager.action.GetAccessControlContextAction;
 
 /**
  * Generic session manager implementation - independent of cache mapping strategy.
  * @author Paul Ferraro
  */
 @Listener(primaryOnly = true)
-public class InfinispanSessionManager<V, L> implements SessionManager<L, TransactionBatch>, KeyFilter {
+public class InfinispanSessionManager<V, L> implements SessionManager<L, TransactionBatch>, SessionExpirationStatistics, SessionReplicationStatistics, KeyFilter {
+
     private final SessionContext context;
     private final Batcher<TransactionBatch> batcher;
     private final Cache<String, ?> cache;
@@ -88,12 +99,20 @@ public class InfinispanSessionManager<V, L> implements SessionManager<L, Transac
     private final CommandDispatcherFactory dispatcherFactory;
     private final NodeFactory<Address> nodeFactory;
     private final int maxActiveSessions;
+    private final SessionReplicationStatistics replicationStatistics;
+    private final boolean bucketedExpiration;
+    private final int expirationBatchSize;
+    private final int scheduleConcurrency;
     private volatile Time defaultMaxInactiveInterval = new Time(30, TimeUnit.MINUTES);
     private final boolean persistent;
     private final Invoker invoker = new RetryingInvoker(0, 10, 100);
 
     volatile CommandDispatcher<Scheduler> dispatcher;
-    private volatile Scheduler scheduler;
+    volatile Scheduler scheduler;
+    private volatile SessionExpirationStatistics expirationStatistics;
+    volatile ThreadPoolExecutor scheduleExecutor;
+    // Sessions for which this node is the primary owner as of the most recent topology
+    volatile Locality locality;
 
     public InfinispanSessionManager(SessionFactory<V, L> factory, InfinispanSessionManagerConfiguration configuration) {
         this.factory = factory;
@@ -104,6 +123,10 @@ public class InfinispanSessionManager<V, L> implements SessionManager<L, Transac
         this.dispatcherFactory = configuration.getCommandDispatcherFactory();
         this.nodeFactory = configuration.getNodeFactory();
         this.maxActiveSessions = configuration.getMaxActiveSessions();
+        this.replicationStatistics = configuration.getReplicationStatistics();
+        this.bucketedExpiration = configuration.isBucketedExpirationEnabled();
+        this.expirationBatchSize = configuration.getExpirationBatchSize();
+        this.scheduleConcurrency = configuration.getScheduleConcurrency();
         Configuration config = this.cache.getCacheConfiguration();
         // If cache is clustered or configured with a write-through cache store
         // then we need to trigger any HttpSessionActivationListeners per request
@@ -115,7 +138,14 @@ public class InfinispanSessionManager<V, L> implements SessionManager<L, Transac
     public void start() {
         this.identifierFactory.start();
         final List<Scheduler> schedulers = new ArrayList<>(2);
-        schedulers.add(new SessionExpirationScheduler(this.batcher, new ExpiredSessionRemover<>(this.factory)));
+        Remover<String> remover = new ExpiredSessionRemover<>(this.factory);
+        if (this.bucketedExpiration) {
+            BucketedSessionExpirationScheduler expirationScheduler = new BucketedSessionExpirationScheduler(this.batcher, remover, this.expirationBatchSize);
+            this.expirationStatistics = expirationScheduler;
+            schedulers.add(expirationScheduler);
+        } else {
+            schedulers.add(new SessionExpirationScheduler(this.batcher, remover));
+        }
         if (this.maxActiveSessions >= 0) {
             schedulers.add(new SessionEvictionScheduler(this.cache.getName() + ".eviction", this.batcher, this.factory, this.dispatcherFactory, this.maxActiveSessions));
         }
@@ -148,14 +178,21 @@ public class InfinispanSessionManager<V, L> implements SessionManager<L, Transac
                 }
             }
         };
+        int concurrency = Math.max(this.scheduleConcurrency, 1);
+        ThreadFactory threadFactory = new JBossThreadFactory(new ThreadGroup(this.cache.getName() + ".scheduler"), Boolean.FALSE, null, "%G - %t", null, null, AccessController.doPrivileged(GetAccessControlContextAction.getInstance()));
+        this.scheduleExecutor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), threadFactory);
+        this.scheduleExecutor.allowCoreThreadTimeOut(true);
         this.dispatcher = this.dispatcherFactory.createCommandDispatcher(this.cache.getName() + ".schedulers", this.scheduler);
+        Locality locality = new ConsistentHashLocality(this.cache);
+        this.locality = locality;
         this.cache.addListener(this, this);
-        this.schedule(this.cache, new SimpleLocality(false), new ConsistentHashLocality(this.cache));
+        this.schedule(this.cache, new SimpleLocality(false), locality);
     }
 
     @Override
     public void stop() {
         this.cache.removeListener(this);
+        this.scheduleExecutor.shutdownNow();
         this.dispatcher.close();
         this.scheduler.close();
         this.identifierFactory.stop();
@@ -263,6 +300,28 @@ public class InfinispanSessionManager<V, L> implements SessionManager<L, Transac
         return (value != null) ? new SimpleImmutableSession(this.factory.createImmutableSession(id, value)) : null;
     }
 
+    @Override
+    public long getExpirationBacklog() {
+        SessionExpirationStatistics statistics = this.expirationStatistics;
+        return (statistics != null) ? statistics.getExpirationBacklog() : 0;
+    }
+
+    @Override
+    public long getExpirationLag() {
+        SessionExpirationStatistics statistics = this.expirationStatistics;
+        return (statistics != null) ? statistics.getExpirationLag() : 0;
+    }
+
+    @Override
+    public long getPerformedReplications() {
+        return this.replicationStatistics.getPerformedReplications();
+    }
+
+    @Override
+    public long getSkippedReplications() {
+        return this.replicationStatistics.getSkippedReplications();
+    }
+
     @Override
     public Set<String> getActiveSessions() {
         // Omit remote sessions (i.e. when using DIST mode) as well as passivated sessions
@@ -336,13 +395,22 @@ public class InfinispanSessionManager<V, L> implements SessionManager<L, Transac
         Locality oldLocality = new ConsistentHashLocality(localAddress, event.getConsistentHashAtStart());
         Locality newLocality = new ConsistentHashLocality(localAddress, event.getConsistentHashAtEnd());
         if (event.isPre()) {
+            // Publish the new locality before canceling, so that in-flight schedule tasks skip or cancel sessions that are no longer local
+            this.locality = newLocality;
             this.scheduler.cancel(newLocality);
         } else {
             this.schedule(cache, oldLocality, newLocality);
         }
     }
 
+    /**
+     * Schedules the sessions in memory for which this node is the new primary owner.
+     * Sessions are looked up and scheduled asynchronously, by up to {@link InfinispanSessionManagerConfiguration#getScheduleConcurrency()} threads,
+     * so that neither startup nor rehashing waits on the scheduling of every session.
+     * A subsequent topology change only affects the sessions that this node no longer owns.
+     */
     private void schedule(Cache<String, ?> cache, Locality oldLocality, Locality newLocality) {
+        List<String> sessionIds = new ArrayList<>();
         // Iterate over sessions in memory
         for (Object key: cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL, Flag.SKIP_CACHE_LOAD).keySet()) {
             // Cache may contain non-string keys, so ignore any others
@@ -351,19 +419,55 @@ public class InfinispanSessionManager<V, L> implements SessionManager<L, Transac
                 // If we are the new primary owner of this session
                 // then schedule expiration of this session locally
                 if (!oldLocality.isLocal(sessionId) && newLocality.isLocal(sessionId)) {
-                    Batch batch = this.batcher.createBatch();
-                    try {
-                        // We need to lookup the session to obtain its meta data
-                        V value = this.factory.findValue(sessionId);
-                        if (value != null) {
-                            ImmutableSession session = this.factory.createImmutableSession(sessionId, value);
-                            this.scheduler.schedule(session);
+                    sessionIds.add(sessionId);
+                }
+            }
+        }
+        if (sessionIds.isEmpty()) return;
+
+        int tasks = Math.min(this.scheduleExecutor.getMaximumPoolSize(), sessionIds.size());
+        int size = (sessionIds.size() + tasks - 1) / tasks;
+        for (int i = 0; i < sessionIds.size(); i += size) {
+            final List<String> ids = sessionIds.subList(i, Math.min(i + size, sessionIds.size()));
+            Runnable task = new Runnable() {
+                @Override
+                public void run() {
+                    for (String id: ids) {
+                        // Abort if the session manager was stopped
+                        if (InfinispanSessionManager.this.scheduleExecutor.isShutdown()) return;
+                        // Skip sessions that are no longer owned by this node following a subsequent topology change
+                        if (InfinispanSessionManager.this.locality.isLocal(id)) {
+                            InfinispanSessionManager.this.scheduleLocal(id);
+                            // Ownership may have changed while scheduling, after the scheduler canceled non-local sessions
+                            if (!InfinispanSessionManager.this.locality.isLocal(id)) {
+                                InfinispanSessionManager.this.scheduler.cancel(id);
+                            }
                         }
-                    } finally {
-                        batch.discard();
                     }
                 }
+            };
+            try {
+                this.scheduleExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // Session manager was stopped
+                return;
+            }
+        }
+    }
+
+    void scheduleLocal(String sessionId) {
+        Batch batch = this.batcher.createBatch();
+        try {
+            // We need to lookup the session to obtain its meta data
+            V value = this.factory.findValue(sessionId);
+            if (value != null) {
+                ImmutableSession session = this.factory.createImmutableSession(sessionId, value);
+                this.scheduler.schedule(session);
             }
+        } catch (RuntimeException e) {
+            InfinispanWebLogger.ROOT_LOGGER.failedToScheduleSession(e, sessionId);
+        } finally {
+            batch.discard();
         }
     }
 
@@ -29,6 +29,7 @@ import org.wildfly.clustering.ee.infinispan.TransactionBatch;
 import org.wildfly.clustering.group.NodeFactory;
 import org.wildfly.clustering.web.IdentifierFactory;
 import org.wildfly.clustering.web.session.SessionContext;
+import org.wildfly.clustering.web.session.SessionReplicationStatistics;
 
 /**
  * Configuration for an {@link InfinispanSessionManager}.
@@ -42,4 +43,8 @@ public interface InfinispanSessionManagerConfiguration {
     CommandDispatcherFactory getCommandDispatcherFactory();
     NodeFactory<Address> getNodeFactory();
     int getMaxActiveSessions();
+    SessionReplicationStatistics getReplicationStatistics();
+    boolean isBucketedExpirationEnabled();
+    int getExpirationBatchSize();
+    int getScheduleConcurrency();
 }
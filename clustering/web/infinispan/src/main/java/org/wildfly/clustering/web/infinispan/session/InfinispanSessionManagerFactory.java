@@ -59,6 +59,7 @@ import org.wildfly.clustering.web.session.SessionContext;
 import org.wildfly.clustering.web.session.SessionManager;
 import org.wildfly.clustering.web.session.SessionManagerConfiguration;
 import org.wildfly.clustering.web.session.SessionManagerFactory;
+import org.wildfly.clustering.web.session.SessionReplicationStatistics;
 
 /**
  * Factory for creating session managers.
@@ -78,6 +79,7 @@ public class InfinispanSessionManagerFactory extends AbstractService<SessionMana
     }
 
     private final SessionManagerConfiguration config;
+    private final SessionAttributeReplicationStatistics statistics = new SessionAttributeReplicationStatistics();
     private final InjectedValue<Cache> cache = new InjectedValue<>();
     private final InjectedValue<KeyAffinityServiceFactory> affinityFactory = new InjectedValue<>();
     private final InjectedValue<CommandDispatcherFactory> dispatcherFactory = new InjectedValue<>();
@@ -100,6 +102,10 @@ public class InfinispanSessionManagerFactory extends AbstractService<SessionMana
         final CommandDispatcherFactory dispatcherFactory = this.dispatcherFactory.getValue();
         final NodeFactory<Address> nodeFactory = this.nodeFactory.getValue();
         final int maxActiveSessions = this.config.getMaxActiveSessions();
+        final SessionReplicationStatistics statistics = this.statistics;
+        final boolean bucketedExpiration = this.config.isBucketedExpirationEnabled();
+        final int expirationBatchSize = this.config.getExpirationBatchSize();
+        final int scheduleConcurrency = this.config.getScheduleConcurrency();
         InfinispanSessionManagerConfiguration config = new InfinispanSessionManagerConfiguration() {
             @Override
             public SessionContext getSessionContext() {
@@ -135,6 +141,26 @@ public class InfinispanSessionManagerFactory extends AbstractService<SessionMana
             public int getMaxActiveSessions() {
                 return maxActiveSessions;
             }
+
+            @Override
+            public SessionReplicationStatistics getReplicationStatistics() {
+                return statistics;
+            }
+
+            @Override
+            public boolean isBucketedExpirationEnabled() {
+                return bucketedExpiration;
+            }
+
+            @Override
+            public int getExpirationBatchSize() {
+                return expirationBatchSize;
+            }
+
+            @Override
+            public int getScheduleConcurrency() {
+                return scheduleConcurrency;
+            }
         };
         return new InfinispanSessionManager<>(this.getSessionFactory(context, localContextFactory), config);
     }
@@ -143,19 +169,20 @@ public class InfinispanSessionManagerFactory extends AbstractService<SessionMana
         Module module = this.config.getModule();
         MarshallingContext marshallingContext = new SimpleMarshallingContextFactory().createMarshallingContext(new SessionAttributeMarshallingContext(module), module.getClassLoader());
         MarshalledValueFactory<MarshallingContext> factory = new SimpleMarshalledValueFactory(marshallingContext);
+        SessionAttributeFingerprinter fingerprinter = this.config.isDirtyCheckingEnabled() ? new SessionAttributeFingerprinter(marshallingContext) : null;
 
         switch (this.config.getAttributePersistenceStrategy()) {
             case FINE: {
                 Cache<String, FineSessionCacheEntry<L>> sessionCache = this.cache.getValue();
                 Cache<SessionAttributeCacheKey, MarshalledValue<Object, MarshallingContext>> attributeCache = this.cache.getValue();
                 SessionAttributeMarshaller<Object, MarshalledValue<Object, MarshallingContext>> marshaller = new MarshalledValueSessionAttributeMarshaller<>(factory, marshallingContext);
-                return new FineSessionFactory<>(sessionCache, attributeCache, context, marshaller, localContextFactory);
+                return new FineSessionFactory<>(sessionCache, attributeCache, context, marshaller, localContextFactory, fingerprinter, this.statistics);
             }
             case COARSE: {
                 Cache<String, CoarseSessionCacheEntry<L>> sessionCache = this.cache.getValue();
                 Cache<SessionAttributesCacheKey, MarshalledValue<Map<String, Object>, MarshallingContext>> attributesCache = this.cache.getValue();
                 SessionAttributeMarshaller<Map<String, Object>, MarshalledValue<Map<String, Object>, MarshallingContext>> marshaller = new MarshalledValueSessionAttributeMarshaller<>(factory, marshallingContext);
-                return new CoarseSessionFactory<>(sessionCache, attributesCache, context, marshaller, localContextFactory);
+                return new CoarseSessionFactory<>(sessionCache, attributesCache, context, marshaller, localContextFactory, fingerprinter, this.statistics);
             }
             default: {
                 // Impossible
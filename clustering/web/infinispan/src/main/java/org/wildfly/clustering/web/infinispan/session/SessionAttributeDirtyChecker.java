@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.web.infinispan.session;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.wildfly.clustering.ee.infinispan.Mutator;
+
+/**
+ * Defers the replication of mutable session attributes that were read during a request until the session is closed.
+ * Each attribute is fingerprinted when first read, and is only replicated if its fingerprint differs when the session is closed.
+ */
+public class SessionAttributeDirtyChecker implements Mutator {
+
+    private final Map<Object, Read> reads = new ConcurrentHashMap<>();
+    private final SessionAttributeFingerprinter fingerprinter;
+    private final SessionAttributeReplicationStatistics statistics;
+
+    public SessionAttributeDirtyChecker(SessionAttributeFingerprinter fingerprinter, SessionAttributeReplicationStatistics statistics) {
+        this.fingerprinter = fingerprinter;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Records the read of a mutable attribute.
+     * Only the first read of a given key is fingerprinted.
+     * @param key identifies the attribute
+     * @param attribute the attribute value
+     * @param mutator replicates the attribute, if necessary
+     */
+    public void read(Object key, Object attribute, Mutator mutator) {
+        if (!this.reads.containsKey(key)) {
+            this.reads.put(key, new Read(attribute, this.fingerprinter.fingerprint(attribute), mutator));
+        }
+    }
+
+    /**
+     * Forgets any recorded read of the specified attribute, e.g. following its explicit mutation or removal.
+     * @param key identifies the attribute
+     */
+    public void discard(Object key) {
+        this.reads.remove(key);
+    }
+
+    /**
+     * Replicates those attributes whose fingerprint changed since they were read.
+     */
+    @Override
+    public void mutate() {
+        for (Read read : this.reads.values()) {
+            if (this.fingerprinter.fingerprint(read.attribute) != read.fingerprint) {
+                read.mutator.mutate();
+                this.statistics.replicated();
+            } else {
+                this.statistics.skipped();
+            }
+        }
+        this.reads.clear();
+    }
+
+    private static class Read {
+        final Object attribute;
+        final long fingerprint;
+        final Mutator mutator;
+
+        Read(Object attribute, long fingerprint, Mutator mutator) {
+            this.attribute = attribute;
+            this.fingerprint = fingerprint;
+            this.mutator = mutator;
+        }
+    }
+}
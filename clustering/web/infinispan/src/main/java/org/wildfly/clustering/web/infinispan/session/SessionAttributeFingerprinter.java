@@ -0,0 +1,107 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.web.infinispan.session;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.jboss.as.clustering.marshalling.MarshallingContext;
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.Marshalling;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Computes a 64-bit fingerprint of the marshalled form of a session attribute.
+ * The marshalled bytes are hashed as they are written, so no intermediate buffer is allocated.
+ */
+public class SessionAttributeFingerprinter {
+
+    private final MarshallingContext context;
+
+    public SessionAttributeFingerprinter(MarshallingContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Returns the fingerprint of the marshalled form of the specified attribute.
+     * @param attribute a session attribute
+     * @return a 64-bit hash of the marshalled attribute
+     */
+    public long fingerprint(Object attribute) {
+        FingerprintOutputStream output = new FingerprintOutputStream();
+        int version = this.context.getCurrentVersion();
+        ClassLoader loader = setThreadContextClassLoader(this.context.getClassLoader());
+        try {
+            Marshaller marshaller = this.context.acquireMarshaller(version);
+            boolean finished = false;
+            try {
+                marshaller.start(Marshalling.createByteOutput(output));
+                marshaller.writeObject(attribute);
+                marshaller.finish();
+                finished = true;
+            } finally {
+                if (finished) {
+                    this.context.releaseMarshaller(version, marshaller);
+                } else {
+                    marshaller.close();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        } finally {
+            setThreadContextClassLoader(loader);
+        }
+        return output.getFingerprint();
+    }
+
+    private static ClassLoader setThreadContextClassLoader(ClassLoader loader) {
+        return (loader != null) ? WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(loader) : null;
+    }
+
+    /**
+     * Output stream that computes a 64-bit FNV-1a hash of the bytes written to it.
+     */
+    static class FingerprintOutputStream extends OutputStream {
+        private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+        private static final long PRIME = 0x100000001b3L;
+
+        private long hash = OFFSET_BASIS;
+
+        @Override
+        public void write(int b) {
+            this.hash = (this.hash ^ (b & 0xff)) * PRIME;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            long hash = this.hash;
+            for (int i = offset; i < offset + length; ++i) {
+                hash = (hash ^ (bytes[i] & 0xff)) * PRIME;
+            }
+            this.hash = hash;
+        }
+
+        long getFingerprint() {
+            return this.hash;
+        }
+    }
+}
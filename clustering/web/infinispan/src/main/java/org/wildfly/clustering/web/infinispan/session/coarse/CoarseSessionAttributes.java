@@ -27,6 +27,7 @@ import org.jboss.as.clustering.marshalling.MarshalledValue;
 import org.jboss.as.clustering.marshalling.MarshallingContext;
 import org.wildfly.clustering.ee.infinispan.Mutator;
 import org.wildfly.clustering.web.infinispan.session.MutableDetector;
+import org.wildfly.clustering.web.infinispan.session.SessionAttributeDirtyChecker;
 import org.wildfly.clustering.web.infinispan.session.SessionAttributeMarshaller;
 import org.wildfly.clustering.web.session.SessionAttributes;
 
@@ -36,16 +37,22 @@ import org.wildfly.clustering.web.session.SessionAttributes;
  */
 public class CoarseSessionAttributes extends CoarseImmutableSessionAttributes implements SessionAttributes {
     private final Mutator mutator;
+    private final SessionAttributeDirtyChecker checker;
 
     public CoarseSessionAttributes(MarshalledValue<Map<String, Object>, MarshallingContext> attributes, SessionAttributeMarshaller<Map<String, Object>, MarshalledValue<Map<String, Object>, MarshallingContext>> marshaller, Mutator mutator) {
+        this(attributes, marshaller, mutator, null);
+    }
+
+    public CoarseSessionAttributes(MarshalledValue<Map<String, Object>, MarshallingContext> attributes, SessionAttributeMarshaller<Map<String, Object>, MarshalledValue<Map<String, Object>, MarshallingContext>> marshaller, Mutator mutator, SessionAttributeDirtyChecker checker) {
         super(attributes, marshaller);
         this.mutator = mutator;
+        this.checker = checker;
     }
 
     @Override
     public Object removeAttribute(String name) {
         Object value = this.getAttributes().remove(name);
-        this.mutator.mutate();
+        this.mutate();
         return value;
     }
 
@@ -53,7 +60,7 @@ public class CoarseSessionAttributes extends CoarseImmutableSessionAttributes im
     public Object setAttribute(String name, Object value) {
         Map<String, Object> attributes = this.getAttributes();
         Object old = (value != null) ? attributes.put(name, value) : attributes.remove(name);
-        this.mutator.mutate();
+        this.mutate();
         return old;
     }
 
@@ -61,8 +68,20 @@ public class CoarseSessionAttributes extends CoarseImmutableSessionAttributes im
     public Object getAttribute(String name) {
         Object value = super.getAttribute(name);
         if (MutableDetector.isMutable(value)) {
-            this.mutator.mutate();
+            if (this.checker != null) {
+                // Fingerprint the entire attribute map, since that is what replicates
+                this.checker.read(this, this.getAttributes(), this.mutator);
+            } else {
+                this.mutator.mutate();
+            }
         }
         return value;
     }
+
+    private void mutate() {
+        if (this.checker != null) {
+            this.checker.discard(this);
+        }
+        this.mutator.mutate();
+    }
 }
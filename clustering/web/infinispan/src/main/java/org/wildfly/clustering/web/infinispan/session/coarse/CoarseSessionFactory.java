@@ -31,12 +31,16 @@ import org.infinispan.transaction.LockingMode;
 import org.jboss.as.clustering.marshalling.MarshalledValue;
 import org.jboss.as.clustering.marshalling.MarshallingContext;
 import org.wildfly.clustering.ee.infinispan.CacheEntryMutator;
+import org.wildfly.clustering.ee.infinispan.CompositeMutator;
 import org.wildfly.clustering.ee.infinispan.Mutator;
 import org.wildfly.clustering.web.LocalContextFactory;
 import org.wildfly.clustering.web.infinispan.logging.InfinispanWebLogger;
 import org.wildfly.clustering.web.infinispan.session.InfinispanImmutableSession;
 import org.wildfly.clustering.web.infinispan.session.InfinispanSession;
+import org.wildfly.clustering.web.infinispan.session.SessionAttributeDirtyChecker;
+import org.wildfly.clustering.web.infinispan.session.SessionAttributeFingerprinter;
 import org.wildfly.clustering.web.infinispan.session.SessionAttributeMarshaller;
+import org.wildfly.clustering.web.infinispan.session.SessionAttributeReplicationStatistics;
 import org.wildfly.clustering.web.infinispan.session.SessionFactory;
 import org.wildfly.clustering.web.infinispan.session.SimpleSessionMetaData;
 import org.wildfly.clustering.web.session.ImmutableSession;
@@ -60,13 +64,17 @@ public class CoarseSessionFactory<L> implements SessionFactory<CoarseSessionEntr
     private final Cache<SessionAttributesCacheKey, MarshalledValue<Map<String, Object>, MarshallingContext>> attributesCache;
     private final SessionAttributeMarshaller<Map<String, Object>, MarshalledValue<Map<String, Object>, MarshallingContext>> marshaller;
     private final LocalContextFactory<L> localContextFactory;
+    private final SessionAttributeFingerprinter fingerprinter;
+    private final SessionAttributeReplicationStatistics statistics;
 
-    public CoarseSessionFactory(Cache<String, CoarseSessionCacheEntry<L>> sessionCache, Cache<SessionAttributesCacheKey, MarshalledValue<Map<String, Object>, MarshallingContext>> attributesCache, SessionContext context, SessionAttributeMarshaller<Map<String, Object>, MarshalledValue<Map<String, Object>, MarshallingContext>> marshaller, LocalContextFactory<L> localContextFactory) {
+    public CoarseSessionFactory(Cache<String, CoarseSessionCacheEntry<L>> sessionCache, Cache<SessionAttributesCacheKey, MarshalledValue<Map<String, Object>, MarshallingContext>> attributesCache, SessionContext context, SessionAttributeMarshaller<Map<String, Object>, MarshalledValue<Map<String, Object>, MarshallingContext>> marshaller, LocalContextFactory<L> localContextFactory, SessionAttributeFingerprinter fingerprinter, SessionAttributeReplicationStatistics statistics) {
         this.sessionCache = sessionCache;
         this.attributesCache = attributesCache;
         this.context = context;
         this.marshaller = marshaller;
         this.localContextFactory = localContextFactory;
+        this.fingerprinter = fingerprinter;
+        this.statistics = statistics;
     }
 
     @Override
@@ -75,8 +83,12 @@ public class CoarseSessionFactory<L> implements SessionFactory<CoarseSessionEntr
         SessionMetaData metaData = cacheEntry.getMetaData();
         MarshalledValue<Map<String, Object>, MarshallingContext> value = entry.getAttributes();
         Mutator attributesMutator = metaData.isNew() ? Mutator.PASSIVE : new CacheEntryMutator<>(this.attributesCache, new SessionAttributesCacheKey(id), value);
-        SessionAttributes attributes = new CoarseSessionAttributes(value, this.marshaller, attributesMutator);
-        Mutator sessionMutator = metaData.isNew() ? Mutator.PASSIVE : new CacheEntryMutator<>(this.sessionCache, id, cacheEntry);
+        // Like the attributes mutator, dirty checking is unnecessary for new sessions
+        SessionAttributeDirtyChecker checker = ((this.fingerprinter != null) && !metaData.isNew()) ? new SessionAttributeDirtyChecker(this.fingerprinter, this.statistics) : null;
+        SessionAttributes attributes = new CoarseSessionAttributes(value, this.marshaller, attributesMutator, checker);
+        Mutator mutator = metaData.isNew() ? Mutator.PASSIVE : new CacheEntryMutator<>(this.sessionCache, id, cacheEntry);
+        // Replicate the attributes, if dirty, before the session itself
+        Mutator sessionMutator = (checker != null) ? new CompositeMutator(checker, mutator) : mutator;
         return new InfinispanSession<>(id, metaData, attributes, cacheEntry.getLocalContext(), this.localContextFactory, this.context, sessionMutator, this);
     }
 
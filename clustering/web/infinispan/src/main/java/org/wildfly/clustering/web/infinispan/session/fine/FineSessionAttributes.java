@@ -26,7 +26,9 @@ import java.util.Set;
 import org.infinispan.Cache;
 import org.infinispan.context.Flag;
 import org.wildfly.clustering.ee.infinispan.CacheEntryMutator;
+import org.wildfly.clustering.ee.infinispan.Mutator;
 import org.wildfly.clustering.web.infinispan.session.MutableDetector;
+import org.wildfly.clustering.web.infinispan.session.SessionAttributeDirtyChecker;
 import org.wildfly.clustering.web.infinispan.session.SessionAttributeMarshaller;
 import org.wildfly.clustering.web.session.SessionAttributes;
 
@@ -38,16 +40,25 @@ public class FineSessionAttributes<V> extends FineImmutableSessionAttributes<V>
     private final Set<String> attributes;
     private final Cache<SessionAttributeCacheKey, V> cache;
     private final SessionAttributeMarshaller<Object, V> marshaller;
+    private final SessionAttributeDirtyChecker checker;
 
     public FineSessionAttributes(String id, Set<String> attributes, Cache<SessionAttributeCacheKey, V> attributeCache, SessionAttributeMarshaller<Object, V> marshaller) {
+        this(id, attributes, attributeCache, marshaller, null);
+    }
+
+    public FineSessionAttributes(String id, Set<String> attributes, Cache<SessionAttributeCacheKey, V> attributeCache, SessionAttributeMarshaller<Object, V> marshaller, SessionAttributeDirtyChecker checker) {
         super(id, attributes, attributeCache, marshaller);
         this.attributes = attributes;
         this.cache = attributeCache;
         this.marshaller = marshaller;
+        this.checker = checker;
     }
 
     @Override
     public Object removeAttribute(String name) {
+        if (this.checker != null) {
+            this.checker.discard(name);
+        }
         return this.attributes.remove(name) ? this.marshaller.read(this.cache.getAdvancedCache().withFlags(Flag.FORCE_SYNCHRONOUS).remove(this.createKey(name))) : null;
     }
 
@@ -56,6 +67,9 @@ public class FineSessionAttributes<V> extends FineImmutableSessionAttributes<V>
         if (attribute == null) {
             return this.removeAttribute(name);
         }
+        if (this.checker != null) {
+            this.checker.discard(name);
+        }
         SessionAttributeCacheKey key = this.createKey(name);
         V value = this.marshaller.write(attribute);
         return this.marshaller.read(this.cache.getAdvancedCache().withFlags(this.attributes.add(name) ? Flag.IGNORE_RETURN_VALUES : Flag.FORCE_SYNCHRONOUS).put(key, value));
@@ -69,7 +83,12 @@ public class FineSessionAttributes<V> extends FineImmutableSessionAttributes<V>
         Object attribute = this.marshaller.read(value);
         // If the object is mutable, we need to indicate that the attribute should be replicated
         if (MutableDetector.isMutable(attribute)) {
-            new CacheEntryMutator<>(this.cache, key, value).mutate();
+            Mutator mutator = new CacheEntryMutator<>(this.cache, key, value);
+            if (this.checker != null) {
+                this.checker.read(name, attribute, mutator);
+            } else {
+                mutator.mutate();
+            }
         }
         return attribute;
     }
@@ -28,12 +28,16 @@ import org.infinispan.transaction.LockingMode;
 import org.jboss.as.clustering.marshalling.MarshalledValue;
 import org.jboss.as.clustering.marshalling.MarshallingContext;
 import org.wildfly.clustering.ee.infinispan.CacheEntryMutator;
+import org.wildfly.clustering.ee.infinispan.CompositeMutator;
 import org.wildfly.clustering.ee.infinispan.Mutator;
 import org.wildfly.clustering.web.LocalContextFactory;
 import org.wildfly.clustering.web.infinispan.logging.InfinispanWebLogger;
 import org.wildfly.clustering.web.infinispan.session.InfinispanImmutableSession;
 import org.wildfly.clustering.web.infinispan.session.InfinispanSession;
+import org.wildfly.clustering.web.infinispan.session.SessionAttributeDirtyChecker;
+import org.wildfly.clustering.web.infinispan.session.SessionAttributeFingerprinter;
 import org.wildfly.clustering.web.infinispan.session.SessionAttributeMarshaller;
+import org.wildfly.clustering.web.infinispan.session.SessionAttributeReplicationStatistics;
 import org.wildfly.clustering.web.infinispan.session.SessionFactory;
 import org.wildfly.clustering.web.infinispan.session.SimpleSessionMetaData;
 import org.wildfly.clustering.web.session.ImmutableSession;
@@ -57,21 +61,28 @@ public class FineSessionFactory<L> implements SessionFactory<FineSessionCacheEnt
     private final SessionContext context;
     private final SessionAttributeMarshaller<Object, MarshalledValue<Object, MarshallingContext>> marshaller;
     private final LocalContextFactory<L> localContextFactory;
+    private final SessionAttributeFingerprinter fingerprinter;
+    private final SessionAttributeReplicationStatistics statistics;
 
-    public FineSessionFactory(Cache<String, FineSessionCacheEntry<L>> sessionCache, Cache<SessionAttributeCacheKey, MarshalledValue<Object, MarshallingContext>> attributeCache, SessionContext context, SessionAttributeMarshaller<Object, MarshalledValue<Object, MarshallingContext>> marshaller, LocalContextFactory<L> localContextFactory) {
+    public FineSessionFactory(Cache<String, FineSessionCacheEntry<L>> sessionCache, Cache<SessionAttributeCacheKey, MarshalledValue<Object, MarshallingContext>> attributeCache, SessionContext context, SessionAttributeMarshaller<Object, MarshalledValue<Object, MarshallingContext>> marshaller, LocalContextFactory<L> localContextFactory, SessionAttributeFingerprinter fingerprinter, SessionAttributeReplicationStatistics statistics) {
         this.sessionCache = sessionCache;
         this.attributeCache = attributeCache;
         this.context = context;
         this.marshaller = marshaller;
         this.localContextFactory = localContextFactory;
+        this.fingerprinter = fingerprinter;
+        this.statistics = statistics;
     }
 
     @Override
     public Session<L> createSession(String id, FineSessionCacheEntry<L> entry) {
         SessionMetaData metaData = entry.getMetaData();
         Mutator mutator = metaData.isNew() ? Mutator.PASSIVE : new CacheEntryMutator<>(this.sessionCache, id, entry);
-        SessionAttributes attributes = new FineSessionAttributes<>(id, entry.getAttributes(), this.attributeCache, this.marshaller);
-        return new InfinispanSession<>(id, entry.getMetaData(), attributes, entry.getLocalContext(), this.localContextFactory, this.context, mutator, this);
+        SessionAttributeDirtyChecker checker = (this.fingerprinter != null) ? new SessionAttributeDirtyChecker(this.fingerprinter, this.statistics) : null;
+        SessionAttributes attributes = new FineSessionAttributes<>(id, entry.getAttributes(), this.attributeCache, this.marshaller, checker);
+        // Replicate any dirty attributes before the session itself
+        Mutator sessionMutator = (checker != null) ? new CompositeMutator(checker, mutator) : mutator;
+        return new InfinispanSession<>(id, entry.getMetaData(), attributes, entry.getLocalContext(), this.localContextFactory, this.context, sessionMutator, this);
     }
 
     @Override
@@ -0,0 +1,133 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.web.infinispan.session;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.wildfly.clustering.ee.Batcher;
+import org.wildfly.clustering.ee.infinispan.Remover;
+import org.wildfly.clustering.ee.infinispan.TransactionBatch;
+import org.wildfly.clustering.web.session.ImmutableSession;
+import org.wildfly.clustering.web.session.SessionMetaData;
+
+public class BucketedSessionExpirationSchedulerTestCase {
+    @Test
+    public void test() {
+        Batcher<TransactionBatch> batcher = mock(Batcher.class);
+        TransactionBatch batch = mock(TransactionBatch.class);
+        Remover<String> remover = mock(Remover.class);
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        long now = System.currentTimeMillis();
+        ImmutableSession immortalSession = this.createSession("immortal", 0L, now);
+        ImmutableSession canceledSession = this.createSession("canceled", 1000L, now);
+        ImmutableSession rescheduledSession = this.createSession("rescheduled", 1000L, now);
+        ImmutableSession[] expiringSessions = new ImmutableSession[5];
+        for (int i = 0; i < expiringSessions.length; ++i) {
+            expiringSessions[i] = this.createSession("expiring" + i, 1000L, now);
+        }
+
+        when(batcher.createBatch()).thenReturn(batch);
+
+        try (BucketedSessionExpirationScheduler scheduler = new BucketedSessionExpirationScheduler(batcher, remover, executor, 2)) {
+            scheduler.schedule(immortalSession);
+            scheduler.schedule(canceledSession);
+            scheduler.schedule(rescheduledSession);
+            for (ImmutableSession session : expiringSessions) {
+                scheduler.schedule(session);
+            }
+
+            // Nothing is eligible for expiration yet
+            scheduler.expire(now);
+
+            verify(batcher, never()).createBatch();
+
+            scheduler.cancel(canceledSession.getId());
+            when(rescheduledSession.getMetaData().getMaxInactiveInterval(TimeUnit.MILLISECONDS)).thenReturn(60000L);
+            scheduler.schedule(rescheduledSession);
+
+            scheduler.expire(now + 2000L);
+
+            assertEquals(0L, scheduler.getExpirationBacklog());
+        }
+
+        verify(remover, never()).remove("immortal");
+        verify(remover, never()).remove("canceled");
+        verify(remover, never()).remove("rescheduled");
+        for (ImmutableSession session : expiringSessions) {
+            verify(remover).remove(session.getId());
+        }
+        // 5 sessions in batches of 2
+        verify(batcher, times(3)).createBatch();
+        verify(batch, times(3)).close();
+    }
+
+    @Test
+    public void retry() {
+        Batcher<TransactionBatch> batcher = mock(Batcher.class);
+        TransactionBatch batch = mock(TransactionBatch.class);
+        Remover<String> remover = mock(Remover.class);
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        long now = System.currentTimeMillis();
+        ImmutableSession session = this.createSession("expiring", 1000L, now);
+
+        when(batcher.createBatch()).thenThrow(new IllegalStateException()).thenReturn(batch);
+
+        try (BucketedSessionExpirationScheduler scheduler = new BucketedSessionExpirationScheduler(batcher, remover, executor, 2)) {
+            scheduler.schedule(session);
+
+            // Expiration fails, the session is kept for a later attempt
+            scheduler.expire(now + 2000L);
+
+            verify(remover, never()).remove(session.getId());
+
+            scheduler.expire(now + 2000L);
+
+            verify(remover, never()).remove(session.getId());
+
+            scheduler.expire(now + 3000L + BucketedSessionExpirationScheduler.RETRY_DELAY);
+
+            verify(remover).remove(session.getId());
+            verify(batch).close();
+            assertEquals(0L, scheduler.getExpirationBacklog());
+        }
+    }
+
+    private ImmutableSession createSession(String id, long timeout, long lastAccessed) {
+        ImmutableSession session = mock(ImmutableSession.class);
+        SessionMetaData metaData = mock(SessionMetaData.class);
+        when(session.getId()).thenReturn(id);
+        when(session.getMetaData()).thenReturn(metaData);
+        when(metaData.getMaxInactiveInterval(TimeUnit.MILLISECONDS)).thenReturn(timeout);
+        when(metaData.getLastAccessedTime()).thenReturn(new Date(lastAccessed));
+        return session;
+    }
+}
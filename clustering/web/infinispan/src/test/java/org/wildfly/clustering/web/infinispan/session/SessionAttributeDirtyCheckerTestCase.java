@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.web.infinispan.session;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.wildfly.clustering.ee.infinispan.Mutator;
+
+public class SessionAttributeDirtyCheckerTestCase {
+    private final SessionAttributeFingerprinter fingerprinter = mock(SessionAttributeFingerprinter.class);
+    private final SessionAttributeReplicationStatistics statistics = new SessionAttributeReplicationStatistics();
+    private final SessionAttributeDirtyChecker checker = new SessionAttributeDirtyChecker(this.fingerprinter, this.statistics);
+
+    @Test
+    public void unchanged() {
+        Object attribute = new Object();
+        Mutator mutator = mock(Mutator.class);
+
+        when(this.fingerprinter.fingerprint(attribute)).thenReturn(1L);
+
+        this.checker.read("a", attribute, mutator);
+        this.checker.mutate();
+
+        verify(mutator, never()).mutate();
+        assertEquals(0L, this.statistics.getPerformedReplications());
+        assertEquals(1L, this.statistics.getSkippedReplications());
+    }
+
+    @Test
+    public void changed() {
+        Object attribute = new Object();
+        Mutator mutator = mock(Mutator.class);
+
+        when(this.fingerprinter.fingerprint(attribute)).thenReturn(1L, 2L);
+
+        this.checker.read("a", attribute, mutator);
+        // Subsequent reads must not replace the original fingerprint
+        this.checker.read("a", attribute, mutator);
+        this.checker.mutate();
+
+        verify(mutator).mutate();
+        assertEquals(1L, this.statistics.getPerformedReplications());
+        assertEquals(0L, this.statistics.getSkippedReplications());
+
+        // Reads are forgotten once the session is closed
+        this.checker.mutate();
+
+        verify(mutator).mutate();
+        assertEquals(1L, this.statistics.getPerformedReplications());
+    }
+
+    @Test
+    public void discard() {
+        Object attribute = new Object();
+        Mutator mutator = mock(Mutator.class);
+
+        when(this.fingerprinter.fingerprint(attribute)).thenReturn(1L, 2L);
+
+        this.checker.read("a", attribute, mutator);
+        this.checker.discard("a");
+        this.checker.mutate();
+
+        verify(mutator, never()).mutate();
+        assertEquals(0L, this.statistics.getPerformedReplications());
+        assertEquals(0L, this.statistics.getSkippedReplications());
+    }
+
+    @Test
+    public void fingerprint() {
+        SessionAttributeFingerprinter.FingerprintOutputStream single = new SessionAttributeFingerprinter.FingerprintOutputStream();
+        SessionAttributeFingerprinter.FingerprintOutputStream bulk = new SessionAttributeFingerprinter.FingerprintOutputStream();
+        byte[] bytes = new byte[] { 1, 2, 3, (byte) 0xff };
+        for (byte b : bytes) {
+            single.write(b);
+        }
+        bulk.write(bytes, 0, bytes.length);
+
+        assertEquals(single.getFingerprint(), bulk.getFingerprint());
+
+        SessionAttributeFingerprinter.FingerprintOutputStream other = new SessionAttributeFingerprinter.FingerprintOutputStream();
+        other.write(bytes, 1, bytes.length - 1);
+
+        assertEquals(false, single.getFingerprint() == other.getFingerprint());
+    }
+}
@@ -39,4 +39,28 @@ public interface SessionManagerConfiguration {
     Module getModule();
 
     String getCacheName();
+
+    /**
+     * Indicates whether a mutable session attribute that was read should only be replicated if its marshalled form changed.
+     * @return true, if mutable session attributes are dirty checked, false otherwise
+     */
+    boolean isDirtyCheckingEnabled();
+
+    /**
+     * Indicates whether sessions expiring within the same second are expired together, or individually.
+     * @return true, if session expiration is bucketed, false otherwise
+     */
+    boolean isBucketedExpirationEnabled();
+
+    /**
+     * Returns the maximum number of expired sessions removed per batch, if session expiration is bucketed.
+     * @return a positive number of sessions
+     */
+    int getExpirationBatchSize();
+
+    /**
+     * Returns the number of threads that schedule the sessions for which this node becomes the primary owner, i.e. on startup or following a topology change.
+     * @return a positive number of threads
+     */
+    int getScheduleConcurrency();
 }
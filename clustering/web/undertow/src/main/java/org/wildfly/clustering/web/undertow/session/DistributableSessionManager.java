@@ -34,13 +34,17 @@ import java.util.concurrent.TimeUnit;
 import org.wildfly.clustering.ee.Batch;
 import org.wildfly.clustering.web.session.ImmutableSession;
 import org.wildfly.clustering.web.session.Session;
+import org.wildfly.clustering.web.session.SessionExpirationStatistics;
 import org.wildfly.clustering.web.session.SessionManager;
+import org.wildfly.clustering.web.session.SessionReplicationStatistics;
+import org.wildfly.extension.undertow.session.SessionExpirationMetrics;
+import org.wildfly.extension.undertow.session.SessionReplicationMetrics;
 
 /**
  * Adapts a distributable {@link SessionManager} to an Undertow {@link io.undertow.server.session.SessionManager}.
  * @author Paul Ferraro
  */
-public class DistributableSessionManager implements UndertowSessionManager {
+public class DistributableSessionManager implements UndertowSessionManager, SessionExpirationMetrics, SessionReplicationMetrics {
 
     private static final int MAX_SESSION_ID_GENERATION_ATTEMPTS = 10;
 
@@ -155,6 +159,26 @@ public class DistributableSessionManager implements UndertowSessionManager {
         return this.manager.getLocalSessions();
     }
 
+    @Override
+    public long getExpirationBacklog() {
+        return (this.manager instanceof SessionExpirationStatistics) ? ((SessionExpirationStatistics) this.manager).getExpirationBacklog() : 0;
+    }
+
+    @Override
+    public long getExpirationLag() {
+        return (this.manager instanceof SessionExpirationStatistics) ? ((SessionExpirationStatistics) this.manager).getExpirationLag() : 0;
+    }
+
+    @Override
+    public long getPerformedReplications() {
+        return (this.manager instanceof SessionReplicationStatistics) ? ((SessionReplicationStatistics) this.manager).getPerformedReplications() : 0;
+    }
+
+    @Override
+    public long getSkippedReplications() {
+        return (this.manager instanceof SessionReplicationStatistics) ? ((SessionReplicationStatistics) this.manager).getSkippedReplications() : 0;
+    }
+
     @Override
     public io.undertow.server.session.Session getSession(String sessionId) {
         Batch batch = this.manager.getBatcher().createBatch();
@@ -27,6 +27,7 @@ import java.util.Map;
 import io.undertow.servlet.api.SessionManagerFactory;
 
 import org.jboss.metadata.web.jboss.ReplicationGranularity;
+import org.jboss.metadata.web.jboss.ReplicationTrigger;
 import org.jboss.modules.Module;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceController;
@@ -88,6 +89,27 @@ public class DistributableSessionManagerFactoryBuilder implements org.wildfly.ex
             public String getCacheName() {
                 return config.getCacheName();
             }
+
+            @Override
+            public boolean isDirtyCheckingEnabled() {
+                // Mutable attributes that were only read are replicated if they changed, rather than on every access
+                return config.getTrigger() == ReplicationTrigger.SET;
+            }
+
+            @Override
+            public boolean isBucketedExpirationEnabled() {
+                return config.isBucketedExpirationEnabled();
+            }
+
+            @Override
+            public int getExpirationBatchSize() {
+                return config.getExpirationBatchSize();
+            }
+
+            @Override
+            public int getScheduleConcurrency() {
+                return config.getScheduleConcurrency();
+            }
         };
         this.builder.buildDeploymentDependency(target, clusteringServiceName, configuration)
                 .setInitialMode(ServiceController.Mode.ON_DEMAND)
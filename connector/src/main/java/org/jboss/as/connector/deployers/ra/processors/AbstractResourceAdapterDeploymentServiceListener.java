@@ -24,9 +24,12 @@ package org.jboss.as.connector.deployers.ra.processors;
 
 import org.jboss.as.connector.dynamicresource.StatisticsResourceDefinition;
 import org.jboss.as.connector.dynamicresource.ClearWorkManagerStatisticsHandler;
+import org.jboss.as.connector.services.workmanager.FairWorkExecutor;
+import org.jboss.as.connector.subsystems.common.pool.AdaptivePoolSizer;
 import org.jboss.as.connector.subsystems.common.pool.PoolMetrics;
 import org.jboss.as.connector.subsystems.common.pool.PoolStatisticsRuntimeAttributeReadHandler;
 import org.jboss.as.connector.subsystems.common.pool.PoolStatisticsRuntimeAttributeWriteHandler;
+import org.jboss.as.connector.subsystems.common.pool.PoolSizingScheduler;
 import org.jboss.as.connector.subsystems.resourceadapters.CommonAttributes;
 import org.jboss.as.connector.subsystems.resourceadapters.Constants;
 import org.jboss.as.connector.subsystems.resourceadapters.IronJacamarResource;
@@ -47,6 +50,7 @@ import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
 import org.jboss.jca.core.api.bootstrap.CloneableBootstrapContext;
+import org.jboss.jca.core.api.connectionmanager.pool.PoolConfiguration;
 import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
 import org.jboss.jca.core.api.workmanager.WorkManager;
 import org.jboss.jca.core.connectionmanager.ConnectionManager;
@@ -55,7 +59,9 @@ import org.jboss.jca.deployers.common.CommonDeployment;
 import org.jboss.msc.service.AbstractServiceListener;
 import org.jboss.msc.service.ServiceController;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -68,6 +74,7 @@ public abstract class AbstractResourceAdapterDeploymentServiceListener extends A
     private final Resource deploymentResource;
     private final String bootstrapCtx;
     private final String raName;
+    private final List<AdaptivePoolSizer> poolSizers = new ArrayList<AdaptivePoolSizer>();
 
     public AbstractResourceAdapterDeploymentServiceListener(ManagementResourceRegistration registration, String deploymentUnitName, Resource deploymentResource, final String bootstrapCtx, final String raName) {
         this.registration = registration;
@@ -193,7 +200,21 @@ public abstract class AbstractResourceAdapterDeploymentServiceListener extends A
 
                                     }
                                     if (poolStats.getNames().size() != 0 && raRegistration.getSubModel(PathAddress.pathAddress(peCD)) == null) {
-                                        ManagementResourceRegistration cdSubRegistration = raRegistration.registerSubModel(new StatisticsResourceDefinition(peCD, CommonAttributes.RESOURCE_NAME, poolStats));
+                                        AdaptivePoolSizer poolSizer = null;
+                                        PoolConfiguration poolConfiguration = getPoolConfiguration(deploymentMD, cm.getJndiName());
+                                        if (poolConfiguration != null) {
+                                            poolSizer = new AdaptivePoolSizer(poolConfiguration, AdaptivePoolSizer.forStatistics(poolStats),
+                                                    AdaptivePoolSizer.forPool(cm.getPool()));
+                                            poolSizer.setEnabled(isAdaptiveSizingEnabled(deploymentMD, cm.getJndiName()));
+                                            final ServiceController<?> poolSizingController = controller.getServiceContainer().getService(ConnectorServices.POOL_SIZING_SERVICE);
+                                            if (poolSizingController != null && poolSizingController.getState() == ServiceController.State.UP) {
+                                                ((PoolSizingScheduler) poolSizingController.getValue()).register(poolSizer);
+                                            }
+                                            synchronized (poolSizers) {
+                                                poolSizers.add(poolSizer);
+                                            }
+                                        }
+                                        ManagementResourceRegistration cdSubRegistration = raRegistration.registerSubModel(new StatisticsResourceDefinition(peCD, CommonAttributes.RESOURCE_NAME, poolStats, poolSizer));
                                         final Resource cdResource = new IronJacamarResource.IronJacamarRuntimeResource();
 
                                         if (!raResource.hasChild(peCD))
@@ -261,6 +282,19 @@ public abstract class AbstractResourceAdapterDeploymentServiceListener extends A
             }
             case UP_to_STOP_REQUESTED: {
 
+                synchronized (poolSizers) {
+                    final ServiceController<?> poolSizingController = controller.getServiceContainer().getService(ConnectorServices.POOL_SIZING_SERVICE);
+                    for (AdaptivePoolSizer poolSizer : poolSizers) {
+                        if (poolSizingController != null && poolSizingController.getState() == ServiceController.State.UP) {
+                            ((PoolSizingScheduler) poolSizingController.getValue()).unregister(poolSizer);
+                        }
+                        poolSizer.setEnabled(false);
+                    }
+                    poolSizers.clear();
+                }
+
+                removeWorkStatistics(controller);
+
                 PathElement pe = PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, ResourceAdaptersExtension.SUBSYSTEM_NAME);
                 PathElement ijPe = PathElement.pathElement(Constants.IRONJACAMAR_NAME, Constants.IRONJACAMAR_NAME);
                 PathElement peStats = PathElement.pathElement(Constants.STATISTICS_NAME, Constants.STATISTICS_NAME);
@@ -295,6 +329,50 @@ public abstract class AbstractResourceAdapterDeploymentServiceListener extends A
         }
     }
 
+    /**
+     * Drops the per resource adapter work statistics the work manager of the bootstrap context keeps for this adapter.
+     */
+    private void removeWorkStatistics(final ServiceController<? extends Object> controller) {
+        final CommonDeployment deploymentMD = getDeploymentMetadata(controller);
+        final ServiceController<?> bootstrapContextController = controller.getServiceContainer().getService(ConnectorServices.BOOTSTRAP_CONTEXT_SERVICE.append(bootstrapCtx));
+        if (deploymentMD == null || deploymentMD.getResourceAdapter() == null || bootstrapContextController == null) {
+            return;
+        }
+        final WorkManager wm = (WorkManager) ((CloneableBootstrapContext) bootstrapContextController.getValue()).getWorkManager();
+        if (wm == null) {
+            return;
+        }
+        final String adapter = FairWorkExecutor.adapterName(deploymentMD.getResourceAdapter().getClass().getClassLoader());
+        for (Object pool : new Object[] {wm.getShortRunningThreadPool(), wm.getLongRunningThreadPool()}) {
+            if (pool instanceof FairWorkExecutor) {
+                ((FairWorkExecutor) pool).removeAdapter(adapter);
+            }
+        }
+    }
+
+    private static PoolConfiguration getPoolConfiguration(final CommonDeployment deploymentMD, final String jndiName) {
+        if (deploymentMD.getConnector() == null || deploymentMD.getConnector().getConnectionFactories() == null) {
+            return null;
+        }
+        for (org.jboss.jca.core.api.management.ConnectionFactory cf : deploymentMD.getConnector().getConnectionFactories()) {
+            if (cf != null && jndiName.equals(cf.getJndiName())) {
+                return cf.getPoolConfiguration();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether the pool of the given connection definition should have its minimum size adjusted to demand.
+     *
+     * @param deploymentMD the deployment
+     * @param jndiName the JNDI name of the connection definition
+     * @return {@code true} if adaptive sizing is configured for the connection definition
+     */
+    protected boolean isAdaptiveSizingEnabled(final CommonDeployment deploymentMD, final String jndiName) {
+        return false;
+    }
+
     protected abstract void registerIronjacamar(final ServiceController<? extends Object> controller, final ManagementResourceRegistration subRegistration, final Resource subsystemResource);
 
     protected abstract CommonDeployment getDeploymentMetadata(final ServiceController<? extends Object> controller);
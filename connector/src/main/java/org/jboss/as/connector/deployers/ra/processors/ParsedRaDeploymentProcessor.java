@@ -228,6 +228,7 @@ public class ParsedRaDeploymentProcessor implements DeploymentUnitProcessor {
                     .addDependency(ConnectorServices.CCM_SERVICE, CachedConnectionManager.class, raDeploymentService.getCcmInjector())
                     .addDependency(ConnectorServices.IDLE_REMOVER_SERVICE)
                     .addDependency(ConnectorServices.CONNECTION_VALIDATOR_SERVICE)
+                    .addDependency(ConnectorServices.POOL_SIZING_SERVICE)
                     .addDependency(NamingService.SERVICE_NAME);
             if(verificationHandler != null) {
                 builder.addListener(verificationHandler);
@@ -28,6 +28,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
 
+import org.jboss.as.connector.subsystems.common.pool.AdaptivePoolSizer;
+import org.jboss.as.connector.subsystems.common.pool.AdaptivePoolSizingAttributeHandler;
 import org.jboss.as.connector.subsystems.common.pool.PoolMetrics;
 import org.jboss.as.connector.subsystems.common.pool.PoolStatisticsRuntimeAttributeReadHandler;
 import org.jboss.as.connector.subsystems.common.pool.PoolStatisticsRuntimeAttributeWriteHandler;
@@ -51,6 +53,7 @@ import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
 public class StatisticsResourceDefinition extends SimpleResourceDefinition {
 
     private final StatisticsPlugin plugin;
+    private final AdaptivePoolSizer sizer;
 
     /**
      * Constructor for the {@link org.jboss.as.controller.descriptions.OverrideDescriptionProvider} case. Internationalization support is not provided.
@@ -59,8 +62,20 @@ public class StatisticsResourceDefinition extends SimpleResourceDefinition {
      * @param plugin     the statistics plugins
      */
     public StatisticsResourceDefinition(final PathElement path, final String bundleName, final StatisticsPlugin plugin) {
+        this(path, bundleName, plugin, null);
+    }
+
+    /**
+     * Constructor for pool statistics, additionally exposing the adaptive sizing of the pool.
+     *
+     * @param bundleName name to pass to {@link java.util.ResourceBundle#getBundle(String)}
+     * @param plugin     the statistics plugins
+     * @param sizer      the adaptive sizer of the pool, may be {@code null}
+     */
+    public StatisticsResourceDefinition(final PathElement path, final String bundleName, final StatisticsPlugin plugin, final AdaptivePoolSizer sizer) {
         super(path, getResolver("statistics", bundleName, plugin));
         this.plugin = plugin;
+        this.sizer = sizer;
     }
 
     private static ResourceDescriptionResolver getResolver(final String keyPrefix, final String bundleName, final StatisticsPlugin plugin) {
@@ -87,6 +102,13 @@ public class StatisticsResourceDefinition extends SimpleResourceDefinition {
         OperationStepHandler writeHandler = new PoolStatisticsRuntimeAttributeWriteHandler(plugin);
         resourceRegistration.registerReadWriteAttribute(org.jboss.as.connector.subsystems.common.pool.Constants.POOL_STATISTICS_ENABLED, readHandler, writeHandler);
 
+        if (sizer != null) {
+            OperationStepHandler sizingReadHandler = new AdaptivePoolSizingAttributeHandler.ReadHandler(sizer);
+            for (AttributeDefinition metric : org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_SIZING_METRICS) {
+                resourceRegistration.registerMetric(metric, sizingReadHandler);
+            }
+        }
+
     }
 
     public static List<AttributeDefinition> getAttributesFromPlugin(StatisticsPlugin plugin) {
@@ -28,6 +28,7 @@ import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
 import java.sql.Driver;
+import java.sql.SQLException;
 import java.util.Set;
 
 import org.jboss.as.controller.OperationFailedException;
@@ -834,6 +835,10 @@ public interface ConnectorLogger extends BasicLogger {
     @Message(id = 88, value = "Attributes %s rejected. Must be true")
     String rejectAttributesMustBeTrue(Set<String> key);
 
-}
+    @Message(id = 89, value = "Invalid work weight in work manager %s: %s. Weights must be positive integers")
+    String invalidWorkWeight(String workManager, String weight);
 
+    @Message(id = 90, value = "Connection is not valid, checked with a timeout of %d seconds")
+    SQLException invalidConnection(int timeout);
 
+}
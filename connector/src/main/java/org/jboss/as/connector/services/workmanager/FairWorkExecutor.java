@@ -0,0 +1,398 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.workmanager;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.resource.spi.work.Work;
+
+import org.jboss.as.connector.subsystems.common.pool.LatencyHistogram;
+import org.jboss.dmr.ModelNode;
+import org.jboss.jca.core.workmanager.WorkWrapper;
+import org.jboss.modules.ModuleClassLoader;
+import org.jboss.threads.BlockingExecutor;
+
+/**
+ * A {@link BlockingExecutor} that queues work per resource adapter in front of a WorkManager thread pool and hands it
+ * to the pool threads in weighted round-robin order, so a resource adapter submitting a burst of work cannot starve
+ * the others.
+ * <p>
+ * Each submission also submits one dispatcher to the underlying pool. A dispatcher does not necessarily run the work
+ * it was submitted for: it runs the next work in round-robin order, and keeps running queued work until all queues are
+ * empty. The underlying pool therefore still bounds concurrency and rejects work when saturated. The resource adapter
+ * of a work is identified by the module of the {@link Work} class.
+ */
+public class FairWorkExecutor implements BlockingExecutor {
+
+    static final String UNKNOWN_ADAPTER = "unknown";
+
+    private final BlockingExecutor delegate;
+    private final Map<String, Integer> weights;
+
+    private final Object lock = new Object();
+    /** Queues with pending work, in round-robin order; guarded by {@link #lock}. */
+    private final LinkedHashMap<String, AdapterQueue> queues = new LinkedHashMap<String, AdapterQueue>();
+    /** Statistics of every adapter that submitted work; guarded by {@link #lock}. */
+    private final Map<String, AdapterStatistics> adapters = new HashMap<String, AdapterStatistics>();
+    private AdapterQueue current;
+    private int currentServed;
+    private int queued;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final LatencyHistogram schedulingDelay = new LatencyHistogram();
+
+    /**
+     * @param delegate the thread pool running the work
+     * @param weights the number of consecutive works run for a resource adapter before moving to the next one, keyed by
+     *                resource adapter module name; adapters without an entry have weight 1
+     */
+    public FairWorkExecutor(final BlockingExecutor delegate, final Map<String, Integer> weights) {
+        this.delegate = delegate;
+        this.weights = weights;
+    }
+
+    /**
+     * Converts the configured weights, keyed by resource adapter module name, to the form taken by the constructor.
+     *
+     * @throws IllegalArgumentException if a weight is not a positive integer
+     */
+    public static Map<String, Integer> parseWeights(final Map<String, String> weights) {
+        if (weights == null || weights.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Integer> result = new HashMap<String, Integer>();
+        for (Map.Entry<String, String> entry : weights.entrySet()) {
+            int weight;
+            try {
+                weight = Integer.parseInt(entry.getValue().trim());
+            } catch (NumberFormatException e) {
+                weight = 0;
+            }
+            if (weight < 1) {
+                throw new IllegalArgumentException(entry.getKey() + "=" + entry.getValue());
+            }
+            result.put(entry.getKey(), weight);
+        }
+        return result;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        submit(task, Mode.DEFAULT, 0, null);
+    }
+
+    @Override
+    public void executeBlocking(final Runnable task) throws RejectedExecutionException, InterruptedException {
+        submit(task, Mode.BLOCKING, 0, null);
+    }
+
+    @Override
+    public void executeBlocking(final Runnable task, final long timeout, final TimeUnit unit) throws RejectedExecutionException, InterruptedException {
+        submit(task, Mode.TIMED, timeout, unit);
+    }
+
+    @Override
+    public void executeNonBlocking(final Runnable task) throws RejectedExecutionException {
+        submit(task, Mode.NON_BLOCKING, 0, null);
+    }
+
+    private void submit(final Runnable task, final Mode mode, final long timeout, final TimeUnit unit) {
+        final QueuedWork work = new QueuedWork(task, adapterOf(task));
+        synchronized (lock) {
+            AdapterQueue queue = queues.get(work.adapter);
+            if (queue == null) {
+                final Integer weight = weights.get(work.adapter);
+                queue = new AdapterQueue(work.adapter, weight == null ? 1 : weight);
+                queues.put(work.adapter, queue);
+            }
+            queue.works.add(work);
+            queued++;
+            statisticsOf(work.adapter).queued++;
+        }
+        try {
+            mode.execute(delegate, new Dispatcher(), timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (dispatcherRejected(work)) {
+                throw new RejectedExecutionException(e);
+            }
+        } catch (RuntimeException e) {
+            if (dispatcherRejected(work)) {
+                throw e;
+            }
+        } catch (Error e) {
+            dispatcherRejected(work);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the work whose dispatcher was rejected by the underlying pool from its queue.
+     *
+     * @return {@code true} if the work was removed and therefore will not run, {@code false} if a running dispatcher
+     *         already took it
+     */
+    private boolean dispatcherRejected(final QueuedWork work) {
+        synchronized (lock) {
+            final AdapterQueue queue = queues.get(work.adapter);
+            if (queue == null || !queue.works.remove(work)) {
+                return false;
+            }
+            queued--;
+            if (queue.works.isEmpty()) {
+                removeQueue(queue);
+            }
+            final AdapterStatistics statistics = adapters.get(work.adapter);
+            if (statistics != null) {
+                statistics.queued--;
+                statistics.rejected++;
+            }
+            rejected.incrementAndGet();
+            return true;
+        }
+    }
+
+    /**
+     * Takes the next work in weighted round-robin order, or returns {@code null} if there is none. The queue at the
+     * head of {@link #queues} is served until it has run as many works as its weight, then moves to the tail.
+     */
+    private QueuedWork next() {
+        synchronized (lock) {
+            if (queues.isEmpty()) {
+                return null;
+            }
+            if (current == null) {
+                current = queues.values().iterator().next();
+                currentServed = 0;
+            }
+            final QueuedWork work = current.works.poll();
+            currentServed++;
+            queued--;
+            final AdapterStatistics statistics = adapters.get(work.adapter);
+            if (statistics != null) {
+                statistics.queued--;
+            }
+            if (current.works.isEmpty()) {
+                removeQueue(current);
+            } else if (currentServed >= current.weight) {
+                queues.remove(current.adapter);
+                queues.put(current.adapter, current);
+                current = null;
+            }
+            return work;
+        }
+    }
+
+    private void removeQueue(final AdapterQueue queue) {
+        queues.remove(queue.adapter);
+        if (current == queue) {
+            current = null;
+        }
+    }
+
+    private AdapterStatistics statisticsOf(final String adapter) {
+        AdapterStatistics statistics = adapters.get(adapter);
+        if (statistics == null) {
+            statistics = new AdapterStatistics();
+            adapters.put(adapter, statistics);
+        }
+        return statistics;
+    }
+
+    String adapterOf(final Runnable task) {
+        Object work = task;
+        if (task instanceof WorkWrapper) {
+            final Work wrapped = ((WorkWrapper) task).getWork();
+            if (wrapped != null) {
+                work = wrapped;
+            }
+        }
+        return adapterName(work.getClass().getClassLoader());
+    }
+
+    /**
+     * Returns the name under which work of classes loaded by the given class loader is queued and counted.
+     */
+    public static String adapterName(final ClassLoader classLoader) {
+        if (classLoader instanceof ModuleClassLoader) {
+            return ((ModuleClassLoader) classLoader).getModule().getIdentifier().getName();
+        }
+        return classLoader == null ? UNKNOWN_ADAPTER : classLoader.toString();
+    }
+
+    /**
+     * Drops the statistics of a resource adapter that is being undeployed. Work it still has queued keeps running, but
+     * is no longer counted per adapter.
+     *
+     * @param adapter the resource adapter name, see {@link #adapterName(ClassLoader)}
+     */
+    public void removeAdapter(final String adapter) {
+        synchronized (lock) {
+            adapters.remove(adapter);
+        }
+    }
+
+    public int getQueuedCount() {
+        synchronized (lock) {
+            return queued;
+        }
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public long getCompletedCount() {
+        return completed.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public LatencyHistogram getSchedulingDelay() {
+        return schedulingDelay;
+    }
+
+    /**
+     * Returns the queued, completed and rejected work counts of each resource adapter.
+     */
+    public ModelNode adaptersToModelNode() {
+        final ModelNode result = new ModelNode().setEmptyObject();
+        final List<Map.Entry<String, AdapterStatistics>> entries;
+        synchronized (lock) {
+            entries = new ArrayList<Map.Entry<String, AdapterStatistics>>();
+            for (Map.Entry<String, AdapterStatistics> entry : adapters.entrySet()) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<String, AdapterStatistics>(entry.getKey(), entry.getValue().copy()));
+            }
+        }
+        for (Map.Entry<String, AdapterStatistics> entry : entries) {
+            final ModelNode adapter = result.get(entry.getKey());
+            adapter.get("queued").set(entry.getValue().queued);
+            adapter.get("completed").set(entry.getValue().completed);
+            adapter.get("rejected").set(entry.getValue().rejected);
+        }
+        return result;
+    }
+
+    private enum Mode {
+        DEFAULT {
+            @Override
+            void execute(BlockingExecutor executor, Runnable task, long timeout, TimeUnit unit) {
+                executor.execute(task);
+            }
+        },
+        BLOCKING {
+            @Override
+            void execute(BlockingExecutor executor, Runnable task, long timeout, TimeUnit unit) throws InterruptedException {
+                executor.executeBlocking(task);
+            }
+        },
+        TIMED {
+            @Override
+            void execute(BlockingExecutor executor, Runnable task, long timeout, TimeUnit unit) throws InterruptedException {
+                executor.executeBlocking(task, timeout, unit);
+            }
+        },
+        NON_BLOCKING {
+            @Override
+            void execute(BlockingExecutor executor, Runnable task, long timeout, TimeUnit unit) {
+                executor.executeNonBlocking(task);
+            }
+        };
+
+        abstract void execute(BlockingExecutor executor, Runnable task, long timeout, TimeUnit unit) throws InterruptedException;
+    }
+
+    private final class Dispatcher implements Runnable {
+        @Override
+        public void run() {
+            QueuedWork work;
+            while ((work = next()) != null) {
+                schedulingDelay.record(System.nanoTime() - work.queuedAt, TimeUnit.NANOSECONDS);
+                active.incrementAndGet();
+                try {
+                    work.task.run();
+                } finally {
+                    active.decrementAndGet();
+                    completed.incrementAndGet();
+                    synchronized (lock) {
+                        final AdapterStatistics statistics = adapters.get(work.adapter);
+                        if (statistics != null) {
+                            statistics.completed++;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class QueuedWork {
+        private final Runnable task;
+        private final String adapter;
+        private final long queuedAt = System.nanoTime();
+
+        QueuedWork(final Runnable task, final String adapter) {
+            this.task = task;
+            this.adapter = adapter;
+        }
+    }
+
+    private static final class AdapterQueue {
+        private final String adapter;
+        private final int weight;
+        private final ArrayDeque<QueuedWork> works = new ArrayDeque<QueuedWork>();
+
+        AdapterQueue(final String adapter, final int weight) {
+            this.adapter = adapter;
+            this.weight = weight;
+        }
+    }
+
+    private static final class AdapterStatistics {
+        private long queued;
+        private long completed;
+        private long rejected;
+
+        AdapterStatistics copy() {
+            final AdapterStatistics copy = new AdapterStatistics();
+            copy.queued = queued;
+            copy.completed = completed;
+            copy.rejected = rejected;
+            return copy;
+        }
+    }
+}
@@ -35,6 +35,9 @@ import org.jboss.msc.value.InjectedValue;
 import org.jboss.threads.BlockingExecutor;
 import org.jboss.tm.JBossXATerminator;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 
 import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
@@ -50,6 +53,10 @@ public final class WorkManagerService implements Service<WorkManager> {
 
     private final WorkManager value;
 
+    private final Map<String, Integer> weights;
+
+    private final List<FairWorkExecutor> fairExecutors = new CopyOnWriteArrayList<FairWorkExecutor>();
+
     private final InjectedValue<Executor> executorShort = new InjectedValue<Executor>();
 
     private final InjectedValue<Executor> executorLong = new InjectedValue<Executor>();
@@ -60,11 +67,13 @@ public final class WorkManagerService implements Service<WorkManager> {
      * create an instance
      *
      * @param value the work manager
+     * @param weights the scheduling weights of resource adapters, keyed by resource adapter module name
      */
-    public WorkManagerService(WorkManager value) {
+    public WorkManagerService(WorkManager value, Map<String, Integer> weights) {
         super();
         ROOT_LOGGER.debugf("Building WorkManager");
         this.value = value;
+        this.weights = weights;
     }
 
     @Override
@@ -76,13 +85,18 @@ public final class WorkManagerService implements Service<WorkManager> {
     public void start(StartContext context) throws StartException {
         ROOT_LOGGER.debugf("Starting JCA WorkManager: ", value.getName());
 
+        final FairWorkExecutor shortRunning = new FairWorkExecutor((BlockingExecutor) executorShort.getValue(), weights);
+        fairExecutors.clear();
+        fairExecutors.add(shortRunning);
         BlockingExecutor longRunning = (BlockingExecutor) executorLong.getOptionalValue();
         if (longRunning != null) {
-            this.value.setLongRunningThreadPool(longRunning);
-            this.value.setShortRunningThreadPool((BlockingExecutor) executorShort.getValue());
+            final FairWorkExecutor fairLongRunning = new FairWorkExecutor(longRunning, weights);
+            fairExecutors.add(fairLongRunning);
+            this.value.setLongRunningThreadPool(fairLongRunning);
+            this.value.setShortRunningThreadPool(shortRunning);
         } else {
-            this.value.setLongRunningThreadPool((BlockingExecutor) executorShort.getValue());
-            this.value.setShortRunningThreadPool((BlockingExecutor) executorShort.getValue());
+            this.value.setLongRunningThreadPool(shortRunning);
+            this.value.setShortRunningThreadPool(shortRunning);
 
         }
 
@@ -107,6 +121,7 @@ public final class WorkManagerService implements Service<WorkManager> {
 
         //shutting down immediately (synchronous method) the workmanager and release all works
         value.shutdown();
+        fairExecutors.clear();
 
         if (value.getName().equals(DEFAULT_NAME)) {
             WorkManagerCoordinator.getInstance().setDefaultWorkManager(null);
@@ -117,6 +132,14 @@ public final class WorkManagerService implements Service<WorkManager> {
         ROOT_LOGGER.debugf("Stopped JCA WorkManager: ", value.getName());
     }
 
+    /**
+     * Returns the executors queueing work per resource adapter in front of the short running and, if configured, the
+     * long running thread pool.
+     */
+    public List<FairWorkExecutor> getFairExecutors() {
+        return fairExecutors;
+    }
+
     public Injector<Executor> getExecutorShortInjector() {
         return executorShort;
     }
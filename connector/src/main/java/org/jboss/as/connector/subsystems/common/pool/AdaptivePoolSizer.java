@@ -0,0 +1,326 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.common.pool;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.resource.ResourceException;
+
+import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.dmr.ModelNode;
+import org.jboss.jca.core.api.connectionmanager.pool.PoolConfiguration;
+import org.jboss.jca.core.connectionmanager.listener.ConnectionListener;
+import org.jboss.jca.core.connectionmanager.pool.api.Pool;
+import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
+
+/**
+ * Adjusts the minimum size of a pool to the observed demand, so that connections are created ahead of a rising load
+ * and released gradually once it drops.
+ * <p>
+ * On every {@link #adjust(long)} the sizer samples the number of connections in use and the time callers spent waiting
+ * for a connection since the previous sample. In-use counts are smoothed with an exponentially weighted moving average
+ * whose rising trend is extrapolated a few intervals ahead; the average number of waiting callers (wait time per
+ * elapsed time) is added on top. The resulting target is applied to the pool's minimum size at once when it grows and
+ * in steps of a quarter of the difference when it shrinks, always within the configured minimum and maximum size.
+ * The pool only fills up to a raised minimum size by itself when {@code pool-prefill} is set, so after growing the
+ * minimum the sizer asks its {@link PoolFiller} to create the missing connections.
+ * <p>
+ * The minimum size may also be written through management while sizing is enabled. Reads and writes of the minimum
+ * size are therefore made while holding the monitor of the {@link PoolConfiguration}, and a value that differs from
+ * the one last applied by the sizer is taken as the new configured minimum rather than overwritten.
+ */
+public class AdaptivePoolSizer {
+
+    static final double SMOOTHING = 0.5;
+    static final int LOOKAHEAD_INTERVALS = 3;
+    static final double HEADROOM = 0.2;
+
+    public enum Decision {
+        HOLD, GROW, SHRINK
+    }
+
+    /**
+     * Source of the demand samples of a pool.
+     */
+    public interface DemandSource {
+        /** Number of connections currently handed out by the pool. */
+        int getInUseCount();
+
+        /** Accumulated time, in milliseconds, callers have spent waiting for a connection. */
+        long getTotalWaitTime();
+    }
+
+    /**
+     * Creates connections in a pool ahead of demand.
+     */
+    public interface PoolFiller {
+        /**
+         * Makes the pool hold at least the given number of idle connections, as far as its maximum size allows.
+         */
+        void fill(int idleConnections) throws ResourceException;
+    }
+
+    private final PoolConfiguration poolConfiguration;
+    private final DemandSource source;
+    private final PoolFiller filler;
+
+    private volatile boolean enabled;
+    private int configuredMinSize;
+    private int appliedMinSize;
+    private long lastSampleTime;
+    private long lastWaitTime;
+    private int lastInUse;
+    private double smoothedInUse = -1;
+    private volatile double waiting;
+    private volatile int target;
+    private volatile Decision lastDecision = Decision.HOLD;
+    private volatile long growCount;
+    private volatile long shrinkCount;
+
+    /**
+     * Creates a sizer for a pool.
+     *
+     * @param poolConfiguration the configuration of the pool whose minimum size is adjusted
+     * @param source the source of the demand samples
+     * @param filler the filler creating connections once the minimum size is raised, or {@code null} if the pool
+     *               fills itself
+     */
+    public AdaptivePoolSizer(final PoolConfiguration poolConfiguration, final DemandSource source, final PoolFiller filler) {
+        this.poolConfiguration = poolConfiguration;
+        this.source = source;
+        this.filler = filler;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables adaptive sizing. The minimum size configured at the time sizing is enabled is taken as the
+     * lower bound and restored when it is disabled again, unless it was written through management in the meantime.
+     */
+    public synchronized void setEnabled(final boolean enabled) {
+        if (enabled == this.enabled) {
+            return;
+        }
+        if (enabled) {
+            synchronized (poolConfiguration) {
+                configuredMinSize = poolConfiguration.getMinSize();
+                appliedMinSize = configuredMinSize;
+            }
+            target = configuredMinSize;
+            smoothedInUse = -1;
+            lastSampleTime = 0;
+        } else {
+            synchronized (poolConfiguration) {
+                // only restore if the minimum size is still the one applied by the sizer, not a management write
+                if (poolConfiguration.getMinSize() == appliedMinSize) {
+                    poolConfiguration.setMinSize(configuredMinSize);
+                }
+            }
+            lastDecision = Decision.HOLD;
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * Takes a demand sample and applies the resulting minimum size to the pool. When the minimum size grows, the
+     * missing connections are created before this method returns.
+     *
+     * @param now the current time in milliseconds
+     * @return the decision taken
+     */
+    public Decision adjust(final long now) {
+        final Decision decision;
+        final int minSize;
+        final int idleConnections;
+        synchronized (this) {
+            decision = sample(now);
+            minSize = appliedMinSize;
+            idleConnections = decision == Decision.GROW ? minSize - lastInUse : 0;
+        }
+        // filling may take a while, so it is done without blocking management reads and writes of the sizer
+        if (idleConnections > 0 && filler != null) {
+            try {
+                filler.fill(idleConnections);
+            } catch (ResourceException e) {
+                ConnectorLogger.ROOT_LOGGER.debugf(e, "Failed to fill pool to its minimum size of %d", minSize);
+            }
+        }
+        return decision;
+    }
+
+    private Decision sample(final long now) {
+        if (!enabled) {
+            return Decision.HOLD;
+        }
+        final int inUse = source.getInUseCount();
+        final long waitTime = source.getTotalWaitTime();
+        final double previous = smoothedInUse;
+        if (lastSampleTime == 0 || previous < 0) {
+            smoothedInUse = inUse;
+            waiting = 0;
+        } else {
+            smoothedInUse = SMOOTHING * inUse + (1 - SMOOTHING) * previous;
+            final long elapsed = now - lastSampleTime;
+            final long waited = waitTime - lastWaitTime;
+            waiting = elapsed > 0 && waited > 0 ? (double) waited / elapsed : 0;
+        }
+        lastSampleTime = now;
+        lastWaitTime = waitTime;
+        lastInUse = inUse;
+
+        final double trend = previous < 0 ? 0 : Math.max(0, smoothedInUse - previous);
+        final double demand = smoothedInUse + trend * LOOKAHEAD_INTERVALS + waiting;
+        final Decision decision;
+        final int desired;
+        synchronized (poolConfiguration) {
+            final int current = poolConfiguration.getMinSize();
+            if (current != appliedMinSize) {
+                // written through management since the last adjustment
+                configuredMinSize = current;
+                appliedMinSize = current;
+            }
+            final int maxSize = poolConfiguration.getMaxSize();
+            desired = Math.max(configuredMinSize, Math.min(maxSize, (int) Math.ceil(demand * (1 + HEADROOM))));
+
+            final int newMinSize;
+            if (desired > current) {
+                newMinSize = desired;
+                decision = Decision.GROW;
+                growCount++;
+            } else if (desired < current) {
+                newMinSize = current - Math.max(1, (current - desired) / 4);
+                decision = Decision.SHRINK;
+                shrinkCount++;
+            } else {
+                newMinSize = current;
+                decision = Decision.HOLD;
+            }
+            if (newMinSize != current) {
+                poolConfiguration.setMinSize(newMinSize);
+                appliedMinSize = newMinSize;
+            }
+        }
+        target = desired;
+        lastDecision = decision;
+        return decision;
+    }
+
+    public int getTarget() {
+        return target;
+    }
+
+    public Decision getLastDecision() {
+        return lastDecision;
+    }
+
+    public long getGrowCount() {
+        return growCount;
+    }
+
+    public long getShrinkCount() {
+        return shrinkCount;
+    }
+
+    public ModelNode toModelNode() {
+        final ModelNode result = new ModelNode();
+        result.get("enabled").set(enabled);
+        result.get("min-pool-size").set(poolConfiguration.getMinSize());
+        result.get("target-pool-size").set(target);
+        result.get("last-decision").set(lastDecision.name());
+        result.get("grow-count").set(growCount);
+        result.get("shrink-count").set(shrinkCount);
+        result.get("average-waiting").set(waiting);
+        return result;
+    }
+
+    /**
+     * Demand source backed by the connection tracking of a data source.
+     */
+    public static DemandSource forTracker(final PoolUsageTracker tracker) {
+        return new DemandSource() {
+            @Override
+            public int getInUseCount() {
+                return tracker.getOutstandingCount();
+            }
+
+            @Override
+            public long getTotalWaitTime() {
+                return tracker.getTotalWaitTime();
+            }
+        };
+    }
+
+    /**
+     * Filler creating connections through an IronJacamar pool, the same way the pool prefills itself: connections are
+     * taken from the pool, which creates new ones once no idle connection is left, and then returned to it.
+     */
+    public static PoolFiller forPool(final Pool pool) {
+        return new PoolFiller() {
+            @Override
+            public void fill(final int idleConnections) throws ResourceException {
+                final List<ConnectionListener> listeners = new ArrayList<ConnectionListener>(idleConnections);
+                try {
+                    for (int i = 0; i < idleConnections; i++) {
+                        listeners.add(pool.getConnection(null, null, null));
+                    }
+                } finally {
+                    for (ConnectionListener listener : listeners) {
+                        try {
+                            pool.returnConnection(listener, false);
+                        } catch (ResourceException e) {
+                            ConnectorLogger.ROOT_LOGGER.debugf(e, "Failed to return connection %s to the pool", listener);
+                        }
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Demand source backed by the IronJacamar pool statistics; these are only collected while statistics are enabled.
+     */
+    public static DemandSource forStatistics(final StatisticsPlugin statistics) {
+        return new DemandSource() {
+            @Override
+            public int getInUseCount() {
+                return (int) longValue("InUseCount");
+            }
+
+            @Override
+            public long getTotalWaitTime() {
+                return longValue("TotalBlockingTime");
+            }
+
+            private long longValue(final String name) {
+                if (!statistics.getNames().contains(name)) {
+                    return 0;
+                }
+                final Object value = statistics.getValue(name);
+                return value instanceof Number ? ((Number) value).longValue() : 0;
+            }
+        };
+    }
+}
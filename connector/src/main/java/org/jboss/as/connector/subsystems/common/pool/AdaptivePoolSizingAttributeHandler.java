@@ -0,0 +1,76 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.common.pool;
+
+import static org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_GROW_COUNT;
+import static org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_LAST_DECISION;
+import static org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_SHRINK_COUNT;
+import static org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_TARGET_POOL_SIZE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Runtime attribute handlers exposing the decisions of an {@link AdaptivePoolSizer}. Whether sizing is enabled is
+ * configured through the {@link Constants#ADAPTIVE_SIZING_ENABLED} attribute of the pool's resource.
+ */
+public class AdaptivePoolSizingAttributeHandler {
+
+    public static class ReadHandler implements OperationStepHandler {
+
+        private final AdaptivePoolSizer sizer;
+
+        public ReadHandler(final AdaptivePoolSizer sizer) {
+            this.sizer = sizer;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            if (context.isNormalServer()) {
+                context.addStep(new OperationStepHandler() {
+                    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                        final String attributeName = operation.require(NAME).asString();
+                        final ModelNode result = context.getResult();
+                        if (ADAPTIVE_TARGET_POOL_SIZE.getName().equals(attributeName)) {
+                            result.set(sizer.getTarget());
+                        } else if (ADAPTIVE_LAST_DECISION.getName().equals(attributeName)) {
+                            result.set(sizer.getLastDecision().name());
+                        } else if (ADAPTIVE_GROW_COUNT.getName().equals(attributeName)) {
+                            result.set(sizer.getGrowCount());
+                        } else if (ADAPTIVE_SHRINK_COUNT.getName().equals(attributeName)) {
+                            result.set(sizer.getShrinkCount());
+                        }
+                        context.stepCompleted();
+                    }
+                }, OperationContext.Stage.RUNTIME);
+            }
+            context.stepCompleted();
+        }
+    }
+
+    private AdaptivePoolSizingAttributeHandler() {
+    }
+}
@@ -34,6 +34,7 @@ import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.jca.common.api.metadata.Defaults;
@@ -80,6 +81,8 @@ public class Constants {
 
     private static final String CAPACITY_DECREMENTER_PROPERTIES_NAME = "capacity-decrementer-properties";
 
+    private static final String LEAK_THRESHOLD_MILLIS_NAME = "leak-threshold-millis";
+
 
     public static final SimpleAttributeDefinition BLOCKING_TIMEOUT_WAIT_MILLIS = new SimpleAttributeDefinitionBuilder(BLOCKING_TIMEOUT_WAIT_MILLIS_NAME, ModelType.LONG, true)
             .setXmlName(TimeOut.Tag.BLOCKING_TIMEOUT_MILLIS.getLocalName())
@@ -211,6 +214,37 @@ public class Constants {
             BACKGROUNDVALIDATION, USE_FAST_FAIL, VALIDATE_ON_MATCH, MAX_POOL_SIZE, MIN_POOL_SIZE, INITIAL_POOL_SIZE, POOL_PREFILL, POOL_USE_STRICT_MIN, POOL_FLUSH_STRATEGY,
             CAPACITY_INCREMENTER_CLASS, CAPACITY_DECREMENTER_CLASS, CAPACITY_INCREMENTER_PROPERTIES, CAPACITY_DECREMENTER_PROPERTIES};
 
+    public static final SimpleAttributeDefinition LEAK_THRESHOLD_MILLIS = new SimpleAttributeDefinitionBuilder(LEAK_THRESHOLD_MILLIS_NAME, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setDefaultValue(new ModelNode(300000L))
+            .setValidator(new LongRangeValidator(1, Long.MAX_VALUE, true, true))
+            .build();
+
+    public static final SimpleAttributeDefinition ADAPTIVE_SIZING_ENABLED = new SimpleAttributeDefinitionBuilder("adaptive-sizing-enabled", ModelType.BOOLEAN, true)
+            .setDefaultValue(new ModelNode(false))
+            .setAllowExpression(true)
+            .setXmlName("adaptive-sizing")
+            .build();
+
+    public static final SimpleAttributeDefinition ADAPTIVE_TARGET_POOL_SIZE = new SimpleAttributeDefinitionBuilder("adaptive-target-pool-size", ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
+    public static final SimpleAttributeDefinition ADAPTIVE_LAST_DECISION = new SimpleAttributeDefinitionBuilder("adaptive-last-decision", ModelType.STRING)
+            .setStorageRuntime()
+            .build();
+
+    public static final SimpleAttributeDefinition ADAPTIVE_GROW_COUNT = new SimpleAttributeDefinitionBuilder("adaptive-grow-count", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    public static final SimpleAttributeDefinition ADAPTIVE_SHRINK_COUNT = new SimpleAttributeDefinitionBuilder("adaptive-shrink-count", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    public static final SimpleAttributeDefinition[] ADAPTIVE_SIZING_METRICS = {ADAPTIVE_TARGET_POOL_SIZE, ADAPTIVE_LAST_DECISION,
+            ADAPTIVE_GROW_COUNT, ADAPTIVE_SHRINK_COUNT};
+
     public static SimpleAttributeDefinition POOL_STATISTICS_ENABLED = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.STATISTICS_ENABLED, ModelType.BOOLEAN)
             .setStorageRuntime()
             .build();
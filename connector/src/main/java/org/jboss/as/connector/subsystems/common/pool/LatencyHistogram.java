@@ -0,0 +1,105 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.common.pool;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Fixed-bucket latency histogram. Recording is a couple of atomic increments, so it can sit on the connection
+ * acquire/release path without adding contention to the pool itself.
+ */
+public class LatencyHistogram {
+
+    /** Upper bounds, in milliseconds, of all but the last (unbounded) bucket. */
+    static final long[] BUCKET_BOUNDS = new long[] {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000};
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS.length + 1);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long duration, TimeUnit unit) {
+        final long millis = unit.toMillis(duration);
+        buckets.incrementAndGet(bucketIndex(millis));
+        count.incrementAndGet();
+        total.addAndGet(millis);
+        long current = max.get();
+        while (millis > current && !max.compareAndSet(current, millis)) {
+            current = max.get();
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Returns the sum, in milliseconds, of all recorded durations.
+     */
+    public long getTotal() {
+        return total.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public void clear() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        total.set(0);
+        max.set(0);
+    }
+
+    /**
+     * Returns a management view of this histogram: count, total, max and one entry per bucket keyed by its
+     * upper bound in milliseconds ("+Inf" for the last one). Buckets are not cumulative.
+     */
+    public ModelNode toModelNode() {
+        final ModelNode result = new ModelNode();
+        result.get("count").set(count.get());
+        result.get("total").set(total.get());
+        result.get("max").set(max.get());
+        final ModelNode bucketsNode = result.get("buckets").setEmptyObject();
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            bucketsNode.get(Long.toString(BUCKET_BOUNDS[i])).set(buckets.get(i));
+        }
+        bucketsNode.get("+Inf").set(buckets.get(BUCKET_BOUNDS.length));
+        return result;
+    }
+
+    static int bucketIndex(long millis) {
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            if (millis <= BUCKET_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS.length;
+    }
+}
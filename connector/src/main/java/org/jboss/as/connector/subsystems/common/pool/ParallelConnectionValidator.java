@@ -0,0 +1,308 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.common.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.resource.ResourceException;
+
+import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Validates the idle connections of a pool on up to {@code max-concurrency} threads, and records how long the
+ * validations took and how many connections failed validation.
+ * <p>
+ * The pool's background validation hands its idle connections to the managed connection factory one at a time. While
+ * this validator is started, {@link #getInvalidConnections(Set, Validator)} only queues a check of each connection and
+ * reports the connections whose previous check failed, so the pass of the pool is no longer bound by the latency of
+ * the checks. A connection whose check has not started yet when the pool lends it is lent at once and not checked; a
+ * connection whose check is running is lent once the check is over, unless it failed (see {@link #awaitValid(Object)}).
+ * While the validator is stopped connections are validated synchronously, as the pool expects.
+ */
+public class ParallelConnectionValidator {
+
+    /**
+     * The actual validation of a set of managed connections.
+     */
+    public interface Validator {
+        Set<?> getInvalidConnections(Set<?> connections) throws ResourceException;
+    }
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final LatencyHistogram duration = new LatencyHistogram();
+    private final AtomicLong validated = new AtomicLong();
+    private final AtomicLong invalid = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    // connections with a check in flight or whose last check failed; weakly referenced so that connections destroyed
+    // by the pool can still be garbage collected
+    private final Map<Object, Check> checks = Collections.synchronizedMap(new WeakHashMap<Object, Check>());
+    private volatile ThreadPoolExecutor executor;
+    private volatile int timeout;
+    private volatile boolean connectionCheckSupported = true;
+
+    /**
+     * Starts validating connections in the background, with at most {@code maxConcurrency} checks running at the same
+     * time, each bounded by {@code timeout} seconds.
+     */
+    public synchronized void start(final int maxConcurrency, final int timeout, final ThreadFactory threadFactory) {
+        if (executor != null) {
+            return;
+        }
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        this.timeout = Math.max(1, timeout);
+        this.executor = executor;
+    }
+
+    /**
+     * Stops the background validation. Queued checks are abandoned and their connections are considered valid.
+     */
+    public synchronized void stop() {
+        final ThreadPoolExecutor executor = this.executor;
+        if (executor == null) {
+            return;
+        }
+        this.executor = null;
+        for (Runnable check : executor.shutdownNow()) {
+            ((Check) check).cancel();
+        }
+    }
+
+    public boolean isStarted() {
+        return executor != null;
+    }
+
+    /**
+     * Returns the connections of the given set that are known to be invalid. While the validator is started the
+     * connections that are not being checked yet are queued for a check; otherwise they are validated at once.
+     */
+    public Set<?> getInvalidConnections(final Set<?> connections, final Validator validator) throws ResourceException {
+        final ThreadPoolExecutor executor = this.executor;
+        if (executor == null) {
+            return validate(connections, validator);
+        }
+        final Set<Object> result = new HashSet<Object>();
+        for (Object connection : connections) {
+            final Check check;
+            synchronized (checks) {
+                final Check previous = checks.get(connection);
+                if (previous != null) {
+                    // a check still in flight reports its outcome when the connection is lent or validated next
+                    if (previous.isFailed()) {
+                        checks.remove(connection);
+                        result.add(connection);
+                    }
+                    continue;
+                }
+                check = new Check(connection, validator);
+                checks.put(connection, check);
+            }
+            try {
+                executor.execute(check);
+            } catch (RejectedExecutionException e) {
+                // stopped in the meantime
+                check.run();
+                if (check.isFailed()) {
+                    checks.remove(connection);
+                    result.add(connection);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Called before the given connection is lent. Cancels its check if it has not started yet, or waits for a running
+     * check to complete.
+     *
+     * @return {@code false} if the check failed and the connection must not be lent
+     */
+    public boolean awaitValid(final Object connection) {
+        final Check check = checks.get(connection);
+        if (check == null || check.cancel()) {
+            return true;
+        }
+        try {
+            // the check is bounded by the timeout, unless the driver ignores it
+            if (!check.await(timeout, TimeUnit.SECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+        if (check.isFailed()) {
+            synchronized (checks) {
+                if (checks.get(connection) == check) {
+                    checks.remove(connection);
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks a physical connection with {@link Connection#isValid(int)}, bounded by the timeout of this validator.
+     *
+     * @return the reason why the connection is invalid, or {@code null} if it is valid or if its driver does not
+     *         implement {@link Connection#isValid(int)}
+     */
+    public SQLException checkConnection(final Connection connection) {
+        if (!connectionCheckSupported) {
+            return null;
+        }
+        try {
+            return connection.isValid(timeout) ? null : ConnectorLogger.ROOT_LOGGER.invalidConnection(timeout);
+        } catch (SQLFeatureNotSupportedException e) {
+            connectionCheckSupported = false;
+        } catch (AbstractMethodError e) {
+            // driver compiled against a JDBC version older than 4.0
+            connectionCheckSupported = false;
+        } catch (SQLException e) {
+            return e;
+        }
+        return null;
+    }
+
+    private Set<?> validate(final Set<?> connections, final Validator validator) throws ResourceException {
+        final long start = System.nanoTime();
+        try {
+            final Set<?> result = validator.getInvalidConnections(connections);
+            validated.addAndGet(connections.size());
+            if (result != null) {
+                invalid.addAndGet(result.size());
+            }
+            return result;
+        } catch (ResourceException e) {
+            errors.incrementAndGet();
+            throw e;
+        } catch (RuntimeException e) {
+            errors.incrementAndGet();
+            throw e;
+        } finally {
+            duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public ModelNode toModelNode() {
+        final ThreadPoolExecutor executor = this.executor;
+        final ModelNode result = new ModelNode();
+        result.get("max-concurrency").set(executor != null ? executor.getMaximumPoolSize() : 1);
+        result.get("duration").set(duration.toModelNode());
+        result.get("validated").set(validated.get());
+        result.get("invalid").set(invalid.get());
+        result.get("errors").set(errors.get());
+        return result;
+    }
+
+    /**
+     * The check of a single connection.
+     */
+    private final class Check implements Runnable {
+
+        private static final int QUEUED = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final Validator validator;
+        private Object connection;
+        private volatile boolean failed;
+
+        Check(final Object connection, final Validator validator) {
+            this.connection = connection;
+            this.validator = validator;
+        }
+
+        @Override
+        public void run() {
+            if (!state.compareAndSet(QUEUED, RUNNING)) {
+                return;
+            }
+            final Object connection = this.connection;
+            boolean failed = false;
+            try {
+                final Set<?> result = validate(Collections.singleton(connection), validator);
+                failed = result != null && !result.isEmpty();
+            } catch (Throwable t) {
+                // the connection is kept, as the pool does when its own validation fails
+                ConnectorLogger.ROOT_LOGGER.debugf(t, "Background validation of %s failed", connection);
+            } finally {
+                complete(connection, failed);
+            }
+        }
+
+        /**
+         * Cancels this check if it has not started yet.
+         */
+        boolean cancel() {
+            if (!state.compareAndSet(QUEUED, DONE)) {
+                return false;
+            }
+            complete(connection, false);
+            return true;
+        }
+
+        boolean isFailed() {
+            return state.get() == DONE && failed;
+        }
+
+        boolean await(final long time, final TimeUnit unit) throws InterruptedException {
+            return done.await(time, unit);
+        }
+
+        private void complete(final Object connection, final boolean failed) {
+            this.failed = failed;
+            state.set(DONE);
+            if (!failed) {
+                synchronized (checks) {
+                    if (checks.get(connection) == this) {
+                        checks.remove(connection);
+                    }
+                }
+            }
+            this.connection = null;
+            done.countDown();
+        }
+    }
+}
@@ -133,7 +133,10 @@ public class PoolConfigurationRWHandler {
                     pc.setMaxSize(newValue.asInt());
                 }
                 if (MIN_POOL_SIZE.getName().equals(parameterName)) {
-                    pc.setMinSize(newValue.asInt());
+                    // the adaptive pool sizer adjusts the minimum size while holding the same monitor
+                    synchronized (pc) {
+                        pc.setMinSize(newValue.asInt());
+                    }
                 }
                 if (INITIAL_POOL_SIZE.getName().equals(parameterName)) {
                     pc.setInitialSize(newValue.asInt());
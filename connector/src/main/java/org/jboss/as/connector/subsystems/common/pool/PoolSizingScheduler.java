@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.common.pool;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.connector.logging.ConnectorLogger;
+
+/**
+ * Periodically runs the registered {@link AdaptivePoolSizer}s. The executor running them is owned by the service
+ * providing this scheduler.
+ */
+public final class PoolSizingScheduler {
+
+    static final long INTERVAL = 10;
+    static final TimeUnit INTERVAL_UNIT = TimeUnit.SECONDS;
+
+    private final Set<AdaptivePoolSizer> sizers = new CopyOnWriteArraySet<AdaptivePoolSizer>();
+    private final ScheduledExecutorService executor;
+    private ScheduledFuture<?> task;
+
+    public PoolSizingScheduler(final ScheduledExecutorService executor) {
+        this.executor = executor;
+    }
+
+    public synchronized void start() {
+        if (task != null) {
+            return;
+        }
+        task = executor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                final long now = System.currentTimeMillis();
+                for (AdaptivePoolSizer sizer : sizers) {
+                    try {
+                        sizer.adjust(now);
+                    } catch (Throwable t) {
+                        ConnectorLogger.ROOT_LOGGER.debugf(t, "Adaptive pool sizing failed");
+                    }
+                }
+            }
+        }, INTERVAL, INTERVAL, INTERVAL_UNIT);
+    }
+
+    public synchronized void stop() {
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+        sizers.clear();
+    }
+
+    /**
+     * Runs the given sizer periodically until it is unregistered. The sizer only adjusts its pool while it is enabled.
+     */
+    public void register(final AdaptivePoolSizer sizer) {
+        sizers.add(sizer);
+    }
+
+    public void unregister(final AdaptivePoolSizer sizer) {
+        sizers.remove(sizer);
+    }
+}
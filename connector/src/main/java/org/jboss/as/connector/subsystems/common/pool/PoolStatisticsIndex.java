@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.common.pool;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
+
+/**
+ * Index of the statistics of started pools keyed by the JNDI name of their connection factory, so that management
+ * reads are a single hash lookup rather than a scan of the {@link org.jboss.jca.core.api.management.ManagementRepository}.
+ * Entries are added and removed by the listeners that register the statistics resources.
+ */
+public final class PoolStatisticsIndex {
+
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<String, Entry>();
+
+    public static void register(final String jndiName, final StatisticsPlugin jdbcStatistics, final StatisticsPlugin poolStatistics,
+                                final PoolUsageTracker tracker, final AdaptivePoolSizer sizer, final ParallelConnectionValidator validation) {
+        ENTRIES.put(jndiName, new Entry(jndiName, jdbcStatistics, poolStatistics, tracker, sizer, validation));
+    }
+
+    public static void unregister(final String jndiName) {
+        ENTRIES.remove(jndiName);
+    }
+
+    public static Entry get(final String jndiName) {
+        return ENTRIES.get(jndiName);
+    }
+
+    public static Map<String, Entry> getEntries() {
+        return Collections.unmodifiableMap(ENTRIES);
+    }
+
+    public static final class Entry {
+        private final String jndiName;
+        private final StatisticsPlugin jdbcStatistics;
+        private final StatisticsPlugin poolStatistics;
+        private final PoolUsageTracker tracker;
+        private final AdaptivePoolSizer sizer;
+        private final ParallelConnectionValidator validation;
+
+        Entry(final String jndiName, final StatisticsPlugin jdbcStatistics, final StatisticsPlugin poolStatistics,
+              final PoolUsageTracker tracker, final AdaptivePoolSizer sizer, final ParallelConnectionValidator validation) {
+            this.jndiName = jndiName;
+            this.jdbcStatistics = jdbcStatistics;
+            this.poolStatistics = poolStatistics;
+            this.tracker = tracker;
+            this.sizer = sizer;
+            this.validation = validation;
+        }
+
+        public String getJndiName() {
+            return jndiName;
+        }
+
+        public StatisticsPlugin getJdbcStatistics() {
+            return jdbcStatistics;
+        }
+
+        public StatisticsPlugin getPoolStatistics() {
+            return poolStatistics;
+        }
+
+        public PoolUsageTracker getTracker() {
+            return tracker;
+        }
+
+        public AdaptivePoolSizer getSizer() {
+            return sizer;
+        }
+
+        public ParallelConnectionValidator getValidation() {
+            return validation;
+        }
+    }
+
+    private PoolStatisticsIndex() {
+    }
+}
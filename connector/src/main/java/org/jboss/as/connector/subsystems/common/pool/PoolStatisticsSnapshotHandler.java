@@ -0,0 +1,138 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.common.pool;
+
+import static org.jboss.as.connector.subsystems.common.pool.Constants.LEAK_THRESHOLD_MILLIS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.as.connector.subsystems.datasources.Util;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.dmr.ModelNode;
+import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
+
+/**
+ * Returns every JDBC and pool statistic of one pool, or of all started pools, in a single operation, together with
+ * the acquire wait-time and hold-time histograms and leak suspect counts collected by {@link PoolUsageTracker}.
+ */
+public abstract class PoolStatisticsSnapshotHandler implements OperationStepHandler {
+
+    /** Reads the statistics of the pool behind the addressed data source. */
+    public static final PoolStatisticsSnapshotHandler DS_INSTANCE = new PoolStatisticsSnapshotHandler() {
+        @Override
+        protected String getJndiName(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
+            ModelNode model;
+            if (!address.getElement(0).getKey().equals(ModelDescriptionConstants.DEPLOYMENT) &&
+                    (model = context.readResource(PathAddress.EMPTY_ADDRESS, false).getModel()).isDefined()) {
+                return Util.getJndiName(model);
+            }
+            return address.getLastElement().getValue();
+        }
+    };
+
+    /** Reads the statistics of every started pool, keyed by JNDI name. */
+    public static final PoolStatisticsSnapshotHandler ALL_INSTANCE = new PoolStatisticsSnapshotHandler() {
+        @Override
+        protected String getJndiName(OperationContext context, ModelNode operation) {
+            return null;
+        }
+    };
+
+    private PoolStatisticsSnapshotHandler() {
+    }
+
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String jndiName = getJndiName(context, operation);
+        final long leakThreshold = LEAK_THRESHOLD_MILLIS.resolveModelAttribute(context, operation).asLong();
+        if (context.isNormalServer()) {
+            context.addStep(new OperationStepHandler() {
+                public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                    final ModelNode result = context.getResult();
+                    try {
+                        if (jndiName != null) {
+                            final PoolStatisticsIndex.Entry entry = PoolStatisticsIndex.get(jndiName);
+                            if (entry == null) {
+                                throw ConnectorLogger.ROOT_LOGGER.failedToMatchPool(jndiName);
+                            }
+                            result.set(snapshot(entry, leakThreshold));
+                        } else {
+                            result.setEmptyObject();
+                            for (Map.Entry<String, PoolStatisticsIndex.Entry> entry : PoolStatisticsIndex.getEntries().entrySet()) {
+                                result.get(entry.getKey()).set(snapshot(entry.getValue(), leakThreshold));
+                            }
+                        }
+                    } catch (Exception e) {
+                        throw new OperationFailedException(ConnectorLogger.ROOT_LOGGER.failedToGetMetrics(e.getLocalizedMessage()));
+                    }
+                    context.stepCompleted();
+                }
+            }, OperationContext.Stage.RUNTIME);
+        }
+        context.stepCompleted();
+    }
+
+    protected abstract String getJndiName(OperationContext context, ModelNode operation) throws OperationFailedException;
+
+    static ModelNode snapshot(final PoolStatisticsIndex.Entry entry, final long leakThresholdMillis) {
+        final ModelNode result = new ModelNode();
+        if (entry.getPoolStatistics() != null) {
+            result.get("pool").set(readAll(entry.getPoolStatistics()));
+        }
+        if (entry.getJdbcStatistics() != null) {
+            result.get("jdbc").set(readAll(entry.getJdbcStatistics()));
+        }
+        if (entry.getTracker() != null) {
+            result.get("usage").set(entry.getTracker().toModelNode(leakThresholdMillis, TimeUnit.MILLISECONDS));
+        }
+        if (entry.getSizer() != null) {
+            result.get("adaptive-sizing").set(entry.getSizer().toModelNode());
+        }
+        if (entry.getValidation() != null) {
+            result.get("validation").set(entry.getValidation().toModelNode());
+        }
+        return result;
+    }
+
+    private static ModelNode readAll(final StatisticsPlugin plugin) {
+        final ModelNode result = new ModelNode().setEmptyObject();
+        for (String name : plugin.getNames()) {
+            final Object value = plugin.getValue(name);
+            if (value instanceof Integer) {
+                result.get(name).set((Integer) value);
+            } else if (value instanceof Long) {
+                result.get(name).set((Long) value);
+            } else if (value != null) {
+                result.get(name).set(value.toString());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.common.pool;
+
+import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.resource.spi.ConnectionEvent;
+import javax.resource.spi.ConnectionEventListener;
+import javax.resource.spi.ConnectionManager;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Tracks connection handles handed out by a pool: how long callers waited to acquire them, how long they held them
+ * and how many are currently held for longer than a leak threshold.
+ * <p>
+ * Acquisition is observed by wrapping the pool's {@link ConnectionManager} (see {@link #wrap(ConnectionManager)}),
+ * release by registering this tracker as a {@link ConnectionEventListener} on each managed connection.
+ */
+public class PoolUsageTracker implements ConnectionEventListener {
+
+    private static final String ALLOCATE_CONNECTION = "allocateConnection";
+
+    private final LatencyHistogram waitTime = new LatencyHistogram();
+    private final LatencyHistogram holdTime = new LatencyHistogram();
+    private final AtomicLong failedAcquisitions = new AtomicLong();
+    // handles are compared by identity since wrapper handles may override equals/hashCode, and are only weakly
+    // referenced so that leaked handles can still be garbage collected
+    private final ConcurrentMap<HandleReference, Long> outstanding = new ConcurrentHashMap<HandleReference, Long>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<Object>();
+
+    /**
+     * Returns a {@link ConnectionManager} that records acquisition times against this tracker. The returned proxy
+     * implements every interface of {@code delegate}, so the connection factory can still narrow it to the
+     * implementation specific connection manager contracts.
+     */
+    public ConnectionManager wrap(final ConnectionManager delegate) {
+        final Set<Class<?>> interfaces = new LinkedHashSet<Class<?>>();
+        for (Class<?> clazz = delegate.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+            Collections.addAll(interfaces, clazz.getInterfaces());
+        }
+        return (ConnectionManager) Proxy.newProxyInstance(delegate.getClass().getClassLoader(),
+                interfaces.toArray(new Class<?>[interfaces.size()]), new TrackingInvocationHandler(delegate, this));
+    }
+
+    void acquired(final Object handle, final long waitNanos) {
+        waitTime.record(waitNanos, TimeUnit.NANOSECONDS);
+        expungeCollected();
+        if (handle != null) {
+            outstanding.put(new HandleReference(handle, collected), System.nanoTime());
+        }
+    }
+
+    void acquisitionFailed(final long waitNanos) {
+        waitTime.record(waitNanos, TimeUnit.NANOSECONDS);
+        failedAcquisitions.incrementAndGet();
+    }
+
+    void released(final Object handle) {
+        if (handle == null) {
+            return;
+        }
+        final Long acquired = outstanding.remove(new HandleReference(handle, null));
+        if (acquired != null) {
+            holdTime.record(System.nanoTime() - acquired, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Counts the handles that have been held for longer than the given threshold without being closed.
+     */
+    public int countLeakSuspects(final long threshold, final TimeUnit unit) {
+        expungeCollected();
+        final long limit = System.nanoTime() - unit.toNanos(threshold);
+        int leaks = 0;
+        for (Long acquired : outstanding.values()) {
+            if (acquired - limit < 0) {
+                leaks++;
+            }
+        }
+        return leaks;
+    }
+
+    /**
+     * Returns the accumulated time, in milliseconds, callers spent waiting to acquire a connection.
+     */
+    public long getTotalWaitTime() {
+        return waitTime.getTotal();
+    }
+
+    public int getOutstandingCount() {
+        expungeCollected();
+        return outstanding.size();
+    }
+
+    public void clear() {
+        waitTime.clear();
+        holdTime.clear();
+        failedAcquisitions.set(0);
+        outstanding.clear();
+        expungeCollected();
+    }
+
+    public ModelNode toModelNode(final long leakThreshold, final TimeUnit unit) {
+        final ModelNode result = new ModelNode();
+        result.get("wait-time").set(waitTime.toModelNode());
+        result.get("hold-time").set(holdTime.toModelNode());
+        result.get("failed-acquisitions").set(failedAcquisitions.get());
+        result.get("outstanding").set(getOutstandingCount());
+        result.get("leak-suspects").set(countLeakSuspects(leakThreshold, unit));
+        return result;
+    }
+
+    private void expungeCollected() {
+        for (Reference<?> reference = collected.poll(); reference != null; reference = collected.poll()) {
+            outstanding.remove(reference);
+        }
+    }
+
+    @Override
+    public void connectionClosed(ConnectionEvent event) {
+        released(event.getConnectionHandle());
+    }
+
+    @Override
+    public void connectionErrorOccurred(ConnectionEvent event) {
+        released(event.getConnectionHandle());
+    }
+
+    @Override
+    public void localTransactionStarted(ConnectionEvent event) {
+    }
+
+    @Override
+    public void localTransactionCommitted(ConnectionEvent event) {
+    }
+
+    @Override
+    public void localTransactionRolledback(ConnectionEvent event) {
+    }
+
+    /**
+     * Weak reference to a connection handle that is equal to another reference only if both refer to the same handle.
+     */
+    private static final class HandleReference extends WeakReference<Object> {
+
+        private final int hash;
+
+        HandleReference(final Object handle, final ReferenceQueue<Object> queue) {
+            super(handle, queue);
+            this.hash = System.identityHashCode(handle);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof HandleReference)) {
+                return false;
+            }
+            final Object handle = get();
+            return handle != null && handle == ((HandleReference) object).get();
+        }
+    }
+
+    private static class TrackingInvocationHandler implements InvocationHandler, Serializable {
+
+        private static final long serialVersionUID = 7000618440364226357L;
+
+        private final ConnectionManager delegate;
+        private final transient PoolUsageTracker tracker;
+
+        TrackingInvocationHandler(final ConnectionManager delegate, final PoolUsageTracker tracker) {
+            this.delegate = delegate;
+            this.tracker = tracker;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (tracker == null || !ALLOCATE_CONNECTION.equals(method.getName())) {
+                return invokeDelegate(method, args);
+            }
+            final long start = System.nanoTime();
+            final Object handle;
+            try {
+                handle = invokeDelegate(method, args);
+            } catch (Throwable t) {
+                tracker.acquisitionFailed(System.nanoTime() - start);
+                throw t;
+            }
+            tracker.acquired(handle, System.nanoTime() - start);
+            return handle;
+        }
+
+        private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -22,6 +22,8 @@
 
 package org.jboss.as.connector.subsystems.datasources;
 
+import static org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_SIZING_ENABLED;
+import static org.jboss.as.connector.subsystems.datasources.Constants.BACKGROUND_VALIDATION_MAX_CONCURRENCY;
 import static org.jboss.as.connector.subsystems.datasources.Constants.DATASOURCE_DRIVER;
 import static org.jboss.as.connector.subsystems.datasources.Constants.ENABLED;
 import static org.jboss.as.connector.subsystems.datasources.Constants.JNDI_NAME;
@@ -34,6 +36,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.jboss.as.connector.services.driver.registry.DriverRegistry;
+import org.jboss.as.connector.subsystems.common.pool.PoolSizingScheduler;
 import org.jboss.as.connector.util.ConnectorServices;
 import org.jboss.as.controller.AbstractAddStepHandler;
 import org.jboss.as.controller.OperationContext;
@@ -146,6 +149,8 @@ public abstract class AbstractDataSourceAdd extends AbstractAddStepHandler {
         driverDemanderBuilder.setInitialMode(ServiceController.Mode.ACTIVE);
 
         AbstractDataSourceService dataSourceService = createDataSourceService(dsName);
+        dataSourceService.setAdaptiveSizingEnabled(ADAPTIVE_SIZING_ENABLED.resolveModelAttribute(context, model).asBoolean());
+        dataSourceService.setBackgroundValidationMaxConcurrency(BACKGROUND_VALIDATION_MAX_CONCURRENCY.resolveModelAttribute(context, model).asInt());
 
         final ManagementResourceRegistration registration = context.getResourceRegistrationForUpdate();
 
@@ -162,6 +167,8 @@ public abstract class AbstractDataSourceAdd extends AbstractAddStepHandler {
                         dataSourceService.getDriverRegistryInjector())
                 .addDependency(ConnectorServices.IDLE_REMOVER_SERVICE)
                 .addDependency(ConnectorServices.CONNECTION_VALIDATOR_SERVICE)
+                .addDependency(ConnectorServices.POOL_SIZING_SERVICE, PoolSizingScheduler.class,
+                        dataSourceService.getPoolSizingSchedulerInjector())
                 .addDependency(NamingService.SERVICE_NAME);
         if (jta) {
             dataSourceServiceBuilder.addDependency(ConnectorServices.TRANSACTION_INTEGRATION_SERVICE, TransactionIntegration.class, dataSourceService.getTransactionIntegrationInjector())
@@ -28,21 +28,34 @@ import static org.jboss.as.connector.logging.ConnectorLogger.DS_DEPLOYER_LOGGER;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.sql.Connection;
 import java.sql.Driver;
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import javax.naming.Reference;
+import javax.resource.ResourceException;
+import javax.resource.spi.ConnectionRequestInfo;
+import javax.resource.spi.ManagedConnection;
 import javax.resource.spi.ManagedConnectionFactory;
+import javax.security.auth.Subject;
 import javax.sql.DataSource;
 
 import org.jboss.as.connector.logging.ConnectorLogger;
 import org.jboss.as.connector.services.driver.InstalledDriver;
 import org.jboss.as.connector.services.driver.registry.DriverRegistry;
+import org.jboss.as.connector.subsystems.common.pool.AdaptivePoolSizer;
+import org.jboss.as.connector.subsystems.common.pool.ParallelConnectionValidator;
+import org.jboss.as.connector.subsystems.common.pool.PoolSizingScheduler;
+import org.jboss.as.connector.subsystems.common.pool.PoolUsageTracker;
 import org.jboss.as.connector.util.Injection;
 import org.jboss.jca.adapters.jdbc.BaseWrapperManagedConnectionFactory;
 import org.jboss.jca.adapters.jdbc.local.LocalManagedConnectionFactory;
@@ -80,8 +93,10 @@ import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.jboss.msc.value.InjectedValue;
 import org.jboss.security.SubjectFactory;
+import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.security.manager.WildFlySecurityManager;
 import org.wildfly.security.manager.action.ClearContextClassLoaderAction;
+import org.wildfly.security.manager.action.GetAccessControlContextAction;
 import org.wildfly.security.manager.action.GetClassLoaderAction;
 import org.wildfly.security.manager.action.SetContextClassLoaderFromClassAction;
 
@@ -94,6 +109,8 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
 
     public static final ServiceName SERVICE_NAME_BASE = ServiceName.JBOSS.append("data-source");
     private static final DeployersLogger DEPLOYERS_LOGGER = Logger.getMessageLogger(DeployersLogger.class, AS7DataSourceDeployer.class.getName());
+    // IronJacamar's default blocking timeout
+    private static final long DEFAULT_BLOCKING_TIMEOUT_MILLIS = 30000;
     protected final InjectedValue<TransactionIntegration> transactionIntegrationValue = new InjectedValue<TransactionIntegration>();
     private final InjectedValue<Driver> driverValue = new InjectedValue<Driver>();
     private final InjectedValue<ManagementRepository> managementRepositoryValue = new InjectedValue<ManagementRepository>();
@@ -101,8 +118,18 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
     private final InjectedValue<DriverRegistry> driverRegistry = new InjectedValue<DriverRegistry>();
     private final InjectedValue<CachedConnectionManager> ccmValue = new InjectedValue<CachedConnectionManager>();
     private final InjectedValue<ExecutorService> executor = new InjectedValue<ExecutorService>();
+    private final InjectedValue<PoolSizingScheduler> poolSizingScheduler = new InjectedValue<PoolSizingScheduler>();
 
     private final String jndiName;
+    private final PoolUsageTracker poolUsageTracker = new PoolUsageTracker();
+    private volatile AdaptivePoolSizer poolSizer;
+    private volatile boolean adaptiveSizingEnabled;
+    private final ParallelConnectionValidator connectionValidator = new ParallelConnectionValidator();
+    private volatile int backgroundValidationMaxConcurrency = 1;
+    // set from the validation settings while the data source is deployed
+    private volatile boolean backgroundValidation;
+    private volatile boolean validationCheckConfigured;
+    private volatile int validationTimeout;
 
     protected CommonDeployment deploymentMD;
     private javax.sql.DataSource sqlDataSource;
@@ -126,6 +153,17 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
                 throw ConnectorLogger.ROOT_LOGGER.cannotStartDs();
             }
             sqlDataSource = (javax.sql.DataSource) deploymentMD.getCfs()[0];
+            poolSizer = new AdaptivePoolSizer(deploymentMD.getDataSources()[0].getPoolConfiguration(),
+                    AdaptivePoolSizer.forTracker(poolUsageTracker),
+                    AdaptivePoolSizer.forPool(deploymentMD.getConnectionManagers()[0].getPool()));
+            poolSizer.setEnabled(adaptiveSizingEnabled);
+            poolSizingScheduler.getValue().register(poolSizer);
+            if (backgroundValidation && backgroundValidationMaxConcurrency > 1) {
+                final ThreadFactory threadFactory = new JBossThreadFactory(new ThreadGroup("ConnectionValidator ThreadGroup"),
+                        Boolean.TRUE, null, "ConnectionValidator -- %t", null, null,
+                        doPrivileged(GetAccessControlContextAction.getInstance()));
+                connectionValidator.start(backgroundValidationMaxConcurrency, validationTimeout, threadFactory);
+            }
             DS_DEPLOYER_LOGGER.debugf("Adding datasource: %s", deploymentMD.getCfJndiNames()[0]);
         } catch (Throwable t) {
             throw ConnectorLogger.ROOT_LOGGER.deploymentError(t, jndiName);
@@ -160,6 +198,12 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
      * asynchronously from the MSC thread that invoked stop.
      */
     protected synchronized void stopService() {
+        connectionValidator.stop();
+        if (poolSizer != null) {
+            poolSizingScheduler.getValue().unregister(poolSizer);
+            poolSizer.setEnabled(false);
+            poolSizer = null;
+        }
         if (deploymentMD != null) {
 
             if (deploymentMD.getDataSources() != null && managementRepositoryValue.getValue() != null) {
@@ -183,6 +227,51 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
         return deploymentMD;
     }
 
+    /**
+     * Returns the tracker recording acquire and hold times of the connections handed out by this data source.
+     */
+    public PoolUsageTracker getPoolUsageTracker() {
+        return poolUsageTracker;
+    }
+
+    /**
+     * Returns the adaptive sizer of this data source's pool, or {@code null} if the data source is not started.
+     */
+    public AdaptivePoolSizer getPoolSizer() {
+        return poolSizer;
+    }
+
+    /**
+     * Enables or disables the adaptive sizing of this data source's pool, taking effect at once if the data source is
+     * started.
+     */
+    public void setAdaptiveSizingEnabled(final boolean enabled) {
+        adaptiveSizingEnabled = enabled;
+        final AdaptivePoolSizer sizer = poolSizer;
+        if (sizer != null) {
+            sizer.setEnabled(enabled);
+        }
+    }
+
+    public boolean isAdaptiveSizingEnabled() {
+        return adaptiveSizingEnabled;
+    }
+
+    /**
+     * Returns the validator of the connections of this data source's pool.
+     */
+    public ParallelConnectionValidator getConnectionValidator() {
+        return connectionValidator;
+    }
+
+    /**
+     * Sets how many idle connections background validation checks at the same time. Takes effect when the data source
+     * is started.
+     */
+    public void setBackgroundValidationMaxConcurrency(final int maxConcurrency) {
+        backgroundValidationMaxConcurrency = maxConcurrency;
+    }
+
     public synchronized DataSource getValue() throws IllegalStateException, IllegalArgumentException {
         return sqlDataSource;
     }
@@ -215,6 +304,10 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
         return executor;
     }
 
+    public Injector<PoolSizingScheduler> getPoolSizingSchedulerInjector() {
+        return poolSizingScheduler;
+    }
+
     protected String buildConfigPropsString(Map<String, String> configProps) {
         final StringBuffer valueBuf = new StringBuffer();
         for (Map.Entry<String, String> connProperty : configProps.entrySet()) {
@@ -523,6 +616,10 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
                     managedConnectionFactory.setTransactionQueryTimeout(true);
                 }
             }
+            // a connection being lent may have to wait for its check, so checks are bounded by the blocking timeout
+            final long blockingTimeout = timeOut != null && timeOut.getBlockingTimeoutMillis() != null
+                    ? timeOut.getBlockingTimeoutMillis() : DEFAULT_BLOCKING_TIMEOUT_MILLIS;
+            validationTimeout = (int) TimeUnit.MILLISECONDS.toSeconds(blockingTimeout + 999);
 
             if (statement != null) {
                 if (statement.getTrackStatements() != null) {
@@ -538,6 +635,11 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
             }
 
             final Validation validation = dataSourceConfig.getValidation();
+            // background validation of many idle connections is left to the pool when it also validates on match
+            backgroundValidation = validation != null && Boolean.TRUE.equals(validation.isBackgroundValidation())
+                    && !Boolean.TRUE.equals(validation.isValidateOnMatch());
+            validationCheckConfigured = validation != null && (validation.getCheckValidConnectionSql() != null
+                    || validation.getValidConnectionChecker() != null);
             if (validation != null) {
                 if (validation.getCheckValidConnectionSql() != null) {
                     managedConnectionFactory.setCheckValidConnectionSQL(validation.getCheckValidConnectionSql());
@@ -602,6 +704,34 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
 
     }
 
+    // the hooks below are shared by the XA and the local managed connection factories
+
+    private javax.resource.spi.ConnectionManager trackConnectionManager(javax.resource.spi.ConnectionManager cm) {
+        return poolUsageTracker.wrap(cm);
+    }
+
+    private ManagedConnection trackManagedConnection(ManagedConnection mc) {
+        mc.addConnectionEventListener(poolUsageTracker);
+        return mc;
+    }
+
+    private Set<?> validateConnections(Set<?> connections, ParallelConnectionValidator.Validator validator)
+            throws ResourceException {
+        return connectionValidator.getInvalidConnections(connections, validator);
+    }
+
+    private ManagedConnection awaitValid(ManagedConnection mc) {
+        return mc == null || connectionValidator.awaitValid(mc) ? mc : null;
+    }
+
+    /**
+     * Returns whether a connection is checked with the driver's {@link Connection#isValid(int)}, that is when idle
+     * connections are validated in parallel and neither a validation SQL nor a checker is configured.
+     */
+    private boolean checksConnectionValidity() {
+        return !validationCheckConfigured && connectionValidator.isStarted();
+    }
+
     private class WildFlyXaMCF extends XAManagedConnectionFactory {
 
         private static final long serialVersionUID = 4876371551002746953L;
@@ -614,7 +744,37 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
             super.setTransactionSynchronizationRegistry(tsr);
         }
 
+        @Override
+        public Object createConnectionFactory(javax.resource.spi.ConnectionManager cm) throws ResourceException {
+            return super.createConnectionFactory(trackConnectionManager(cm));
+        }
+
+        @Override
+        public ManagedConnection createManagedConnection(Subject subject, ConnectionRequestInfo cri) throws ResourceException {
+            return trackManagedConnection(super.createManagedConnection(subject, cri));
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Set getInvalidConnections(Set connectionSet) throws ResourceException {
+            return validateConnections(connectionSet, new ParallelConnectionValidator.Validator() {
+                @Override
+                public Set<?> getInvalidConnections(Set<?> connections) throws ResourceException {
+                    return WildFlyXaMCF.super.getInvalidConnections(connections);
+                }
+            });
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public ManagedConnection matchManagedConnections(Set mcs, Subject subject, ConnectionRequestInfo cri) throws ResourceException {
+            return awaitValid(super.matchManagedConnections(mcs, subject, cri));
+        }
 
+        @Override
+        protected SQLException isValidConnection(Connection c) {
+            return checksConnectionValidity() ? connectionValidator.checkConnection(c) : super.isValidConnection(c);
+        }
     }
 
     private class WildFlyLocalMCF extends LocalManagedConnectionFactory {
@@ -626,6 +786,36 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
             super.setTransactionSynchronizationRegistry(tsr);
         }
 
+        @Override
+        public Object createConnectionFactory(javax.resource.spi.ConnectionManager cm) throws ResourceException {
+            return super.createConnectionFactory(trackConnectionManager(cm));
+        }
+
+        @Override
+        public ManagedConnection createManagedConnection(Subject subject, ConnectionRequestInfo cri) throws ResourceException {
+            return trackManagedConnection(super.createManagedConnection(subject, cri));
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Set getInvalidConnections(Set connectionSet) throws ResourceException {
+            return validateConnections(connectionSet, new ParallelConnectionValidator.Validator() {
+                @Override
+                public Set<?> getInvalidConnections(Set<?> connections) throws ResourceException {
+                    return WildFlyLocalMCF.super.getInvalidConnections(connections);
+                }
+            });
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public ManagedConnection matchManagedConnections(Set mcs, Subject subject, ConnectionRequestInfo cri) throws ResourceException {
+            return awaitValid(super.matchManagedConnections(mcs, subject, cri));
+        }
 
+        @Override
+        protected SQLException isValidConnection(Connection c) {
+            return checksConnectionValidity() ? connectionValidator.checkConnection(c) : super.isValidConnection(c);
+        }
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.datasources;
+
+import static org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_SIZING_ENABLED;
+
+import org.jboss.as.controller.AbstractWriteAttributeHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Applies writes of {@code adaptive-sizing-enabled} to the pool of a data source without requiring it to be disabled.
+ */
+public class AdaptivePoolSizingWriteHandler extends AbstractWriteAttributeHandler<Boolean> {
+
+    static final AdaptivePoolSizingWriteHandler INSTANCE = new AdaptivePoolSizingWriteHandler();
+
+    private AdaptivePoolSizingWriteHandler() {
+        super(ADAPTIVE_SIZING_ENABLED);
+    }
+
+    @Override
+    protected boolean applyUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName,
+                                           ModelNode resolvedValue, ModelNode currentValue,
+                                           HandbackHolder<Boolean> handbackHolder) throws OperationFailedException {
+        final AbstractDataSourceService service = getDataSourceService(context);
+        if (service != null) {
+            handbackHolder.setHandback(service.isAdaptiveSizingEnabled());
+            service.setAdaptiveSizingEnabled(resolvedValue.asBoolean());
+        }
+        return false;
+    }
+
+    @Override
+    protected void revertUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName,
+                                         ModelNode valueToRestore, ModelNode valueToRevert, Boolean handback)
+            throws OperationFailedException {
+        final AbstractDataSourceService service = getDataSourceService(context);
+        if (service != null && handback != null) {
+            service.setAdaptiveSizingEnabled(handback);
+        }
+    }
+
+    private static AbstractDataSourceService getDataSourceService(final OperationContext context) {
+        final ModelNode model = context.readResource(PathAddress.EMPTY_ADDRESS).getModel();
+        final String jndiName = model.get(Constants.JNDI_NAME.getName()).asString();
+        final ServiceController<?> controller = context.getServiceRegistry(true)
+                .getService(AbstractDataSourceService.SERVICE_NAME_BASE.append(jndiName));
+        return controller != null ? (AbstractDataSourceService) controller.getService() : null;
+    }
+}
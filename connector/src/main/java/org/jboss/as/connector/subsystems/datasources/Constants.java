@@ -48,6 +48,7 @@ import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraint
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
 import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.ParameterValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.transform.OperationResultTransformer;
@@ -168,6 +169,8 @@ public class Constants {
 
     private static final String VALIDATEONMATCH_NAME = "validate-on-match";
 
+    private static final String BACKGROUNDVALIDATIONMAXCONCURRENCY_NAME = "background-validation-max-concurrency";
+
     private static final String SPY_NAME = "spy";
 
     private static final String USE_CCM_NAME = "use-ccm";
@@ -493,6 +496,13 @@ public class Constants {
             .setAllowExpression(true)
             .build();
 
+    static SimpleAttributeDefinition BACKGROUND_VALIDATION_MAX_CONCURRENCY = new SimpleAttributeDefinitionBuilder(BACKGROUNDVALIDATIONMAXCONCURRENCY_NAME, ModelType.INT, true)
+            .setXmlName(Element.BACKGROUND_VALIDATION_MAX_CONCURRENCY.getLocalName())
+            .setDefaultValue(new ModelNode(1))
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true))
+            .build();
+
     static SimpleAttributeDefinition SPY = new SimpleAttributeDefinitionBuilder(SPY_NAME, ModelType.BOOLEAN, true)
             .setXmlName(DataSource.Attribute.SPY.getLocalName())
             .setDefaultValue(new ModelNode(Defaults.SPY))
@@ -572,6 +582,7 @@ public class Constants {
             JTA, org.jboss.as.connector.subsystems.common.pool.Constants.MAX_POOL_SIZE,
             org.jboss.as.connector.subsystems.common.pool.Constants.MIN_POOL_SIZE, org.jboss.as.connector.subsystems.common.pool.Constants.INITIAL_POOL_SIZE,
             org.jboss.as.connector.subsystems.common.pool.Constants.POOL_PREFILL, org.jboss.as.connector.subsystems.common.pool.Constants.POOL_USE_STRICT_MIN,
+            org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_SIZING_ENABLED,
             org.jboss.as.connector.subsystems.common.pool.Constants.CAPACITY_INCREMENTER_CLASS, org.jboss.as.connector.subsystems.common.pool.Constants.CAPACITY_DECREMENTER_CLASS,
             USERNAME, PASSWORD, SECURITY_DOMAIN,
             REAUTH_PLUGIN_CLASSNAME,
@@ -594,6 +605,7 @@ public class Constants {
             org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATIONMILLIS,
             org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATION,
             org.jboss.as.connector.subsystems.common.pool.Constants.USE_FAST_FAIL,
+            BACKGROUND_VALIDATION_MAX_CONCURRENCY,
             VALIDATE_ON_MATCH, SPY,
             USE_CCM, ENABLED, CONNECTABLE, STATISTICS_ENABLED, TRACKING};
 
@@ -651,6 +663,7 @@ public class Constants {
             URL_SELECTOR_STRATEGY_CLASS_NAME, USE_JAVA_CONTEXT,
             org.jboss.as.connector.subsystems.common.pool.Constants.MAX_POOL_SIZE, org.jboss.as.connector.subsystems.common.pool.Constants.MIN_POOL_SIZE, org.jboss.as.connector.subsystems.common.pool.Constants.INITIAL_POOL_SIZE,
             org.jboss.as.connector.subsystems.common.pool.Constants.POOL_PREFILL, org.jboss.as.connector.subsystems.common.pool.Constants.POOL_USE_STRICT_MIN, INTERLEAVING,
+            org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_SIZING_ENABLED,
             org.jboss.as.connector.subsystems.common.pool.Constants.CAPACITY_INCREMENTER_CLASS, org.jboss.as.connector.subsystems.common.pool.Constants.CAPACITY_DECREMENTER_CLASS,
             NO_TX_SEPARATE_POOL, PAD_XID, SAME_RM_OVERRIDE,
             WRAP_XA_RESOURCE, USERNAME, PASSWORD,
@@ -669,6 +682,7 @@ public class Constants {
             org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATIONMILLIS,
             org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATION,
             org.jboss.as.connector.subsystems.common.pool.Constants.USE_FAST_FAIL,
+            BACKGROUND_VALIDATION_MAX_CONCURRENCY,
             VALIDATE_ON_MATCH, XA_RESOURCE_TIMEOUT,
             SPY, USE_CCM, ENABLED, CONNECTABLE, STATISTICS_ENABLED, TRACKING,
             RECOVERY_USERNAME, RECOVERY_PASSWORD,
@@ -784,6 +798,11 @@ public class Constants {
     static final SimpleOperationDefinition TEST_CONNECTION = new SimpleOperationDefinitionBuilder("test-connection-in-pool", DataSourcesExtension.getResourceDescriptionResolver())
             .setParameters(USERNAME, PASSWORD)
             .setRuntimeOnly().build();
+    static final SimpleOperationDefinition READ_POOL_STATISTICS = new SimpleOperationDefinitionBuilder("read-pool-statistics", DataSourcesExtension.getResourceDescriptionResolver())
+            .setParameters(org.jboss.as.connector.subsystems.common.pool.Constants.LEAK_THRESHOLD_MILLIS)
+            .setReplyType(ModelType.OBJECT)
+            .setReadOnly()
+            .setRuntimeOnly().build();
 
     static final OperationTransformer ENABLE_TRANSFORMER = new OperationTransformer() {
         @Override
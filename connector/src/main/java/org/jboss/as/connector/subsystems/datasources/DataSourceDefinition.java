@@ -24,6 +24,8 @@
 
 package org.jboss.as.connector.subsystems.datasources;
 
+import static org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_SIZING_ENABLED;
+import static org.jboss.as.connector.subsystems.datasources.Constants.BACKGROUND_VALIDATION_MAX_CONCURRENCY;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTABLE;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTION_LISTENER_CLASS;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTION_LISTENER_PROPERTIES;
@@ -40,6 +42,7 @@ import static org.jboss.as.connector.subsystems.datasources.Constants.FLUSH_ALL_
 import static org.jboss.as.connector.subsystems.datasources.Constants.FLUSH_GRACEFULLY_CONNECTION;
 import static org.jboss.as.connector.subsystems.datasources.Constants.FLUSH_IDLE_CONNECTION;
 import static org.jboss.as.connector.subsystems.datasources.Constants.FLUSH_INVALID_CONNECTION;
+import static org.jboss.as.connector.subsystems.datasources.Constants.READ_POOL_STATISTICS;
 import static org.jboss.as.connector.subsystems.datasources.Constants.STATISTICS_ENABLED;
 import static org.jboss.as.connector.subsystems.datasources.Constants.TEST_CONNECTION;
 import static org.jboss.as.connector.subsystems.datasources.Constants.TRACKING;
@@ -50,6 +53,7 @@ import java.util.Map;
 import org.jboss.as.connector.logging.ConnectorLogger;
 import org.jboss.as.connector.subsystems.common.pool.PoolConfigurationRWHandler;
 import org.jboss.as.connector.subsystems.common.pool.PoolOperations;
+import org.jboss.as.connector.subsystems.common.pool.PoolStatisticsSnapshotHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PropertiesAttributeDefinition;
@@ -111,6 +115,7 @@ public class DataSourceDefinition extends SimpleResourceDefinition {
             resourceRegistration.registerOperationHandler(FLUSH_INVALID_CONNECTION, PoolOperations.FlushInvalidConnectionInPool.DS_INSTANCE);
             resourceRegistration.registerOperationHandler(FLUSH_GRACEFULLY_CONNECTION, PoolOperations.FlushGracefullyConnectionInPool.DS_INSTANCE);
             resourceRegistration.registerOperationHandler(TEST_CONNECTION, PoolOperations.TestConnectionInPool.DS_INSTANCE);
+            resourceRegistration.registerOperationHandler(READ_POOL_STATISTICS, PoolStatisticsSnapshotHandler.DS_INSTANCE);
         }
     }
 
@@ -132,6 +137,8 @@ public class DataSourceDefinition extends SimpleResourceDefinition {
             for (final SimpleAttributeDefinition attribute : DATASOURCE_ATTRIBUTE) {
                 if (PoolConfigurationRWHandler.ATTRIBUTES.contains(attribute.getName())) {
                     resourceRegistration.registerReadWriteAttribute(attribute, PoolConfigurationRWHandler.PoolConfigurationReadHandler.INSTANCE, PoolConfigurationRWHandler.LocalAndXaDataSourcePoolConfigurationWriteHandler.INSTANCE);
+                } else if (attribute.equals(ADAPTIVE_SIZING_ENABLED)) {
+                    resourceRegistration.registerReadWriteAttribute(attribute, null, AdaptivePoolSizingWriteHandler.INSTANCE);
                 } else {
                     if (DATASOURCE_ATTRIBUTE_RELOAD_REQUIRED.contains(attribute)) {
                         resourceRegistration.registerReadWriteAttribute(attribute, null, reloadRequiredWriteAttributeHandler);
@@ -211,6 +218,8 @@ public class DataSourceDefinition extends SimpleResourceDefinition {
                         //Reject expressions for enabled, since if they are used we don't know their value for the operation transformer override
                 //Reject expressions for enabled, since if they are used we don't know their value for the operation transformer override
                 .setDiscard(DiscardAttributeChecker.UNDEFINED, TRACKING)
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
                 .addRejectCheck(RejectAttributeChecker.SIMPLE_EXPRESSIONS, Constants.ENABLED)
                 .end()
                 .addOperationTransformationOverride(ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION)
@@ -246,6 +255,8 @@ public class DataSourceDefinition extends SimpleResourceDefinition {
                         org.jboss.as.connector.subsystems.common.pool.Constants.INITIAL_POOL_SIZE
                 )
                         .setDiscard(DiscardAttributeChecker.UNDEFINED, TRACKING)
+                        .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
+                        .addRejectCheck(RejectAttributeChecker.DEFINED, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
                         .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(new ModelNode(false)), CONNECTABLE)
                         .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, false, new ModelNode(true)), STATISTICS_ENABLED)
                         .addRejectCheck(new RejectAttributeChecker.DefaultRejectAttributeChecker() {
@@ -316,6 +327,8 @@ public class DataSourceDefinition extends SimpleResourceDefinition {
                     }
                 }, STATISTICS_ENABLED)
                 .setDiscard(DiscardAttributeChecker.UNDEFINED, TRACKING)
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
                 .addRejectCheck(RejectAttributeChecker.DEFINED, TRACKING)
                 .end()
                 //We're rejecting operations when statistics-enabled=false, so let it through in the enable/disable ops which do not use that attribute
@@ -325,4 +338,11 @@ public class DataSourceDefinition extends SimpleResourceDefinition {
                 .end();
     }
 
+    static void registerTransformers300(ResourceTransformationDescriptionBuilder parentBuilder) {
+        ResourceTransformationDescriptionBuilder builder = parentBuilder.addChildResource(PATH_DATASOURCE);
+        builder.getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
+                .end();
+    }
 }
@@ -23,6 +23,7 @@
 package org.jboss.as.connector.subsystems.datasources;
 
 import org.jboss.as.connector.dynamicresource.StatisticsResourceDefinition;
+import org.jboss.as.connector.subsystems.common.pool.PoolStatisticsIndex;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.PlaceholderResource;
@@ -54,12 +55,15 @@ public class DataSourceStatisticsListener extends AbstractServiceListener<Object
         switch (transition) {
             case STARTING_to_UP: {
 
-                CommonDeployment deploymentMD = ((AbstractDataSourceService) controller.getService()).getDeploymentMD();
+                AbstractDataSourceService dataSourceService = (AbstractDataSourceService) controller.getService();
+                CommonDeployment deploymentMD = dataSourceService.getDeploymentMD();
 
                 StatisticsPlugin jdbcStats = deploymentMD.getDataSources()[0].getStatistics();
                 StatisticsPlugin poolStats = deploymentMD.getDataSources()[0].getPool().getStatistics();
                 jdbcStats.setEnabled(statsEnabled);
                 poolStats.setEnabled(statsEnabled);
+                PoolStatisticsIndex.register(deploymentMD.getDataSources()[0].getJndiName(), jdbcStats, poolStats,
+                        dataSourceService.getPoolUsageTracker(), dataSourceService.getPoolSizer(), dataSourceService.getConnectionValidator());
 
                 int jdbcStatsSize = jdbcStats.getNames().size();
                 int poolStatsSize = poolStats.getNames().size();
@@ -71,7 +75,7 @@ public class DataSourceStatisticsListener extends AbstractServiceListener<Object
                         }
 
                         if (poolStatsSize > 0) {
-                            ManagementResourceRegistration poolRegistration = overrideRegistration.registerSubModel(new StatisticsResourceDefinition(POOL_STATISTICS, DataSourcesSubsystemProviders.RESOURCE_NAME, poolStats));
+                            ManagementResourceRegistration poolRegistration = overrideRegistration.registerSubModel(new StatisticsResourceDefinition(POOL_STATISTICS, DataSourcesSubsystemProviders.RESOURCE_NAME, poolStats, dataSourceService.getPoolSizer()));
                             poolRegistration.setRuntimeOnly(true);
                         }
                     }
@@ -82,6 +86,11 @@ public class DataSourceStatisticsListener extends AbstractServiceListener<Object
             }
             case UP_to_STOP_REQUESTED: {
 
+                CommonDeployment deploymentMD = ((AbstractDataSourceService) controller.getService()).getDeploymentMD();
+                if (deploymentMD != null && deploymentMD.getDataSources() != null) {
+                    PoolStatisticsIndex.unregister(deploymentMD.getDataSources()[0].getJndiName());
+                }
+
                 if (overrideRegistration != null) {
                     overrideRegistration.unregisterSubModel(JDBC_STATISTICS);
                     overrideRegistration.unregisterSubModel(POOL_STATISTICS);
@@ -22,6 +22,7 @@
 package org.jboss.as.connector.subsystems.datasources;
 
 import static org.jboss.as.connector.logging.ConnectorLogger.SUBSYSTEM_DATASOURCES_LOGGER;
+import static org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_SIZING_ENABLED;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATION;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATIONMILLIS;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.BLOCKING_TIMEOUT_WAIT_MILLIS;
@@ -40,6 +41,7 @@ import static org.jboss.as.connector.subsystems.common.pool.Constants.USE_FAST_F
 import static org.jboss.as.connector.subsystems.datasources.Constants.ALLOCATION_RETRY;
 import static org.jboss.as.connector.subsystems.datasources.Constants.ALLOCATION_RETRY_WAIT_MILLIS;
 import static org.jboss.as.connector.subsystems.datasources.Constants.ALLOW_MULTIPLE_USERS;
+import static org.jboss.as.connector.subsystems.datasources.Constants.BACKGROUND_VALIDATION_MAX_CONCURRENCY;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CHECK_VALID_CONNECTION_SQL;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTABLE;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTION_LISTENER_CLASS;
@@ -150,7 +152,7 @@ public class DataSourcesExtension implements Extension {
     public static final String SUBSYSTEM_NAME = Constants.DATASOURCES;
     private static final String RESOURCE_NAME = DataSourcesExtension.class.getPackage().getName() + ".LocalDescriptions";
 
-    private static final int MANAGEMENT_API_MAJOR_VERSION = 3;
+    private static final int MANAGEMENT_API_MAJOR_VERSION = 4;
     private static final int MANAGEMENT_API_MINOR_VERSION = 0;
     private static final int MANAGEMENT_API_MICRO_VERSION = 0;
 
@@ -193,6 +195,7 @@ public class DataSourcesExtension implements Extension {
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.DATASOURCES_1_1.getUriString(), DataSourceSubsystemParser.INSTANCE);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.DATASOURCES_2_0.getUriString(), DataSourceSubsystemParser.INSTANCE);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.DATASOURCES_3_0.getUriString(), DataSourceSubsystemParser.INSTANCE);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.DATASOURCES_4_0.getUriString(), DataSourceSubsystemParser.INSTANCE);
     }
 
     public static final class DataSourceSubsystemParser implements XMLStreamConstants, XMLElementReader<List<ModelNode>>,
@@ -303,6 +306,7 @@ public class DataSourcesExtension implements Extension {
                         POOL_USE_STRICT_MIN.isMarshallable(dataSourceNode) ||
                         POOL_FLUSH_STRATEGY.isMarshallable(dataSourceNode) ||
                         ALLOW_MULTIPLE_USERS.isMarshallable(dataSourceNode) ||
+                        ADAPTIVE_SIZING_ENABLED.isMarshallable(dataSourceNode) ||
                         CONNECTION_LISTENER_CLASS.isMarshallable(dataSourceNode) ||
                         CONNECTION_LISTENER_PROPERTIES.isMarshallable(dataSourceNode);
                 if (isXADataSource) {
@@ -328,6 +332,7 @@ public class DataSourcesExtension implements Extension {
                     POOL_USE_STRICT_MIN.marshallAsElement(dataSourceNode, writer);
                     POOL_FLUSH_STRATEGY.marshallAsElement(dataSourceNode, writer);
                     ALLOW_MULTIPLE_USERS.marshallAsElement(dataSourceNode, writer);
+                    ADAPTIVE_SIZING_ENABLED.marshallAsElement(dataSourceNode, writer);
 
                     if (dataSourceNode.hasDefined(CONNECTION_LISTENER_CLASS.getName())) {
                         writer.writeStartElement(DsPool.Tag.CONNECTION_LISTENER.getLocalName());
@@ -447,6 +452,7 @@ public class DataSourcesExtension implements Extension {
                         VALIDATE_ON_MATCH.isMarshallable(dataSourceNode) ||
                         BACKGROUNDVALIDATION.isMarshallable(dataSourceNode) ||
                         BACKGROUNDVALIDATIONMILLIS.isMarshallable(dataSourceNode) ||
+                        BACKGROUND_VALIDATION_MAX_CONCURRENCY.isMarshallable(dataSourceNode) ||
                         USE_FAST_FAIL.isMarshallable(dataSourceNode) ||
                         STALE_CONNECTION_CHECKER_CLASSNAME.isMarshallable(dataSourceNode) ||
                         STALE_CONNECTION_CHECKER_PROPERTIES.isMarshallable(dataSourceNode) ||
@@ -475,6 +481,7 @@ public class DataSourcesExtension implements Extension {
                     VALIDATE_ON_MATCH.marshallAsElement(dataSourceNode, writer);
                     BACKGROUNDVALIDATION.marshallAsElement(dataSourceNode, writer);
                     BACKGROUNDVALIDATIONMILLIS.marshallAsElement(dataSourceNode, writer);
+                    BACKGROUND_VALIDATION_MAX_CONCURRENCY.marshallAsElement(dataSourceNode, writer);
                     USE_FAST_FAIL.marshallAsElement(dataSourceNode, writer);
                     if (dataSourceNode.hasDefined(STALE_CONNECTION_CHECKER_CLASSNAME.getName())) {
                         writer.writeStartElement(Validation.Tag.STALE_CONNECTION_CHECKER.getLocalName());
@@ -626,7 +633,8 @@ public class DataSourcesExtension implements Extension {
                     }
                     case DATASOURCES_1_1:
                     case DATASOURCES_2_0:
-                    case DATASOURCES_3_0:{
+                    case DATASOURCES_3_0:
+                    case DATASOURCES_4_0:{
                         localName = reader.getLocalName();
                         Element element = Element.forName(reader.getLocalName());
                         SUBSYSTEM_DATASOURCES_LOGGER.tracef("%s -> %s", localName, element);
@@ -27,8 +27,10 @@ package org.jboss.as.connector.subsystems.datasources;
 import static org.jboss.as.connector.subsystems.datasources.Constants.GET_INSTALLED_DRIVER;
 import static org.jboss.as.connector.subsystems.datasources.Constants.INSTALLED_DRIVERS;
 import static org.jboss.as.connector.subsystems.datasources.Constants.INSTALLED_DRIVERS_LIST;
+import static org.jboss.as.connector.subsystems.datasources.Constants.READ_POOL_STATISTICS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
 
+import org.jboss.as.connector.subsystems.common.pool.PoolStatisticsSnapshotHandler;
 import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
@@ -73,6 +75,7 @@ public class DataSourcesSubsystemRootDefinition extends SimpleResourceDefinition
         if (registerRuntimeOnly && ! deployed) {
             resourceRegistration.registerOperationHandler(INSTALLED_DRIVERS_LIST, InstalledDriversListOperationHandler.INSTANCE);
             resourceRegistration.registerOperationHandler(GET_INSTALLED_DRIVER, GetInstalledDriverOperationHandler.INSTANCE);
+            resourceRegistration.registerOperationHandler(READ_POOL_STATISTICS, PoolStatisticsSnapshotHandler.ALL_INSTANCE);
         }
 
     }
@@ -99,6 +102,15 @@ public class DataSourcesSubsystemRootDefinition extends SimpleResourceDefinition
         TransformationDescription.Tools.register(get110TransformationDescription(), subsystem, ModelVersion.create(1, 1, 0));
         TransformationDescription.Tools.register(get111TransformationDescription(), subsystem, ModelVersion.create(1, 1, 1));
         TransformationDescription.Tools.register(get200TransformationDescription(), subsystem, ModelVersion.create(2, 0, 0));
+        TransformationDescription.Tools.register(get300TransformationDescription(), subsystem, ModelVersion.create(3, 0, 0));
+    }
+
+    static TransformationDescription get300TransformationDescription() {
+
+        ResourceTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
+        DataSourceDefinition.registerTransformers300(builder);
+        XaDataSourceDefinition.registerTransformers300(builder);
+        return builder.build();
     }
 
     static TransformationDescription get200TransformationDescription() {
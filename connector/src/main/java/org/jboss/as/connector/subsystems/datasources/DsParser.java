@@ -23,6 +23,7 @@ package org.jboss.as.connector.subsystems.datasources;
 
 import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
 import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_SIZING_ENABLED;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATION;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATIONMILLIS;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.BLOCKING_TIMEOUT_WAIT_MILLIS;
@@ -41,6 +42,7 @@ import static org.jboss.as.connector.subsystems.common.pool.Constants.USE_FAST_F
 import static org.jboss.as.connector.subsystems.datasources.Constants.ALLOCATION_RETRY;
 import static org.jboss.as.connector.subsystems.datasources.Constants.ALLOCATION_RETRY_WAIT_MILLIS;
 import static org.jboss.as.connector.subsystems.datasources.Constants.ALLOW_MULTIPLE_USERS;
+import static org.jboss.as.connector.subsystems.datasources.Constants.BACKGROUND_VALIDATION_MAX_CONCURRENCY;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CHECK_VALID_CONNECTION_SQL;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTABLE;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTION_LISTENER_CLASS;
@@ -211,6 +213,7 @@ public class DsParser extends AbstractParser {
                                     parseDataSource_1_0(reader, list, parentAddress);
                                     break;
                                 case DATASOURCES_3_0:
+                                case DATASOURCES_4_0:
                                     parseDataSource_3_0(reader, list, parentAddress);
                                     break;
                             }
@@ -224,6 +227,7 @@ public class DsParser extends AbstractParser {
                                     parseXADataSource_1_0(reader, list, parentAddress);
                                     break;
                                 case DATASOURCES_3_0:
+                                case DATASOURCES_4_0:
                                     parseXADataSource_3_0(reader, list, parentAddress);
                                     break;
                             }
@@ -1190,7 +1194,8 @@ public class DsParser extends AbstractParser {
                             break;
                         }
                         case UNKNOWN: {
-                            throw new ParserException(bundle.unexpectedElement(reader.getLocalName()));
+                            parseUnknownPoolElement(reader, operation);
+                            break;
                         }
                         default: {
                             throw new ParserException(bundle.unexpectedElement(reader.getLocalName()));
@@ -1294,7 +1299,10 @@ public class DsParser extends AbstractParser {
                             parseCapacity(reader, operation);
                             break;
                         }
-
+                        case UNKNOWN: {
+                            parseUnknownPoolElement(reader, operation);
+                            break;
+                        }
                         default:
                             throw new ParserException(bundle.unexpectedElement(reader.getLocalName()));
                     }
@@ -1305,6 +1313,22 @@ public class DsParser extends AbstractParser {
         throw new ParserException(bundle.unexpectedEndOfDocument());
     }
 
+    /**
+     * Parses the pool elements not known to IronJacamar, which are only valid from the 4.0 schema on.
+     */
+    private void parseUnknownPoolElement(XMLExtendedStreamReader reader, final ModelNode operation) throws XMLStreamException, ParserException {
+        if (Namespace.forUri(reader.getNamespaceURI()).compareTo(Namespace.DATASOURCES_4_0) >= 0) {
+            switch (Element.forName(reader.getLocalName())) {
+                case ADAPTIVE_SIZING: {
+                    String value = rawElementText(reader);
+                    ADAPTIVE_SIZING_ENABLED.parseAndSetParameter(value, operation, reader);
+                    return;
+                }
+            }
+        }
+        throw new ParserException(bundle.unexpectedElement(reader.getLocalName()));
+    }
+
     private void parseCapacity(XMLExtendedStreamReader reader, final ModelNode operation) throws XMLStreamException, ParserException,
                 ValidateException {
 
@@ -1492,6 +1516,10 @@ public class DsParser extends AbstractParser {
                             parseExtension(reader, currTag.getLocalName(), operation, VALID_CONNECTION_CHECKER_CLASSNAME, VALID_CONNECTION_CHECKER_PROPERTIES);
                             break;
                         }
+                        case UNKNOWN: {
+                            parseUnknownValidationElement(reader, operation);
+                            break;
+                        }
                         default: {
                             throw new ParserException(bundle.unexpectedElement(reader.getLocalName()));
                         }
@@ -1503,6 +1531,22 @@ public class DsParser extends AbstractParser {
         throw new ParserException(bundle.unexpectedEndOfDocument());
     }
 
+    /**
+     * Parses the validation elements not known to IronJacamar, which are only valid from the 4.0 schema on.
+     */
+    private void parseUnknownValidationElement(XMLExtendedStreamReader reader, final ModelNode operation) throws XMLStreamException, ParserException {
+        if (Namespace.forUri(reader.getNamespaceURI()).compareTo(Namespace.DATASOURCES_4_0) >= 0) {
+            switch (Element.forName(reader.getLocalName())) {
+                case BACKGROUND_VALIDATION_MAX_CONCURRENCY: {
+                    String value = rawElementText(reader);
+                    BACKGROUND_VALIDATION_MAX_CONCURRENCY.parseAndSetParameter(value, operation, reader);
+                    return;
+                }
+            }
+        }
+        throw new ParserException(bundle.unexpectedElement(reader.getLocalName()));
+    }
+
     private void parseTimeOutSettings(XMLExtendedStreamReader reader, final ModelNode operation) throws XMLStreamException, ParserException,
             ValidateException {
 
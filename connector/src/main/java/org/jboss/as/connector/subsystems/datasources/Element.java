@@ -32,7 +32,8 @@ import java.util.Map;
 
 public enum Element {
     /** always the first **/
-    UNKNOWN(null), SUBSYSTEM("subsystem"), DATASOURCES("datasources"),  DRIVERS("drivers"), DRIVER("driver");
+    UNKNOWN(null), SUBSYSTEM("subsystem"), DATASOURCES("datasources"),  DRIVERS("drivers"), DRIVER("driver"),
+    ADAPTIVE_SIZING("adaptive-sizing"), BACKGROUND_VALIDATION_MAX_CONCURRENCY("background-validation-max-concurrency");
 
     private final String name;
 
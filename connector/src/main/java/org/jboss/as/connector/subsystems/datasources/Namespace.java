@@ -39,13 +39,15 @@ public enum Namespace {
 
     DATASOURCES_2_0("urn:jboss:domain:datasources:2.0"),
 
-    DATASOURCES_3_0("urn:jboss:domain:datasources:3.0");
+    DATASOURCES_3_0("urn:jboss:domain:datasources:3.0"),
+
+    DATASOURCES_4_0("urn:jboss:domain:datasources:4.0");
 
 
     /**
      * The current namespace version.
      */
-    public static final Namespace CURRENT = DATASOURCES_3_0;
+    public static final Namespace CURRENT = DATASOURCES_4_0;
 
     private final String name;
 
@@ -491,6 +491,12 @@ public class XMLXaDataSourceRuntimeHandler extends AbstractXMLDataSourceRuntimeH
             //Just set to false
             context.getResult().set(false);
 
+        } else if (attributeName.equals(org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_SIZING_ENABLED.getName())) {
+            //Deployed data sources are never adaptively sized
+            context.getResult().set(false);
+        } else if (attributeName.equals(Constants.BACKGROUND_VALIDATION_MAX_CONCURRENCY.getName())) {
+            //Deployed data sources validate their idle connections one after the other
+            context.getResult().set(1);
         } else if (attributeName.equals(Constants.TRACKING.getName())) {
             //Just return w/o setting a result
             return;
@@ -24,6 +24,8 @@
 
 package org.jboss.as.connector.subsystems.datasources;
 
+import static org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_SIZING_ENABLED;
+import static org.jboss.as.connector.subsystems.datasources.Constants.BACKGROUND_VALIDATION_MAX_CONCURRENCY;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTABLE;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTION_LISTENER_CLASS;
 import static org.jboss.as.connector.subsystems.datasources.Constants.CONNECTION_LISTENER_PROPERTIES;
@@ -37,6 +39,7 @@ import static org.jboss.as.connector.subsystems.datasources.Constants.FLUSH_ALL_
 import static org.jboss.as.connector.subsystems.datasources.Constants.FLUSH_GRACEFULLY_CONNECTION;
 import static org.jboss.as.connector.subsystems.datasources.Constants.FLUSH_IDLE_CONNECTION;
 import static org.jboss.as.connector.subsystems.datasources.Constants.FLUSH_INVALID_CONNECTION;
+import static org.jboss.as.connector.subsystems.datasources.Constants.READ_POOL_STATISTICS;
 import static org.jboss.as.connector.subsystems.datasources.Constants.STATISTICS_ENABLED;
 import static org.jboss.as.connector.subsystems.datasources.Constants.TEST_CONNECTION;
 import static org.jboss.as.connector.subsystems.datasources.Constants.TRACKING;
@@ -50,6 +53,7 @@ import java.util.Map;
 import org.jboss.as.connector.logging.ConnectorLogger;
 import org.jboss.as.connector.subsystems.common.pool.PoolConfigurationRWHandler;
 import org.jboss.as.connector.subsystems.common.pool.PoolOperations;
+import org.jboss.as.connector.subsystems.common.pool.PoolStatisticsSnapshotHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PropertiesAttributeDefinition;
@@ -109,6 +113,7 @@ public class XaDataSourceDefinition extends SimpleResourceDefinition {
             resourceRegistration.registerOperationHandler(FLUSH_INVALID_CONNECTION, PoolOperations.FlushInvalidConnectionInPool.DS_INSTANCE);
             resourceRegistration.registerOperationHandler(FLUSH_GRACEFULLY_CONNECTION, PoolOperations.FlushGracefullyConnectionInPool.DS_INSTANCE);
             resourceRegistration.registerOperationHandler(TEST_CONNECTION, PoolOperations.TestConnectionInPool.DS_INSTANCE);
+            resourceRegistration.registerOperationHandler(READ_POOL_STATISTICS, PoolStatisticsSnapshotHandler.DS_INSTANCE);
         }
     }
 
@@ -129,6 +134,8 @@ public class XaDataSourceDefinition extends SimpleResourceDefinition {
             for (final SimpleAttributeDefinition attribute : XA_DATASOURCE_ATTRIBUTE) {
                 if (PoolConfigurationRWHandler.ATTRIBUTES.contains(attribute.getName())) {
                     resourceRegistration.registerReadWriteAttribute(attribute, PoolConfigurationRWHandler.PoolConfigurationReadHandler.INSTANCE, PoolConfigurationRWHandler.LocalAndXaDataSourcePoolConfigurationWriteHandler.INSTANCE);
+                } else if (attribute.equals(ADAPTIVE_SIZING_ENABLED)) {
+                    resourceRegistration.registerReadWriteAttribute(attribute, null, AdaptivePoolSizingWriteHandler.INSTANCE);
                 } else {
                     if (attribute.equals(STATISTICS_ENABLED)) {
                         resourceRegistration.registerReadWriteAttribute(attribute, null, new ReloadRequiredWriteAttributeHandler());
@@ -179,6 +186,8 @@ public class XaDataSourceDefinition extends SimpleResourceDefinition {
                 .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(new ModelNode(false)), CONNECTABLE)
                 .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, false, new ModelNode(true)), STATISTICS_ENABLED)
                 .setDiscard(DiscardAttributeChecker.UNDEFINED, TRACKING)
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
                 .addRejectCheck(new RejectAttributeChecker.DefaultRejectAttributeChecker() {
 
                     @Override
@@ -245,6 +254,8 @@ public class XaDataSourceDefinition extends SimpleResourceDefinition {
                 .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(new ModelNode(false)), CONNECTABLE)
                 .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, false, new ModelNode(true)), STATISTICS_ENABLED)
                 .setDiscard(DiscardAttributeChecker.UNDEFINED, TRACKING)
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
                 .addRejectCheck(new RejectAttributeChecker.DefaultRejectAttributeChecker() {
 
                     @Override
@@ -313,6 +324,8 @@ public class XaDataSourceDefinition extends SimpleResourceDefinition {
                     }
                 }, STATISTICS_ENABLED)
                 .setDiscard(DiscardAttributeChecker.UNDEFINED, TRACKING)
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
                 .addRejectCheck(RejectAttributeChecker.DEFINED, TRACKING).end()
                 //We're rejecting operations when statistics-enabled=false, so let it through in the enable/disable ops which do not use that attribute
                 .addOperationTransformationOverride(DATASOURCE_ENABLE.getName())
@@ -320,4 +333,12 @@ public class XaDataSourceDefinition extends SimpleResourceDefinition {
                 .addOperationTransformationOverride(DATASOURCE_DISABLE.getName())
                 .end();
     }
+
+    static void registerTransformers300(ResourceTransformationDescriptionBuilder parentBuilder) {
+        ResourceTransformationDescriptionBuilder builder = parentBuilder.addChildResource(PATH_XA_DATASOURCE);
+        builder.getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, ADAPTIVE_SIZING_ENABLED, BACKGROUND_VALIDATION_MAX_CONCURRENCY)
+                .end();
+    }
 }
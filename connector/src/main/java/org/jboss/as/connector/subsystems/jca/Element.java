@@ -59,6 +59,12 @@ public enum Element {
 
     WORKMANAGERS("workmanagers"),
 
+    /** work-weights element **/
+    WORK_WEIGHTS("work-weights"),
+
+    /** weight element **/
+    WEIGHT("weight"),
+
 
     /** bootstrap-contexts element **/
     BOOTSTRAP_CONTEXTS("bootstrap-contexts"),
@@ -39,6 +39,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAM
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.parsing.ParseUtils.missingRequiredElement;
+import static org.jboss.as.controller.parsing.ParseUtils.requireNoAttributes;
 import static org.jboss.as.controller.parsing.ParseUtils.requireNoContent;
 import static org.jboss.as.controller.parsing.ParseUtils.requireSingleAttribute;
 import static org.jboss.as.controller.parsing.ParseUtils.unexpectedAttribute;
@@ -76,7 +77,7 @@ public class JcaExtension implements Extension {
 
     public static final String SUBSYSTEM_NAME = "jca";
 
-    private static final int MANAGEMENT_API_MAJOR_VERSION = 3;
+    private static final int MANAGEMENT_API_MAJOR_VERSION = 4;
     private static final int MANAGEMENT_API_MINOR_VERSION = 0;
     private static final int MANAGEMENT_API_MICRO_VERSION = 0;
 
@@ -115,6 +116,7 @@ public class JcaExtension implements Extension {
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_1_1.getUriString(), ConnectorSubsystemParser.INSTANCE);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_2_0.getUriString(), ConnectorSubsystemParser.INSTANCE);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_3_0.getUriString(), ConnectorSubsystemParser.INSTANCE);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_4_0.getUriString(), ConnectorSubsystemParser.INSTANCE);
     }
 
     static final class ConnectorSubsystemParser implements XMLStreamConstants, XMLElementReader<List<ModelNode>>,
@@ -266,6 +268,13 @@ public class JcaExtension implements Extension {
                             ThreadsParser.getInstance().writeBoundedQueueThreadPool(writer, prop.getValue().asProperty(), Element.SHORT_RUNNING_THREADS.getLocalName(), false);
                         }
                     }
+                    if (property.getValue().hasDefined(JcaWorkManagerDefinition.WORK_WEIGHTS.getName())) {
+                        writer.writeStartElement(Element.WORK_WEIGHTS.getLocalName());
+                        for (Property weight : property.getValue().get(JcaWorkManagerDefinition.WORK_WEIGHTS.getName()).asPropertyList()) {
+                            writeProperty(writer, weight.getName(), weight.getValue().asString(), Element.WEIGHT.getLocalName());
+                        }
+                        writer.writeEndElement();
+                    }
                     writer.writeEndElement();
                 }
             }
@@ -318,6 +327,7 @@ public class JcaExtension implements Extension {
             while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
 
                 switch (Namespace.forUri(reader.getNamespaceURI())) {
+                    case JCA_4_0:
                     case JCA_3_0:
                     case JCA_2_0:
                     case JCA_1_1:
@@ -375,7 +385,8 @@ public class JcaExtension implements Extension {
                                 break;
                             }
                             case TRACER: {
-                                if (Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_3_0) ) {
+                                Namespace readerNS = Namespace.forUri(reader.getNamespaceURI());
+                                if (readerNS.equals(Namespace.JCA_3_0) || readerNS.equals(Namespace.JCA_4_0)) {
                                     list.add(parseTracer(reader, address));
                                 } else {
                                     throw unexpectedElement(reader);
@@ -526,6 +537,13 @@ public class JcaExtension implements Extension {
                         }
                         break;
                     }
+                    case WORK_WEIGHTS: {
+                        if (readerNS != Namespace.JCA_4_0) {
+                            throw unexpectedElement(reader);
+                        }
+                        parseWorkWeights(reader, workManagerOperation);
+                        break;
+                    }
                     default:
                         throw unexpectedElement(reader);
                 }
@@ -535,6 +553,24 @@ public class JcaExtension implements Extension {
 
         }
 
+        private void parseWorkWeights(final XMLExtendedStreamReader reader, final ModelNode operation) throws XMLStreamException {
+            requireNoAttributes(reader);
+            while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
+                final Element element = Element.forName(reader.getLocalName());
+                switch (element) {
+                    case WEIGHT: {
+                        requireSingleAttribute(reader, "name");
+                        final String name = rawAttributeText(reader, "name");
+                        final String value = rawElementText(reader);
+                        JcaWorkManagerDefinition.WORK_WEIGHTS.parseAndAddParameterElement(name, value, operation, reader);
+                        break;
+                    }
+                    default:
+                        throw unexpectedElement(reader);
+                }
+            }
+        }
+
         private void parseDistributedWorkManager(final XMLExtendedStreamReader reader, final ModelNode parentAddress,
                                               final List<ModelNode> list, final ModelNode node, boolean defaultWm) throws XMLStreamException {
 
@@ -108,6 +108,13 @@ class JcaSubsystemAdd extends AbstractBoottimeAddStepHandler {
                 .setInitialMode(Mode.ACTIVE)
                 .install());
 
+        final PoolSizingService poolSizingService = new PoolSizingService();
+        newControllers.add(serviceTarget
+                .addService(ConnectorServices.POOL_SIZING_SERVICE, poolSizingService)
+                .addListener(verificationHandler)
+                .setInitialMode(Mode.ACTIVE)
+                .install());
+
 
 
         // TODO does the install of this and the DriverProcessor
@@ -88,12 +88,17 @@ public class JcaSubsystemRootDefinition extends SimpleResourceDefinition {
         builder.discardChildResource(TracerDefinition.PATH_TRACER);
         TransformationDescription.Tools.register(builder.build(), subsystem, ModelVersion.create(1, 1, 0));
         ResourceTransformationDescriptionBuilder builder12 = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
+        JcaWorkManagerDefinition.registerTransformers(builder12);
         builder12.rejectChildResource(JcaDistributedWorkManagerDefinition.PATH_DISTRIBUTED_WORK_MANAGER);
         builder12.discardChildResource(TracerDefinition.PATH_TRACER);
         TransformationDescription.Tools.register(builder12.build(), subsystem, ModelVersion.create(1, 2, 0));
         ResourceTransformationDescriptionBuilder builder20 = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
+        JcaWorkManagerDefinition.registerTransformers(builder20);
         builder20.discardChildResource(TracerDefinition.PATH_TRACER);
         TransformationDescription.Tools.register(builder20.build(), subsystem, ModelVersion.create(2, 0, 0));
+        ResourceTransformationDescriptionBuilder builder30 = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
+        JcaWorkManagerDefinition.registerTransformers(builder30);
+        TransformationDescription.Tools.register(builder30.build(), subsystem, ModelVersion.create(3, 0, 0));
 
     }
 }
@@ -24,13 +24,17 @@ package org.jboss.as.connector.subsystems.jca;
 
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.PropertiesAttributeDefinition;
 import org.jboss.as.controller.ReadResourceNameOperationStepHandler;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.threads.BoundedQueueThreadPoolResourceDefinition;
 import org.jboss.as.threads.ThreadsServices;
@@ -45,6 +49,33 @@ import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_SHORT_
  */
 public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
     protected static final PathElement PATH_WORK_MANAGER = PathElement.pathElement(WORKMANAGER);
+
+    static final String QUEUED_WORK_NAME = "queued-work";
+    static final String ACTIVE_WORK_NAME = "active-work";
+    static final String COMPLETED_WORK_NAME = "completed-work";
+    static final String REJECTED_WORK_NAME = "rejected-work";
+    static final String AVERAGE_SCHEDULING_DELAY_NAME = "average-scheduling-delay";
+    static final String MAX_SCHEDULING_DELAY_NAME = "max-scheduling-delay";
+    static final String ADAPTER_WORK_NAME = "adapter-work";
+
+    static final PropertiesAttributeDefinition WORK_WEIGHTS = new PropertiesAttributeDefinition.Builder("work-weights", true)
+            .setAllowExpression(true)
+            .setXmlName(Element.WEIGHT.getLocalName())
+            .setRestartAllServices()
+            .build();
+
+    static final AttributeDefinition[] QUEUE_METRICS = {
+            new SimpleAttributeDefinitionBuilder(QUEUED_WORK_NAME, ModelType.INT).setStorageRuntime().build(),
+            new SimpleAttributeDefinitionBuilder(ACTIVE_WORK_NAME, ModelType.INT).setStorageRuntime().build(),
+            new SimpleAttributeDefinitionBuilder(COMPLETED_WORK_NAME, ModelType.LONG).setStorageRuntime().build(),
+            new SimpleAttributeDefinitionBuilder(REJECTED_WORK_NAME, ModelType.LONG).setStorageRuntime().build(),
+            new SimpleAttributeDefinitionBuilder(AVERAGE_SCHEDULING_DELAY_NAME, ModelType.LONG)
+                    .setMeasurementUnit(MeasurementUnit.MILLISECONDS).setStorageRuntime().build(),
+            new SimpleAttributeDefinitionBuilder(MAX_SCHEDULING_DELAY_NAME, ModelType.LONG)
+                    .setMeasurementUnit(MeasurementUnit.MILLISECONDS).setStorageRuntime().build(),
+            new SimpleAttributeDefinitionBuilder(ADAPTER_WORK_NAME, ModelType.OBJECT).setStorageRuntime().build()
+    };
+
     private final boolean registerRuntimeOnly;
 
     private JcaWorkManagerDefinition(final boolean registerRuntimeOnly) {
@@ -67,6 +98,13 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
             AttributeDefinition ad = parameter.getAttribute();
             resourceRegistration.registerReadOnlyAttribute(ad, ReadResourceNameOperationStepHandler.INSTANCE);
         }
+        resourceRegistration.registerReadWriteAttribute(WORK_WEIGHTS, null, new ReloadRequiredWriteAttributeHandler(WORK_WEIGHTS));
+
+        if (registerRuntimeOnly) {
+            for (final AttributeDefinition metric : QUEUE_METRICS) {
+                resourceRegistration.registerMetric(metric, WorkManagerQueueMetricsHandler.INSTANCE);
+            }
+        }
 
     }
 
@@ -82,10 +120,22 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
     static void registerTransformers110(ResourceTransformationDescriptionBuilder parentBuilder) {
 
         ResourceTransformationDescriptionBuilder builder = parentBuilder.addChildResource(PATH_WORK_MANAGER);
+        rejectWorkWeights(builder);
         BoundedQueueThreadPoolResourceDefinition.registerTransformers1_0(builder, WORKMANAGER_SHORT_RUNNING);
         BoundedQueueThreadPoolResourceDefinition.registerTransformers1_0(builder, WORKMANAGER_LONG_RUNNING);
     }
 
+    static void registerTransformers(ResourceTransformationDescriptionBuilder parentBuilder) {
+        rejectWorkWeights(parentBuilder.addChildResource(PATH_WORK_MANAGER));
+    }
+
+    private static void rejectWorkWeights(ResourceTransformationDescriptionBuilder builder) {
+        builder.getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, WORK_WEIGHTS)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, WORK_WEIGHTS)
+                .end();
+    }
+
     public static enum WmParameters {
         NAME(SimpleAttributeDefinitionBuilder.create("name", ModelType.STRING)
                 .setAllowExpression(false)
@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.jca;
+
+import static java.security.AccessController.doPrivileged;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import org.jboss.as.connector.subsystems.common.pool.PoolSizingScheduler;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.jboss.threads.JBossThreadFactory;
+import org.wildfly.security.manager.action.GetAccessControlContextAction;
+
+/**
+ * Adaptive pool sizing service, owning the thread the pool sizers run on.
+ */
+final class PoolSizingService implements Service<PoolSizingScheduler> {
+
+    private volatile ScheduledExecutorService executor;
+    private volatile PoolSizingScheduler scheduler;
+
+    @Override
+    public PoolSizingScheduler getValue() throws IllegalStateException {
+        final PoolSizingScheduler scheduler = this.scheduler;
+        if (scheduler == null) {
+            throw new IllegalStateException();
+        }
+        return scheduler;
+    }
+
+    @Override
+    public void start(StartContext context) throws StartException {
+        try {
+            final ThreadFactory threadFactory = new JBossThreadFactory(new ThreadGroup("PoolSizingScheduler ThreadGroup"),
+                    Boolean.TRUE, null, "PoolSizingScheduler -- %t", null, null,
+                    doPrivileged(GetAccessControlContextAction.getInstance()));
+            executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            scheduler = new PoolSizingScheduler(executor);
+            scheduler.start();
+        } catch (Throwable t) {
+            throw new StartException(t);
+        }
+    }
+
+    @Override
+    public void stop(StopContext context) {
+        scheduler.stop();
+        scheduler = null;
+        executor.shutdownNow();
+        executor = null;
+    }
+}
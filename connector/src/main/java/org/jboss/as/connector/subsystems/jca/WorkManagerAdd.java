@@ -21,6 +21,8 @@
  */
 package org.jboss.as.connector.subsystems.jca;
 
+import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.as.connector.services.workmanager.FairWorkExecutor;
 import org.jboss.as.connector.services.workmanager.NamedWorkManager;
 import org.jboss.as.connector.services.workmanager.WorkManagerService;
 import org.jboss.as.connector.util.ConnectorServices;
@@ -38,6 +40,7 @@ import org.jboss.msc.service.ServiceTarget;
 import org.jboss.tm.JBossXATerminator;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executor;
 
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_LONG_RUNNING;
@@ -56,6 +59,7 @@ public class WorkManagerAdd extends AbstractAddStepHandler {
         for (JcaWorkManagerDefinition.WmParameters parameter : JcaWorkManagerDefinition.WmParameters.values()) {
             parameter.getAttribute().validateAndSet(operation, model);
         }
+        JcaWorkManagerDefinition.WORK_WEIGHTS.validateAndSet(operation, model);
     }
 
     @Override
@@ -68,8 +72,15 @@ public class WorkManagerAdd extends AbstractAddStepHandler {
         ServiceTarget serviceTarget = context.getServiceTarget();
 
 
+        final Map<String, Integer> weights;
+        try {
+            weights = FairWorkExecutor.parseWeights(JcaWorkManagerDefinition.WORK_WEIGHTS.unwrap(context, model));
+        } catch (IllegalArgumentException e) {
+            throw new OperationFailedException(ConnectorLogger.ROOT_LOGGER.invalidWorkWeight(name, e.getLocalizedMessage()));
+        }
+
         WorkManager wm = new NamedWorkManager(name);
-        WorkManagerService wmService = new WorkManagerService(wm);
+        WorkManagerService wmService = new WorkManagerService(wm, weights);
         ServiceBuilder builder = serviceTarget
                 .addService(ConnectorServices.WORKMANAGER_SERVICE.append(name), wmService);
 
@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.jca;
+
+import java.util.List;
+
+import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.as.connector.services.workmanager.FairWorkExecutor;
+import org.jboss.as.connector.services.workmanager.WorkManagerService;
+import org.jboss.as.connector.util.ConnectorServices;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reads the queue metrics of a work manager from the {@link FairWorkExecutor}s of its {@link WorkManagerService}.
+ */
+public class WorkManagerQueueMetricsHandler implements OperationStepHandler {
+
+    public static final WorkManagerQueueMetricsHandler INSTANCE = new WorkManagerQueueMetricsHandler();
+
+    private WorkManagerQueueMetricsHandler() {
+    }
+
+    @Override
+    public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+        if (context.isNormalServer()) {
+            final String name = JcaWorkManagerDefinition.WmParameters.NAME.getAttribute()
+                    .resolveModelAttribute(context, context.readResource(PathAddress.EMPTY_ADDRESS).getModel()).asString();
+            final String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+            context.addStep(new OperationStepHandler() {
+
+                @Override
+                public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+                    final ServiceController<?> controller = context.getServiceRegistry(false).getService(ConnectorServices.WORKMANAGER_SERVICE.append(name));
+                    if (controller != null && controller.getState() == ServiceController.State.UP) {
+                        final List<FairWorkExecutor> executors = ((WorkManagerService) controller.getService()).getFairExecutors();
+                        try {
+                            context.getResult().set(readMetric(attributeName, executors));
+                        } catch (IllegalArgumentException e) {
+                            throw new OperationFailedException(ConnectorLogger.ROOT_LOGGER.failedToGetMetrics(e.getLocalizedMessage()));
+                        }
+                    }
+                    context.stepCompleted();
+                }
+            }, OperationContext.Stage.RUNTIME);
+        }
+        context.stepCompleted();
+    }
+
+    static ModelNode readMetric(final String attributeName, final List<FairWorkExecutor> executors) {
+        long queued = 0, active = 0, completed = 0, rejected = 0, delayCount = 0, delayTotal = 0, delayMax = 0;
+        final ModelNode adapters = new ModelNode().setEmptyObject();
+        for (FairWorkExecutor executor : executors) {
+            queued += executor.getQueuedCount();
+            active += executor.getActiveCount();
+            completed += executor.getCompletedCount();
+            rejected += executor.getRejectedCount();
+            delayCount += executor.getSchedulingDelay().getCount();
+            delayTotal += executor.getSchedulingDelay().getTotal();
+            delayMax = Math.max(delayMax, executor.getSchedulingDelay().getMax());
+            final ModelNode executorAdapters = executor.adaptersToModelNode();
+            for (String adapter : executorAdapters.keys()) {
+                final ModelNode counts = executorAdapters.get(adapter);
+                for (String counter : counts.keys()) {
+                    final ModelNode total = adapters.get(adapter, counter);
+                    total.set((total.isDefined() ? total.asLong() : 0) + counts.get(counter).asLong());
+                }
+            }
+        }
+        switch (attributeName) {
+            case JcaWorkManagerDefinition.QUEUED_WORK_NAME:
+                return new ModelNode(queued);
+            case JcaWorkManagerDefinition.ACTIVE_WORK_NAME:
+                return new ModelNode(active);
+            case JcaWorkManagerDefinition.COMPLETED_WORK_NAME:
+                return new ModelNode(completed);
+            case JcaWorkManagerDefinition.REJECTED_WORK_NAME:
+                return new ModelNode(rejected);
+            case JcaWorkManagerDefinition.AVERAGE_SCHEDULING_DELAY_NAME:
+                return new ModelNode(delayCount == 0 ? 0 : delayTotal / delayCount);
+            case JcaWorkManagerDefinition.MAX_SCHEDULING_DELAY_NAME:
+                return new ModelNode(delayMax);
+            case JcaWorkManagerDefinition.ADAPTER_WORK_NAME:
+                return adapters;
+            default:
+                throw new IllegalArgumentException(attributeName);
+        }
+    }
+}
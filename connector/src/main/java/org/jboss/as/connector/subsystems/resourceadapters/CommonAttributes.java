@@ -22,6 +22,7 @@
 
 package org.jboss.as.connector.subsystems.resourceadapters;
 
+import static org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_SIZING_ENABLED;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATION;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATIONMILLIS;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.BLOCKING_TIMEOUT_WAIT_MILLIS;
@@ -111,6 +112,7 @@ public class CommonAttributes {
             MIN_POOL_SIZE,
             POOL_USE_STRICT_MIN,
             POOL_FLUSH_STRATEGY,
+            ADAPTIVE_SIZING_ENABLED,
             SECURITY_DOMAIN_AND_APPLICATION,
             APPLICATION,
             SECURITY_DOMAIN,
@@ -23,6 +23,7 @@ package org.jboss.as.connector.subsystems.resourceadapters;
 
 import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
 import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_SIZING_ENABLED;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATION;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATIONMILLIS;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.BLOCKING_TIMEOUT_WAIT_MILLIS;
@@ -730,7 +731,10 @@ public abstract class CommonIronJacamarParser extends AbstractParser {
                             parseCapacity(reader, node);
                             break;
                         }
-
+                        case UNKNOWN: {
+                            parseUnknownPoolElement(reader, node);
+                            break;
+                        }
                         default:
                             throw ParseUtils.unexpectedElement(reader);
                     }
@@ -795,6 +799,10 @@ public abstract class CommonIronJacamarParser extends AbstractParser {
                             parseCapacity(reader, node);
                             break;
                         }
+                        case UNKNOWN: {
+                            parseUnknownPoolElement(reader, node);
+                            break;
+                        }
                         default:
                             throw ParseUtils.unexpectedElement(reader);
                     }
@@ -805,6 +813,23 @@ public abstract class CommonIronJacamarParser extends AbstractParser {
         throw ParseUtils.unexpectedEndElement(reader);
     }
 
+    /**
+     * Parses the pool elements not known to IronJacamar, which are only valid in the resource-adapters subsystem
+     * from its 4.0 schema on.
+     */
+    private void parseUnknownPoolElement(XMLExtendedStreamReader reader, ModelNode node) throws XMLStreamException {
+        if (Namespace.forUri(reader.getNamespaceURI()).compareTo(Namespace.RESOURCEADAPTERS_4_0) >= 0) {
+            switch (Element.forName(reader.getLocalName())) {
+                case ADAPTIVE_SIZING: {
+                    String value = rawElementText(reader);
+                    ADAPTIVE_SIZING_ENABLED.parseAndSetParameter(value, node, reader);
+                    return;
+                }
+            }
+        }
+        throw ParseUtils.unexpectedElement(reader);
+    }
+
     private void parseCapacity(XMLExtendedStreamReader reader, final ModelNode operation) throws XMLStreamException, ParserException,
             ValidateException {
 
@@ -21,6 +21,7 @@
 */
 package org.jboss.as.connector.subsystems.resourceadapters;
 
+import static org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_SIZING_ENABLED;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.CAPACITY_DECREMENTER_CLASS;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.CAPACITY_DECREMENTER_PROPERTIES;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.CAPACITY_INCREMENTER_CLASS;
@@ -114,10 +115,18 @@ public class ConnectionDefinitionResourceDefinition extends SimpleResourceDefini
         resourceRegistration.registerSubModel(new ConfigPropertyResourceDefinition(readOnly ? null : CDConfigPropertyAdd.INSTANCE, readOnly ? null : ReloadRequiredRemoveStepHandler.INSTANCE));
     }
 
+    static void registerTransformer300(ResourceTransformationDescriptionBuilder parentBuilder) {
+        parentBuilder.addChildResource(PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ADAPTIVE_SIZING_ENABLED)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, ADAPTIVE_SIZING_ENABLED);
+    }
+
     static void registerTransformer200(ResourceTransformationDescriptionBuilder parentBuilder) {
         parentBuilder.addChildResource(PATH).getAttributeBuilder()
                 .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(new ModelNode(false)), Constants.CONNECTABLE)
                 .setDiscard(DiscardAttributeChecker.UNDEFINED, TRACKING, VALIDATE_ON_MATCH)
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ADAPTIVE_SIZING_ENABLED)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, ADAPTIVE_SIZING_ENABLED)
                 .addRejectCheck(RejectAttributeChecker.DEFINED, Constants.CONNECTABLE, Constants.TRACKING, VALIDATE_ON_MATCH);
 
     }
@@ -129,6 +138,8 @@ public class ConnectionDefinitionResourceDefinition extends SimpleResourceDefini
                 org.jboss.as.connector.subsystems.common.pool.Constants.CAPACITY_INCREMENTER_PROPERTIES, org.jboss.as.connector.subsystems.common.pool.Constants.CAPACITY_DECREMENTER_PROPERTIES)
                 .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(new ModelNode(false)), Constants.CONNECTABLE)
                 .setDiscard(DiscardAttributeChecker.UNDEFINED, TRACKING, VALIDATE_ON_MATCH)
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ADAPTIVE_SIZING_ENABLED)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, ADAPTIVE_SIZING_ENABLED)
                 .addRejectCheck(RejectAttributeChecker.DEFINED, Constants.CONNECTABLE, Constants.TRACKING, VALIDATE_ON_MATCH);
     }
 
@@ -148,6 +159,8 @@ public class ConnectionDefinitionResourceDefinition extends SimpleResourceDefini
                         .addRejectCheck(RejectAttributeChecker.SIMPLE_EXPRESSIONS, Constants.RECOVERLUGIN_PROPERTIES)
                         .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(new ModelNode(false)), Constants.CONNECTABLE)
                         .setDiscard(DiscardAttributeChecker.UNDEFINED, TRACKING, VALIDATE_ON_MATCH)
+                        .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ADAPTIVE_SIZING_ENABLED)
+                        .addRejectCheck(RejectAttributeChecker.DEFINED, ADAPTIVE_SIZING_ENABLED)
                         .addRejectCheck(RejectAttributeChecker.DEFINED, Constants.CONNECTABLE, Constants.TRACKING, VALIDATE_ON_MATCH);
 
     }
@@ -32,7 +32,8 @@ import java.util.Map;
 
 public enum Element {
     /** always the first **/
-    UNKNOWN(null), SUBSYSTEM("subsystem"), RESOURCE_ADAPTERS("resource-adapters");
+    UNKNOWN(null), SUBSYSTEM("subsystem"), RESOURCE_ADAPTERS("resource-adapters"),
+    ADAPTIVE_SIZING("adaptive-sizing");
 
     private final String name;
 
@@ -75,6 +75,8 @@ public class ModifiableConnDef implements ConnectionDefinition {
 
     private final Boolean tracking;
 
+    private final Boolean adaptiveSizingEnabled;
+
 
     /**
      * Create a new ConnectionDefinition.
@@ -91,11 +93,12 @@ public class ModifiableConnDef implements ConnectionDefinition {
      * @param validation       validation
      * @param security         security
      * @param recovery         recovery
+     * @param adaptiveSizingEnabled whether the pool's minimum size follows demand
      */
     public ModifiableConnDef(Map<String, String> configProperties, String className, String jndiName,
                              String poolName, Boolean enabled, Boolean useJavaContext, Boolean useCcm, Pool pool, TimeOut timeOut,
                              Validation validation, Security security, Recovery recovery, Boolean sharable, Boolean enlistment,
-                             final Boolean connectable, final Boolean tracking) throws ValidateException {
+                             final Boolean connectable, final Boolean tracking, final Boolean adaptiveSizingEnabled) throws ValidateException {
         super();
         if (configProperties != null) {
             this.configProperties = new ConcurrentHashMap<String, String>(configProperties.size());
@@ -118,6 +121,7 @@ public class ModifiableConnDef implements ConnectionDefinition {
         this.enlistment = enlistment;
         this.connectable = connectable;
         this.tracking = tracking;
+        this.adaptiveSizingEnabled = adaptiveSizingEnabled;
 
     }
 
@@ -421,4 +425,13 @@ public class ModifiableConnDef implements ConnectionDefinition {
     public Boolean isTracking() {
         return tracking;
     }
+
+    /**
+     * Whether the minimum size of the pool follows demand.
+     *
+     * @return the adaptiveSizingEnabled.
+     */
+    public Boolean isAdaptiveSizingEnabled() {
+        return adaptiveSizingEnabled;
+    }
 }
@@ -39,11 +39,13 @@ public enum Namespace {
 
     RESOURCEADAPTERS_2_0("urn:jboss:domain:resource-adapters:2.0"),
 
-    RESOURCEADAPTERS_3_0("urn:jboss:domain:resource-adapters:3.0");
+    RESOURCEADAPTERS_3_0("urn:jboss:domain:resource-adapters:3.0"),
+
+    RESOURCEADAPTERS_4_0("urn:jboss:domain:resource-adapters:4.0");
     /**
      * The current namespace version.
      */
-    public static final Namespace CURRENT = RESOURCEADAPTERS_3_0;
+    public static final Namespace CURRENT = RESOURCEADAPTERS_4_0;
 
     private final String name;
 
@@ -288,6 +288,7 @@ public class ResourceAdapterParser extends CommonIronJacamarParser {
                                     parseConnectionDefinitions_1_0(reader, connectionDefinitionsOperations, cfConfigPropertiesOperations, isXa);
                                     break;
                                 case RESOURCEADAPTERS_3_0:
+                                case RESOURCEADAPTERS_4_0:
                                     parseConnectionDefinitions_3_0(reader, connectionDefinitionsOperations, cfConfigPropertiesOperations, isXa);
                                     break;
                             }
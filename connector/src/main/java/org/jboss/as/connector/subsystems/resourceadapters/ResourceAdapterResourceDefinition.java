@@ -104,6 +104,11 @@ public class ResourceAdapterResourceDefinition extends SimpleResourceDefinition
     }
 
 
+    static void registerTransformers300(ResourceTransformationDescriptionBuilder parentBuilder) {
+        ResourceTransformationDescriptionBuilder builder = parentBuilder.addChildResource(PathElement.pathElement(RESOURCEADAPTER_NAME));
+        ConnectionDefinitionResourceDefinition.registerTransformer300(builder);
+    }
+
     static void registerTransformers200(ResourceTransformationDescriptionBuilder parentBuilder) {
         ConnectionDefinitionResourceDefinition.registerTransformer200(parentBuilder);
     }
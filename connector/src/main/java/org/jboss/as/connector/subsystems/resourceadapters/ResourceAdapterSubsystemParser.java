@@ -23,6 +23,7 @@
 package org.jboss.as.connector.subsystems.resourceadapters;
 
 import static org.jboss.as.connector.logging.ConnectorLogger.SUBSYSTEM_RA_LOGGER;
+import static org.jboss.as.connector.subsystems.common.pool.Constants.ADAPTIVE_SIZING_ENABLED;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATION;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATIONMILLIS;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.BLOCKING_TIMEOUT_WAIT_MILLIS;
@@ -281,7 +282,8 @@ public final class ResourceAdapterSubsystemParser implements XMLStreamConstants,
         writeNewConfigProperties(streamWriter, conDef);
 
         boolean poolRequired = INITIAL_POOL_SIZE.isMarshallable(conDef) || MAX_POOL_SIZE.isMarshallable(conDef) || MIN_POOL_SIZE.isMarshallable(conDef) ||
-                POOL_USE_STRICT_MIN.isMarshallable(conDef) || POOL_PREFILL.isMarshallable(conDef) || POOL_FLUSH_STRATEGY.isMarshallable(conDef);
+                POOL_USE_STRICT_MIN.isMarshallable(conDef) || POOL_PREFILL.isMarshallable(conDef) || POOL_FLUSH_STRATEGY.isMarshallable(conDef) ||
+                ADAPTIVE_SIZING_ENABLED.isMarshallable(conDef);
         final boolean capacityRequired = CAPACITY_INCREMENTER_CLASS.isMarshallable(conDef) ||
                 CAPACITY_INCREMENTER_PROPERTIES.isMarshallable(conDef) ||
                 CAPACITY_DECREMENTER_CLASS.isMarshallable(conDef) ||
@@ -298,6 +300,7 @@ public final class ResourceAdapterSubsystemParser implements XMLStreamConstants,
                 POOL_PREFILL.marshallAsElement(conDef, streamWriter);
                 POOL_USE_STRICT_MIN.marshallAsElement(conDef, streamWriter);
                 POOL_FLUSH_STRATEGY.marshallAsElement(conDef, streamWriter);
+                ADAPTIVE_SIZING_ENABLED.marshallAsElement(conDef, streamWriter);
 
                 SAME_RM_OVERRIDE.marshallAsElement(conDef, streamWriter);
                 if (conDef.hasDefined(INTERLEAVING.getName()) && conDef.get(INTERLEAVING.getName()).asBoolean()) {
@@ -322,6 +325,7 @@ public final class ResourceAdapterSubsystemParser implements XMLStreamConstants,
                 POOL_PREFILL.marshallAsElement(conDef, streamWriter);
                 POOL_USE_STRICT_MIN.marshallAsElement(conDef, streamWriter);
                 POOL_FLUSH_STRATEGY.marshallAsElement(conDef, streamWriter);
+                ADAPTIVE_SIZING_ENABLED.marshallAsElement(conDef, streamWriter);
 
             }
             if (capacityRequired) {
@@ -433,7 +437,8 @@ public final class ResourceAdapterSubsystemParser implements XMLStreamConstants,
                 case RESOURCEADAPTERS_1_0:
                 case RESOURCEADAPTERS_1_1:
                 case RESOURCEADAPTERS_2_0:
-                case RESOURCEADAPTERS_3_0:{
+                case RESOURCEADAPTERS_3_0:
+                case RESOURCEADAPTERS_4_0:{
                     localName = reader.getLocalName();
                     final Element element = Element.forName(reader.getLocalName());
                     SUBSYSTEM_RA_LOGGER.tracef("%s -> %s", localName, element);
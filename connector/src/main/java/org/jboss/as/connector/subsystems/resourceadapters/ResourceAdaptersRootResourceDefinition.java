@@ -69,6 +69,9 @@ public class ResourceAdaptersRootResourceDefinition extends SimpleResourceDefini
         ResourceTransformationDescriptionBuilder builder200 = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
         ResourceAdapterResourceDefinition.registerTransformers200(builder200);
         TransformationDescription.Tools.register(builder120.build(), subsystem, ModelVersion.create(2, 0, 0));
+        ResourceTransformationDescriptionBuilder builder300 = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
+        ResourceAdapterResourceDefinition.registerTransformers300(builder300);
+        TransformationDescription.Tools.register(builder300.build(), subsystem, ModelVersion.create(3, 0, 0));
 
     }
 }
@@ -104,6 +104,8 @@ public class ConnectorServices {
     public static final ServiceName CONNECTION_VALIDATOR_SERVICE = ServiceName.JBOSS.append("ironjacamar",
             "connection-validator");
 
+    public static final ServiceName POOL_SIZING_SERVICE = ServiceName.JBOSS.append("ironjacamar", "pool-sizing");
+
     /**
      * convenient method to check notNull of value
      *
@@ -34,6 +34,7 @@ import org.jboss.as.connector.services.mdr.AS7MetadataRepository;
 import org.jboss.as.connector.services.resourceadapters.deployment.ResourceAdapterXmlDeploymentService;
 import org.jboss.as.connector.services.resourceadapters.deployment.registry.ResourceAdapterDeploymentRegistry;
 import org.jboss.as.connector.subsystems.jca.JcaSubsystemConfiguration;
+import org.jboss.as.connector.subsystems.resourceadapters.ModifiableConnDef;
 import org.jboss.as.controller.ServiceVerificationHandler;
 import org.jboss.as.controller.descriptions.OverrideDescriptionProvider;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -43,6 +44,7 @@ import org.jboss.as.security.service.SubjectFactoryService;
 import org.jboss.as.server.Services;
 import org.jboss.dmr.ModelNode;
 import org.jboss.jca.common.api.metadata.resourceadapter.Activation;
+import org.jboss.jca.common.api.metadata.resourceadapter.ConnectionDefinition;
 import org.jboss.jca.core.api.connectionmanager.ccm.CachedConnectionManager;
 import org.jboss.jca.core.api.management.ManagementRepository;
 import org.jboss.jca.core.spi.rar.ResourceAdapterRepository;
@@ -57,7 +59,7 @@ import org.jboss.security.SubjectFactory;
 
 public class RaServicesFactory {
 
-    public static void createDeploymentService(final ManagementResourceRegistration registration, ConnectorXmlDescriptor connectorXmlDescriptor, Module module, ServiceTarget serviceTarget, final String deploymentUnitName, ServiceName deploymentUnitServiceName, String deployment, Activation raxml, final Resource deploymentResource, final ServiceVerificationHandler serviceVerificationHandler) {
+    public static void createDeploymentService(final ManagementResourceRegistration registration, ConnectorXmlDescriptor connectorXmlDescriptor, Module module, ServiceTarget serviceTarget, final String deploymentUnitName, ServiceName deploymentUnitServiceName, String deployment, final Activation raxml, final Resource deploymentResource, final ServiceVerificationHandler serviceVerificationHandler) {
         // Create the service
 
         ServiceName serviceName = ConnectorServices.getDeploymentServiceName(deploymentUnitName,raxml);
@@ -87,6 +89,7 @@ public class RaServicesFactory {
                 .addDependency(ConnectorServices.CCM_SERVICE, CachedConnectionManager.class, service.getCcmInjector())
                 .addDependency(ConnectorServices.IDLE_REMOVER_SERVICE)
                 .addDependency(ConnectorServices.CONNECTION_VALIDATOR_SERVICE)
+                .addDependency(ConnectorServices.POOL_SIZING_SERVICE)
                 .addDependency(NamingService.SERVICE_NAME)
                 .addDependency(ConnectorServices.BOOTSTRAP_CONTEXT_SERVICE.append(bootStrapCtxName))
                 .addDependency(ConnectorServices.RESOURCE_ADAPTER_DEPLOYER_SERVICE_PREFIX.append(connectorXmlDescriptor.getDeploymentName()));
@@ -120,6 +123,18 @@ public class RaServicesFactory {
                 protected CommonDeployment getDeploymentMetadata(final ServiceController<? extends Object> controller) {
                     return ((ResourceAdapterXmlDeploymentService) controller.getService()).getRaxmlDeployment();
                 }
+
+                @Override
+                protected boolean isAdaptiveSizingEnabled(final CommonDeployment deploymentMD, final String jndiName) {
+                    if (raxml.getConnectionDefinitions() != null) {
+                        for (ConnectionDefinition connDef : raxml.getConnectionDefinitions()) {
+                            if (connDef instanceof ModifiableConnDef && jndiName.equals(connDef.getJndiName())) {
+                                return Boolean.TRUE.equals(((ModifiableConnDef) connDef).isAdaptiveSizingEnabled());
+                            }
+                        }
+                    }
+                    return false;
+                }
             });
         }
 
@@ -0,0 +1,201 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.workmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.threads.BlockingExecutor;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FairWorkExecutor}.
+ */
+public class FairWorkExecutorTestCase {
+
+    @Test
+    public void testRoundRobinAcrossAdapters() {
+        final List<String> ran = new ArrayList<String>();
+        final ManualExecutor pool = new ManualExecutor(Integer.MAX_VALUE);
+        final FairWorkExecutor executor = fairExecutor(pool, Collections.<String, Integer>emptyMap());
+        for (String work : Arrays.asList("a1", "a2", "a3", "a4", "b1", "b2")) {
+            executor.execute(new Task(work, ran));
+        }
+        assertEquals(6, executor.getQueuedCount());
+        // the first dispatcher drains all queues, the others find nothing to do
+        pool.runAll();
+        assertEquals(Arrays.asList("a1", "b1", "a2", "b2", "a3", "a4"), ran);
+        assertEquals(0, executor.getQueuedCount());
+        assertEquals(6, executor.getCompletedCount());
+        assertEquals(4, executor.adaptersToModelNode().get("a").get("completed").asLong());
+    }
+
+    @Test
+    public void testWeights() {
+        final List<String> ran = new ArrayList<String>();
+        final ManualExecutor pool = new ManualExecutor(Integer.MAX_VALUE);
+        final Map<String, String> weights = new HashMap<String, String>();
+        weights.put("a", "2");
+        weights.put("c", "5");
+        final FairWorkExecutor executor = fairExecutor(pool, FairWorkExecutor.parseWeights(weights));
+        for (String work : Arrays.asList("a1", "a2", "a3", "a4", "b1", "b2")) {
+            executor.execute(new Task(work, ran));
+        }
+        pool.runAll();
+        assertEquals(Arrays.asList("a1", "a2", "b1", "a3", "a4", "b2"), ran);
+    }
+
+    @Test
+    public void testRejectedWhenPoolIsSaturated() {
+        final List<String> ran = new ArrayList<String>();
+        final ManualExecutor pool = new ManualExecutor(1);
+        final FairWorkExecutor executor = fairExecutor(pool, Collections.<String, Integer>emptyMap());
+        executor.executeNonBlocking(new Task("a1", ran));
+        try {
+            executor.executeNonBlocking(new Task("b1", ran));
+            fail("Expected RejectedExecutionException");
+        } catch (RejectedExecutionException expected) {
+        }
+        assertEquals(1, executor.getRejectedCount());
+        assertEquals(1, executor.getQueuedCount());
+        assertEquals(1, executor.adaptersToModelNode().get("b").get("rejected").asLong());
+        pool.runAll();
+        assertEquals(Arrays.asList("a1"), ran);
+    }
+
+    @Test
+    public void testNotRejectedWhenAlreadyDispatched() {
+        final List<String> ran = new ArrayList<String>();
+        final ManualExecutor pool = new ManualExecutor(1) {
+            @Override
+            public void execute(Runnable task) {
+                if (!isEmpty()) {
+                    // a dispatcher of the pool takes the queued work before the pool rejects this submission
+                    runAll();
+                    throw new RejectedExecutionException();
+                }
+                super.execute(task);
+            }
+        };
+        final FairWorkExecutor executor = fairExecutor(pool, Collections.<String, Integer>emptyMap());
+        executor.executeNonBlocking(new Task("a1", ran));
+        executor.executeNonBlocking(new Task("b1", ran));
+        assertEquals(Arrays.asList("a1", "b1"), ran);
+        assertEquals(0, executor.getRejectedCount());
+        assertEquals(0, executor.getQueuedCount());
+    }
+
+    @Test
+    public void testRemoveAdapter() {
+        final List<String> ran = new ArrayList<String>();
+        final ManualExecutor pool = new ManualExecutor(Integer.MAX_VALUE);
+        final FairWorkExecutor executor = fairExecutor(pool, Collections.<String, Integer>emptyMap());
+        executor.execute(new Task("a1", ran));
+        executor.execute(new Task("b1", ran));
+        executor.removeAdapter("a");
+        pool.runAll();
+        // queued work of a removed adapter still runs, but is no longer counted per adapter
+        assertEquals(Arrays.asList("a1", "b1"), ran);
+        assertFalse(executor.adaptersToModelNode().has("a"));
+        assertEquals(1, executor.adaptersToModelNode().get("b").get("completed").asLong());
+    }
+
+    private static FairWorkExecutor fairExecutor(final BlockingExecutor pool, final Map<String, Integer> weights) {
+        return new FairWorkExecutor(pool, weights) {
+            @Override
+            String adapterOf(Runnable task) {
+                return ((Task) task).name.substring(0, 1);
+            }
+        };
+    }
+
+    private static class Task implements Runnable {
+        private final String name;
+        private final List<String> ran;
+
+        Task(final String name, final List<String> ran) {
+            this.name = name;
+            this.ran = ran;
+        }
+
+        @Override
+        public void run() {
+            ran.add(name);
+        }
+    }
+
+    /**
+     * Queues tasks until {@link #runAll()} runs them on the calling thread, rejecting tasks beyond its capacity.
+     */
+    private static class ManualExecutor implements BlockingExecutor {
+        private final int capacity;
+        private final List<Runnable> tasks = new ArrayList<Runnable>();
+
+        ManualExecutor(final int capacity) {
+            this.capacity = capacity;
+        }
+
+        boolean isEmpty() {
+            return tasks.isEmpty();
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (tasks.size() >= capacity) {
+                throw new RejectedExecutionException();
+            }
+            tasks.add(task);
+        }
+
+        @Override
+        public void executeBlocking(Runnable task) {
+            execute(task);
+        }
+
+        @Override
+        public void executeBlocking(Runnable task, long timeout, TimeUnit unit) {
+            execute(task);
+        }
+
+        @Override
+        public void executeNonBlocking(Runnable task) {
+            execute(task);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.common.pool;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.jca.core.api.connectionmanager.pool.PoolConfiguration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AdaptivePoolSizer}.
+ */
+public class AdaptivePoolSizerTestCase {
+
+    private final PoolConfiguration configuration = new PoolConfiguration();
+    private final TestDemandSource source = new TestDemandSource();
+    private final TestPoolFiller filler = new TestPoolFiller();
+    private AdaptivePoolSizer sizer;
+
+    @Before
+    public void setUp() {
+        configuration.setMinSize(2);
+        configuration.setMaxSize(50);
+        sizer = new AdaptivePoolSizer(configuration, source, filler);
+        sizer.setEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        sizer.setEnabled(false);
+    }
+
+    @Test
+    public void testGrowsWithDemand() {
+        source.inUse = 10;
+        assertEquals(AdaptivePoolSizer.Decision.GROW, sizer.adjust(1000));
+        assertEquals(12, configuration.getMinSize());
+
+        // rising trend and callers waiting push the target further ahead
+        source.inUse = 20;
+        source.waitTime = 10000;
+        assertEquals(AdaptivePoolSizer.Decision.GROW, sizer.adjust(11000));
+        assertEquals(38, configuration.getMinSize());
+
+        // but never beyond the maximum pool size
+        source.inUse = 50;
+        sizer.adjust(21000);
+        assertEquals(50, configuration.getMinSize());
+    }
+
+    @Test
+    public void testShrinksGradually() {
+        source.inUse = 30;
+        sizer.adjust(1000);
+        assertEquals(36, configuration.getMinSize());
+
+        source.inUse = 0;
+        long now = 1000;
+        int previous = configuration.getMinSize();
+        while (previous > 2) {
+            now += 10000;
+            assertEquals(AdaptivePoolSizer.Decision.SHRINK, sizer.adjust(now));
+            int current = configuration.getMinSize();
+            // never drops by more than a quarter of the remaining difference (or one connection)
+            assertEquals(previous - Math.max(1, (previous - sizer.getTarget()) / 4), current);
+            previous = current;
+        }
+        assertEquals(AdaptivePoolSizer.Decision.HOLD, sizer.adjust(now + 10000));
+    }
+
+    @Test
+    public void testFillsGrownMinimum() {
+        source.inUse = 10;
+        sizer.adjust(1000);
+        assertEquals(12, configuration.getMinSize());
+        // the connections in use already exist, only the idle ones up to the new minimum are created
+        assertEquals(Arrays.asList(2), filler.fills);
+
+        source.inUse = 0;
+        assertEquals(AdaptivePoolSizer.Decision.SHRINK, sizer.adjust(11000));
+        assertEquals(Arrays.asList(2), filler.fills);
+
+        sizer.setEnabled(false);
+        source.inUse = 40;
+        sizer.adjust(21000);
+        assertEquals(Arrays.asList(2), filler.fills);
+    }
+
+    @Test
+    public void testDisableRestoresConfiguredMinimum() {
+        source.inUse = 10;
+        sizer.adjust(1000);
+        sizer.setEnabled(false);
+        assertEquals(2, configuration.getMinSize());
+        assertEquals(AdaptivePoolSizer.Decision.HOLD, sizer.adjust(2000));
+    }
+
+    @Test
+    public void testKeepsManagementWrite() {
+        source.inUse = 10;
+        sizer.adjust(1000);
+        assertEquals(12, configuration.getMinSize());
+
+        // a management write while sizing is enabled becomes the new lower bound
+        configuration.setMinSize(20);
+        source.inUse = 0;
+        sizer.adjust(11000);
+        assertEquals(20, configuration.getMinSize());
+
+        // and is not overwritten when sizing is disabled
+        configuration.setMinSize(25);
+        sizer.setEnabled(false);
+        assertEquals(25, configuration.getMinSize());
+    }
+
+    private static class TestPoolFiller implements AdaptivePoolSizer.PoolFiller {
+        final List<Integer> fills = new ArrayList<Integer>();
+
+        @Override
+        public void fill(int idleConnections) {
+            fills.add(idleConnections);
+        }
+    }
+
+    private static class TestDemandSource implements AdaptivePoolSizer.DemandSource {
+        int inUse;
+        long waitTime;
+
+        @Override
+        public int getInUseCount() {
+            return inUse;
+        }
+
+        @Override
+        public long getTotalWaitTime() {
+            return waitTime;
+        }
+    }
+}
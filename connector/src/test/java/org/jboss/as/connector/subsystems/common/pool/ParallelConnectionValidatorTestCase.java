@@ -0,0 +1,266 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.common.pool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.resource.ResourceException;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ParallelConnectionValidator}.
+ */
+public class ParallelConnectionValidatorTestCase {
+
+    private final ParallelConnectionValidator validator = new ParallelConnectionValidator();
+
+    @After
+    public void stop() {
+        validator.stop();
+    }
+
+    @Test
+    public void testValidatesSynchronouslyWhenStopped() throws Exception {
+        final ParallelConnectionValidator.Validator evenInvalid = new ParallelConnectionValidator.Validator() {
+            @Override
+            public Set<?> getInvalidConnections(Set<?> connections) {
+                Set<Object> result = new HashSet<Object>();
+                for (Object connection : connections) {
+                    if ((Integer) connection % 2 == 0) {
+                        result.add(connection);
+                    }
+                }
+                return result;
+            }
+        };
+        assertEquals(Collections.singleton(2), validator.getInvalidConnections(new HashSet<Integer>(Arrays.asList(1, 2, 3)), evenInvalid));
+        assertEquals(Collections.emptySet(), validator.getInvalidConnections(Collections.singleton(5), evenInvalid));
+
+        ModelNode result = validator.toModelNode();
+        assertEquals(1, result.get("max-concurrency").asInt());
+        assertEquals(4, result.get("validated").asLong());
+        assertEquals(1, result.get("invalid").asLong());
+        assertEquals(0, result.get("errors").asLong());
+    }
+
+    @Test
+    public void testCountsFailures() {
+        try {
+            validator.getInvalidConnections(Collections.singleton(1), new ParallelConnectionValidator.Validator() {
+                @Override
+                public Set<?> getInvalidConnections(Set<?> connections) throws ResourceException {
+                    throw new ResourceException("failed");
+                }
+            });
+            fail("Expected ResourceException");
+        } catch (ResourceException expected) {
+            assertEquals(1, validator.toModelNode().get("errors").asLong());
+            assertEquals(0, validator.toModelNode().get("validated").asLong());
+        }
+    }
+
+    @Test
+    public void testBoundsConcurrentChecks() throws Exception {
+        final int connections = 8;
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch bothRunning = new CountDownLatch(2);
+        final CountDownLatch checked = new CountDownLatch(connections);
+        final ParallelConnectionValidator.Validator slow = new ParallelConnectionValidator.Validator() {
+            @Override
+            public Set<?> getInvalidConnections(Set<?> set) {
+                final int current = running.incrementAndGet();
+                int max;
+                while ((max = maxRunning.get()) < current && !maxRunning.compareAndSet(max, current)) {
+                    // retry
+                }
+                bothRunning.countDown();
+                try {
+                    bothRunning.await(5, TimeUnit.SECONDS);
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                checked.countDown();
+                return Collections.emptySet();
+            }
+        };
+        validator.start(2, 1, Executors.defaultThreadFactory());
+        // the pool hands its idle connections one at a time, and must not wait for the checks
+        for (int i = 0; i < connections; i++) {
+            assertTrue(validator.getInvalidConnections(Collections.singleton(i), slow).isEmpty());
+        }
+        assertTrue(checked.await(5, TimeUnit.SECONDS));
+        assertEquals(2, maxRunning.get());
+
+        ModelNode result = validator.toModelNode();
+        assertEquals(2, result.get("max-concurrency").asInt());
+        assertEquals(connections, result.get("validated").asLong());
+        assertEquals(connections, result.get("duration").get("count").asLong());
+    }
+
+    @Test
+    public void testReportsFailedCheckOnNextValidation() throws Exception {
+        final Object bad = new Object();
+        final Object good = new Object();
+        final ParallelConnectionValidator.Validator badInvalid = new ParallelConnectionValidator.Validator() {
+            @Override
+            public Set<?> getInvalidConnections(Set<?> connections) {
+                return connections.contains(bad) ? connections : Collections.emptySet();
+            }
+        };
+        validator.start(2, 1, Executors.defaultThreadFactory());
+        assertTrue(validator.getInvalidConnections(new HashSet<Object>(Arrays.asList(bad, good)), badInvalid).isEmpty());
+
+        Set<?> invalid = Collections.emptySet();
+        for (int i = 0; i < 500 && invalid.isEmpty(); i++) {
+            Thread.sleep(10);
+            invalid = validator.getInvalidConnections(Collections.singleton(bad), badInvalid);
+        }
+        assertEquals(Collections.singleton(bad), invalid);
+        assertEquals(1, validator.toModelNode().get("invalid").asLong());
+        // the failure is only reported once, and a valid connection can be lent at once
+        assertTrue(validator.awaitValid(bad));
+        assertTrue(validator.awaitValid(good));
+    }
+
+    @Test
+    public void testLendingWaitsForRunningCheck() throws Exception {
+        final Object connection = new Object();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        validator.start(1, 5, Executors.defaultThreadFactory());
+        validator.getInvalidConnections(Collections.singleton(connection), new ParallelConnectionValidator.Validator() {
+            @Override
+            public Set<?> getInvalidConnections(Set<?> connections) throws ResourceException {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return connections;
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        release.countDown();
+        assertFalse(validator.awaitValid(connection));
+    }
+
+    @Test
+    public void testLendingCancelsQueuedCheck() throws Exception {
+        final Object busy = new Object();
+        final Object queued = new Object();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger checks = new AtomicInteger();
+        final ParallelConnectionValidator.Validator blocking = new ParallelConnectionValidator.Validator() {
+            @Override
+            public Set<?> getInvalidConnections(Set<?> connections) {
+                checks.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return connections;
+            }
+        };
+        validator.start(1, 5, Executors.defaultThreadFactory());
+        validator.getInvalidConnections(Collections.singleton(busy), blocking);
+        validator.getInvalidConnections(Collections.singleton(queued), blocking);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // the single thread is busy with the first check, so the second one has not started and is not run
+        assertTrue(validator.awaitValid(queued));
+        release.countDown();
+        assertFalse(validator.awaitValid(busy));
+        validator.stop();
+        assertEquals(1, checks.get());
+    }
+
+    @Test
+    public void testChecksConnectionWithTimeout() throws Exception {
+        final AtomicInteger timeout = new AtomicInteger();
+        validator.start(2, 3, Executors.defaultThreadFactory());
+        assertNull(validator.checkConnection(connection(timeout, Boolean.TRUE)));
+        assertEquals(3, timeout.get());
+        final SQLException failure = validator.checkConnection(connection(timeout, Boolean.FALSE));
+        assertNotNull(failure);
+    }
+
+    @Test
+    public void testSkipsConnectionCheckUnsupportedByDriver() throws Exception {
+        final AtomicInteger timeout = new AtomicInteger();
+        validator.start(2, 3, Executors.defaultThreadFactory());
+        assertNull(validator.checkConnection(connection(timeout, new SQLFeatureNotSupportedException())));
+        timeout.set(0);
+        assertNull(validator.checkConnection(connection(timeout, Boolean.FALSE)));
+        assertEquals("isValid is not called again once the driver reported it unsupported", 0, timeout.get());
+    }
+
+    /**
+     * Returns a connection whose {@code isValid} records its timeout and returns, or throws, the given outcome.
+     */
+    private static Connection connection(final AtomicInteger timeout, final Object outcome) {
+        return (Connection) Proxy.newProxyInstance(ParallelConnectionValidatorTestCase.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if (!method.getName().equals("isValid")) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        timeout.set((Integer) args[0]);
+                        if (outcome instanceof Throwable) {
+                            throw (Throwable) outcome;
+                        }
+                        return outcome;
+                    }
+                });
+    }
+}
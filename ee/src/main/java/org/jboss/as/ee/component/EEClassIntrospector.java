@@ -10,6 +10,14 @@ import org.jboss.as.naming.ManagedReferenceFactory;
  */
 public interface EEClassIntrospector {
 
+    /**
+     * Returns a factory of injected instances of the given class. This is called for every instance created through the
+     * {@link ComponentRegistry}, e.g. for each JSP tag handler, so implementations should cache the per-class injection
+     * plan rather than resolve it on each call.
+     *
+     * @param clazz the class to instantiate
+     * @return the factory
+     */
     ManagedReferenceFactory createFactory(final Class<?> clazz);
 
     ManagedReference createInstance(Object instance);
@@ -16,13 +16,23 @@ public class ReflectiveClassIntrospector implements EEClassIntrospector, Service
 
     public static final ServiceName SERVICE_NAME = ServiceName.JBOSS.append("ee", "reflectiveClassIntrospector");
 
+    /**
+     * Factories are cached on the class itself, so that they are released together with the deployment class loader.
+     */
+    private final ClassValue<ManagedReferenceFactory> factories = new ClassValue<ManagedReferenceFactory>() {
+        @Override
+        protected ManagedReferenceFactory computeValue(Class<?> clazz) {
+            try {
+                return new ConstructorManagedReferenceFactory(clazz.getDeclaredConstructor());
+            } catch (NoSuchMethodException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    };
+
     @Override
     public ManagedReferenceFactory createFactory(Class<?> clazz) {
-        try {
-            return new ConstructorManagedReferenceFactory(clazz.getDeclaredConstructor());
-        } catch (NoSuchMethodException e) {
-            throw new RuntimeException(e);
-        }
+        return factories.get(clazz);
     }
 
     @Override
@@ -95,4 +95,8 @@ public interface Cache<K, V extends Identifiable<K>> extends AffinitySupport<K>,
     int getPassivatedCount();
 
     int getTotalSize();
+
+    long getPassivationCount();
+
+    int getPassivationQueueDepth();
 }
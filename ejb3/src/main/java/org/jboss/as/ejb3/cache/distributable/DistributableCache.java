@@ -189,4 +189,14 @@ public class DistributableCache<K, V extends Identifiable<K> & Contextual<Batch>
     public int getTotalSize() {
         return this.manager.getActiveCount() + this.manager.getPassiveCount();
     }
+
+    @Override
+    public long getPassivationCount() {
+        return this.manager.getPassivationCount();
+    }
+
+    @Override
+    public int getPassivationQueueDepth() {
+        return this.manager.getPassivationQueueDepth();
+    }
 }
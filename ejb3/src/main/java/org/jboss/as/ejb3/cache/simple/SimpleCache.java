@@ -188,6 +188,16 @@ public class SimpleCache<K, V extends Identifiable<K>> implements Cache<K, V> {
         return this.getCacheSize();
     }
 
+    @Override
+    public long getPassivationCount() {
+        return 0;
+    }
+
+    @Override
+    public int getPassivationQueueDepth() {
+        return 0;
+    }
+
     class RemoveTask implements Runnable {
         private final K key;
 
@@ -337,6 +337,13 @@ public class EJB3Subsystem20Parser extends EJB3Subsystem14Parser {
                     PassivationStoreResourceDefinition.MAX_SIZE.parseAndSetParameter(value, operation, reader);
                     break;
                 }
+                case EVICTION_BATCH_SIZE: {
+                    if (this.getExpectedNamespace() == EJB3SubsystemNamespace.EJB3_2_0) {
+                        throw unexpectedAttribute(reader, i);
+                    }
+                    PassivationStoreResourceDefinition.EVICTION_BATCH_SIZE.parseAndSetParameter(value, operation, reader);
+                    break;
+                }
                 case CACHE_CONTAINER: {
                     PassivationStoreResourceDefinition.CACHE_CONTAINER.parseAndSetParameter(value, operation, reader);
                     break;
@@ -90,6 +90,7 @@ public interface EJB3SubsystemModel {
     @Deprecated String IDLE_TIMEOUT = "idle-timeout";
     @Deprecated String IDLE_TIMEOUT_UNIT = "idle-timeout-unit";
     String MAX_SIZE = "max-size";
+    String EVICTION_BATCH_SIZE = "eviction-batch-size";
     @Deprecated String GROUPS_PATH = "groups-path";
     @Deprecated String SESSIONS_PATH = "sessions-path";
     @Deprecated String SUBDIRECTORY_COUNT = "subdirectory-count";
@@ -49,6 +49,7 @@ public enum EJB3SubsystemXMLAttribute {
 
     ENABLED("enabled"),
     ENABLE_BY_DEFAULT("enable-by-default"),
+    EVICTION_BATCH_SIZE("eviction-batch-size"),
 
     @Deprecated GROUPS_PATH("groups-path"),
 
@@ -415,6 +415,7 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
                 PassivationStoreResourceDefinition.CACHE_CONTAINER.marshallAsAttribute(store, writer);
                 PassivationStoreResourceDefinition.BEAN_CACHE.marshallAsAttribute(store, writer);
                 PassivationStoreResourceDefinition.MAX_SIZE.marshallAsAttribute(store, writer);
+                PassivationStoreResourceDefinition.EVICTION_BATCH_SIZE.marshallAsAttribute(store, writer);
                 writer.writeEndElement();
             }
         }
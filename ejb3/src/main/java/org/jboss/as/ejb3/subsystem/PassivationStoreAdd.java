@@ -58,16 +58,18 @@ public class PassivationStoreAdd extends AbstractAddStepHandler {
     @Override
     protected void performRuntime(OperationContext context, ModelNode operation, ModelNode model, ServiceVerificationHandler verificationHandler, List<ServiceController<?>> serviceControllers) throws OperationFailedException {
         int initialMaxSize = PassivationStoreResourceDefinition.MAX_SIZE.resolveModelAttribute(context, model).asInt();
+        int initialEvictionBatchSize = PassivationStoreResourceDefinition.EVICTION_BATCH_SIZE.resolveModelAttribute(context, model).asInt();
         String containerName = PassivationStoreResourceDefinition.CACHE_CONTAINER.resolveModelAttribute(context, model).asString();
         ModelNode beanCacheNode = PassivationStoreResourceDefinition.BEAN_CACHE.resolveModelAttribute(context, model);
         String cacheName = beanCacheNode.isDefined() ? beanCacheNode.asString() : null;
-        this.install(context, operation, initialMaxSize, containerName, cacheName, verificationHandler, serviceControllers);
+        this.install(context, operation, initialMaxSize, initialEvictionBatchSize, containerName, cacheName, verificationHandler, serviceControllers);
     }
 
-    protected void install(OperationContext context, ModelNode operation, final int initialMaxSize, final String containerName, final String cacheName, ServiceVerificationHandler verificationHandler, List<ServiceController<?>> serviceControllers) {
+    protected void install(OperationContext context, ModelNode operation, final int initialMaxSize, final int initialEvictionBatchSize, final String containerName, final String cacheName, ServiceVerificationHandler verificationHandler, List<ServiceController<?>> serviceControllers) {
         final String name = PathAddress.pathAddress(operation.get(ModelDescriptionConstants.ADDRESS)).getLastElement().getValue();
         BeanManagerFactoryBuilderConfiguration config = new BeanManagerFactoryBuilderConfiguration() {
             private volatile int maxSize = initialMaxSize;
+            private volatile int evictionBatchSize = initialEvictionBatchSize;
 
             @Override
             public String getContainerName() {
@@ -88,6 +90,16 @@ public class PassivationStoreAdd extends AbstractAddStepHandler {
             public void setMaxSize(int size) {
                 this.maxSize = size;
             }
+
+            @Override
+            public int getEvictionBatchSize() {
+                return this.evictionBatchSize;
+            }
+
+            @Override
+            public void setEvictionBatchSize(int size) {
+                this.evictionBatchSize = size;
+            }
         };
         ServiceBuilder<?> builder = new DistributableCacheFactoryBuilderService<>(name, config).build(context.getServiceTarget())
                 .setInitialMode(ServiceController.Mode.ON_DEMAND)
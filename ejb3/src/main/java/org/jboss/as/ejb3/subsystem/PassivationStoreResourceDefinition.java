@@ -16,6 +16,8 @@ import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.transform.description.AttributeConverter;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -34,6 +36,14 @@ public class PassivationStoreResourceDefinition extends SimpleResourceDefinition
             .setFlags(AttributeAccess.Flag.RESTART_NONE)
             .build()
     ;
+    static final SimpleAttributeDefinition EVICTION_BATCH_SIZE = new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.EVICTION_BATCH_SIZE, ModelType.INT, true)
+            .setXmlName(EJB3SubsystemXMLAttribute.EVICTION_BATCH_SIZE.getLocalName())
+            .setDefaultValue(new ModelNode(100))
+            .setAllowExpression(true)
+            .setValidator(new LongRangeValidator(1, Integer.MAX_VALUE, true, true))
+            .setFlags(AttributeAccess.Flag.RESTART_NONE)
+            .build()
+    ;
     static final SimpleAttributeDefinition CACHE_CONTAINER = new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.CACHE_CONTAINER, ModelType.STRING, true)
             .setXmlName(EJB3SubsystemXMLAttribute.CACHE_CONTAINER.getLocalName())
             .setDefaultValue(new ModelNode(BeanManagerFactoryBuilderConfiguration.DEFAULT_CONTAINER_NAME))
@@ -48,9 +58,9 @@ public class PassivationStoreResourceDefinition extends SimpleResourceDefinition
             .build()
     ;
 
-    static final AttributeDefinition[] ATTRIBUTES = { MAX_SIZE, CACHE_CONTAINER, BEAN_CACHE };
+    static final AttributeDefinition[] ATTRIBUTES = { MAX_SIZE, EVICTION_BATCH_SIZE, CACHE_CONTAINER, BEAN_CACHE };
     static final AttributeDefinition[] READ_ONLY_ATTRIBUTES = { CACHE_CONTAINER, BEAN_CACHE };
-    static final AttributeDefinition[] READ_WRITE_ATTRIBUTES = { MAX_SIZE };
+    static final AttributeDefinition[] READ_WRITE_ATTRIBUTES = { MAX_SIZE, EVICTION_BATCH_SIZE };
 
     static final PassivationStoreAdd ADD_HANDLER = new PassivationStoreAdd(ATTRIBUTES);
     static final PassivationStoreRemove REMOVE_HANDLER = new PassivationStoreRemove(ADD_HANDLER);
@@ -76,6 +86,7 @@ public class PassivationStoreResourceDefinition extends SimpleResourceDefinition
      * This transformer does the following:
      * - maps <passivation-store/> to <cluster-passivation-store/>
      * - sets appropriate defaults for IDLE_TIMEOUT, IDLE_TIMEOUT_UNIT, PASSIVATE_EVENTS_ON_REPLICATE, and CLIENT_MAPPINGS_CACHE
+     * - discards EVICTION_BATCH_SIZE if it has its default value, and rejects it otherwise
      */
     @SuppressWarnings("deprecation")
     static void registerTransformers_1_1_0(ResourceTransformationDescriptionBuilder parent) {
@@ -86,6 +97,8 @@ public class PassivationStoreResourceDefinition extends SimpleResourceDefinition
                 .setValueConverter(AttributeConverter.Factory.createHardCoded(new ModelNode("default"), true), EJB3SubsystemModel.CLIENT_MAPPINGS_CACHE)
                 .setValueConverter(AttributeConverter.Factory.createHardCoded(new ModelNode().set(Integer.MAX_VALUE), true), EJB3SubsystemModel.IDLE_TIMEOUT)
                 .setValueConverter(AttributeConverter.Factory.createHardCoded(new ModelNode().set(TimeUnit.SECONDS.name()), true), EJB3SubsystemModel.IDLE_TIMEOUT_UNIT)
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, EVICTION_BATCH_SIZE)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, EVICTION_BATCH_SIZE)
         ;
     }
 
@@ -93,6 +106,7 @@ public class PassivationStoreResourceDefinition extends SimpleResourceDefinition
      * This transformer does the following:
      * - maps <passivation-store/> to <cluster-passivation-store/>
      * - sets appropriate defaults for IDLE_TIMEOUT, IDLE_TIMEOUT_UNIT, PASSIVATE_EVENTS_ON_REPLICATE, and CLIENT_MAPPINGS_CACHE
+     * - discards EVICTION_BATCH_SIZE if it has its default value, and rejects it otherwise
      */
     @SuppressWarnings("deprecation")
     static void registerTransformers_1_2_0(ResourceTransformationDescriptionBuilder parent) {
@@ -103,6 +117,8 @@ public class PassivationStoreResourceDefinition extends SimpleResourceDefinition
                 .setValueConverter(AttributeConverter.Factory.createHardCoded(new ModelNode("default"), true), EJB3SubsystemModel.CLIENT_MAPPINGS_CACHE)
                 .setValueConverter(AttributeConverter.Factory.createHardCoded(new ModelNode().set(Integer.MAX_VALUE), true), EJB3SubsystemModel.IDLE_TIMEOUT)
                 .setValueConverter(AttributeConverter.Factory.createHardCoded(new ModelNode().set(TimeUnit.SECONDS.name()), true), EJB3SubsystemModel.IDLE_TIMEOUT_UNIT)
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, EVICTION_BATCH_SIZE)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, EVICTION_BATCH_SIZE)
         ;
     }
 }
@@ -69,6 +69,9 @@ public class PassivationStoreWriteHandler extends AbstractWriteAttributeHandler<
                 if (this.maxSizeAttribute.getName().equals(attributeName)) {
                     int maxSize = this.maxSizeAttribute.resolveModelAttribute(context, model).asInt();
                     builder.getConfiguration().setMaxSize(maxSize);
+                } else if (PassivationStoreResourceDefinition.EVICTION_BATCH_SIZE.getName().equals(attributeName)) {
+                    int evictionBatchSize = PassivationStoreResourceDefinition.EVICTION_BATCH_SIZE.resolveModelAttribute(context, model).asInt();
+                    builder.getConfiguration().setEvictionBatchSize(evictionBatchSize);
                 }
             }
         }
@@ -111,6 +111,16 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
 
+    private static final AttributeDefinition PASSIVATION_COUNT = new SimpleAttributeDefinitionBuilder("passivation-count", ModelType.LONG)
+            .setAllowNull(false)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    private static final AttributeDefinition PASSIVATION_QUEUE_DEPTH = new SimpleAttributeDefinitionBuilder("passivation-queue-depth", ModelType.INT)
+            .setAllowNull(false)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
     // Pool attributes
 
     public static final SimpleAttributeDefinition POOL_AVAILABLE_COUNT = new SimpleAttributeDefinitionBuilder("pool-available-count", ModelType.INT, false)
@@ -174,6 +184,18 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                     context.getResult().set(((StatefulSessionComponent)component).getCache().getTotalSize());
                 }
             });
+            resourceRegistration.registerMetric(PASSIVATION_COUNT, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) throws OperationFailedException {
+                    context.getResult().set(((StatefulSessionComponent)component).getCache().getPassivationCount());
+                }
+            });
+            resourceRegistration.registerMetric(PASSIVATION_QUEUE_DEPTH, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) throws OperationFailedException {
+                    context.getResult().set(((StatefulSessionComponent)component).getCache().getPassivationQueueDepth());
+                }
+            });
         }
 
         resourceRegistration.registerMetric(EXECUTION_TIME, new AbstractRuntimeMetricsHandler() {
@@ -30,6 +30,7 @@ import java.util.Map;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.SynchronizationType;
+import javax.transaction.Transaction;
 
 import org.jboss.as.jpa.config.Configuration;
 import org.jboss.as.jpa.messages.JpaLogger;
@@ -72,12 +73,10 @@ public class TransactionScopedEntityManager extends AbstractEntityManager implem
     @Override
     protected EntityManager getEntityManager() {
         EntityManager entityManager;
-        boolean isInTx;
+        Transaction tx = TransactionUtil.getActiveTransaction();
 
-        isInTx = TransactionUtil.isInTx();
-
-        if (isInTx) {
-            entityManager = getOrCreateTransactionScopedEntityManager(emf, puScopedName, properties, synchronizationType);
+        if (tx != null) {
+            entityManager = getOrCreateTransactionScopedEntityManager(tx, emf, puScopedName, properties, synchronizationType);
         } else {
             entityManager = NonTxEmCloser.get(puScopedName);
             if (entityManager == null) {
@@ -132,6 +131,7 @@ public class TransactionScopedEntityManager extends AbstractEntityManager implem
      * get or create a Transactional entity manager.
      * Only call while a transaction is active in the current thread.
      *
+     * @param tx the active transaction
      * @param emf
      * @param scopedPuName
      * @param properties
@@ -139,16 +139,17 @@ public class TransactionScopedEntityManager extends AbstractEntityManager implem
      * @return
      */
     private EntityManager getOrCreateTransactionScopedEntityManager(
+            final Transaction tx,
             final EntityManagerFactory emf,
             final String scopedPuName,
             final Map properties,
             final SynchronizationType synchronizationType) {
-        EntityManager entityManager = TransactionUtil.getTransactionScopedEntityManager(puScopedName);
+        EntityManager entityManager = TransactionUtil.getTransactionScopedEntityManager(tx, puScopedName);
         if (entityManager == null) {
             entityManager = createEntityManager(emf, properties, synchronizationType);
             if (JPA_LOGGER.isDebugEnabled())
                 JPA_LOGGER.debugf("%s: created entity manager session %s", TransactionUtil.getEntityManagerDetails(entityManager),
-                    TransactionUtil.getTransaction().toString());
+                    tx.toString());
             TransactionUtil.registerSynchronization(entityManager, scopedPuName);
             TransactionUtil.putEntityManagerInTransactionRegistry(scopedPuName, entityManager);
         }
@@ -156,7 +157,7 @@ public class TransactionScopedEntityManager extends AbstractEntityManager implem
             testForMixedSynchronizationTypes(entityManager, puScopedName, synchronizationType);
             if (JPA_LOGGER.isDebugEnabled()) {
                 JPA_LOGGER.debugf("%s: reuse entity manager session already in tx %s", TransactionUtil.getEntityManagerDetails(entityManager),
-                    TransactionUtil.getTransaction().toString());
+                    tx.toString());
             }
         }
         return entityManager;
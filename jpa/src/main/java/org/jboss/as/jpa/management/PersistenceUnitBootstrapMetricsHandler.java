@@ -0,0 +1,84 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.jpa.management;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.jpa.service.PersistenceUnitServiceImpl;
+import org.jboss.as.jpa.spi.PersistenceUnitService;
+import org.jboss.as.jpa.subsystem.JPAExtension;
+import org.jboss.as.jpa.subsystem.PersistenceUnitRegistryImpl;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Reports how long a deployed persistence unit took to bootstrap, independently of the persistence provider statistics.
+ */
+public class PersistenceUnitBootstrapMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+    public static final AttributeDefinition BOOTSTRAP_TIME = createMetric("bootstrap-time");
+    public static final AttributeDefinition BOOTSTRAP_WAIT_TIME = createMetric("bootstrap-wait-time");
+
+    private static final PersistenceUnitBootstrapMetricsHandler INSTANCE = new PersistenceUnitBootstrapMetricsHandler();
+
+    private static AttributeDefinition createMetric(String name) {
+        return new SimpleAttributeDefinitionBuilder(name, ModelType.LONG, true)
+                .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+                .setAttributeResolver(JPAExtension.getResourceDescriptionResolver("persistence-unit"))
+                .build();
+    }
+
+    /**
+     * Register the bootstrap metrics with the specified persistence unit resource registration
+     *
+     * @param resourceRegistration the registration of a persistence unit resource
+     */
+    public static void register(ManagementResourceRegistration resourceRegistration) {
+        resourceRegistration.registerMetric(BOOTSTRAP_TIME, INSTANCE);
+        resourceRegistration.registerMetric(BOOTSTRAP_WAIT_TIME, INSTANCE);
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        String scopedPersistenceUnitName = PathAddress.pathAddress(operation.get(ADDRESS)).getLastElement().getValue();
+        PersistenceUnitService service = PersistenceUnitRegistryImpl.INSTANCE.getPersistenceUnitService(scopedPersistenceUnitName);
+        if (service instanceof PersistenceUnitServiceImpl) {
+            PersistenceUnitServiceImpl persistenceUnitService = (PersistenceUnitServiceImpl) service;
+            String name = operation.get(NAME).asString();
+            if (BOOTSTRAP_TIME.getName().equals(name)) {
+                context.getResult().set(persistenceUnitService.getBootstrapTime());
+            } else if (BOOTSTRAP_WAIT_TIME.getName().equals(name)) {
+                context.getResult().set(persistenceUnitService.getBootstrapWaitTime());
+            }
+        }
+        context.stepCompleted();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.jpa.management;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sliding window over samples of cumulative statistics, from which the change of each statistic over (at least) the
+ * window duration can be computed.  Only the latest sample of each interval of duration / resolution is retained,
+ * so the number of retained samples is bounded by the resolution however often samples are taken.  The window only
+ * covers the configured duration if samples are taken at least once per such interval; otherwise the change is
+ * computed since the newest retained sample before the start of the window.
+ */
+public class StatisticsWindow {
+
+    private final long duration;
+    private final long granularity;
+    private final Deque<Sample> samples = new ArrayDeque<>();
+
+    /**
+     * @param duration the window duration in milliseconds
+     * @param resolution the maximum number of samples retained within the window
+     * @param startTime the time, in milliseconds, at which all statistics were zero
+     * @param counters the number of cumulative counters in each sample
+     */
+    public StatisticsWindow(long duration, int resolution, long startTime, int counters) {
+        this.duration = duration;
+        this.granularity = Math.max(duration / resolution, 1);
+        this.samples.add(new Sample(startTime, new long[counters], Collections.<String, long[]>emptyMap()));
+    }
+
+    /**
+     * @return the interval, in milliseconds, within which only the latest sample is retained
+     */
+    public long getGranularity() {
+        return this.granularity;
+    }
+
+    /**
+     * Records the specified sample and returns the change of each statistic since the start of the window.
+     *
+     * @param time the time of the sample in milliseconds
+     * @param counters the values of the cumulative counters
+     * @param keyed cumulative counters per key, e.g. per query
+     * @return the change of each statistic since the oldest sample within the window
+     */
+    public synchronized Delta sample(long time, long[] counters, Map<String, long[]> keyed) {
+        // Replace the latest sample if it falls within the same interval, to bound the number of retained samples
+        // The interval boundaries are fixed, so that retained samples remain spread over the window
+        if ((this.samples.size() > 1) && (this.samples.getLast().time / this.granularity == time / this.granularity)) {
+            this.samples.removeLast();
+        }
+        Sample current = new Sample(time, counters, keyed);
+        this.samples.addLast(current);
+        // Retain the newest sample taken at or before the start of the window as the baseline
+        Sample baseline = this.samples.removeFirst();
+        while ((this.samples.size() > 1) && (this.samples.getFirst().time <= time - this.duration)) {
+            baseline = this.samples.removeFirst();
+        }
+        this.samples.addFirst(baseline);
+
+        long[] delta = new long[counters.length];
+        for (int i = 0; i < counters.length; ++i) {
+            delta[i] = counters[i] - ((i < baseline.counters.length) ? baseline.counters[i] : 0);
+        }
+        Map<String, long[]> keyedDelta = new HashMap<>();
+        for (Map.Entry<String, long[]> entry : keyed.entrySet()) {
+            long[] values = entry.getValue();
+            long[] previous = baseline.keyed.get(entry.getKey());
+            long[] difference = new long[values.length];
+            for (int i = 0; i < values.length; ++i) {
+                difference[i] = values[i] - (((previous != null) && (i < previous.length)) ? previous[i] : 0);
+            }
+            keyedDelta.put(entry.getKey(), difference);
+        }
+        return new Delta(time - baseline.time, delta, keyedDelta);
+    }
+
+    /**
+     * The change of a set of statistics over an interval.
+     */
+    public static class Delta {
+        private final long elapsed;
+        private final long[] counters;
+        private final Map<String, long[]> keyed;
+
+        Delta(long elapsed, long[] counters, Map<String, long[]> keyed) {
+            this.elapsed = elapsed;
+            this.counters = counters;
+            this.keyed = keyed;
+        }
+
+        /**
+         * @return the length of the interval in milliseconds
+         */
+        public long getElapsed() {
+            return this.elapsed;
+        }
+
+        public long getCounter(int index) {
+            return this.counters[index];
+        }
+
+        public Map<String, long[]> getKeyedCounters() {
+            return this.keyed;
+        }
+
+        /**
+         * @return the change of the specified counter per second over the interval
+         */
+        public double getRate(int index) {
+            return (this.elapsed > 0) ? (this.counters[index] * 1000d) / this.elapsed : 0d;
+        }
+    }
+
+    private static class Sample {
+        final long time;
+        final long[] counters;
+        final Map<String, long[]> keyed;
+
+        Sample(long time, long[] counters, Map<String, long[]> keyed) {
+            this.time = time;
+            this.counters = counters;
+            this.keyed = keyed;
+        }
+    }
+}
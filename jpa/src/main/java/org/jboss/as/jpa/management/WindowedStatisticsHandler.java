@@ -0,0 +1,273 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.jpa.management;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.as.jpa.messages.JpaLogger.JPA_LOGGER;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.jpa.service.JPAService;
+import org.jboss.as.jpa.service.PersistenceUnitServiceImpl;
+import org.jboss.as.jpa.spi.PersistenceUnitService;
+import org.jboss.as.jpa.subsystem.JPAExtension;
+import org.jboss.as.jpa.subsystem.PersistenceUnitRegistryImpl;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jipijapa.management.spi.Statistics;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Computes rates of the persistence provider's cumulative statistics over a sliding window, and the slowest queries
+ * within that window, for a persistence unit.  The result is returned as a single complex metric, so that a consistent
+ * view can be read in one management call.  Statistics that the persistence provider does not expose are omitted.
+ */
+public class WindowedStatisticsHandler extends AbstractRuntimeOnlyHandler {
+
+    /**
+     * System property specifying the duration, in seconds, of the window over which rates are computed.  Defaults to 5 minutes.
+     */
+    public static final String WINDOW_PROPERTY = "org.jboss.as.jpa.statistics.window";
+    /**
+     * System property specifying the number of slowest queries reported.  Defaults to 10.
+     */
+    public static final String SLOWEST_QUERIES_PROPERTY = "org.jboss.as.jpa.statistics.slowest-queries";
+
+    public static final AttributeDefinition WINDOWED_STATISTICS = new SimpleAttributeDefinitionBuilder("windowed-statistics", ModelType.OBJECT, true)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .setAttributeResolver(JPAExtension.getResourceDescriptionResolver("persistence-unit"))
+            .build();
+
+    // Cumulative statistics of the persistence unit, as named by the persistence provider integration
+    private static final String QUERY_EXECUTION_COUNT = "query-execution-count";
+    private static final String ENTITY_LOAD_COUNT = "entity-load-count";
+    private static final String SECOND_LEVEL_CACHE_HIT_COUNT = "second-level-cache-hit-count";
+    private static final String SECOND_LEVEL_CACHE_MISS_COUNT = "second-level-cache-miss-count";
+    private static final String[] COUNTERS = { QUERY_EXECUTION_COUNT, ENTITY_LOAD_COUNT, SECOND_LEVEL_CACHE_HIT_COUNT, SECOND_LEVEL_CACHE_MISS_COUNT };
+    // Per query statistics
+    private static final String QUERY_CACHE = "query-cache";
+    private static final String QUERY_EXECUTION_AVERAGE_TIME = "query-execution-average-time";
+
+    private static final int RESOLUTION = 60;
+
+    private final Statistics statistics;
+    private final EntityManagerFactoryLookup entityManagerFactoryLookup;
+    private final String identificationLabel;
+    private final long duration;
+    private final int slowestQueries;
+    // Windows are reset whenever the entity manager factory, and thus its statistics, is recreated
+    private final Map<EntityManagerFactory, StatisticsWindow> windows = Collections.synchronizedMap(new WeakHashMap<EntityManagerFactory, StatisticsWindow>());
+
+    public WindowedStatisticsHandler(Statistics statistics, EntityManagerFactoryLookup entityManagerFactoryLookup, String identificationLabel) {
+        this.statistics = statistics;
+        this.entityManagerFactoryLookup = entityManagerFactoryLookup;
+        this.identificationLabel = identificationLabel;
+        this.duration = TimeUnit.SECONDS.toMillis(Long.parseLong(WildFlySecurityManager.getPropertyPrivileged(WINDOW_PROPERTY, "300")));
+        this.slowestQueries = Integer.parseInt(WildFlySecurityManager.getPropertyPrivileged(SLOWEST_QUERIES_PROPERTY, "10"));
+    }
+
+    /**
+     * Register the windowed statistics with the specified persistence unit resource registration
+     *
+     * @param resourceRegistration the registration of a persistence unit resource
+     */
+    public void register(ManagementResourceRegistration resourceRegistration) {
+        resourceRegistration.registerMetric(WINDOWED_STATISTICS, this);
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        String scopedPersistenceUnitName = PathAddress.pathAddress(operation.get(ADDRESS)).getLastElement().getValue();
+        PersistenceUnitService service = PersistenceUnitRegistryImpl.INSTANCE.getPersistenceUnitService(scopedPersistenceUnitName);
+        if (service instanceof PersistenceUnitServiceImpl) {
+            try {
+                context.getResult().set(this.read((PersistenceUnitServiceImpl) service));
+            } catch (IllegalStateException e) {  // WFLY-2436 ignore unexpected exceptions (e.g. JIPI-27 may throw an IllegalStateException)
+                JPA_LOGGER.unexpectedStatisticsProblem(e);
+            }
+        }
+        context.stepCompleted();
+    }
+
+    private ModelNode read(PersistenceUnitServiceImpl service) {
+        EntityManagerFactory entityManagerFactory = service.getEntityManagerFactory();
+        if (entityManagerFactory == null) {
+            return new ModelNode();
+        }
+        String puName = service.getScopedPersistenceUnitName();
+        StatisticsWindow window;
+        synchronized (this.windows) {
+            window = this.windows.get(entityManagerFactory);
+            if (window == null) {
+                window = new StatisticsWindow(this.duration, RESOLUTION, service.getStartTime(), COUNTERS.length);
+                this.windows.put(entityManagerFactory, window);
+                // Sample in the background from now on, so that later reads cover the window regardless of how often they occur
+                ScheduledExecutorService executor = JPAService.getStatisticsExecutor();
+                if (executor != null) {
+                    Sampler sampler = new Sampler(puName, entityManagerFactory, window);
+                    sampler.future = executor.scheduleAtFixedRate(sampler, window.getGranularity(), window.getGranularity(), TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+
+        StatisticsWindow.Delta delta = this.sample(puName, window);
+        Collection<String> names = this.statistics.getNames();
+        Statistics queryStatistics = this.getQueryStatistics();
+
+        ModelNode result = new ModelNode();
+        result.get("window").set(TimeUnit.MILLISECONDS.toSeconds(delta.getElapsed()));
+        if (names.contains(QUERY_EXECUTION_COUNT)) {
+            result.get("query-execution-rate").set(delta.getRate(0));
+        }
+        if (names.contains(ENTITY_LOAD_COUNT)) {
+            result.get("entity-load-rate").set(delta.getRate(1));
+        }
+        if (names.contains(SECOND_LEVEL_CACHE_HIT_COUNT) && names.contains(SECOND_LEVEL_CACHE_MISS_COUNT)) {
+            long hits = delta.getCounter(2);
+            long requests = hits + delta.getCounter(3);
+            result.get("second-level-cache-hit-ratio").set((requests > 0) ? (double) hits / requests : 0d);
+        }
+        if (queryStatistics != null) {
+            ModelNode slowest = result.get("slowest-queries").setEmptyList();
+            for (Map.Entry<String, long[]> entry : this.findSlowestQueries(delta.getKeyedCounters())) {
+                long[] values = entry.getValue();
+                ModelNode query = new ModelNode();
+                query.get("query").set(entry.getKey());
+                query.get("execution-count").set(values[0]);
+                query.get("average-execution-time").set(values[1] / values[0]);
+                slowest.add(query);
+            }
+        }
+        return result;
+    }
+
+    private StatisticsWindow.Delta sample(String puName, StatisticsWindow window) {
+        Path path = Path.path(PathAddress.pathAddress(PathElement.pathElement(this.identificationLabel, puName)));
+        Collection<String> names = this.statistics.getNames();
+        long[] counters = new long[COUNTERS.length];
+        for (int i = 0; i < COUNTERS.length; ++i) {
+            counters[i] = names.contains(COUNTERS[i]) ? getLong(this.statistics, COUNTERS[i], path) : 0;
+        }
+
+        Map<String, long[]> queries = new HashMap<>();
+        Statistics queryStatistics = this.getQueryStatistics();
+        if (queryStatistics != null) {
+            for (String query : queryStatistics.getDynamicChildrenNames(this.entityManagerFactoryLookup, PathWrapper.path(puName))) {
+                Path queryPath = Path.path(PathAddress.pathAddress(PathElement.pathElement(this.identificationLabel, puName), PathElement.pathElement(QUERY_CACHE, query)));
+                long count = getLong(queryStatistics, QUERY_EXECUTION_COUNT, queryPath);
+                long averageTime = getLong(queryStatistics, QUERY_EXECUTION_AVERAGE_TIME, queryPath);
+                // Track total execution time, since an average cannot be windowed
+                queries.put(query, new long[] { count, count * averageTime });
+            }
+        }
+
+        return window.sample(System.currentTimeMillis(), counters, queries);
+    }
+
+    /**
+     * @return the per query statistics, or null if the persistence provider does not expose query execution count and time
+     */
+    private Statistics getQueryStatistics() {
+        Statistics queryStatistics = this.statistics.getChildrenNames().contains(QUERY_CACHE) ? this.statistics.getChild(QUERY_CACHE) : null;
+        return (queryStatistics != null) && queryStatistics.getNames().contains(QUERY_EXECUTION_COUNT) && queryStatistics.getNames().contains(QUERY_EXECUTION_AVERAGE_TIME) ? queryStatistics : null;
+    }
+
+    private List<Map.Entry<String, long[]>> findSlowestQueries(Map<String, long[]> queries) {
+        List<Map.Entry<String, long[]>> executed = new ArrayList<>(queries.size());
+        for (Map.Entry<String, long[]> entry : queries.entrySet()) {
+            if (entry.getValue()[0] > 0) {
+                executed.add(entry);
+            }
+        }
+        Collections.sort(executed, new Comparator<Map.Entry<String, long[]>>() {
+            @Override
+            public int compare(Map.Entry<String, long[]> entry1, Map.Entry<String, long[]> entry2) {
+                long[] values1 = entry1.getValue();
+                long[] values2 = entry2.getValue();
+                return Long.compare(values2[1] / values2[0], values1[1] / values1[0]);
+            }
+        });
+        return (executed.size() > this.slowestQueries) ? executed.subList(0, this.slowestQueries) : executed;
+    }
+
+    private long getLong(Statistics statistics, String name, Path path) {
+        Object value = statistics.getValue(name, this.entityManagerFactoryLookup, StatisticNameLookup.statisticNameLookup(name), path);
+        return (value instanceof Number) ? ((Number) value).longValue() : 0;
+    }
+
+    /**
+     * Periodically samples the statistics of a persistence unit into its window, until its entity manager factory is recreated or removed.
+     */
+    private class Sampler implements Runnable {
+        private final String puName;
+        private final Reference<EntityManagerFactory> entityManagerFactory;
+        private final StatisticsWindow window;
+        volatile Future<?> future;
+
+        Sampler(String puName, EntityManagerFactory entityManagerFactory, StatisticsWindow window) {
+            this.puName = puName;
+            this.entityManagerFactory = new WeakReference<>(entityManagerFactory);
+            this.window = window;
+        }
+
+        @Override
+        public void run() {
+            PersistenceUnitService service = PersistenceUnitRegistryImpl.INSTANCE.getPersistenceUnitService(this.puName);
+            EntityManagerFactory entityManagerFactory = this.entityManagerFactory.get();
+            if (!(service instanceof PersistenceUnitServiceImpl) || (entityManagerFactory == null) || (((PersistenceUnitServiceImpl) service).getEntityManagerFactory() != entityManagerFactory)) {
+                Future<?> future = this.future;
+                if (future != null) {
+                    future.cancel(false);
+                }
+                return;
+            }
+            try {
+                WindowedStatisticsHandler.this.sample(this.puName, this.window);
+            } catch (IllegalStateException e) {  // WFLY-2436 ignore unexpected exceptions (e.g. JIPI-27 may throw an IllegalStateException)
+                JPA_LOGGER.unexpectedStatisticsProblem(e);
+            }
+        }
+    }
+}
@@ -758,4 +758,15 @@ public interface JpaLogger extends BasicLogger {
     @Message(id = 70, value = "A container-managed extended persistence context can only be initiated within the scope of a stateful session bean (persistence unit '%s').")
     IllegalStateException xpcOnlyFromSFSB(String scopedPuName);
 
+    /**
+     * Logs a warning message indicating that the value of a system property is invalid, and that the default value is used instead.
+     *
+     * @param value        the invalid value
+     * @param property     the name of the system property
+     * @param defaultValue the value used instead
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 71, value = "Invalid value '%s' for system property %s, using %s instead")
+    void invalidSystemPropertyValue(String value, String property, Object defaultValue);
+
 }
@@ -24,8 +24,16 @@ package org.jboss.as.jpa.service;
 
 import static org.jboss.as.jpa.messages.JpaLogger.ROOT_LOGGER;
 
+import java.security.AccessController;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.transaction.TransactionManager;
 import javax.transaction.TransactionSynchronizationRegistry;
@@ -41,6 +49,8 @@ import org.jboss.as.jpa.config.ExtendedPersistenceInheritance;
 import org.jboss.as.jpa.management.DynamicManagementStatisticsResource;
 import org.jboss.as.jpa.management.EntityManagerFactoryLookup;
 import org.jboss.as.jpa.management.ManagementResourceDefinition;
+import org.jboss.as.jpa.management.PersistenceUnitBootstrapMetricsHandler;
+import org.jboss.as.jpa.management.WindowedStatisticsHandler;
 import org.jboss.as.jpa.processor.CacheDeploymentHelper;
 import org.jboss.as.jpa.subsystem.JPAExtension;
 import org.jboss.as.jpa.transaction.TransactionUtil;
@@ -60,8 +70,11 @@ import org.jboss.msc.service.ServiceTarget;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.jboss.threads.JBossThreadFactory;
 import org.jipijapa.management.spi.Statistics;
 import org.jipijapa.plugin.spi.ManagementAdaptor;
+import org.wildfly.security.manager.WildFlySecurityManager;
+import org.wildfly.security.manager.action.GetAccessControlContextAction;
 
 /**
  * represents the global JPA Service
@@ -72,9 +85,17 @@ public class JPAService implements Service<Void> {
 
     public static final ServiceName SERVICE_NAME = JPAServiceNames.getJPAServiceName();
 
+    /**
+     * System property specifying the maximum number of persistence units that may be bootstrapped concurrently,
+     * across all deployments.  Defaults to the number of available processors.
+     */
+    public static final String BOOTSTRAP_THREADS_PROPERTY = "org.jboss.as.jpa.bootstrap-threads";
+
     private static volatile String defaultDataSourceName = null;
     private static volatile ExtendedPersistenceInheritance defaultExtendedPersistenceInheritance = null;
     private static final Set<String> existingResourceDescriptionResolver = new HashSet<>();
+    private static volatile ExecutorService bootstrapExecutor = null;
+    private static volatile ScheduledExecutorService statisticsExecutor = null;
     private final CacheDeploymentHelper cacheDeploymentHelper = new CacheDeploymentHelper();
 
     public static String getDefaultDataSourceName() {
@@ -97,6 +118,24 @@ public class JPAService implements Service<Void> {
         JPAService.defaultExtendedPersistenceInheritance = defaultExtendedPersistenceInheritance;
     }
 
+    /**
+     * Returns the bounded executor on which persistence units build their entity manager factory.
+     *
+     * @return the bootstrap executor, or null if the JPA service is not started
+     */
+    public static Executor getBootstrapExecutor() {
+        return bootstrapExecutor;
+    }
+
+    /**
+     * Returns the executor on which windowed statistics of persistence units are sampled.
+     *
+     * @return the statistics executor, or null if the JPA service is not started
+     */
+    public static ScheduledExecutorService getStatisticsExecutor() {
+        return statisticsExecutor;
+    }
+
     public static ServiceController<?> addService(
             final ServiceTarget target,
             final String defaultDataSourceName,
@@ -187,12 +226,18 @@ public class JPAService implements Service<Void> {
                 ManagementResourceRegistration subdeploymentSubsystemRegistration =
                         deploymentResourceRegistration.getSubModel(PathAddress.pathAddress(PathElement.pathElement(ModelDescriptionConstants.SUBDEPLOYMENT), subsystemPE));
 
-                deploymentSubsystemRegistration.registerSubModel(
+                ManagementResourceRegistration deploymentPersistenceUnitRegistration = deploymentSubsystemRegistration.registerSubModel(
                         new ManagementResourceDefinition(PathElement.pathElement(managementAdaptor.getIdentificationLabel()), resourceDescriptionResolver, statistics, entityManagerFactoryLookup));
 
-                subdeploymentSubsystemRegistration.registerSubModel(
+                ManagementResourceRegistration subdeploymentPersistenceUnitRegistration = subdeploymentSubsystemRegistration.registerSubModel(
                         new ManagementResourceDefinition(PathElement.pathElement(managementAdaptor.getIdentificationLabel()), resourceDescriptionResolver, statistics, entityManagerFactoryLookup));
 
+                WindowedStatisticsHandler windowedStatisticsHandler = new WindowedStatisticsHandler(statistics, entityManagerFactoryLookup, managementAdaptor.getIdentificationLabel());
+                for (ManagementResourceRegistration registration : new ManagementResourceRegistration[] { deploymentPersistenceUnitRegistration, subdeploymentPersistenceUnitRegistration }) {
+                    PersistenceUnitBootstrapMetricsHandler.register(registration);
+                    windowedStatisticsHandler.register(registration);
+                }
+
                 existingResourceDescriptionResolver.add(managementAdaptor.getVersion());
             }
             // create (per deployment) dynamic Resource implementation that can reflect the deployment specific names (e.g. jpa entity classname/Hibernate region name)
@@ -203,10 +248,47 @@ public class JPAService implements Service<Void> {
     @Override
     public void start(StartContext startContext) throws StartException {
         cacheDeploymentHelper.register();
+        int threads = getBootstrapThreads();
+        JBossThreadFactory threadFactory = new JBossThreadFactory(new ThreadGroup("JPA bootstrap"), Boolean.FALSE, null, "%G - %t", null, null, AccessController.doPrivileged(GetAccessControlContextAction.getInstance()));
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        bootstrapExecutor = executor;
+        // the sampling thread is only started once windowed statistics are first read
+        ScheduledThreadPoolExecutor statistics = new ScheduledThreadPoolExecutor(1, new JBossThreadFactory(new ThreadGroup("JPA statistics"), Boolean.TRUE, null, "%G - %t", null, null, AccessController.doPrivileged(GetAccessControlContextAction.getInstance())));
+        statistics.setRemoveOnCancelPolicy(true);
+        statisticsExecutor = statistics;
+    }
+
+    private static int getBootstrapThreads() {
+        int defaultThreads = Runtime.getRuntime().availableProcessors();
+        String value = WildFlySecurityManager.getPropertyPrivileged(BOOTSTRAP_THREADS_PROPERTY, null);
+        if (value == null) {
+            return defaultThreads;
+        }
+        try {
+            int threads = Integer.parseInt(value.trim());
+            if (threads > 0) {
+                return threads;
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the default
+        }
+        ROOT_LOGGER.invalidSystemPropertyValue(value, BOOTSTRAP_THREADS_PROPERTY, defaultThreads);
+        return defaultThreads;
     }
 
     @Override
     public void stop(StopContext stopContext) {
+        ExecutorService executor = bootstrapExecutor;
+        bootstrapExecutor = null;
+        if (executor != null) {
+            executor.shutdown();
+        }
+        ScheduledExecutorService statistics = statisticsExecutor;
+        statisticsExecutor = null;
+        if (statistics != null) {
+            statistics.shutdownNow();
+        }
         cacheDeploymentHelper.unregister();
         synchronized (existingResourceDescriptionResolver) {
             existingResourceDescriptionResolver.clear();
@@ -26,8 +26,10 @@ import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import javax.enterprise.inject.spi.BeanManager;
 import javax.persistence.EntityManagerFactory;
@@ -85,6 +87,9 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
 
     private volatile EntityManagerFactory entityManagerFactory;
     private volatile ProxyBeanManager proxyBeanManager;
+    private volatile long bootstrapTime;
+    private volatile long bootstrapWaitTime;
+    private volatile long startTime;
 
     public PersistenceUnitServiceImpl(
             final ClassLoader classLoader,
@@ -105,14 +110,18 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
 
     @Override
     public void start(final StartContext context) throws StartException {
-        final ExecutorService executor = executorInjector.getValue();
+        // build the entity manager factory on the bounded bootstrap executor, so that independent persistence units start concurrently
+        final Executor executor = getBootstrapExecutor(executorInjector.getValue());
         final AccessControlContext accessControlContext =
                 AccessController.doPrivileged(GetAccessControlContextAction.getInstance());
+        final long submitted = System.nanoTime();
 
         final Runnable task = new Runnable() {
             // run async in a background thread
             @Override
             public void run() {
+                final long started = System.nanoTime();
+                bootstrapWaitTime = TimeUnit.NANOSECONDS.toMillis(started - submitted);
                 PrivilegedAction<Void> privilegedAction =
                         new PrivilegedAction<Void>() {
                             // run as security privileged action
@@ -152,6 +161,8 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
 
                                         // get the EntityManagerFactory from the second phase of the persistence unit bootstrap
                                         entityManagerFactory = emfBuilder.build();
+                                        bootstrapTime = phaseOnePersistenceUnitService.getBootstrapTime() + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                                        bootstrapWaitTime += phaseOnePersistenceUnitService.getBootstrapWaitTime();
                                     } else {
                                         JPA_LOGGER.startingService("Persistence Unit", pu.getScopedPersistenceUnitName());
                                         // start the persistence unit in one pass (1 of 1)
@@ -165,7 +176,9 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
                                             properties.getValue().put(CDI_BEAN_MANAGER, proxyBeanManager);
                                         }
                                         entityManagerFactory = createContainerEntityManagerFactory();
+                                        bootstrapTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
                                     }
+                                    startTime = System.currentTimeMillis();
                                     persistenceUnitRegistry.add(getScopedPersistenceUnitName(), getValue());
                                     context.complete();
                                 } catch (Throwable t) {
@@ -253,6 +266,42 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
         return executorInjector;
     }
 
+    /**
+     * Returns the executor on which persistence units are bootstrapped, falling back to the specified executor
+     * if the JPA service is not started.
+     */
+    static Executor getBootstrapExecutor(ExecutorService defaultExecutor) {
+        Executor executor = JPAService.getBootstrapExecutor();
+        return (executor != null) ? executor : defaultExecutor;
+    }
+
+    /**
+     * Get the time taken to build the entity manager factory
+     *
+     * @return the bootstrap time in milliseconds
+     */
+    public long getBootstrapTime() {
+        return bootstrapTime;
+    }
+
+    /**
+     * Get the time spent waiting for a bootstrap thread, including the first phase of a two phase bootstrap
+     *
+     * @return the bootstrap wait time in milliseconds
+     */
+    public long getBootstrapWaitTime() {
+        return bootstrapWaitTime;
+    }
+
+    /**
+     * Get the time at which the entity manager factory was created
+     *
+     * @return the start time in milliseconds since the epoch
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
     @Override
     public PersistenceUnitServiceImpl getValue() throws IllegalStateException, IllegalArgumentException {
         return this;
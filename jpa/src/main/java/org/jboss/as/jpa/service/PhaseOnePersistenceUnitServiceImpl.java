@@ -29,8 +29,10 @@ import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
@@ -74,6 +76,8 @@ public class PhaseOnePersistenceUnitServiceImpl implements Service<PhaseOnePersi
     private volatile EntityManagerFactoryBuilder entityManagerFactoryBuilder;
 
     private volatile boolean secondPhaseStarted = false;
+    private volatile long bootstrapTime;
+    private volatile long bootstrapWaitTime;
 
     public PhaseOnePersistenceUnitServiceImpl(
             final ClassLoader classLoader,
@@ -90,15 +94,16 @@ public class PhaseOnePersistenceUnitServiceImpl implements Service<PhaseOnePersi
 
     @Override
     public void start(final StartContext context) throws StartException {
-        final ExecutorService executor = executorInjector.getValue();
+        final Executor executor = PersistenceUnitServiceImpl.getBootstrapExecutor(executorInjector.getValue());
         final AccessControlContext accessControlContext =
                 AccessController.doPrivileged(GetAccessControlContextAction.getInstance());
+        final long submitted = System.nanoTime();
 
         final Runnable task = new Runnable() {
             // run async in a background thread
             @Override
             public void run() {
-
+                bootstrapWaitTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submitted);
                 PrivilegedAction<Void> privilegedAction =
                         new PrivilegedAction<Void>() {
                             // run as security privileged action
@@ -114,8 +119,10 @@ public class PhaseOnePersistenceUnitServiceImpl implements Service<PhaseOnePersi
                                         properties.getValue().put(CDI_BEAN_MANAGER, proxyBeanManager);
                                     }
 
+                                    long started = System.nanoTime();
                                     WritableServiceBasedNamingStore.pushOwner(deploymentUnitServiceName);
                                     entityManagerFactoryBuilder = createContainerEntityManagerFactoryBuilder();
+                                    bootstrapTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
                                     context.complete();
                                 } catch (Throwable t) {
                                     context.failed(new StartException(t));
@@ -196,6 +203,24 @@ public class PhaseOnePersistenceUnitServiceImpl implements Service<PhaseOnePersi
         return executorInjector;
     }
 
+    /**
+     * Get the time taken by the first phase of bootstrapping the persistence unit
+     *
+     * @return the first phase bootstrap time in milliseconds
+     */
+    public long getBootstrapTime() {
+        return bootstrapTime;
+    }
+
+    /**
+     * Get the time the first phase of bootstrapping the persistence unit spent waiting for a bootstrap thread
+     *
+     * @return the first phase bootstrap wait time in milliseconds
+     */
+    public long getBootstrapWaitTime() {
+        return bootstrapWaitTime;
+    }
+
     @Override
     public PhaseOnePersistenceUnitServiceImpl getValue() throws IllegalStateException, IllegalArgumentException {
         return this;
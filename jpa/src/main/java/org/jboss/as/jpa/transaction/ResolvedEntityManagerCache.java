@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.jpa.transaction;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Synchronization;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+/**
+ * Transaction scoped entity managers last resolved by each thread.
+ * Avoids a TransactionSynchronizationRegistry lookup for repeated entity manager calls within the same transaction.
+ * <p>
+ * Each thread holds the entity managers of a single transaction.  The entries are released when that transaction
+ * completes, whichever thread completes it (e.g. the transaction reaper), so that a pooled thread does not retain
+ * a closed entity manager and its transaction until it runs another transaction.
+ */
+class ResolvedEntityManagerCache {
+
+    private final ThreadLocal<AtomicReference<Resolution>> slots = new ThreadLocal<AtomicReference<Resolution>>() {
+        @Override
+        protected AtomicReference<Resolution> initialValue() {
+            return new AtomicReference<Resolution>();
+        }
+    };
+
+    /**
+     * Returns the entity manager the current thread resolved for the specified transaction and persistence unit.
+     *
+     * @param tx the active transaction
+     * @param scopedPuName
+     * @return the entity manager, or null if the current thread did not resolve it yet
+     */
+    EntityManager get(Transaction tx, String scopedPuName) {
+        Resolution resolution = slots.get().get();
+        return (resolution != null) && (resolution.transaction == tx) ? resolution.entityManagers.get(scopedPuName) : null;
+    }
+
+    /**
+     * Records the entity manager resolved by the current thread for the specified transaction and persistence unit.
+     * The first entity manager recorded by a thread for a transaction registers a synchronization with that
+     * transaction, to release the entries of the thread on completion.  If that is no longer possible, nothing is recorded.
+     *
+     * @param registry the registry of the transaction
+     * @param tx the active transaction
+     * @param scopedPuName
+     * @param entityManager
+     */
+    void put(TransactionSynchronizationRegistry registry, Transaction tx, String scopedPuName, EntityManager entityManager) {
+        AtomicReference<Resolution> slot = slots.get();
+        Resolution resolution = slot.get();
+        if ((resolution == null) || (resolution.transaction != tx)) {
+            resolution = new Resolution(slot, tx);
+            try {
+                registry.registerInterposedSynchronization(resolution);
+            } catch (IllegalStateException e) {
+                // transaction is already completing, the registry remains the only reference
+                slot.set(null);
+                return;
+            }
+            slot.set(resolution);
+        }
+        resolution.entityManagers.put(scopedPuName, entityManager);
+    }
+
+    /**
+     * Entity managers resolved by a thread for a single transaction.
+     * Keyed by identity, since the scoped persistence unit name of a given entity manager proxy is always the same instance.
+     * The entity managers are only accessed by the resolving thread; completion only releases the slot.
+     */
+    private static class Resolution implements Synchronization {
+        private final AtomicReference<Resolution> slot;
+        final Transaction transaction;
+        final Map<String, EntityManager> entityManagers = new IdentityHashMap<String, EntityManager>();
+
+        Resolution(AtomicReference<Resolution> slot, Transaction transaction) {
+            this.slot = slot;
+            this.transaction = transaction;
+        }
+
+        @Override
+        public void beforeCompletion() {
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            // may be called by a thread other than the resolving thread, leave a newer resolution in place
+            slot.compareAndSet(this, null);
+        }
+    }
+}
@@ -46,6 +46,11 @@ public class TransactionUtil {
     private static volatile TransactionSynchronizationRegistry transactionSynchronizationRegistry;
     private static volatile TransactionManager transactionManager;
 
+    /**
+     * Transaction scoped entity managers last resolved by each thread.
+     */
+    private static final ResolvedEntityManagerCache resolvedEntityManagers = new ResolvedEntityManagerCache();
+
     public static void setTransactionManager(TransactionManager tm) {
         if (transactionManager == null) {
             transactionManager = tm;
@@ -63,10 +68,19 @@ public class TransactionUtil {
     }
 
     public static boolean isInTx() {
+        return getActiveTransaction() != null;
+    }
+
+    /**
+     * Get the transaction associated with the current thread, if it is active.
+     *
+     * @return the active transaction, or null if there is none
+     */
+    public static Transaction getActiveTransaction() {
         Transaction tx = getTransaction();
         if (tx == null || !TxUtils.isActive(tx))
-            return false;
-        return true;
+            return null;
+        return tx;
     }
 
     /**
@@ -79,6 +93,25 @@ public class TransactionUtil {
         return getEntityManagerInTransactionRegistry(puScopedName);
     }
 
+    /**
+     * Get current persistence context, first consulting the entity managers already resolved by the current thread
+     * for the specified transaction.  Only call while the specified transaction is active in the current thread.
+     *
+     * @param tx the active transaction
+     * @param puScopedName
+     * @return
+     */
+    public static EntityManager getTransactionScopedEntityManager(Transaction tx, String puScopedName) {
+        EntityManager entityManager = resolvedEntityManagers.get(tx, puScopedName);
+        if (entityManager == null) {
+            entityManager = getEntityManagerInTransactionRegistry(puScopedName);
+            if (entityManager != null) {
+                resolvedEntityManagers.put(getTransactionSynchronizationRegistry(), tx, puScopedName, entityManager);
+            }
+        }
+        return entityManager;
+    }
+
     public static void registerSynchronization(EntityManager entityManager, String puScopedName) {
         getTransactionSynchronizationRegistry().registerInterposedSynchronization(new SessionSynchronization(entityManager, puScopedName));
     }
@@ -125,6 +158,7 @@ public class TransactionUtil {
      */
     public static void putEntityManagerInTransactionRegistry(String scopedPuName, EntityManager entityManager) {
         getTransactionSynchronizationRegistry().putResource(scopedPuName, entityManager);
+        resolvedEntityManagers.put(getTransactionSynchronizationRegistry(), getTransaction(), scopedPuName, entityManager);
     }
 
     private static class SessionSynchronization implements Synchronization {
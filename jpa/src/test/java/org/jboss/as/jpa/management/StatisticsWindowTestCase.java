@@ -0,0 +1,97 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.jpa.management;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StatisticsWindow}.
+ */
+public class StatisticsWindowTestCase {
+
+    private static final Map<String, long[]> NO_QUERIES = Collections.emptyMap();
+
+    @Test
+    public void testRateSinceStart() {
+        StatisticsWindow window = new StatisticsWindow(60000, 60, 0, 1);
+        StatisticsWindow.Delta delta = window.sample(10000, new long[] { 50 }, NO_QUERIES);
+        assertEquals(10000, delta.getElapsed());
+        assertEquals(50, delta.getCounter(0));
+        assertEquals(5d, delta.getRate(0), 0d);
+    }
+
+    @Test
+    public void testWindowSlides() {
+        StatisticsWindow window = new StatisticsWindow(60000, 60, 0, 1);
+        for (int i = 1; i <= 20; ++i) {
+            window.sample(i * 10000, new long[] { i * 100 }, NO_QUERIES);
+        }
+        // baseline is the newest sample at or before the start of the window, i.e. t=150s
+        StatisticsWindow.Delta delta = window.sample(210000, new long[] { 2100 }, NO_QUERIES);
+        assertEquals(60000, delta.getElapsed());
+        assertEquals(600, delta.getCounter(0));
+        assertEquals(10d, delta.getRate(0), 0d);
+    }
+
+    @Test
+    public void testFrequentSamplesAreCoalesced() {
+        StatisticsWindow window = new StatisticsWindow(60000, 60, 0, 1);
+        for (int i = 1; i <= 10000; ++i) {
+            window.sample(i, new long[] { i }, NO_QUERIES);
+        }
+        StatisticsWindow.Delta delta = window.sample(10001, new long[] { 10001 }, NO_QUERIES);
+        assertEquals(10001, delta.getElapsed());
+        assertEquals(10001, delta.getCounter(0));
+    }
+
+    @Test
+    public void testWindowSlidesWhenSampledMoreOftenThanGranularity() {
+        StatisticsWindow window = new StatisticsWindow(60000, 60, 0, 1);
+        StatisticsWindow.Delta delta = null;
+        // 10 samples per retained interval, for more than 3 windows
+        for (int i = 1; i <= 2000; ++i) {
+            delta = window.sample(i * 100, new long[] { i }, NO_QUERIES);
+        }
+        // baseline is the latest sample of the interval before the start of the window, i.e. t=139.9s
+        assertEquals(60100, delta.getElapsed());
+        assertEquals(601, delta.getCounter(0));
+        assertEquals(10d, delta.getRate(0), 0d);
+    }
+
+    @Test
+    public void testKeyedCounters() {
+        StatisticsWindow window = new StatisticsWindow(60000, 60, 0, 0);
+        window.sample(30000, new long[0], Collections.singletonMap("q1", new long[] { 10, 100 }));
+        StatisticsWindow.Delta delta = window.sample(120000, new long[0], Collections.singletonMap("q1", new long[] { 15, 400 }));
+        assertEquals(90000, delta.getElapsed());
+        long[] q1 = delta.getKeyedCounters().get("q1");
+        assertEquals(5, q1[0]);
+        assertEquals(300, q1[1]);
+        assertFalse(delta.getKeyedCounters().containsKey("q2"));
+    }
+}
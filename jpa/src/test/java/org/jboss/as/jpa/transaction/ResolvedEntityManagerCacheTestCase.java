@@ -0,0 +1,132 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.jpa.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ResolvedEntityManagerCache}.
+ */
+public class ResolvedEntityManagerCacheTestCase {
+
+    private static final String SCOPED_PU_NAME = "test.ear/test.jar#test";
+
+    private final ResolvedEntityManagerCache cache = new ResolvedEntityManagerCache();
+    private final List<Synchronization> synchronizations = new ArrayList<Synchronization>();
+
+    @Test
+    public void testResolvedPerTransaction() {
+        Transaction tx1 = proxy(Transaction.class);
+        Transaction tx2 = proxy(Transaction.class);
+        EntityManager entityManager = proxy(EntityManager.class);
+        TransactionSynchronizationRegistry registry = registry(false);
+
+        assertNull(cache.get(tx1, SCOPED_PU_NAME));
+        cache.put(registry, tx1, SCOPED_PU_NAME, entityManager);
+        assertSame(entityManager, cache.get(tx1, SCOPED_PU_NAME));
+        assertNull(cache.get(tx1, new String(SCOPED_PU_NAME)));
+        assertNull(cache.get(tx2, SCOPED_PU_NAME));
+
+        // a single synchronization per thread and transaction
+        cache.put(registry, tx1, "other", proxy(EntityManager.class));
+        assertEquals(1, synchronizations.size());
+
+        cache.put(registry, tx2, SCOPED_PU_NAME, proxy(EntityManager.class));
+        assertNull(cache.get(tx1, SCOPED_PU_NAME));
+        assertEquals(2, synchronizations.size());
+
+        // completion of a transaction no longer resolved by the thread leaves the current one in place
+        synchronizations.get(0).afterCompletion(Status.STATUS_COMMITTED);
+        assertNull(cache.get(tx1, SCOPED_PU_NAME));
+        assertNotNull(cache.get(tx2, SCOPED_PU_NAME));
+    }
+
+    @Test
+    public void testReleasedByCompletionOnOtherThread() throws InterruptedException {
+        Transaction tx = proxy(Transaction.class);
+        cache.put(registry(false), tx, SCOPED_PU_NAME, proxy(EntityManager.class));
+
+        // e.g. rollback by the transaction reaper
+        Thread reaper = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                synchronizations.get(0).afterCompletion(Status.STATUS_ROLLEDBACK);
+            }
+        });
+        reaper.start();
+        reaper.join();
+
+        assertNull(cache.get(tx, SCOPED_PU_NAME));
+    }
+
+    @Test
+    public void testNotResolvedWhenCompleting() {
+        Transaction tx = proxy(Transaction.class);
+        cache.put(registry(true), tx, SCOPED_PU_NAME, proxy(EntityManager.class));
+        assertNull(cache.get(tx, SCOPED_PU_NAME));
+    }
+
+    private TransactionSynchronizationRegistry registry(final boolean completing) {
+        return proxy(TransactionSynchronizationRegistry.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if ("registerInterposedSynchronization".equals(method.getName())) {
+                    if (completing) {
+                        throw new IllegalStateException();
+                    }
+                    synchronizations.add((Synchronization) args[0]);
+                }
+                return null;
+            }
+        });
+    }
+
+    private static <T> T proxy(Class<T> type) {
+        return proxy(type, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return null;
+            }
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+}
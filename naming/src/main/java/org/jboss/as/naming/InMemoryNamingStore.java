@@ -32,11 +32,10 @@ import static org.jboss.as.naming.util.NamingUtils.nameNotFoundException;
 import static org.jboss.as.naming.util.NamingUtils.notAContextException;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Hashtable;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import javax.naming.Binding;
@@ -58,6 +57,10 @@ import org.jboss.as.naming.logging.NamingLogger;
  * In-memory implementation of the NamingStore.  The backing for the entries is a basic tree structure with either context
  * nodes or binding nodes.  The context nodes are allowed to have children and can be represented by a NamingContext.  A
  * binding node is only allowed to have a normal object binding.
+ * <p>
+ * The children of a context node are held in a concurrent hash map, so binds and unbinds are constant time regardless of
+ * the size of the context and lookups and listings do not take any lock. Writes are serialized by the store's write
+ * lock.
  *
  * @author John E. Bailey
  */
@@ -223,7 +226,12 @@ public class InMemoryNamingStore implements WritableNamingStore {
         if (isLastComponentEmpty(name)) {
             throw emptyNameException();
         }
-        return root.accept(new CreateSubContextVisitor(name));
+        writeLock.lock();
+        try {
+            return root.accept(new CreateSubContextVisitor(name));
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     /**
@@ -296,10 +304,9 @@ public class InMemoryNamingStore implements WritableNamingStore {
         protected abstract <T> T accept(NodeVisitor<T> visitor) throws NamingException;
     }
 
-    private static final AtomicMapFieldUpdater<ContextNode, String, TreeNode> childrenUpdater = AtomicMapFieldUpdater.newMapUpdater(AtomicReferenceFieldUpdater.newUpdater(ContextNode.class, Map.class, "children"));
-
     private class ContextNode extends TreeNode {
-        volatile Map<String, TreeNode> children = Collections.emptyMap();
+        // writes are serialized by writeLock, so a single segment is enough
+        final ConcurrentMap<String, TreeNode> children = new ConcurrentHashMap<String, TreeNode>(4, 0.75f, 1);
         protected final String name;
         protected final ContextNode parentNode;
 
@@ -310,28 +317,28 @@ public class InMemoryNamingStore implements WritableNamingStore {
         }
 
         private void addChild(final String childName, final TreeNode childNode) throws NamingException {
-            if (childrenUpdater.putIfAbsent(this, childName, childNode) != null) {
+            if (children.putIfAbsent(childName, childNode) != null) {
                 throw nameAlreadyBoundException(fullName.add(childName));
             }
         }
 
         private TreeNode replaceChild(final String childName, final TreeNode childNode) throws NamingException {
-            return childrenUpdater.put(this, childName, childNode);
+            return children.put(childName, childNode);
         }
 
         private TreeNode removeChild(final String childName) throws NameNotFoundException {
-            TreeNode old = childrenUpdater.remove(this, childName);
+            TreeNode old = children.remove(childName);
             if (old == null) {
                 throw nameNotFoundException(childName, fullName);
             }
             if(parentNode != null && children.isEmpty()) {
-                childrenUpdater.remove(parentNode, name);
+                parentNode.children.remove(name);
             }
             return old;
         }
 
         private void clear() {
-            childrenUpdater.clear(this);
+            children.clear();
         }
 
         protected final <T> T accept(NodeVisitor<T> visitor) throws NamingException {
@@ -339,7 +346,7 @@ public class InMemoryNamingStore implements WritableNamingStore {
         }
 
         public TreeNode addOrGetChild(final String childName, final TreeNode childNode) {
-            TreeNode appearing = childrenUpdater.putIfAbsent(this, childName, childNode);
+            TreeNode appearing = children.putIfAbsent(childName, childNode);
             return appearing == null ? childNode : appearing;
         }
     }
@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.NavigableSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.naming.Binding;
 import javax.naming.CannotProceedException;
@@ -47,6 +48,7 @@ import javax.naming.spi.ResolveResult;
 
 import org.jboss.as.naming.deployment.ContextNames;
 import org.jboss.as.naming.logging.NamingLogger;
+import org.jboss.as.naming.util.BoundedCache;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceRegistry;
@@ -58,12 +60,23 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  * @author Eduardo Martins
  */
 public class ServiceBasedNamingStore implements NamingStore {
+    /** Maximum number of names whose binding is cached per store. */
+    static final int LOOKUP_CACHE_SIZE = 512;
+
     private final Name EMPTY_NAME = new CompositeName();
     private Name baseName;
     private final ServiceRegistry serviceRegistry;
     private final ServiceName serviceNameBase;
 
     private ConcurrentSkipListSet<ServiceName> boundServices = new ConcurrentSkipListSet<ServiceName>();
+    /*
+     * Binder values of names bound directly to a service, so that repeated lookups skip building the service name and
+     * searching the bound services. Replaced, rather than cleared, whenever the bound services change, so a lookup
+     * racing with a bind or unbind can only populate the discarded cache.
+     */
+    private volatile BoundedCache<Name, Object> lookupCache = new BoundedCache<Name, Object>(LOOKUP_CACHE_SIZE);
+    private final AtomicLong lookupCacheHits = new AtomicLong();
+    private final AtomicLong lookupCacheMisses = new AtomicLong();
 
     public ServiceBasedNamingStore(final ServiceRegistry serviceRegistry, final ServiceName serviceNameBase) {
         this.serviceRegistry = serviceRegistry;
@@ -79,8 +92,23 @@ public class ServiceBasedNamingStore implements NamingStore {
         if (name.isEmpty()) {
             return new NamingContext(EMPTY_NAME, this, null);
         }
+        final BoundedCache<Name, Object> lookupCache = this.lookupCache;
+        final Object cached = lookupCache.get(name);
+        if (cached != null) {
+            lookupCacheHits.incrementAndGet();
+            return dereference(name.toString(), cached, dereference);
+        }
+        lookupCacheMisses.incrementAndGet();
         final ServiceName lookupName = buildServiceName(name);
-        Object obj = lookup(name.toString(), lookupName, dereference);
+        final Object binding = getBinding(name.toString(), lookupName);
+        Object obj = null;
+        if (binding != null) {
+            // only bindings added through add(ServiceName) are cached, as remove(ServiceName) invalidates them
+            if (boundServices.contains(lookupName)) {
+                lookupCache.put((Name) name.clone(), binding);
+            }
+            obj = dereference(name.toString(), binding, dereference);
+        }
         if (obj == null) {
             final ServiceName lower = boundServices.lower(lookupName);
             if (lower != null && lower.isParentOf(lookupName)) {
@@ -125,39 +153,52 @@ public class ServiceBasedNamingStore implements NamingStore {
     }
 
     private Object lookup(final String name, final ServiceName lookupName, boolean dereference) throws NamingException {
+        final Object binding = getBinding(name, lookupName);
+        return binding != null ? dereference(name, binding, dereference) : null;
+    }
+
+    private Object getBinding(final String name, final ServiceName lookupName) throws NamingException {
         try {
             final ServiceController<?> controller = serviceRegistry.getService(lookupName);
-            if (controller != null) {
-                final Object object = controller.getValue();
-                if (dereference && object instanceof ManagedReferenceFactory) {
-                    if(WildFlySecurityManager.isChecking()) {
-                        //WFLY-3487 JNDI lookups should be executed in a clean access control context
-                        return AccessController.doPrivileged(new PrivilegedAction<Object>() {
-                            @Override
-                            public Object run() {
-                                final ManagedReference managedReference = ManagedReferenceFactory.class.cast(object).getReference();
-                                return managedReference != null ? managedReference.getInstance() : null;
-                            }
-                        });
-                    } else {
-                        final ManagedReference managedReference = ManagedReferenceFactory.class.cast(object).getReference();
-                        return managedReference != null ? managedReference.getInstance() : null;
-                    }
+            return controller != null ? controller.getValue() : null;
+        } catch (Throwable t) {
+            throw lookupException(name, t);
+        }
+    }
+
+    private Object dereference(final String name, final Object object, boolean dereference) throws NamingException {
+        try {
+            if (dereference && object instanceof ManagedReferenceFactory) {
+                if(WildFlySecurityManager.isChecking()) {
+                    //WFLY-3487 JNDI lookups should be executed in a clean access control context
+                    return AccessController.doPrivileged(new PrivilegedAction<Object>() {
+                        @Override
+                        public Object run() {
+                            final ManagedReference managedReference = ManagedReferenceFactory.class.cast(object).getReference();
+                            return managedReference != null ? managedReference.getInstance() : null;
+                        }
+                    });
                 } else {
-                    return object;
+                    final ManagedReference managedReference = ManagedReferenceFactory.class.cast(object).getReference();
+                    return managedReference != null ? managedReference.getInstance() : null;
                 }
             } else {
-                return null;
+                return object;
             }
-        } catch (IllegalStateException e) {
-            NameNotFoundException n = new NameNotFoundException(name);
-            n.initCause(e);
-            throw n;
         } catch (Throwable t) {
-            NamingException n = NamingLogger.ROOT_LOGGER.lookupError(name);
+            throw lookupException(name, t);
+        }
+    }
+
+    private static NamingException lookupException(final String name, final Throwable t) {
+        if (t instanceof IllegalStateException) {
+            NameNotFoundException n = new NameNotFoundException(name);
             n.initCause(t);
-            throw n;
+            return n;
         }
+        NamingException n = NamingLogger.ROOT_LOGGER.lookupError(name);
+        n.initCause(t);
+        return n;
     }
 
     public List<NameClassPair> list(final Name name) throws NamingException {
@@ -257,6 +298,7 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     public void close() throws NamingException {
         boundServices.clear();
+        lookupCache = new BoundedCache<Name, Object>(LOOKUP_CACHE_SIZE);
     }
 
     public void addNamingListener(Name target, int scope, NamingListener listener) {
@@ -271,10 +313,26 @@ public class ServiceBasedNamingStore implements NamingStore {
             throw NamingLogger.ROOT_LOGGER.serviceAlreadyBound(serviceName);
         }
         boundServices.add(serviceName);
+        lookupCache = new BoundedCache<Name, Object>(LOOKUP_CACHE_SIZE);
     }
 
     public void remove(final ServiceName serviceName) {
         boundServices.remove(serviceName);
+        lookupCache = new BoundedCache<Name, Object>(LOOKUP_CACHE_SIZE);
+    }
+
+    /**
+     * Returns the number of lookups of this store answered from the lookup cache.
+     */
+    public long getLookupCacheHits() {
+        return lookupCacheHits.get();
+    }
+
+    /**
+     * Returns the number of lookups of this store that had to resolve the binding's service.
+     */
+    public long getLookupCacheMisses() {
+        return lookupCacheMisses.get();
     }
 
     protected ServiceName buildServiceName(final Name name) {
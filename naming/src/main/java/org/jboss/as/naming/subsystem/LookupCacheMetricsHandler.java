@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.naming.subsystem;
+
+import javax.naming.NamingException;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.naming.ServiceBasedNamingStore;
+import org.jboss.as.naming.deployment.ContextNames;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceRegistry;
+
+/**
+ * Reads the lookup cache counters of the service based naming stores, per namespace. The counters of the stores of
+ * deployments, such as the java:comp store of each component, are summed into the figure of their namespace.
+ */
+public class LookupCacheMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+    static final LookupCacheMetricsHandler INSTANCE = new LookupCacheMetricsHandler();
+
+    private LookupCacheMetricsHandler() {
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+        final boolean hits = NamingSubsystemRootResourceDefinition.LOOKUP_CACHE_HITS.getName().equals(attributeName);
+        final ModelNode result = new ModelNode().setEmptyObject();
+        final ServiceRegistry serviceRegistry = context.getServiceRegistry(false);
+        for (ServiceName serviceName : serviceRegistry.getServiceNames()) {
+            if (!ContextNames.JAVA_CONTEXT_SERVICE_NAME.equals(serviceName) && !ContextNames.JAVA_CONTEXT_SERVICE_NAME.isParentOf(serviceName)) {
+                continue;
+            }
+            final ServiceController<?> controller = serviceRegistry.getService(serviceName);
+            if (controller == null || controller.getState() != ServiceController.State.UP) {
+                continue;
+            }
+            final Object value = controller.getValue();
+            if (value instanceof ServiceBasedNamingStore) {
+                final ServiceBasedNamingStore store = (ServiceBasedNamingStore) value;
+                final String namespace;
+                try {
+                    namespace = store.getBaseName().toString();
+                } catch (NamingException e) {
+                    continue;
+                }
+                final ModelNode total = result.get(namespace);
+                final long count = hits ? store.getLookupCacheHits() : store.getLookupCacheMisses();
+                total.set(total.isDefined() ? total.asLong() + count : count);
+            }
+        }
+        context.getResult().set(result);
+        context.stepCompleted();
+    }
+}
@@ -107,6 +107,8 @@ public class NamingExtension implements Extension {
 
         if (context.isRuntimeOnlyRegistrationValid()) {
             registration.registerOperationHandler(NamingSubsystemRootResourceDefinition.JNDI_VIEW, JndiViewOperation.INSTANCE, false);
+            registration.registerMetric(NamingSubsystemRootResourceDefinition.LOOKUP_CACHE_HITS, LookupCacheMetricsHandler.INSTANCE);
+            registration.registerMetric(NamingSubsystemRootResourceDefinition.LOOKUP_CACHE_MISSES, LookupCacheMetricsHandler.INSTANCE);
         }
 
         subsystem.registerXMLElementWriter(NamingSubsystemXMLPersister.INSTANCE);
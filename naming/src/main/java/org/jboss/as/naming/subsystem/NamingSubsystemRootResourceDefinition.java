@@ -23,12 +23,15 @@
 package org.jboss.as.naming.subsystem;
 
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.naming.management.JndiViewOperation;
+import org.jboss.dmr.ModelType;
 
 /**
  * {@link org.jboss.as.controller.ResourceDefinition} for the Naming subsystem's root management resource.
@@ -44,6 +47,14 @@ public class NamingSubsystemRootResourceDefinition extends SimpleResourceDefinit
             .withFlag(OperationEntry.Flag.RUNTIME_ONLY)
             .build();
 
+    static final SimpleAttributeDefinition LOOKUP_CACHE_HITS = new SimpleAttributeDefinitionBuilder("lookup-cache-hits", ModelType.OBJECT)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition LOOKUP_CACHE_MISSES = new SimpleAttributeDefinitionBuilder("lookup-cache-misses", ModelType.OBJECT)
+            .setStorageRuntime()
+            .build();
+
     private NamingSubsystemRootResourceDefinition() {
         super(PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, NamingExtension.SUBSYSTEM_NAME),
                 NamingExtension.getResourceDescriptionResolver(NamingExtension.SUBSYSTEM_NAME),
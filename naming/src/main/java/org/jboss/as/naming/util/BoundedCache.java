@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.naming.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A concurrent cache holding about {@code maxSize} entries. Reads do not lock. When the cache is full, a put evicts
+ * an entry that has not been read since the eviction sweep last passed it (second chance), so frequently read entries
+ * stay cached while entries that are no longer used make room for new ones.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class BoundedCache<K, V> {
+
+    private final ConcurrentMap<K, Node<V>> entries = new ConcurrentHashMap<K, Node<V>>();
+    private final int maxSize;
+    private Iterator<Map.Entry<K, Node<V>>> sweep;
+
+    public BoundedCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached value of the key, or {@code null} if the key is not cached.
+     */
+    public V get(final K key) {
+        final Node<V> node = entries.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (!node.referenced) {
+            node.referenced = true;
+        }
+        return node.value;
+    }
+
+    /**
+     * Caches the value of the key, evicting another entry if the cache is full.
+     */
+    public void put(final K key, final V value) {
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            evict();
+        }
+        entries.put(key, new Node<V>(value));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private synchronized void evict() {
+        // two passes clear every reference mark, so the sweep always finds an entry to evict
+        for (int i = 0; i < 2 * maxSize && entries.size() >= maxSize; i++) {
+            if (sweep == null || !sweep.hasNext()) {
+                sweep = entries.entrySet().iterator();
+                if (!sweep.hasNext()) {
+                    return;
+                }
+            }
+            final Map.Entry<K, Node<V>> candidate = sweep.next();
+            final Node<V> node = candidate.getValue();
+            if (node.referenced) {
+                node.referenced = false;
+            } else {
+                entries.remove(candidate.getKey(), node);
+            }
+        }
+    }
+
+    private static final class Node<V> {
+        final V value;
+        volatile boolean referenced;
+
+        Node(final V value) {
+            this.value = value;
+        }
+    }
+}
@@ -35,17 +35,29 @@ public class NameParser implements javax.naming.NameParser {
 
     public static final NameParser INSTANCE = new NameParser();
 
+    /** Maximum number of parsed names kept for reuse. */
+    static final int CACHE_SIZE = 1024;
+
+    private final BoundedCache<String, Name> parsed = new BoundedCache<String, Name>(CACHE_SIZE);
+
     private NameParser() {
     }
 
     /**
-     * Parse the string name into a {@code javax.naming.Name} instance.
+     * Parse the string name into a {@code javax.naming.Name} instance. Frequently looked up names are parsed once and
+     * a copy of the parsed name is returned on later calls.
      *
      * @param name The name to parse
      * @return The parsed name.
      * @throws NamingException
      */
     public Name parse(String name) throws NamingException {
-        return new CompositeName(name);
+        final Name cached = parsed.get(name);
+        if (cached != null) {
+            return (Name) cached.clone();
+        }
+        final Name result = new CompositeName(name);
+        parsed.put(name, (Name) result.clone());
+        return result;
     }
 }
@@ -39,8 +39,11 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -265,4 +268,61 @@ public class InMemoryNamingStoreTestCase {
             fail("Should have throw name not found exception");
         } catch (NameNotFoundException expected){}
     }
+
+    @Test
+    public void testLargeContext() throws Exception {
+        final int size = 5000;
+        for (int i = 0; i < size; i++) {
+            nameStore.bind(new CompositeName("large/entry" + i), Integer.valueOf(i), Integer.class);
+        }
+        for (int i = 0; i < size; i++) {
+            assertEquals(Integer.valueOf(i), nameStore.lookup(new CompositeName("large/entry" + i)));
+        }
+
+        final Set<String> names = new HashSet<String>();
+        for (NameClassPair pair : nameStore.list(new CompositeName("large"))) {
+            names.add(pair.getName());
+        }
+        assertEquals(size, names.size());
+        assertTrue(names.contains("entry0"));
+        assertTrue(names.contains("entry" + (size - 1)));
+
+        for (int i = 0; i < size; i++) {
+            nameStore.unbind(new CompositeName("large/entry" + i));
+        }
+        try {
+            nameStore.lookup(new CompositeName("large"));
+            fail("Should have throw name not found exception");
+        } catch (NameNotFoundException expected){}
+    }
+
+    @Test
+    public void testListWhileBinding() throws Exception {
+        final int size = 2000;
+        final CountDownLatch done = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        nameStore.bind(new CompositeName("concurrent/entry0"), Integer.valueOf(0), Integer.class);
+        final Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    for (int i = 1; i < size; i++) {
+                        nameStore.bind(new CompositeName("concurrent/entry" + i), Integer.valueOf(i), Integer.class);
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                } finally {
+                    done.countDown();
+                }
+            }
+        });
+        writer.start();
+        // listings taken while the context grows never fail and never lose the entries bound before them
+        while (done.getCount() > 0) {
+            assertTrue(nameStore.list(new CompositeName("concurrent")).size() >= 1);
+        }
+        writer.join();
+        assertNull(failure.get());
+        assertEquals(size, nameStore.list(new CompositeName("concurrent")).size());
+    }
 }
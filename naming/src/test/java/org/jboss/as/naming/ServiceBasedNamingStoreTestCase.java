@@ -98,6 +98,31 @@ public class ServiceBasedNamingStoreTestCase {
         assertEquals(value, obj);
     }
 
+    @Test
+    public void testLookupCache() throws Exception {
+        final ServiceName bindingName = ServiceName.JBOSS.append("foo", "cached");
+        final Object value = new Object();
+        bindObject(bindingName, value);
+
+        assertEquals(value, store.lookup(new CompositeName("foo/cached")));
+        assertEquals(value, store.lookup(new CompositeName("foo/cached")));
+        assertEquals(1, store.getLookupCacheMisses());
+        assertEquals(1, store.getLookupCacheHits());
+
+        // the counters belong to the store
+        final ServiceBasedNamingStore other = new ServiceBasedNamingStore(container, ServiceName.JBOSS);
+        assertEquals(0, other.getLookupCacheMisses());
+        assertEquals(0, other.getLookupCacheHits());
+
+        // unbinding invalidates the cache
+        store.remove(bindingName);
+        assertEquals(value, store.lookup(new CompositeName("foo/cached")));
+        assertEquals(2, store.getLookupCacheMisses());
+        assertEquals(value, store.lookup(new CompositeName("foo/cached")));
+        assertEquals(3, store.getLookupCacheMisses());
+        assertEquals(1, store.getLookupCacheHits());
+    }
+
     @Test
     public void testLookupParentContext() throws Exception {
         final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.naming.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class BoundedCacheTestCase {
+
+    @Test
+    public void testEvictsWhenFull() {
+        final BoundedCache<Integer, String> cache = new BoundedCache<Integer, String>(4);
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, String.valueOf(i));
+        }
+        assertTrue(cache.size() <= 4);
+        assertEquals("99", cache.get(99));
+    }
+
+    @Test
+    public void testKeepsReadEntries() {
+        final BoundedCache<Integer, String> cache = new BoundedCache<Integer, String>(4);
+        for (int i = 0; i < 4; i++) {
+            cache.put(i, String.valueOf(i));
+        }
+        for (int i = 4; i < 100; i++) {
+            assertEquals("0", cache.get(0));
+            cache.put(i, String.valueOf(i));
+        }
+        assertEquals("0", cache.get(0));
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    public void testReplacesValue() {
+        final BoundedCache<Integer, String> cache = new BoundedCache<Integer, String>(1);
+        assertNull(cache.get(1));
+        cache.put(1, "a");
+        cache.put(1, "b");
+        assertEquals("b", cache.get(1));
+        assertEquals(1, cache.size());
+    }
+}
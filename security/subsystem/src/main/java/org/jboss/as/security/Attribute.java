@@ -36,7 +36,11 @@ public enum Attribute {
 
     AUDIT_MANAGER_CLASS_NAME("audit-manager-class-name"),
     AUTHENTICATION_MANAGER_CLASS_NAME("authentication-manager-class-name"),
+    AUTHORIZATION_CACHE_MAX_ENTRIES("authorization-cache-max-entries"),
     AUTHORIZATION_MANAGER_CLASS_NAME("authorization-manager-class-name"),
+    CACHE_MAX_ENTRIES("cache-max-entries"),
+    CACHE_MAX_IDLE("cache-max-idle"),
+    CACHE_TIME_TO_LIVE("cache-time-to-live"),
     CACHE_TYPE("cache-type"),
     CIPHER_SUITES("cipher-suites"),
     CLIENT_ALIAS("client-alias"),
@@ -42,8 +42,12 @@ public interface Constants {
     String AUTHENTICATION_JASPI = "authentication-jaspi";
     String AUTHENTICATION_MANAGER_CLASS_NAME = "authentication-manager-class-name";
     String AUTHORIZATION = "authorization";
+    String AUTHORIZATION_CACHE_MAX_ENTRIES = "authorization-cache-max-entries";
     String AUTHORIZATION_MANAGER_CLASS_NAME = "authorization-manager-class-name";
     String CACHE_TYPE = "cache-type";
+    String CACHE_MAX_ENTRIES = "cache-max-entries";
+    String CACHE_TIME_TO_LIVE = "cache-time-to-live";
+    String CACHE_MAX_IDLE = "cache-max-idle";
     String CIPHER_SUITES = "cipher-suites";
     String CLASSIC = "classic";
     String CLIENT_ALIAS = "client-alias";
@@ -117,4 +121,11 @@ public interface Constants {
     String LIST_CACHED_PRINCIPALS = "list-cached-principals";
     String FLUSH_CACHE = "flush-cache";
     String PRINCIPAL_ARGUMENT = "principal";
+    String AUTHENTICATION_CACHE_HITS = "authentication-cache-hits";
+    String AUTHENTICATION_CACHE_MISSES = "authentication-cache-misses";
+    String AUTHENTICATION_CACHE_EVICTIONS = "authentication-cache-evictions";
+    String AUTHENTICATION_CACHE_EXPIRATIONS = "authentication-cache-expirations";
+    String AUTHORIZATION_CACHE_HITS = "authorization-cache-hits";
+    String AUTHORIZATION_CACHE_MISSES = "authorization-cache-misses";
+    String AUTHORIZATION_CACHE_SIZE = "authorization-cache-size";
 }
@@ -22,11 +22,13 @@
 package org.jboss.as.security;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 
 import java.security.Principal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
@@ -43,11 +45,17 @@ import org.jboss.as.controller.access.constraint.ApplicationTypeConfig;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.access.management.ApplicationTypeAccessConstraintDefinition;
 import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.security.logging.SecurityLogger;
+import org.jboss.as.security.org.jboss.as.security.lru.SegmentedLRUCache;
+import org.jboss.as.security.plugins.DefaultAuthenticationCacheFactory;
 import org.jboss.as.security.plugins.SecurityDomainContext;
+import org.jboss.as.security.service.AuthorizationDecisionCache;
 import org.jboss.as.security.service.SecurityDomainService;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -66,6 +74,62 @@ class SecurityDomainResourceDefinition extends SimpleResourceDefinition {
             .setAllowExpression(true)
             .build();
 
+    public static final SimpleAttributeDefinition CACHE_MAX_ENTRIES = new SimpleAttributeDefinitionBuilder(Constants.CACHE_MAX_ENTRIES, ModelType.INT, true)
+            .setDefaultValue(new ModelNode(DefaultAuthenticationCacheFactory.DEFAULT_MAX_ENTRIES))
+            .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true))
+            .setAllowExpression(true)
+            .build();
+
+    public static final SimpleAttributeDefinition CACHE_TIME_TO_LIVE = new SimpleAttributeDefinitionBuilder(Constants.CACHE_TIME_TO_LIVE, ModelType.LONG, true)
+            .setDefaultValue(new ModelNode(0L))
+            .setValidator(new LongRangeValidator(0, Long.MAX_VALUE, true, true))
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setAllowExpression(true)
+            .build();
+
+    public static final SimpleAttributeDefinition CACHE_MAX_IDLE = new SimpleAttributeDefinitionBuilder(Constants.CACHE_MAX_IDLE, ModelType.LONG, true)
+            .setDefaultValue(new ModelNode(0L))
+            .setValidator(new LongRangeValidator(0, Long.MAX_VALUE, true, true))
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setAllowExpression(true)
+            .build();
+
+    public static final SimpleAttributeDefinition AUTHORIZATION_CACHE_MAX_ENTRIES = new SimpleAttributeDefinitionBuilder(Constants.AUTHORIZATION_CACHE_MAX_ENTRIES, ModelType.INT, true)
+            .setDefaultValue(new ModelNode(AuthorizationDecisionCache.DEFAULT_MAX_ENTRIES))
+            .setValidator(new IntRangeValidator(0, Integer.MAX_VALUE, true, true))
+            .setAllowExpression(true)
+            .build();
+
+    static final SimpleAttributeDefinition[] CACHE_ATTRIBUTES = { CACHE_MAX_ENTRIES, CACHE_TIME_TO_LIVE, CACHE_MAX_IDLE, AUTHORIZATION_CACHE_MAX_ENTRIES };
+
+    static final SimpleAttributeDefinition AUTHENTICATION_CACHE_HITS = new SimpleAttributeDefinitionBuilder(Constants.AUTHENTICATION_CACHE_HITS, ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition AUTHENTICATION_CACHE_MISSES = new SimpleAttributeDefinitionBuilder(Constants.AUTHENTICATION_CACHE_MISSES, ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition AUTHENTICATION_CACHE_EVICTIONS = new SimpleAttributeDefinitionBuilder(Constants.AUTHENTICATION_CACHE_EVICTIONS, ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition AUTHENTICATION_CACHE_EXPIRATIONS = new SimpleAttributeDefinitionBuilder(Constants.AUTHENTICATION_CACHE_EXPIRATIONS, ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition AUTHORIZATION_CACHE_HITS = new SimpleAttributeDefinitionBuilder(Constants.AUTHORIZATION_CACHE_HITS, ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition AUTHORIZATION_CACHE_MISSES = new SimpleAttributeDefinitionBuilder(Constants.AUTHORIZATION_CACHE_MISSES, ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition AUTHORIZATION_CACHE_SIZE = new SimpleAttributeDefinitionBuilder(Constants.AUTHORIZATION_CACHE_SIZE, ModelType.INT, true)
+            .setStorageRuntime()
+            .build();
+
     private final boolean registerRuntimeOnly;
     private final List<AccessConstraintDefinition> accessConstraints;
 
@@ -82,6 +146,18 @@ class SecurityDomainResourceDefinition extends SimpleResourceDefinition {
     @Override
     public void registerAttributes(final ManagementResourceRegistration resourceRegistration) {
         resourceRegistration.registerReadWriteAttribute(CACHE_TYPE, null, new SecurityDomainReloadWriteHandler(CACHE_TYPE));
+        for (SimpleAttributeDefinition attribute : CACHE_ATTRIBUTES) {
+            resourceRegistration.registerReadWriteAttribute(attribute, null, new SecurityDomainReloadWriteHandler(attribute));
+        }
+        if (registerRuntimeOnly) {
+            resourceRegistration.registerMetric(AUTHENTICATION_CACHE_HITS, AuthenticationCacheMetrics.INSTANCE);
+            resourceRegistration.registerMetric(AUTHENTICATION_CACHE_MISSES, AuthenticationCacheMetrics.INSTANCE);
+            resourceRegistration.registerMetric(AUTHENTICATION_CACHE_EVICTIONS, AuthenticationCacheMetrics.INSTANCE);
+            resourceRegistration.registerMetric(AUTHENTICATION_CACHE_EXPIRATIONS, AuthenticationCacheMetrics.INSTANCE);
+            resourceRegistration.registerMetric(AUTHORIZATION_CACHE_HITS, AuthorizationCacheMetrics.INSTANCE);
+            resourceRegistration.registerMetric(AUTHORIZATION_CACHE_MISSES, AuthorizationCacheMetrics.INSTANCE);
+            resourceRegistration.registerMetric(AUTHORIZATION_CACHE_SIZE, AuthorizationCacheMetrics.INSTANCE);
+        }
     }
 
     @Override
@@ -176,10 +252,19 @@ class SecurityDomainResourceDefinition extends SimpleResourceDefinition {
                 SecurityDomainContext sdc = controller.getValue();
                 @SuppressWarnings("unchecked")
                 CacheableManager<?, Principal> manager = (CacheableManager<?, Principal>) sdc.getAuthenticationManager();
-                if (principal != null)
-                    manager.flushCache(new SimplePrincipal(principal));
-                else
+                AuthorizationDecisionCache decisionCache = sdc.getAuthorizationDecisionCache();
+                if (principal != null) {
+                    SimplePrincipal simplePrincipal = new SimplePrincipal(principal);
+                    manager.flushCache(simplePrincipal);
+                    if (decisionCache != null) {
+                        decisionCache.invalidate(simplePrincipal);
+                    }
+                } else {
                     manager.flushCache();
+                    if (decisionCache != null) {
+                        decisionCache.invalidateAll();
+                    }
+                }
             } else {
                 throw SecurityLogger.ROOT_LOGGER.noAuthenticationCacheAvailable(securityDomain);
             }
@@ -188,6 +273,58 @@ class SecurityDomainResourceDefinition extends SimpleResourceDefinition {
         }
     }
 
+    static final class AuthenticationCacheMetrics extends AbstractRuntimeOnlyHandler {
+        static final AuthenticationCacheMetrics INSTANCE = new AuthenticationCacheMetrics();
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final String securityDomain = PathAddress.pathAddress(operation.require(OP_ADDR)).getLastElement().getValue();
+            final String attributeName = operation.require(NAME).asString();
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(SecurityDomainService.SERVICE_NAME.append(securityDomain));
+            SecurityDomainContext sdc = (controller != null) ? (SecurityDomainContext) controller.getValue() : null;
+            Map<Principal, ?> map = (sdc != null) ? sdc.getAuthenticationCache() : null;
+            // only the default cache type keeps statistics, infinispan caches expose their own
+            if (map instanceof SegmentedLRUCache) {
+                SegmentedLRUCache<?, ?> cache = (SegmentedLRUCache<?, ?>) map;
+                ModelNode result = context.getResult();
+                if (Constants.AUTHENTICATION_CACHE_HITS.equals(attributeName)) {
+                    result.set(cache.getHits());
+                } else if (Constants.AUTHENTICATION_CACHE_MISSES.equals(attributeName)) {
+                    result.set(cache.getMisses());
+                } else if (Constants.AUTHENTICATION_CACHE_EVICTIONS.equals(attributeName)) {
+                    result.set(cache.getEvictions());
+                } else if (Constants.AUTHENTICATION_CACHE_EXPIRATIONS.equals(attributeName)) {
+                    result.set(cache.getExpirations());
+                }
+            }
+            context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+        }
+    }
+
+    static final class AuthorizationCacheMetrics extends AbstractRuntimeOnlyHandler {
+        static final AuthorizationCacheMetrics INSTANCE = new AuthorizationCacheMetrics();
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final String securityDomain = PathAddress.pathAddress(operation.require(OP_ADDR)).getLastElement().getValue();
+            final String attributeName = operation.require(NAME).asString();
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(SecurityDomainService.SERVICE_NAME.append(securityDomain));
+            SecurityDomainContext sdc = (controller != null) ? (SecurityDomainContext) controller.getValue() : null;
+            AuthorizationDecisionCache cache = (sdc != null) ? sdc.getAuthorizationDecisionCache() : null;
+            if (cache != null) {
+                ModelNode result = context.getResult();
+                if (Constants.AUTHORIZATION_CACHE_HITS.equals(attributeName)) {
+                    result.set(cache.getHits());
+                } else if (Constants.AUTHORIZATION_CACHE_MISSES.equals(attributeName)) {
+                    result.set(cache.getMisses());
+                } else if (Constants.AUTHORIZATION_CACHE_SIZE.equals(attributeName)) {
+                    result.set(cache.size());
+                }
+            }
+            context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+        }
+    }
+
     /**
      * Wait for the required service to start up and fail otherwise. This method is necessary when a runtime operation
      * uses a service that might have been created within a composite operation.
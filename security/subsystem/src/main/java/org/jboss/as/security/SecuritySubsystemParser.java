@@ -72,6 +72,7 @@ import javax.xml.stream.XMLStreamException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PropertiesAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.persistence.SubsystemMarshallingContext;
 import org.jboss.as.security.logging.SecurityLogger;
@@ -191,6 +192,9 @@ public class SecuritySubsystemParser implements XMLStreamConstants, XMLElementRe
                 writer.writeAttribute(Attribute.NAME.getLocalName(), policy.getName());
                 ModelNode policyDetails = policy.getValue();
                 SecurityDomainResourceDefinition.CACHE_TYPE.marshallAsAttribute(policyDetails, writer);
+                for (SimpleAttributeDefinition attribute : SecurityDomainResourceDefinition.CACHE_ATTRIBUTES) {
+                    attribute.marshallAsAttribute(policyDetails, writer);
+                }
                 writeSecurityDomainContent(writer, policyDetails);
                 writer.writeEndElement();
             }
@@ -220,6 +224,9 @@ public class SecuritySubsystemParser implements XMLStreamConstants, XMLElementRe
         Set<String> keys = policyDetails.keys();
         keys.remove(NAME);
         keys.remove(CACHE_TYPE);
+        for (SimpleAttributeDefinition attribute : SecurityDomainResourceDefinition.CACHE_ATTRIBUTES) {
+            keys.remove(attribute.getName());
+        }
 
         for (String key : keys) {
             Element element = Element.forName(key);
@@ -448,6 +455,22 @@ public class SecuritySubsystemParser implements XMLStreamConstants, XMLElementRe
                     SecurityDomainResourceDefinition.CACHE_TYPE.parseAndSetParameter(value, op, reader);
                     break;
                 }
+                case CACHE_MAX_ENTRIES: {
+                    SecurityDomainResourceDefinition.CACHE_MAX_ENTRIES.parseAndSetParameter(value, op, reader);
+                    break;
+                }
+                case CACHE_TIME_TO_LIVE: {
+                    SecurityDomainResourceDefinition.CACHE_TIME_TO_LIVE.parseAndSetParameter(value, op, reader);
+                    break;
+                }
+                case CACHE_MAX_IDLE: {
+                    SecurityDomainResourceDefinition.CACHE_MAX_IDLE.parseAndSetParameter(value, op, reader);
+                    break;
+                }
+                case AUTHORIZATION_CACHE_MAX_ENTRIES: {
+                    SecurityDomainResourceDefinition.AUTHORIZATION_CACHE_MAX_ENTRIES.parseAndSetParameter(value, op, reader);
+                    break;
+                }
                 default:
                     throw unexpectedAttribute(reader, i);
             }
@@ -0,0 +1,445 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.security.org.jboss.as.security.lru;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded cache split into independently locked segments, each keeping its entries in LRU order.
+ * <p/>
+ * <p>Entries can additionally expire a fixed time after they were written (time-to-live) or after they were last read
+ * (max-idle). Expired entries are dropped lazily when they are read and when the least recently used end of their
+ * segment is inspected on writes. The removal callback is invoked, outside of any lock, for every entry that leaves
+ * the cache, whether it was removed, replaced, evicted or expired.</p>
+ */
+public class SegmentedLRUCache<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final long timeToLive;
+    private final long maxIdle;
+    private final RemoveCallback<K, V> removeCallback;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    public SegmentedLRUCache(int maxEntries) {
+        this(maxEntries, 0, 0, TimeUnit.MILLISECONDS, null);
+    }
+
+    /**
+     * @param maxEntries the maximum number of entries held by the cache
+     * @param timeToLive the time an entry may stay in the cache after it was written, or 0 for no limit
+     * @param maxIdle the time an entry may stay in the cache without being read, or 0 for no limit
+     * @param unit the unit of {@code timeToLive} and {@code maxIdle}
+     * @param removeCallback the callback notified of entries leaving the cache, may be {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public SegmentedLRUCache(int maxEntries, long timeToLive, long maxIdle, TimeUnit unit, RemoveCallback<K, V> removeCallback) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException(String.valueOf(maxEntries));
+        }
+        int concurrency = Runtime.getRuntime().availableProcessors() * 2;
+        int segmentCount = 1;
+        while (segmentCount < concurrency && segmentCount * 16 <= maxEntries) {
+            segmentCount <<= 1;
+        }
+        this.segments = new Segment[segmentCount];
+        int capacity = (maxEntries + segmentCount - 1) / segmentCount;
+        for (int i = 0; i < segmentCount; ++i) {
+            this.segments[i] = new Segment<K, V>(capacity);
+        }
+        this.segmentMask = segmentCount - 1;
+        this.timeToLive = unit.toNanos(timeToLive);
+        this.maxIdle = unit.toNanos(maxIdle);
+        this.removeCallback = removeCallback;
+    }
+
+    private Segment<K, V> segmentFor(Object key) {
+        int hash = key.hashCode();
+        // spread the hash so that keys with poor low bits still use all segments
+        hash ^= (hash >>> 16);
+        hash ^= (hash >>> 7);
+        return this.segments[hash & this.segmentMask];
+    }
+
+    private boolean isExpired(CacheEntry<V> entry, long now) {
+        return ((this.timeToLive > 0) && (now - entry.created >= this.timeToLive))
+                || ((this.maxIdle > 0) && (now - entry.accessed >= this.maxIdle));
+    }
+
+    private void removed(K key, V value) {
+        if ((this.removeCallback != null) && (value != null)) {
+            this.removeCallback.afterRemove(key, value);
+        }
+    }
+
+    private void removed(List<Map.Entry<K, V>> entries) {
+        if (entries != null) {
+            for (Map.Entry<K, V> entry : entries) {
+                this.removed(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public V get(Object key) {
+        Segment<K, V> segment = this.segmentFor(key);
+        long now = System.nanoTime();
+        V expired = null;
+        segment.lock();
+        try {
+            CacheEntry<V> entry = segment.entries.get(key);
+            if (entry != null) {
+                if (!this.isExpired(entry, now)) {
+                    entry.accessed = now;
+                    this.hits.incrementAndGet();
+                    return entry.value;
+                }
+                segment.entries.remove(key);
+                this.expirations.incrementAndGet();
+                expired = entry.value;
+            }
+        } finally {
+            segment.unlock();
+        }
+        this.misses.incrementAndGet();
+        if (expired != null) {
+            @SuppressWarnings("unchecked")
+            K k = (K) key;
+            this.removed(k, expired);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        Segment<K, V> segment = this.segmentFor(key);
+        long now = System.nanoTime();
+        segment.lock();
+        try {
+            CacheEntry<V> entry = segment.entries.get(key);
+            return (entry != null) && !this.isExpired(entry, now);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return this.put(key, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        return this.put(key, value, true);
+    }
+
+    private V put(K key, V value, boolean ifAbsent) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        Segment<K, V> segment = this.segmentFor(key);
+        long now = System.nanoTime();
+        V replaced = null;
+        List<Map.Entry<K, V>> evicted;
+        segment.lock();
+        try {
+            CacheEntry<V> entry = segment.entries.get(key);
+            if ((entry != null) && this.isExpired(entry, now)) {
+                segment.entries.remove(key);
+                this.expirations.incrementAndGet();
+                replaced = entry.value;
+                entry = null;
+            }
+            if ((entry != null) && ifAbsent) {
+                entry.accessed = now;
+                return entry.value;
+            }
+            CacheEntry<V> old = segment.entries.put(key, new CacheEntry<V>(value, now));
+            if (old != null) {
+                replaced = old.value;
+            }
+            evicted = this.trim(segment, now);
+        } finally {
+            segment.unlock();
+        }
+        if (replaced != value) {
+            this.removed(key, replaced);
+        }
+        this.removed(evicted);
+        return ifAbsent ? null : replaced;
+    }
+
+    /**
+     * Drops expired entries from the least recently used end of a segment, then evicts entries beyond its capacity.
+     * Must be called with the segment lock held.
+     */
+    private List<Map.Entry<K, V>> trim(Segment<K, V> segment, long now) {
+        List<Map.Entry<K, V>> removed = null;
+        Iterator<Map.Entry<K, CacheEntry<V>>> iterator = segment.entries.entrySet().iterator();
+        int excess = segment.entries.size() - segment.capacity;
+        while (iterator.hasNext()) {
+            Map.Entry<K, CacheEntry<V>> eldest = iterator.next();
+            if (excess > 0) {
+                this.evictions.incrementAndGet();
+                excess -= 1;
+            } else if (this.isExpired(eldest.getValue(), now)) {
+                this.expirations.incrementAndGet();
+            } else {
+                break;
+            }
+            iterator.remove();
+            if (removed == null) {
+                removed = new ArrayList<Map.Entry<K, V>>(1);
+            }
+            removed.add(new SimpleImmutableEntry<K, V>(eldest.getKey(), eldest.getValue().value));
+        }
+        return removed;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Segment<K, V> segment = this.segmentFor(key);
+        CacheEntry<V> entry;
+        segment.lock();
+        try {
+            entry = segment.entries.remove(key);
+        } finally {
+            segment.unlock();
+        }
+        if (entry == null) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        K k = (K) key;
+        this.removed(k, entry.value);
+        return entry.value;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        Segment<K, V> segment = this.segmentFor(key);
+        CacheEntry<V> entry;
+        segment.lock();
+        try {
+            entry = segment.entries.get(key);
+            if ((entry == null) || !entry.value.equals(value)) {
+                return false;
+            }
+            segment.entries.remove(key);
+        } finally {
+            segment.unlock();
+        }
+        @SuppressWarnings("unchecked")
+        K k = (K) key;
+        this.removed(k, entry.value);
+        return true;
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        Segment<K, V> segment = this.segmentFor(key);
+        long now = System.nanoTime();
+        CacheEntry<V> entry;
+        segment.lock();
+        try {
+            entry = segment.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            segment.entries.put(key, new CacheEntry<V>(value, now));
+        } finally {
+            segment.unlock();
+        }
+        if (entry.value != value) {
+            this.removed(key, entry.value);
+        }
+        return entry.value;
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        Segment<K, V> segment = this.segmentFor(key);
+        long now = System.nanoTime();
+        segment.lock();
+        try {
+            CacheEntry<V> entry = segment.entries.get(key);
+            if ((entry == null) || !entry.value.equals(oldValue)) {
+                return false;
+            }
+            segment.entries.put(key, new CacheEntry<V>(newValue, now));
+        } finally {
+            segment.unlock();
+        }
+        if (oldValue != newValue) {
+            this.removed(key, oldValue);
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        for (Segment<K, V> segment : this.segments) {
+            List<Map.Entry<K, V>> removed;
+            segment.lock();
+            try {
+                removed = segment.snapshot();
+                segment.entries.clear();
+            } finally {
+                segment.unlock();
+            }
+            this.removed(removed);
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : this.segments) {
+            segment.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns a weakly consistent view of the entries: iteration walks a snapshot taken one segment at a time, while
+     * removals are applied to the cache.
+     */
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                final List<Map.Entry<K, V>> snapshot = new ArrayList<Map.Entry<K, V>>();
+                for (Segment<K, V> segment : SegmentedLRUCache.this.segments) {
+                    segment.lock();
+                    try {
+                        snapshot.addAll(segment.snapshot());
+                    } finally {
+                        segment.unlock();
+                    }
+                }
+                final Iterator<Map.Entry<K, V>> iterator = snapshot.iterator();
+                return new Iterator<Map.Entry<K, V>>() {
+                    private Map.Entry<K, V> last;
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<K, V> next() {
+                        this.last = iterator.next();
+                        return this.last;
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (this.last == null) {
+                            throw new IllegalStateException("next() not called");
+                        }
+                        SegmentedLRUCache.this.remove(this.last.getKey(), this.last.getValue());
+                        this.last = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return SegmentedLRUCache.this.size();
+            }
+
+            @Override
+            public void clear() {
+                SegmentedLRUCache.this.clear();
+            }
+        };
+    }
+
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    public long getEvictions() {
+        return this.evictions.get();
+    }
+
+    public long getExpirations() {
+        return this.expirations.get();
+    }
+
+    private static final class CacheEntry<V> {
+        final V value;
+        final long created;
+        volatile long accessed;
+
+        CacheEntry(V value, long now) {
+            this.value = value;
+            this.created = now;
+            this.accessed = now;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class Segment<K, V> extends ReentrantLock {
+        final int capacity;
+        // access ordered, so iteration starts with the least recently used entry
+        final LinkedHashMap<K, CacheEntry<V>> entries;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+            this.entries = new LinkedHashMap<K, CacheEntry<V>>(16, 0.75f, true);
+        }
+
+        List<Map.Entry<K, V>> snapshot() {
+            List<Map.Entry<K, V>> snapshot = new ArrayList<Map.Entry<K, V>>(this.entries.size());
+            for (Map.Entry<K, CacheEntry<V>> entry : this.entries.entrySet()) {
+                snapshot.add(new SimpleImmutableEntry<K, V>(entry.getKey(), entry.getValue().value));
+            }
+            return snapshot;
+        }
+    }
+}
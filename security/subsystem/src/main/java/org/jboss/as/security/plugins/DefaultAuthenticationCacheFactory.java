@@ -24,9 +24,11 @@ package org.jboss.as.security.plugins;
 
 import java.security.Principal;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
-import org.jboss.as.security.org.jboss.as.security.lru.LRUCache;
 import org.jboss.as.security.org.jboss.as.security.lru.RemoveCallback;
+import org.jboss.as.security.org.jboss.as.security.lru.SegmentedLRUCache;
+import org.jboss.as.security.service.AuthorizationDecisionCache;
 import org.jboss.security.authentication.JBossCachedAuthenticationManager.DomainInfo;
 
 /**
@@ -36,18 +38,45 @@ import org.jboss.security.authentication.JBossCachedAuthenticationManager.Domain
  */
 public class DefaultAuthenticationCacheFactory implements AuthenticationCacheFactory {
 
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private final AuthorizationDecisionCache decisionCache;
+    private final int maxEntries;
+    private final long timeToLive;
+    private final long maxIdle;
+
+    public DefaultAuthenticationCacheFactory() {
+        this(null, DEFAULT_MAX_ENTRIES, 0, 0);
+    }
+
+    /**
+     * @param decisionCache the authorization decisions dropped along with evicted principals, may be {@code null}
+     * @param maxEntries the maximum number of cached principals
+     * @param timeToLive the time in milliseconds a principal stays cached after authentication, or 0 for no limit
+     * @param maxIdle the time in milliseconds a principal stays cached without being used, or 0 for no limit
+     */
+    public DefaultAuthenticationCacheFactory(AuthorizationDecisionCache decisionCache, int maxEntries, long timeToLive, long maxIdle) {
+        this.decisionCache = decisionCache;
+        this.maxEntries = maxEntries;
+        this.timeToLive = timeToLive;
+        this.maxIdle = maxIdle;
+    }
+
     /**
      * Returns a default cache implementation
      *
      * @return cache implementation
      */
     public ConcurrentMap<Principal, DomainInfo> getCache() {
-        ConcurrentMap<Principal, DomainInfo> map = new LRUCache<>(1000,  new RemoveCallback<Principal, DomainInfo>() {
+        ConcurrentMap<Principal, DomainInfo> map = new SegmentedLRUCache<>(maxEntries, timeToLive, maxIdle, TimeUnit.MILLISECONDS, new RemoveCallback<Principal, DomainInfo>() {
             @Override
             public void afterRemove(Principal key, DomainInfo value) {
                 if (value != null) {
                     value.logout();
                 }
+                if (decisionCache != null) {
+                    decisionCache.invalidate(key);
+                }
             }
         });
         return map;
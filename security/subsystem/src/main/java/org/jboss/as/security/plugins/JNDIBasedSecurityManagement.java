@@ -274,9 +274,10 @@ public class JNDIBasedSecurityManagement implements ISecurityManagement {
     public SecurityDomainContext createSecurityDomainContext(String securityDomain, AuthenticationCacheFactory cacheFactory) throws Exception {
         log.debugf("Creating SDC for domain = %s", securityDomain);
         AuthenticationManager am = createAuthenticationManager(securityDomain);
+        Map<Principal, ?> cache = null;
         if (cacheFactory != null && am instanceof CacheableManager) {
             // create authentication cache
-            final Map<Principal, ?> cache = cacheFactory.getCache();
+            cache = cacheFactory.getCache();
             if (cache != null) {
                 @SuppressWarnings({ "unchecked", "rawtypes" })
                 CacheableManager<Map, Principal> cm = (CacheableManager<Map, Principal>) am;
@@ -290,6 +291,7 @@ public class JNDIBasedSecurityManagement implements ISecurityManagement {
         }
 
         SecurityDomainContext securityDomainContext = new SecurityDomainContext(am);
+        securityDomainContext.setAuthenticationCache(cache);
         securityDomainContext.setAuthorizationManager(createAuthorizationManager(securityDomain));
         securityDomainContext.setAuditManager(createAuditManager(securityDomain));
         securityDomainContext.setIdentityTrustManager(createIdentityTrustManager(securityDomain));
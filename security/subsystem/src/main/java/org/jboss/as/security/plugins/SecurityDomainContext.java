@@ -22,12 +22,16 @@
 
 package org.jboss.as.security.plugins;
 
+import java.security.Principal;
+import java.util.Map;
+
 import javax.naming.NamingException;
 import javax.security.auth.Subject;
 import javax.security.jacc.PolicyContext;
 import javax.security.jacc.PolicyContextException;
 
 import org.jboss.as.security.logging.SecurityLogger;
+import org.jboss.as.security.service.AuthorizationDecisionCache;
 import org.jboss.security.AuthenticationManager;
 import org.jboss.security.AuthorizationManager;
 import org.jboss.security.JSSESecurityDomain;
@@ -59,6 +63,8 @@ public class SecurityDomainContext {
     MappingManager mappingMgr;
     IdentityTrustManager identityTrustMgr;
     JSSESecurityDomain jsseSecurityDomain;
+    Map<Principal, ?> authenticationCache;
+    AuthorizationDecisionCache authorizationDecisionCache;
 
     private static final String SUBJECT_CONTEXT_KEY = "javax.security.auth.Subject.container";
 
@@ -108,6 +114,32 @@ public class SecurityDomainContext {
         this.authenticationMgr = am;
     }
 
+    /**
+     * Returns the cache used by the authentication manager of this domain.
+     *
+     * @return the authentication cache, or {@code null} if authentication results are not cached
+     */
+    public Map<Principal, ?> getAuthenticationCache() {
+        return authenticationCache;
+    }
+
+    public void setAuthenticationCache(Map<Principal, ?> cache) {
+        this.authenticationCache = cache;
+    }
+
+    /**
+     * Returns the cache of EJB authorization decisions of this domain.
+     *
+     * @return the decision cache, or {@code null} if authorization decisions are not cached
+     */
+    public AuthorizationDecisionCache getAuthorizationDecisionCache() {
+        return authorizationDecisionCache;
+    }
+
+    public void setAuthorizationDecisionCache(AuthorizationDecisionCache cache) {
+        this.authorizationDecisionCache = cache;
+    }
+
     public void setAuthorizationManager(AuthorizationManager am) {
         this.authorizationMgr = am;
     }
@@ -0,0 +1,224 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.security.service;
+
+import java.security.Principal;
+import java.security.acl.Group;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.security.auth.Subject;
+
+import org.jboss.as.security.org.jboss.as.security.lru.RemoveCallback;
+import org.jboss.as.security.org.jboss.as.security.lru.SegmentedLRUCache;
+
+/**
+ * Bounded cache of EJB authorization decisions for a single security domain.
+ * <p/>
+ * Decisions are keyed by the authenticated principal, the roles of its subject and the checked resource (EJB name,
+ * policy context and either the method or the role name), so a change of the caller's roles never hits a decision made
+ * for the previous ones. Entries of a principal are also dropped whenever that principal leaves or is replaced in the
+ * authentication cache. Since only the default authentication cache reports these removals, a decision cache is only
+ * created for security domains using it. The cache is owned by the {@link SecurityDomainService} of its domain.
+ */
+public final class AuthorizationDecisionCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private static final String ROLES_IDENTIFIER = "Roles";
+
+    private final SegmentedLRUCache<Key, Boolean> decisions;
+    // the cached keys of each principal, so that a principal's decisions are dropped without scanning the whole cache
+    private final ConcurrentMap<Principal, Set<Key>> principals = new ConcurrentHashMap<Principal, Set<Key>>();
+
+    /**
+     * @param maxSize the maximum number of cached decisions
+     */
+    public AuthorizationDecisionCache(int maxSize) {
+        this.decisions = new SegmentedLRUCache<Key, Boolean>(maxSize, 0, 0, TimeUnit.MILLISECONDS, new RemoveCallback<Key, Boolean>() {
+            @Override
+            public void afterRemove(Key key, Boolean value) {
+                unindex(key);
+            }
+        });
+    }
+
+    /**
+     * Returns the names of the roles held by a subject, i.e. the members of its {@code Roles} group.
+     *
+     * @param subject the authenticated subject, may be {@code null}
+     * @return the role names, never {@code null}
+     */
+    static Set<String> callerRoles(Subject subject) {
+        if (subject == null) {
+            return Collections.emptySet();
+        }
+        Set<String> roles = new HashSet<String>();
+        for (Group group : subject.getPrincipals(Group.class)) {
+            if (ROLES_IDENTIFIER.equals(group.getName())) {
+                Enumeration<? extends Principal> members = group.members();
+                while (members.hasMoreElements()) {
+                    roles.add(members.nextElement().getName());
+                }
+            }
+        }
+        return roles;
+    }
+
+    static Key authorizeKey(Principal principal, Set<String> roles, String ejbName, String contextID, Object codeSource,
+            String methodIntf, Object method, Object methodRoles) {
+        return new Key(principal, roles, ejbName, contextID, new Object[] { methodIntf, method, methodRoles }, codeSource, null);
+    }
+
+    static Key roleKey(Principal principal, Set<String> roles, String ejbName, String contextID, String roleName,
+            Object mappedRoles, Object roleLinks) {
+        return new Key(principal, roles, ejbName, contextID, new Object[] { roleName }, mappedRoles, roleLinks);
+    }
+
+    Boolean get(Key key) {
+        return this.decisions.get(key);
+    }
+
+    void put(Key key, boolean decision) {
+        this.decisions.put(key, Boolean.valueOf(decision));
+        // index after the put, since replacing a decision notifies the removal callback, which unindexes the key
+        Set<Key> keys = this.principals.get(key.principal);
+        if (keys == null) {
+            Set<Key> newKeys = Collections.newSetFromMap(new ConcurrentHashMap<Key, Boolean>());
+            keys = this.principals.putIfAbsent(key.principal, newKeys);
+            if (keys == null) {
+                keys = newKeys;
+            }
+        }
+        keys.add(key);
+        if (this.principals.get(key.principal) != keys) {
+            // the principal was invalidated concurrently, its key set may already have been processed
+            this.decisions.remove(key);
+        }
+    }
+
+    private void unindex(Key key) {
+        Set<Key> keys = this.principals.get(key.principal);
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                this.principals.remove(key.principal, keys);
+            }
+        }
+    }
+
+    /**
+     * Drops the cached decisions of a principal.
+     *
+     * @param principal the principal removed from the authentication cache
+     */
+    public void invalidate(Principal principal) {
+        Set<Key> keys = this.principals.remove(principal);
+        if (keys != null) {
+            for (Key key : keys) {
+                this.decisions.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Drops all cached decisions.
+     */
+    public void invalidateAll() {
+        this.decisions.clear();
+        this.principals.clear();
+    }
+
+    public long getHits() {
+        return this.decisions.getHits();
+    }
+
+    public long getMisses() {
+        return this.decisions.getMisses();
+    }
+
+    public int size() {
+        return this.decisions.size();
+    }
+
+    /**
+     * Cache key. Deployment scoped objects (code source, mapped roles, role links) are compared by identity, since they
+     * do not change for the lifetime of a component and their {@code equals} can be expensive.
+     */
+    static final class Key {
+        final Principal principal;
+        private final Set<String> roles;
+        private final String ejbName;
+        private final String contextID;
+        private final Object[] resource;
+        private final Object scope1;
+        private final Object scope2;
+        private final int hash;
+
+        Key(Principal principal, Set<String> roles, String ejbName, String contextID, Object[] resource, Object scope1, Object scope2) {
+            this.principal = principal;
+            this.roles = roles;
+            this.ejbName = ejbName;
+            this.contextID = contextID;
+            this.resource = resource;
+            this.scope1 = scope1;
+            this.scope2 = scope2;
+            int result = principal.hashCode();
+            result = 31 * result + roles.hashCode();
+            result = 31 * result + hashCode(ejbName);
+            result = 31 * result + hashCode(contextID);
+            result = 31 * result + Arrays.hashCode(resource);
+            result = 31 * result + System.identityHashCode(scope1);
+            result = 31 * result + System.identityHashCode(scope2);
+            this.hash = result;
+        }
+
+        private static int hashCode(Object value) {
+            return (value != null) ? value.hashCode() : 0;
+        }
+
+        private static boolean equals(Object value1, Object value2) {
+            return (value1 == null) ? (value2 == null) : value1.equals(value2);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) return true;
+            if (!(object instanceof Key)) return false;
+            Key key = (Key) object;
+            return this.hash == key.hash && this.scope1 == key.scope1 && this.scope2 == key.scope2
+                    && this.principal.equals(key.principal) && this.roles.equals(key.roles) && equals(this.ejbName, key.ejbName)
+                    && equals(this.contextID, key.contextID) && Arrays.equals(this.resource, key.resource);
+        }
+    }
+}
@@ -67,15 +67,39 @@ public class SecurityDomainService implements Service<SecurityDomainContext> {
     private final JSSESecurityDomain jsseSecurityDomain;
 
     private volatile SecurityDomainContext securityDomainContext;
-
     private final String cacheType;
 
+    private final int cacheMaxEntries;
+
+    private final long cacheTimeToLive;
+
+    private final long cacheMaxIdle;
+
+    private final int authorizationCacheMaxEntries;
+
     public SecurityDomainService(String name, ApplicationPolicy applicationPolicy, JSSESecurityDomain jsseSecurityDomain,
             String cacheType) {
+        this(name, applicationPolicy, jsseSecurityDomain, cacheType, DefaultAuthenticationCacheFactory.DEFAULT_MAX_ENTRIES, 0, 0,
+                AuthorizationDecisionCache.DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param cacheMaxEntries the maximum number of principals held by a default authentication cache
+     * @param cacheTimeToLive the time in milliseconds a principal stays in a default authentication cache, or 0 for no limit
+     * @param cacheMaxIdle the time in milliseconds an unused principal stays in a default authentication cache, or 0 for no limit
+     * @param authorizationCacheMaxEntries the maximum number of EJB authorization decisions cached along with a default
+     *        authentication cache, or 0 to not cache them
+     */
+    public SecurityDomainService(String name, ApplicationPolicy applicationPolicy, JSSESecurityDomain jsseSecurityDomain,
+            String cacheType, int cacheMaxEntries, long cacheTimeToLive, long cacheMaxIdle, int authorizationCacheMaxEntries) {
         this.name = name;
         this.applicationPolicy = applicationPolicy;
         this.jsseSecurityDomain = jsseSecurityDomain;
         this.cacheType = cacheType;
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.cacheTimeToLive = cacheTimeToLive;
+        this.cacheMaxIdle = cacheMaxIdle;
+        this.authorizationCacheMaxEntries = authorizationCacheMaxEntries;
     }
 
     /** {@inheritDoc} */
@@ -89,16 +113,22 @@ public class SecurityDomainService implements Service<SecurityDomainContext> {
         }
         final JNDIBasedSecurityManagement securityManagement = (JNDIBasedSecurityManagement) securityManagementValue.getValue();
         AuthenticationCacheFactory cacheFactory = null;
+        AuthorizationDecisionCache decisionCache = null;
         if ("infinispan".equals(cacheType)) {
             cacheFactory = new InfinispanAuthenticationCacheFactory(cacheManagerValue.getValue(), name);
         } else if ("default".equals(cacheType)) {
-            cacheFactory = new DefaultAuthenticationCacheFactory();
+            // only the default cache reports evicted, expired, replaced and flushed principals to the decision cache
+            if (authorizationCacheMaxEntries > 0) {
+                decisionCache = new AuthorizationDecisionCache(authorizationCacheMaxEntries);
+            }
+            cacheFactory = new DefaultAuthenticationCacheFactory(decisionCache, cacheMaxEntries, cacheTimeToLive, cacheMaxIdle);
         }
         try {
             securityDomainContext = securityManagement.createSecurityDomainContext(name, cacheFactory);
         } catch (Exception e) {
             throw SecurityLogger.ROOT_LOGGER.unableToStartException("SecurityDomainService", e);
         }
+        securityDomainContext.setAuthorizationDecisionCache(decisionCache);
         if (jsseSecurityDomain != null) {
             try {
                 jsseSecurityDomain.reloadKeyAndTrustStore();
@@ -116,6 +146,10 @@ public class SecurityDomainService implements Service<SecurityDomainContext> {
         log.debug("Stopping security domain service " + name);
         final JNDIBasedSecurityManagement securityManagement = (JNDIBasedSecurityManagement) securityManagementValue.getValue();
         securityManagement.removeSecurityDomain(name);
+        final AuthorizationDecisionCache decisionCache = securityDomainContext.getAuthorizationDecisionCache();
+        if (decisionCache != null) {
+            decisionCache.invalidateAll();
+        }
         // TODO clear auth cache?
         final ApplicationPolicyRegistration applicationPolicyRegistration = (ApplicationPolicyRegistration) configurationValue
                 .getValue();
@@ -43,6 +43,8 @@ import org.jboss.as.core.security.ServerSecurityManager;
 import org.jboss.as.core.security.SubjectUserInfo;
 import org.jboss.as.domain.management.security.PasswordCredential;
 import org.jboss.as.security.logging.SecurityLogger;
+import org.jboss.as.security.plugins.JNDIBasedSecurityManagement;
+import org.jboss.as.security.plugins.SecurityDomainContext;
 import org.jboss.as.security.remoting.RemotingConnectionCredential;
 import org.jboss.as.security.remoting.RemotingConnectionPrincipal;
 import org.jboss.metadata.javaee.spec.SecurityRolesMetaData;
@@ -69,6 +71,7 @@ import org.jboss.security.identity.plugins.SimpleRoleGroup;
 import org.jboss.security.javaee.AbstractEJBAuthorizationHelper;
 import org.jboss.security.javaee.SecurityHelperFactory;
 import org.jboss.security.javaee.SecurityRoleRef;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * @author <a href="mailto:cdewolf@redhat.com">Carlo de Wolf</a>
@@ -84,6 +87,14 @@ public class SimpleSecurityManager implements ServerSecurityManager {
      */
     private boolean propagate = true;
 
+    /**
+     * Indicates if a nested {@link #push(String)} for the security domain and identity of the current SecurityContext
+     * reuses that context instead of establishing and re-authenticating a new one.
+     */
+    private boolean reuseContext = REUSE_CONTEXT;
+
+    private static final boolean REUSE_CONTEXT = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged("jboss.security.context.reuse", "true"));
+
     public SimpleSecurityManager() {
     }
 
@@ -120,6 +131,10 @@ public class SimpleSecurityManager implements ServerSecurityManager {
         securityManagement = iSecurityManagement;
     }
 
+    void setReuseContext(boolean reuseContext) {
+        this.reuseContext = reuseContext;
+    }
+
     public Principal getCallerPrincipal() {
         final SecurityContext securityContext = doPrivileged(securityContext());
         if (securityContext == null) {
@@ -196,12 +211,32 @@ public class SimpleSecurityManager implements ServerSecurityManager {
             return false;
         }
 
+        Principal userPrincipal = securityContext.getUtil().getUserPrincipal();
+        final AuthorizationDecisionCache cache = getDecisionCache(securityContext, userPrincipal);
+        AuthorizationDecisionCache.Key[] keys = null;
+        if (cache != null) {
+            final Set<String> callerRoles = AuthorizationDecisionCache.callerRoles(securityContext.getUtil().getSubject());
+            keys = new AuthorizationDecisionCache.Key[roleNames.length];
+            boolean cached = true;
+            for (int i = 0; i < roleNames.length; ++i) {
+                keys[i] = AuthorizationDecisionCache.roleKey(userPrincipal, callerRoles, ejbName, policyContextID, roleNames[i], incommingMappedRoles, roleLinks);
+                Boolean decision = cache.get(keys[i]);
+                if (decision == null) {
+                    cached = false;
+                } else if (decision.booleanValue()) {
+                    return true;
+                }
+            }
+            if (cached) {
+                return false;
+            }
+        }
+
         final EJBResource resource = new EJBResource(new HashMap<String, Object>());
         resource.setEjbName(ejbName);
         resource.setPolicyContextID(policyContextID);
         resource.setCallerRunAsIdentity(securityContext.getIncomingRunAs());
         resource.setCallerSubject(securityContext.getUtil().getSubject());
-        Principal userPrincipal = securityContext.getUtil().getUserPrincipal();
         resource.setPrincipal(userPrincipal);
         if (roleLinks != null) {
             final Set<SecurityRoleRef> roleRefs = new HashSet<SecurityRoleRef>();
@@ -224,8 +259,12 @@ public class SimpleSecurityManager implements ServerSecurityManager {
             }
 
             AbstractEJBAuthorizationHelper helper = SecurityHelperFactory.getEJBAuthorizationHelper(securityContext);
-            for (String roleName : roleNames) {
-                if (helper.isCallerInRole(resource, roleName)) {
+            for (int i = 0; i < roleNames.length; ++i) {
+                boolean inRole = helper.isCallerInRole(resource, roleNames[i]);
+                if (cache != null) {
+                    cache.put(keys[i], inRole);
+                }
+                if (inRole) {
                     return true;
                 }
             }
@@ -249,6 +288,18 @@ public class SimpleSecurityManager implements ServerSecurityManager {
             return false;
         }
 
+        Principal userPrincipal = securityContext.getUtil().getUserPrincipal();
+        final AuthorizationDecisionCache cache = getDecisionCache(securityContext, userPrincipal);
+        AuthorizationDecisionCache.Key key = null;
+        if (cache != null) {
+            final Set<String> callerRoles = AuthorizationDecisionCache.callerRoles(securityContext.getUtil().getSubject());
+            key = AuthorizationDecisionCache.authorizeKey(userPrincipal, callerRoles, ejbName, contextID, ejbCodeSource, ejbMethodIntf, ejbMethod, methodRoles);
+            Boolean decision = cache.get(key);
+            if (decision != null) {
+                return decision.booleanValue();
+            }
+        }
+
         EJBResource resource = new EJBResource(new HashMap<String, Object>());
         resource.setEjbName(ejbName);
         resource.setEjbMethod(ejbMethod);
@@ -258,15 +309,35 @@ public class SimpleSecurityManager implements ServerSecurityManager {
         resource.setPolicyContextID(contextID);
         resource.setCallerRunAsIdentity(securityContext.getIncomingRunAs());
         resource.setCallerSubject(securityContext.getUtil().getSubject());
-        Principal userPrincipal = securityContext.getUtil().getUserPrincipal();
         resource.setPrincipal(userPrincipal);
 
+        final boolean authorized;
         try {
             AbstractEJBAuthorizationHelper helper = SecurityHelperFactory.getEJBAuthorizationHelper(securityContext);
-            return helper.authorize(resource);
+            authorized = helper.authorize(resource);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
+        if (cache != null) {
+            cache.put(key, authorized);
+        }
+        return authorized;
+    }
+
+    /**
+     * Returns the authorization decision cache to use for the current caller, if any. Decisions are not cached for
+     * unauthenticated callers or for calls made under an incoming run-as identity, since the roles of those identities
+     * are not tied to an entry of the authentication cache.
+     */
+    private AuthorizationDecisionCache getDecisionCache(SecurityContext securityContext, Principal userPrincipal) {
+        if (userPrincipal == null || securityContext.getIncomingRunAs() != null
+                || !(securityManagement instanceof JNDIBasedSecurityManagement)) {
+            return null;
+        }
+        final String securityDomain = securityContext.getSecurityDomain();
+        final SecurityDomainContext domainContext = (securityDomain != null)
+                ? ((JNDIBasedSecurityManagement) securityManagement).getSecurityManagerMap().get(securityDomain) : null;
+        return (domainContext != null) ? domainContext.getAuthorizationDecisionCache() : null;
     }
 
     /**
@@ -278,6 +349,10 @@ public class SimpleSecurityManager implements ServerSecurityManager {
         // TODO - Handle a null securityDomain here? Yes I think so.
         final SecurityContext previous = SecurityContextAssociation.getSecurityContext();
         contexts.push(previous);
+        if (isReusable(previous, securityDomain)) {
+            // Same domain and identity as the caller, keep the current context. pop() restores it unchanged.
+            return;
+        }
         SecurityContext current = establishSecurityContext(securityDomain);
         if (propagate && previous != null) {
             current.setSubjectInfo(getSubjectInfo(previous));
@@ -348,6 +423,17 @@ public class SimpleSecurityManager implements ServerSecurityManager {
 
     public void authenticate(final String runAs, final String runAsPrincipal, final Set<String> extraRoles) {
         SecurityContext context = SecurityContextAssociation.getSecurityContext();
+        if (context != null && context == contexts.peek()) {
+            // push(String) reused the caller's context, which has already been authenticated
+            if (runAs == null) {
+                return;
+            }
+            // a run-as identity must not leak into the caller's context
+            final SecurityContext caller = context;
+            context = establishSecurityContext(caller.getSecurityDomain());
+            context.setSubjectInfo(getSubjectInfo(caller));
+            context.setIncomingRunAs(caller.getOutgoingRunAs());
+        }
         SecurityContextUtil util = context.getUtil();
 
         Object credential = util.getCredential();
@@ -370,6 +456,25 @@ public class SimpleSecurityManager implements ServerSecurityManager {
         }
     }
 
+    /**
+     * A context can be reused by a nested call if it belongs to the same security domain, has been authenticated, and
+     * the nested call would see the same identity: the caller has no outgoing run-as of its own, and no remoting
+     * connection identity is waiting to be associated.
+     */
+    private boolean isReusable(final SecurityContext previous, final String securityDomain) {
+        if (!reuseContext || !propagate || previous == null || securityDomain == null) {
+            return false;
+        }
+        if (!securityDomain.equals(previous.getSecurityDomain()) || previous.getOutgoingRunAs() != previous.getIncomingRunAs()) {
+            return false;
+        }
+        final SubjectInfo subjectInfo = getSubjectInfo(previous);
+        if (subjectInfo == null || subjectInfo.getAuthenticatedSubject() == null) {
+            return false;
+        }
+        return !SecurityActions.remotingContextIsSet();
+    }
+
     private boolean authenticate(SecurityContext context, Subject subject) {
         SecurityContextUtil util = context.getUtil();
         SubjectInfo subjectInfo = getSubjectInfo(context);
@@ -21,40 +21,65 @@
  */
 package org.jboss.as.security.service;
 
-import java.util.LinkedList;
+import java.util.Arrays;
 
 /**
  * @author <a href="mailto:cdewolf@redhat.com">Carlo de Wolf</a>
  */
 class ThreadLocalStack<T> {
-    private ThreadLocal<LinkedList<T>> stack = new ThreadLocal<LinkedList<T>>();
+    private static final int INITIAL_CAPACITY = 8;
+
+    private ThreadLocal<Stack> stack = new ThreadLocal<Stack>();
 
     public void push(T obj) {
-        LinkedList<T> list = stack.get();
+        Stack list = stack.get();
         if (list == null) {
-            list = new LinkedList<T>();
+            list = new Stack();
             stack.set(list);
         }
-        list.addLast(obj);
+        list.push(obj);
     }
 
+    @SuppressWarnings("unchecked")
     public T pop() {
-        LinkedList<T> list = stack.get();
+        Stack list = stack.get();
         if (list == null) {
             return null;
         }
-        T rtn = list.removeLast();
-        if (list.size() == 0) {
+        T rtn = (T) list.pop();
+        if (list.size == 0) {
             stack.remove();
         }
         return rtn;
     }
 
+    @SuppressWarnings("unchecked")
     public T peek() {
-        LinkedList<T> list = stack.get();
+        Stack list = stack.get();
         if (list == null) {
             return null;
         }
-        return list.getLast();
+        return (T) list.elements[list.size - 1];
+    }
+
+    /**
+     * Array backed stack, so that nested pushes do not allocate a node per element.
+     */
+    private static final class Stack {
+        Object[] elements = new Object[INITIAL_CAPACITY];
+        int size;
+
+        void push(Object obj) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size << 1);
+            }
+            elements[size++] = obj;
+        }
+
+        Object pop() {
+            Object obj = elements[--size];
+            elements[size] = null;
+            return obj;
+        }
     }
 }
@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.security.org.jboss.as.security.lru;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link SegmentedLRUCache}.
+ */
+public class SegmentedLRUCacheUnitTestCase {
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        RecordingCallback callback = new RecordingCallback();
+        // small enough to use a single segment
+        SegmentedLRUCache<String, String> cache = new SegmentedLRUCache<>(3, 0, 0, TimeUnit.MILLISECONDS, callback);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+        assertEquals("1", cache.get("a"));
+        cache.put("d", "4");
+
+        assertEquals(3, cache.size());
+        assertNull(cache.get("b"));
+        assertEquals("1", cache.get("a"));
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, callback.removed.size());
+        assertEquals("2", callback.removed.get(0));
+    }
+
+    @Test
+    public void testExpiration() throws Exception {
+        RecordingCallback callback = new RecordingCallback();
+        SegmentedLRUCache<String, String> cache = new SegmentedLRUCache<>(10, 0, 50, TimeUnit.MILLISECONDS, callback);
+        cache.put("a", "1");
+        assertEquals("1", cache.get("a"));
+        Thread.sleep(100);
+        assertFalse(cache.containsKey("a"));
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.getExpirations());
+        assertEquals(1, callback.removed.size());
+
+        cache = new SegmentedLRUCache<>(10, 50, 0, TimeUnit.MILLISECONDS, null);
+        cache.put("b", "2");
+        Thread.sleep(100);
+        // a time-to-live is not extended by reads
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.getExpirations());
+    }
+
+    @Test
+    public void testRemovalNotifiesCallback() {
+        RecordingCallback callback = new RecordingCallback();
+        SegmentedLRUCache<String, String> cache = new SegmentedLRUCache<>(1000, 0, 0, TimeUnit.MILLISECONDS, callback);
+        for (int i = 0; i < 100; ++i) {
+            cache.put("key" + i, "value" + i);
+        }
+        assertEquals(100, cache.size());
+        assertEquals("value1", cache.putIfAbsent("key1", "other"));
+        assertEquals("value2", cache.put("key2", "other"));
+        assertEquals("value3", cache.remove("key3"));
+        assertTrue(cache.replace("key4", "value4", "other"));
+        assertEquals(3, callback.removed.size());
+
+        cache.keySet().remove("key5");
+        assertFalse(cache.containsKey("key5"));
+        cache.clear();
+        assertEquals(0, cache.size());
+        // 4 values removed individually, 98 by clear()
+        assertEquals(102, callback.removed.size());
+    }
+
+    private static class RecordingCallback implements RemoveCallback<String, String> {
+        final List<String> removed = new ArrayList<>();
+
+        @Override
+        public synchronized void afterRemove(String key, String value) {
+            this.removed.add(value);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.security.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.security.auth.Subject;
+
+import org.jboss.as.security.org.jboss.as.security.lru.RemoveCallback;
+import org.jboss.as.security.org.jboss.as.security.lru.SegmentedLRUCache;
+import org.jboss.security.SimpleGroup;
+import org.jboss.security.SimplePrincipal;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link AuthorizationDecisionCache}.
+ */
+public class AuthorizationDecisionCacheUnitTestCase {
+
+    private static final Set<String> ADMIN = Collections.singleton("admin");
+
+    @Test
+    public void testDecisionsAreCachedPerPrincipalAndMethod() throws Exception {
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache(100);
+        Principal alice = new TestPrincipal("alice");
+        Set<Principal> roles = Collections.<Principal>singleton(new TestPrincipal("admin"));
+
+        AuthorizationDecisionCache.Key key = AuthorizationDecisionCache.authorizeKey(alice, ADMIN, "Bean", "ctx", null, "Local", Object.class.getMethod("toString"), roles);
+        assertNull(cache.get(key));
+        cache.put(key, true);
+
+        AuthorizationDecisionCache.Key same = AuthorizationDecisionCache.authorizeKey(new TestPrincipal("alice"), ADMIN, "Bean", "ctx", null, "Local", Object.class.getMethod("toString"), roles);
+        assertSame(Boolean.TRUE, cache.get(same));
+
+        AuthorizationDecisionCache.Key otherMethod = AuthorizationDecisionCache.authorizeKey(alice, ADMIN, "Bean", "ctx", null, "Local", Object.class.getMethod("hashCode"), roles);
+        assertNull(cache.get(otherMethod));
+        AuthorizationDecisionCache.Key otherPrincipal = AuthorizationDecisionCache.authorizeKey(new TestPrincipal("bob"), ADMIN, "Bean", "ctx", null, "Local", Object.class.getMethod("toString"), roles);
+        assertNull(cache.get(otherPrincipal));
+
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+    }
+
+    @Test
+    public void testDecisionsAreCachedPerCallerRoles() {
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache(100);
+        Principal alice = new TestPrincipal("alice");
+        cache.put(AuthorizationDecisionCache.roleKey(alice, ADMIN, "Bean", "ctx", "admin", null, null), true);
+
+        // the same principal re-authenticated without the role must not hit the decision made for the old roles
+        Set<String> noRoles = Collections.emptySet();
+        assertNull(cache.get(AuthorizationDecisionCache.roleKey(alice, noRoles, "Bean", "ctx", "admin", null, null)));
+        assertSame(Boolean.TRUE, cache.get(AuthorizationDecisionCache.roleKey(alice, new HashSet<String>(ADMIN), "Bean", "ctx", "admin", null, null)));
+    }
+
+    @Test
+    public void testCallerRoles() {
+        Subject subject = new Subject();
+        subject.getPrincipals().add(new TestPrincipal("alice"));
+        SimpleGroup roles = new SimpleGroup("Roles");
+        roles.addMember(new SimplePrincipal("admin"));
+        roles.addMember(new SimplePrincipal("user"));
+        subject.getPrincipals().add(roles);
+        SimpleGroup callerPrincipal = new SimpleGroup("CallerPrincipal");
+        callerPrincipal.addMember(new SimplePrincipal("alice"));
+        subject.getPrincipals().add(callerPrincipal);
+
+        assertEquals(new HashSet<String>(Arrays.asList("admin", "user")), AuthorizationDecisionCache.callerRoles(subject));
+        assertEquals(Collections.emptySet(), AuthorizationDecisionCache.callerRoles(null));
+    }
+
+    @Test
+    public void testInvalidation() {
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache(100);
+        Principal alice = new TestPrincipal("alice");
+        Principal bob = new TestPrincipal("bob");
+        AuthorizationDecisionCache.Key aliceKey = AuthorizationDecisionCache.roleKey(alice, ADMIN, "Bean", "ctx", "admin", null, null);
+        AuthorizationDecisionCache.Key bobKey = AuthorizationDecisionCache.roleKey(bob, ADMIN, "Bean", "ctx", "admin", null, null);
+        cache.put(aliceKey, true);
+        cache.put(bobKey, false);
+
+        cache.invalidate(new TestPrincipal("alice"));
+        assertNull(cache.get(aliceKey));
+        assertNotNull(cache.get(bobKey));
+
+        cache.invalidateAll();
+        assertNull(cache.get(bobKey));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testReauthenticationInvalidatesDecisions() {
+        final AuthorizationDecisionCache cache = new AuthorizationDecisionCache(100);
+        // the default authentication cache notifies the decision cache of principals it replaces on re-authentication
+        SegmentedLRUCache<Principal, Object> authenticationCache = new SegmentedLRUCache<Principal, Object>(10, 0, 0, TimeUnit.MILLISECONDS, new RemoveCallback<Principal, Object>() {
+            @Override
+            public void afterRemove(Principal key, Object value) {
+                cache.invalidate(key);
+            }
+        });
+        Principal alice = new TestPrincipal("alice");
+        authenticationCache.put(alice, new Object());
+        AuthorizationDecisionCache.Key key = AuthorizationDecisionCache.roleKey(alice, ADMIN, "Bean", "ctx", "admin", null, null);
+        cache.put(key, true);
+
+        authenticationCache.put(alice, new Object());
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    public void testReplacedAndEvictedDecisions() {
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache(1);
+        Principal alice = new TestPrincipal("alice");
+        AuthorizationDecisionCache.Key aliceKey = AuthorizationDecisionCache.roleKey(alice, ADMIN, "Bean", "ctx", "admin", null, null);
+        cache.put(aliceKey, true);
+        // replacing a decision keeps it indexed under its principal
+        cache.put(aliceKey, false);
+        cache.invalidate(alice);
+        assertNull(cache.get(aliceKey));
+
+        cache.put(aliceKey, true);
+        AuthorizationDecisionCache.Key bobKey = AuthorizationDecisionCache.roleKey(new TestPrincipal("bob"), ADMIN, "Bean", "ctx", "admin", null, null);
+        cache.put(bobKey, true);
+        assertNull(cache.get(aliceKey));
+        assertSame(Boolean.TRUE, cache.get(bobKey));
+        assertEquals(1, cache.size());
+    }
+
+    private static class TestPrincipal implements Principal {
+        private final String name;
+
+        TestPrincipal(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.name.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return (object instanceof TestPrincipal) && this.name.equals(((TestPrincipal) object).name);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.security.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.security.Principal;
+
+import javax.security.auth.Subject;
+
+import org.jboss.security.AuthenticationManager;
+import org.jboss.security.ISecurityManagement;
+import org.jboss.security.SecurityContext;
+import org.jboss.security.SecurityContextAssociation;
+import org.junit.Test;
+
+/**
+ * Unit tests of the security context push/authenticate/pop sequence performed by the EJB security interceptor for
+ * nested local calls, with and without reuse of the caller's context.
+ */
+public class SimpleSecurityManagerUnitTestCase {
+
+    private static final String DOMAIN = "test";
+    private static final int DEPTH = 8;
+
+    @Test
+    public void testNestedCallsReuseCallerContext() {
+        final SimpleSecurityManager manager = createSecurityManager(true);
+        manager.push(DOMAIN, "user", "password".toCharArray(), new Subject());
+        try {
+            manager.authenticate();
+            final SecurityContext outer = SecurityContextAssociation.getSecurityContext();
+            nested(manager, DEPTH, outer, manager.getCallerPrincipal(), true);
+            assertSame(outer, SecurityContextAssociation.getSecurityContext());
+        } finally {
+            manager.pop();
+        }
+        assertNull(SecurityContextAssociation.getSecurityContext());
+    }
+
+    @Test
+    public void testNestedCallsWithoutReuse() {
+        final SimpleSecurityManager manager = createSecurityManager(false);
+        manager.push(DOMAIN, "user", "password".toCharArray(), new Subject());
+        try {
+            manager.authenticate();
+            final SecurityContext outer = SecurityContextAssociation.getSecurityContext();
+            nested(manager, DEPTH, outer, manager.getCallerPrincipal(), false);
+            assertSame(outer, SecurityContextAssociation.getSecurityContext());
+        } finally {
+            manager.pop();
+        }
+        assertNull(SecurityContextAssociation.getSecurityContext());
+    }
+
+    @Test
+    public void testOtherDomainIsNotReused() {
+        final SimpleSecurityManager manager = createSecurityManager(true);
+        manager.push(DOMAIN, "user", "password".toCharArray(), new Subject());
+        try {
+            manager.authenticate();
+            final SecurityContext outer = SecurityContextAssociation.getSecurityContext();
+
+            manager.push("other");
+            final SecurityContext inner = SecurityContextAssociation.getSecurityContext();
+            assertNotSame(outer, inner);
+            assertEquals("other", inner.getSecurityDomain());
+            manager.pop();
+
+            assertSame(outer, SecurityContextAssociation.getSecurityContext());
+        } finally {
+            manager.pop();
+        }
+        assertNull(SecurityContextAssociation.getSecurityContext());
+    }
+
+    @Test
+    public void testRunAsGetsOwnContext() {
+        final SimpleSecurityManager manager = createSecurityManager(true);
+        manager.push(DOMAIN, "user", "password".toCharArray(), new Subject());
+        try {
+            manager.authenticate();
+            final SecurityContext outer = SecurityContextAssociation.getSecurityContext();
+
+            // a run-as identity requires a context of its own
+            manager.push(DOMAIN);
+            manager.authenticate("role", "runas", null);
+            final SecurityContext inner = SecurityContextAssociation.getSecurityContext();
+            assertNotSame(outer, inner);
+            assertEquals("role", inner.getOutgoingRunAs().getName());
+
+            // and a call nested in the run-as call does not reuse the run-as context
+            manager.push(DOMAIN);
+            assertNotSame(inner, SecurityContextAssociation.getSecurityContext());
+            manager.pop();
+            assertSame(inner, SecurityContextAssociation.getSecurityContext());
+            manager.pop();
+
+            assertSame(outer, SecurityContextAssociation.getSecurityContext());
+            assertNull(outer.getOutgoingRunAs());
+        } finally {
+            manager.pop();
+        }
+        assertNull(SecurityContextAssociation.getSecurityContext());
+    }
+
+    private static void nested(final SimpleSecurityManager manager, final int depth, final SecurityContext outer,
+            final Principal caller, final boolean reused) {
+        if (depth == 0) {
+            return;
+        }
+        final SecurityContext previous = SecurityContextAssociation.getSecurityContext();
+        manager.push(DOMAIN);
+        try {
+            manager.authenticate();
+            if (reused) {
+                assertSame(outer, SecurityContextAssociation.getSecurityContext());
+            } else {
+                assertNotSame(previous, SecurityContextAssociation.getSecurityContext());
+            }
+            assertEquals(caller, manager.getCallerPrincipal());
+            nested(manager, depth - 1, outer, caller, reused);
+        } finally {
+            manager.pop();
+        }
+        assertSame(previous, SecurityContextAssociation.getSecurityContext());
+    }
+
+    private static SimpleSecurityManager createSecurityManager(final boolean reuse) {
+        final SimpleSecurityManager manager = new SimpleSecurityManager();
+        manager.setSecurityManagement(proxy(ISecurityManagement.class, proxy(AuthenticationManager.class, null)));
+        manager.setReuseContext(reuse);
+        return manager;
+    }
+
+    /**
+     * Creates a stub that accepts every credential and returns {@code result} for every other object valued method.
+     */
+    private static <T> T proxy(final Class<T> type, final Object result) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if (method.getDeclaringClass() == Object.class) {
+                    return method.invoke(this, args);
+                }
+                if (method.getReturnType() == boolean.class) {
+                    return Boolean.TRUE;
+                }
+                if (method.getReturnType() == String.class) {
+                    return DOMAIN;
+                }
+                return method.getReturnType().isInstance(result) ? result : null;
+            }
+        }));
+    }
+}
@@ -100,6 +100,7 @@ public interface Constants {
     String SSL = "ssl";
     String STATIC_RESOURCES = "static-resources";
     String TAG_POOLING = "tag-pooling";
+    String TAG_POOL_SIZE = "tag-pool-size";
     String TARGET_VM = "target-vm";
     String TRIM_SPACES = "trim-spaces";
     String WEBDAV = "webdav";
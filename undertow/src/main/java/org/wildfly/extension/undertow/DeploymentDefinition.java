@@ -38,6 +38,7 @@ import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
@@ -46,6 +47,8 @@ import org.jboss.dmr.ModelType;
 import org.jboss.msc.service.ServiceController;
 import org.wildfly.extension.undertow.deployment.UndertowDeploymentService;
 import org.wildfly.extension.undertow.logging.UndertowLogger;
+import org.wildfly.extension.undertow.session.SessionExpirationMetrics;
+import org.wildfly.extension.undertow.session.SessionReplicationMetrics;
 
 /**
  * @author Tomaz Cerar
@@ -119,6 +122,18 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
                     */case SESSIONS_CREATED:
                         result.set(sessionManager.getAllSessions().size());
                         break;
+                    case EXPIRATION_BACKLOG:
+                        result.set((sessionManager instanceof SessionExpirationMetrics) ? ((SessionExpirationMetrics) sessionManager).getExpirationBacklog() : 0L);
+                        break;
+                    case EXPIRATION_LAG:
+                        result.set((sessionManager instanceof SessionExpirationMetrics) ? ((SessionExpirationMetrics) sessionManager).getExpirationLag() : 0L);
+                        break;
+                    case PERFORMED_REPLICATIONS:
+                        result.set((sessionManager instanceof SessionReplicationMetrics) ? ((SessionReplicationMetrics) sessionManager).getPerformedReplications() : 0L);
+                        break;
+                    case SKIPPED_REPLICATIONS:
+                        result.set((sessionManager instanceof SessionReplicationMetrics) ? ((SessionReplicationMetrics) sessionManager).getSkippedReplications() : 0L);
+                        break;
                     /*case DUPLICATED_SESSION_IDS:
                         result.set(sm.getDuplicates());
                         break;
@@ -145,7 +160,11 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
     public enum SessionStat {
         ACTIVE_SESSIONS(new SimpleAttributeDefinitionBuilder("active-sessions", ModelType.INT, false).setStorageRuntime().build()),
         //EXPIRED_SESSIONS(new SimpleAttributeDefinition("expired-sessions", ModelType.INT, false)),
-        SESSIONS_CREATED(new SimpleAttributeDefinitionBuilder("sessions-created", ModelType.INT, false).setStorageRuntime().build());
+        SESSIONS_CREATED(new SimpleAttributeDefinitionBuilder("sessions-created", ModelType.INT, false).setStorageRuntime().build()),
+        EXPIRATION_BACKLOG(new SimpleAttributeDefinitionBuilder("expiration-backlog", ModelType.LONG, false).setStorageRuntime().build()),
+        EXPIRATION_LAG(new SimpleAttributeDefinitionBuilder("expiration-lag", ModelType.LONG, false).setMeasurementUnit(MeasurementUnit.MILLISECONDS).setStorageRuntime().build()),
+        PERFORMED_REPLICATIONS(new SimpleAttributeDefinitionBuilder("performed-replications", ModelType.LONG, false).setStorageRuntime().build()),
+        SKIPPED_REPLICATIONS(new SimpleAttributeDefinitionBuilder("skipped-replications", ModelType.LONG, false).setStorageRuntime().build());
         /*DUPLICATED_SESSION_IDS(new SimpleAttributeDefinition("duplicated-session-ids", ModelType.INT, false)),
         SESSION_AVG_ALIVE_TIME(new SimpleAttributeDefinition("session-avg-alive-time", ModelType.INT, false)),
         SESSION_MAX_ALIVE_TIME(new SimpleAttributeDefinition("session-max-alive-time", ModelType.INT, false)),
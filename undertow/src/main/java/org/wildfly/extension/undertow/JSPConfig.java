@@ -32,6 +32,7 @@ import org.apache.jasper.servlet.JspServlet;
  */
 public class JSPConfig {
     private final ServletInfo servletInfo;
+    private final int tagPoolSize;
 
 
     public JSPConfig(final boolean developmentMode,
@@ -41,7 +42,8 @@ public class JSPConfig {
                      final boolean recompileOnFail, boolean smap, boolean dumpSmap,
                      boolean genStringAsCharArray, boolean errorOnUseBeanInvalidClassAttribute,
                      String scratchDir, String sourceVm, String targetVm, String javaEncoding,
-                     boolean xPoweredBy, boolean displaySourceFragment) {
+                     boolean xPoweredBy, boolean displaySourceFragment, int tagPoolSize) {
+        this.tagPoolSize = tagPoolSize;
         if (disabled) {
             servletInfo = null;
         } else {
@@ -83,4 +85,11 @@ public class JSPConfig {
         }
         return servletInfo.clone();
     }
+
+    /**
+     * @return the maximum number of idle injected instances kept per JSP tag handler class, 0 if tag handlers are not pooled
+     */
+    public int getTagPoolSize() {
+        return tagPoolSize;
+    }
 }
@@ -32,6 +32,7 @@ import org.jboss.as.controller.RestartParentResourceRemoveHandler;
 import org.jboss.as.controller.ServiceVerificationHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.ModelTypeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
@@ -78,6 +79,13 @@ class JspDefinition extends PersistentResourceDefinition {
                     .setDefaultValue(new ModelNode(true))
                     .setAllowExpression(true)
                     .build();
+    protected static final SimpleAttributeDefinition TAG_POOL_SIZE =
+            new SimpleAttributeDefinitionBuilder(Constants.TAG_POOL_SIZE, ModelType.INT, true)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .setValidator(new IntRangeValidator(0, true, true))
+                    .setDefaultValue(new ModelNode(0))
+                    .setAllowExpression(true)
+                    .build();
     protected static final SimpleAttributeDefinition MAPPED_FILE =
             new SimpleAttributeDefinitionBuilder(Constants.MAPPED_FILE, ModelType.BOOLEAN, true)
                     .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
@@ -187,7 +195,8 @@ class JspDefinition extends PersistentResourceDefinition {
             TARGET_VM,
             JAVA_ENCODING,
             X_POWERED_BY,
-            DISPLAY_SOURCE_FRAGMENT
+            DISPLAY_SOURCE_FRAGMENT,
+            TAG_POOL_SIZE
     };
     static final JspDefinition INSTANCE = new JspDefinition();
     static final Map<String, AttributeDefinition> ATTRIBUTES_MAP = new HashMap<>();
@@ -234,10 +243,11 @@ class JspDefinition extends PersistentResourceDefinition {
         String javaEncoding = JAVA_ENCODING.resolveModelAttribute(context, model).asString();
         boolean xPoweredBy = X_POWERED_BY.resolveModelAttribute(context, model).asBoolean();
         boolean displaySourceFragment = DISPLAY_SOURCE_FRAGMENT.resolveModelAttribute(context, model).asBoolean();
+        int tagPoolSize = TAG_POOL_SIZE.resolveModelAttribute(context, model).asInt();
 
         return new JSPConfig(development, disabled, keepGenerated, trimSpaces, tagPooling, mappedFile, checkInterval, modificationTestInterval,
                 recompileOnFile, snap, dumpSnap, generateStringsAsCharArrays, errorOnUseBeanInvalidClassAttribute, scratchDir,
-                sourceVm, targetVm, javaEncoding, xPoweredBy, displaySourceFragment);
+                sourceVm, targetVm, javaEncoding, xPoweredBy, displaySourceFragment, tagPoolSize);
     }
 
     private static class JSPAdd extends RestartParentResourceAddHandler {
@@ -84,6 +84,10 @@ final class ServletContainerAdd extends AbstractBoottimeAddStepHandler {
         final boolean eagerFilterInit = ServletContainerDefinition.EAGER_FILTER_INIT.resolveModelAttribute(context, model).asBoolean();
 
         final int sessionTimeout = ServletContainerDefinition.DEFAULT_SESSION_TIMEOUT.resolveModelAttribute(context, model).asInt();
+        final boolean bucketedSessionExpiration = ServletContainerDefinition.BUCKETED_SESSION_EXPIRATION.resolveModelAttribute(context, model).asBoolean();
+        final int sessionExpirationBatchSize = ServletContainerDefinition.SESSION_EXPIRATION_BATCH_SIZE.resolveModelAttribute(context, model).asInt();
+        final ModelNode sessionScheduleConcurrencyValue = ServletContainerDefinition.SESSION_SCHEDULE_CONCURRENCY.resolveModelAttribute(context, model);
+        final int sessionScheduleConcurrency = sessionScheduleConcurrencyValue.isDefined() ? sessionScheduleConcurrencyValue.asInt() : Runtime.getRuntime().availableProcessors();
 
         final ServletContainerService container = new ServletContainerService(allowNonStandardWrappers,
                 ServletStackTraces.valueOf(stackTracesString.toUpperCase().replace('-', '_')),
@@ -93,7 +97,10 @@ final class ServletContainerAdd extends AbstractBoottimeAddStepHandler {
                 useListenerEncoding,
                 ignoreFlush,
                 eagerFilterInit,
-                sessionTimeout);
+                sessionTimeout,
+                bucketedSessionExpiration,
+                sessionExpirationBatchSize,
+                sessionScheduleConcurrency);
         final ServiceTarget target = context.getServiceTarget();
         final ServiceBuilder<ServletContainerService> builder = target.addService(UndertowService.SERVLET_CONTAINER.append(name), container);
         if(bufferCache != null) {
@@ -36,6 +36,7 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -104,6 +105,28 @@ public class ServletContainerDefinition extends PersistentResourceDefinition {
                     .setDefaultValue(new ModelNode(30))
                     .build(); //30 minutes
 
+    protected static final AttributeDefinition BUCKETED_SESSION_EXPIRATION =
+            new SimpleAttributeDefinitionBuilder("bucketed-session-expiration", ModelType.BOOLEAN, true)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(true))
+                    .build();
+
+    protected static final AttributeDefinition SESSION_EXPIRATION_BATCH_SIZE =
+            new SimpleAttributeDefinitionBuilder("session-expiration-batch-size", ModelType.INT, true)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .setAllowExpression(true)
+                    .setValidator(new IntRangeValidator(1, true, true))
+                    .setDefaultValue(new ModelNode(100))
+                    .build();
+
+    protected static final AttributeDefinition SESSION_SCHEDULE_CONCURRENCY =
+            new SimpleAttributeDefinitionBuilder("session-schedule-concurrency", ModelType.INT, true)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .setAllowExpression(true)
+                    .setValidator(new IntRangeValidator(1, true, true))
+                    .build(); //defaults to the number of available processors
+
     private static final List<? extends PersistentResourceDefinition> CHILDREN;
     private static final Collection<AttributeDefinition> ATTRIBUTES = Arrays.asList(
             ALLOW_NON_STANDARD_WRAPPERS,
@@ -113,7 +136,10 @@ public class ServletContainerDefinition extends PersistentResourceDefinition {
             USE_LISTENER_ENCODING,
             IGNORE_FLUSH,
             EAGER_FILTER_INIT,
-            DEFAULT_SESSION_TIMEOUT);
+            DEFAULT_SESSION_TIMEOUT,
+            BUCKETED_SESSION_EXPIRATION,
+            SESSION_EXPIRATION_BATCH_SIZE,
+            SESSION_SCHEDULE_CONCURRENCY);
 
     static {
         List<PersistentResourceDefinition>  children = new ArrayList<>();
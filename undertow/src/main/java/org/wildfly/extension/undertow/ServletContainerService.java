@@ -51,9 +51,13 @@ public class ServletContainerService implements Service<ServletContainerService>
     private final boolean ignoreFlush;
     private final boolean eagerFilterInit;
     private final int defaultSessionTimeout;
+    private final boolean bucketedSessionExpiration;
+    private final int sessionExpirationBatchSize;
+    private final int sessionScheduleConcurrency;
 
     public ServletContainerService(boolean allowNonStandardWrappers, ServletStackTraces stackTraces, SessionCookieConfig sessionCookieConfig, JSPConfig jspConfig,
-                                   String defaultEncoding, boolean useListenerEncoding, boolean ignoreFlush, boolean eagerFilterInit, int defaultSessionTimeout) {
+                                   String defaultEncoding, boolean useListenerEncoding, boolean ignoreFlush, boolean eagerFilterInit, int defaultSessionTimeout,
+                                   boolean bucketedSessionExpiration, int sessionExpirationBatchSize, int sessionScheduleConcurrency) {
         this.allowNonStandardWrappers = allowNonStandardWrappers;
         this.stackTraces = stackTraces;
         this.sessionCookieConfig = sessionCookieConfig;
@@ -63,6 +67,9 @@ public class ServletContainerService implements Service<ServletContainerService>
         this.ignoreFlush = ignoreFlush;
         this.eagerFilterInit = eagerFilterInit;
         this.defaultSessionTimeout = defaultSessionTimeout;
+        this.bucketedSessionExpiration = bucketedSessionExpiration;
+        this.sessionExpirationBatchSize = sessionExpirationBatchSize;
+        this.sessionScheduleConcurrency = sessionScheduleConcurrency;
     }
 
     public void start(StartContext context) throws StartException {
@@ -132,4 +139,25 @@ public class ServletContainerService implements Service<ServletContainerService>
     public int getDefaultSessionTimeout() {
         return defaultSessionTimeout;
     }
+
+    /**
+     * @return true, if distributable sessions expiring within the same second are expired together, false if each session is expired individually
+     */
+    public boolean isBucketedSessionExpiration() {
+        return bucketedSessionExpiration;
+    }
+
+    /**
+     * @return the maximum number of expired distributable sessions removed per batch
+     */
+    public int getSessionExpirationBatchSize() {
+        return sessionExpirationBatchSize;
+    }
+
+    /**
+     * @return the number of threads that schedule the distributable sessions for which this node becomes the primary owner
+     */
+    public int getSessionScheduleConcurrency() {
+        return sessionScheduleConcurrency;
+    }
 }
@@ -131,6 +131,9 @@ public class UndertowSubsystemParser_2_0 implements XMLStreamConstants, XMLEleme
                                 .addAttribute(ServletContainerDefinition.IGNORE_FLUSH)
                                 .addAttribute(ServletContainerDefinition.EAGER_FILTER_INIT)
                                 .addAttribute(ServletContainerDefinition.DEFAULT_SESSION_TIMEOUT)
+                                .addAttribute(ServletContainerDefinition.BUCKETED_SESSION_EXPIRATION)
+                                .addAttribute(ServletContainerDefinition.SESSION_EXPIRATION_BATCH_SIZE)
+                                .addAttribute(ServletContainerDefinition.SESSION_SCHEDULE_CONCURRENCY)
                                 .addChild(
                                         builder(JspDefinition.INSTANCE)
                                                 .setXmlElementName(Constants.JSP_CONFIG)
@@ -153,7 +156,8 @@ public class UndertowSubsystemParser_2_0 implements XMLStreamConstants, XMLEleme
                                                         JspDefinition.TARGET_VM,
                                                         JspDefinition.JAVA_ENCODING,
                                                         JspDefinition.X_POWERED_BY,
-                                                        JspDefinition.DISPLAY_SOURCE_FRAGMENT)
+                                                        JspDefinition.DISPLAY_SOURCE_FRAGMENT,
+                                                        JspDefinition.TAG_POOL_SIZE)
                                 )
                                 .addChild(
                                         builder(SessionCookieDefinition.INSTANCE)
@@ -36,6 +36,8 @@ import org.jboss.msc.service.ServiceTarget;
 import org.jboss.msc.service.ValueService;
 import org.jboss.msc.service.ServiceController.Mode;
 import org.jboss.msc.value.ImmediateValue;
+import org.wildfly.extension.undertow.ServletContainerService;
+import org.wildfly.extension.undertow.UndertowService;
 import org.wildfly.extension.undertow.session.DistributableSessionManagerFactoryBuilder;
 import org.wildfly.extension.undertow.session.DistributableSessionManagerFactoryBuilderValue;
 import org.wildfly.extension.undertow.session.SharedSessionManagerConfig;
@@ -45,6 +47,12 @@ import org.wildfly.extension.undertow.session.SimpleDistributableSessionManagerC
  * @author Stuart Douglas
  */
 public class SharedSessionManagerDeploymentProcessor implements DeploymentUnitProcessor {
+    private final String defaultServletContainer;
+
+    public SharedSessionManagerDeploymentProcessor(String defaultServletContainer) {
+        this.defaultServletContainer = defaultServletContainer;
+    }
+
     @Override
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
@@ -58,7 +66,9 @@ public class SharedSessionManagerDeploymentProcessor implements DeploymentUnitPr
         DistributableSessionManagerFactoryBuilder builder = new DistributableSessionManagerFactoryBuilderValue().getValue();
         if (builder != null) {
             Module module = deploymentUnit.getAttachment(Attachments.MODULE);
-            builder.build(target, serviceName, new SimpleDistributableSessionManagerConfiguration(sharedConfig, deploymentUnit.getName(), module))
+            SimpleDistributableSessionManagerConfiguration config = new SimpleDistributableSessionManagerConfiguration(sharedConfig, deploymentUnit.getName(), module);
+            builder.build(target, serviceName, config)
+                    .addDependency(UndertowService.SERVLET_CONTAINER.append(this.defaultServletContainer), ServletContainerService.class, config.getServletContainerInjector())
                     .setInitialMode(Mode.ON_DEMAND)
                     .install()
             ;
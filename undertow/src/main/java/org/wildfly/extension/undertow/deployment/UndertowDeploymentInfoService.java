@@ -186,6 +186,7 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
     public static final String UNDERTOW = "undertow";
 
     private DeploymentInfo deploymentInfo;
+    private WebInjectionContainer jspInjectionContainer;
 
     private final JBossWebMetaData mergedMetaData;
     private final String deploymentName;
@@ -392,6 +393,10 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
 
     @Override
     public synchronized void stop(final StopContext stopContext) {
+        if (this.jspInjectionContainer != null) {
+            this.jspInjectionContainer.destroyPooledInstances();
+            this.jspInjectionContainer = null;
+        }
         IoUtils.safeClose(this.deploymentInfo.getResourceManager());
         this.deploymentInfo.setConfidentialPortManager(null);
         this.deploymentInfo = null;
@@ -566,7 +571,8 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
             final ServletInfo jspServlet = jspConfig != null ? jspConfig.createJSPServletInfo() : null;
             if (jspServlet != null) { //this would be null if jsp support is disabled
                 HashMap<String, JspPropertyGroup> propertyGroups = createJspConfig(mergedMetaData);
-                JspServletBuilder.setupDeployment(d, propertyGroups, tldInfo, new UndertowJSPInstanceManager(new WebInjectionContainer(module.getClassLoader(), componentRegistryInjectedValue.getValue())));
+                jspInjectionContainer = new WebInjectionContainer(module.getClassLoader(), componentRegistryInjectedValue.getValue(), jspConfig.getTagPoolSize());
+                JspServletBuilder.setupDeployment(d, propertyGroups, tldInfo, new UndertowJSPInstanceManager(jspInjectionContainer));
 
                 if (mergedMetaData.getJspConfig() != null) {
                     d.setJspConfigDescriptor(new JspConfigDescriptorImpl(tldInfo.values(), propertyGroups.values()));
@@ -302,7 +302,7 @@ public class UndertowDeploymentProcessor implements DeploymentUnitProcessor {
         if (sharedSessionManagerConfig != null) {
             infoBuilder.addDependency(deploymentUnit.getParent().getServiceName().append(SharedSessionManagerConfig.SHARED_SESSION_MANAGER_SERVICE_NAME), SessionManagerFactory.class, undertowDeploymentInfoService.getSessionManagerFactoryInjector());
         } else {
-            ServiceName sessionManagerFactoryServiceName = installSessionManagerFactory(serviceTarget, deploymentServiceName, deploymentName, module, metaData);
+            ServiceName sessionManagerFactoryServiceName = installSessionManagerFactory(serviceTarget, deploymentServiceName, deploymentName, module, metaData, defaultContainer);
             if (sessionManagerFactoryServiceName != null) {
                 infoBuilder.addDependency(sessionManagerFactoryServiceName, SessionManagerFactory.class, undertowDeploymentInfoService.getSessionManagerFactoryInjector());
             }
@@ -361,12 +361,14 @@ public class UndertowDeploymentProcessor implements DeploymentUnitProcessor {
         processManagement(deploymentUnit, metaData);
     }
 
-    private static ServiceName installSessionManagerFactory(ServiceTarget target, ServiceName deploymentServiceName, String deploymentName, Module module, JBossWebMetaData metaData) {
+    private static ServiceName installSessionManagerFactory(ServiceTarget target, ServiceName deploymentServiceName, String deploymentName, Module module, JBossWebMetaData metaData, String servletContainerName) {
         if (metaData.getDistributable() != null) {
             DistributableSessionManagerFactoryBuilder sessionManagerFactoryBuilder = new DistributableSessionManagerFactoryBuilderValue().getValue();
             if (sessionManagerFactoryBuilder != null) {
                 ServiceName name = deploymentServiceName.append("session");
-                sessionManagerFactoryBuilder.build(target, name, new SimpleDistributableSessionManagerConfiguration(metaData, deploymentName, module))
+                SimpleDistributableSessionManagerConfiguration config = new SimpleDistributableSessionManagerConfiguration(metaData, deploymentName, module);
+                sessionManagerFactoryBuilder.build(target, name, config)
+                        .addDependency(UndertowService.SERVLET_CONTAINER.append(servletContainerName), ServletContainerService.class, config.getServletContainerInjector())
                         .setInitialMode(Mode.ON_DEMAND)
                         .install()
                 ;
@@ -22,6 +22,7 @@
 package org.wildfly.extension.undertow.session;
 
 import org.jboss.metadata.web.jboss.ReplicationGranularity;
+import org.jboss.metadata.web.jboss.ReplicationTrigger;
 import org.jboss.modules.Module;
 
 public interface DistributableSessionManagerConfiguration {
@@ -29,9 +30,17 @@ public interface DistributableSessionManagerConfiguration {
 
     ReplicationGranularity getGranularity();
 
+    ReplicationTrigger getTrigger();
+
     String getDeploymentName();
 
     Module getModule();
 
     String getCacheName();
+
+    boolean isBucketedExpirationEnabled();
+
+    int getExpirationBatchSize();
+
+    int getScheduleConcurrency();
 }
@@ -24,7 +24,11 @@ package org.wildfly.extension.undertow.session;
 import org.jboss.metadata.web.jboss.JBossWebMetaData;
 import org.jboss.metadata.web.jboss.ReplicationConfig;
 import org.jboss.metadata.web.jboss.ReplicationGranularity;
+import org.jboss.metadata.web.jboss.ReplicationTrigger;
 import org.jboss.modules.Module;
+import org.jboss.msc.inject.Injector;
+import org.jboss.msc.value.InjectedValue;
+import org.wildfly.extension.undertow.ServletContainerService;
 
 /**
  * Simple {@link DistributableSessionManagerConfiguration} implementation that delegates to {@link JBossWebMetaData}.
@@ -36,6 +40,7 @@ public class SimpleDistributableSessionManagerConfiguration implements Distribut
     private final ReplicationConfig replicationConfig;
     private final String deploymentName;
     private final Module module;
+    private final InjectedValue<ServletContainerService> container = new InjectedValue<>();
 
     public SimpleDistributableSessionManagerConfiguration(JBossWebMetaData metaData, String deploymentName, Module module) {
         this(metaData.getMaxActiveSessions(), metaData.getReplicationConfig(), deploymentName, module);
@@ -62,6 +67,11 @@ public class SimpleDistributableSessionManagerConfiguration implements Distribut
         return ((this.replicationConfig != null) && (this.replicationConfig.getReplicationGranularity() != null)) ? this.replicationConfig.getReplicationGranularity() : ReplicationGranularity.SESSION;
     }
 
+    @Override
+    public ReplicationTrigger getTrigger() {
+        return ((this.replicationConfig != null) && (this.replicationConfig.getReplicationTrigger() != null)) ? this.replicationConfig.getReplicationTrigger() : ReplicationTrigger.SET_AND_NON_PRIMITIVE_GET;
+    }
+
     @Override
     public String getDeploymentName() {
         return this.deploymentName;
@@ -76,4 +86,23 @@ public class SimpleDistributableSessionManagerConfiguration implements Distribut
     public String getCacheName() {
         return (this.replicationConfig != null) ? this.replicationConfig.getCacheName() : null;
     }
+
+    @Override
+    public boolean isBucketedExpirationEnabled() {
+        return this.container.getValue().isBucketedSessionExpiration();
+    }
+
+    @Override
+    public int getExpirationBatchSize() {
+        return this.container.getValue().getSessionExpirationBatchSize();
+    }
+
+    @Override
+    public int getScheduleConcurrency() {
+        return this.container.getValue().getSessionScheduleConcurrency();
+    }
+
+    public Injector<ServletContainerService> getServletContainerInjector() {
+        return this.container;
+    }
 }
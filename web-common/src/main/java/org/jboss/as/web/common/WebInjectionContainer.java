@@ -24,8 +24,13 @@ package org.jboss.as.web.common;
 import java.lang.reflect.InvocationTargetException;
 import java.util.EnumSet;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.naming.NamingException;
+import javax.servlet.jsp.tagext.Tag;
 
 import org.jboss.as.ee.component.ComponentRegistry;
 import org.jboss.as.naming.ManagedReference;
@@ -33,6 +38,10 @@ import org.jboss.as.naming.ManagedReferenceFactory;
 
 /**
  * The web injection container.
+ * <p/>
+ * Injected classic JSP tag handlers can optionally be pooled per tag handler class: an instance passed to
+ * {@link #destroyInstance(Object)}, which the JSP runtime only does once the handler's {@code release()} has been
+ * called, is kept with its injection and handed out again by {@link #newInstance(Class)} instead of injecting a new one.
  *
  * @author Emanuel Muckenhuber
  */
@@ -41,10 +50,21 @@ public class WebInjectionContainer {
     private final ClassLoader classloader;
     private final ComponentRegistry componentRegistry;
     private final Map<Object, ManagedReference> instanceMap;
+    private final int tagPoolSize;
+    private final ConcurrentMap<Class<?>, BlockingQueue<ManagedReference>> tagPools = new ConcurrentHashMap<Class<?>, BlockingQueue<ManagedReference>>();
+    private volatile boolean stopped;
 
     public WebInjectionContainer(ClassLoader classloader, final ComponentRegistry componentRegistry) {
+        this(classloader, componentRegistry, 0);
+    }
+
+    /**
+     * @param tagPoolSize the maximum number of idle instances kept per tag handler class, 0 to disable pooling
+     */
+    public WebInjectionContainer(ClassLoader classloader, final ComponentRegistry componentRegistry, final int tagPoolSize) {
         this.classloader = classloader;
         this.componentRegistry = componentRegistry;
+        this.tagPoolSize = tagPoolSize;
         this.instanceMap = new ConcurrentReferenceHashMap<Object, ManagedReference>
                 (256, ConcurrentReferenceHashMap.DEFAULT_LOAD_FACTOR,
                         Runtime.getRuntime().availableProcessors(), ConcurrentReferenceHashMap.ReferenceType.STRONG,
@@ -53,6 +73,19 @@ public class WebInjectionContainer {
 
 
     public void destroyInstance(Object instance) {
+        if (tagPoolSize > 0 && !stopped && instance instanceof Tag) {
+            final ManagedReference reference = instanceMap.get(instance);
+            // the pool holds the reference strongly, the instance stays registered for when it is finally destroyed
+            if (reference != null) {
+                final BlockingQueue<ManagedReference> pool = getTagPool(instance.getClass());
+                if (pool.offer(reference)) {
+                    // the pools may have been drained concurrently, take the reference back unless the drain released it
+                    if (!stopped || !pool.remove(reference)) {
+                        return;
+                    }
+                }
+            }
+        }
         final ManagedReference reference = instanceMap.remove(instance);
         if (reference != null) {
             reference.release();
@@ -64,6 +97,15 @@ public class WebInjectionContainer {
     }
 
     public Object newInstance(Class<?> clazz) throws IllegalAccessException, InvocationTargetException, NamingException, InstantiationException {
+        if (tagPoolSize > 0) {
+            final BlockingQueue<ManagedReference> pool = tagPools.get(clazz);
+            if (pool != null) {
+                final ManagedReference pooled = pool.poll();
+                if (pooled != null) {
+                    return pooled.getInstance();
+                }
+            }
+        }
         final ManagedReferenceFactory factory = componentRegistry.createInstanceFactory(clazz);
         ManagedReference reference = factory.getReference();
         if (reference != null) {
@@ -84,7 +126,34 @@ public class WebInjectionContainer {
         return newInstance(cl.loadClass(className));
     }
 
+    /**
+     * Destroys the pooled tag handler instances and stops pooling, instances destroyed afterwards are released directly.
+     */
+    public void destroyPooledInstances() {
+        stopped = true;
+        for (BlockingQueue<ManagedReference> pool : tagPools.values()) {
+            ManagedReference reference = pool.poll();
+            while (reference != null) {
+                instanceMap.remove(reference.getInstance());
+                reference.release();
+                reference = pool.poll();
+            }
+        }
+    }
+
     public ComponentRegistry getComponentRegistry() {
         return componentRegistry;
     }
+
+    private BlockingQueue<ManagedReference> getTagPool(Class<?> clazz) {
+        BlockingQueue<ManagedReference> pool = tagPools.get(clazz);
+        if (pool == null) {
+            pool = new ArrayBlockingQueue<ManagedReference>(tagPoolSize);
+            BlockingQueue<ManagedReference> existing = tagPools.putIfAbsent(clazz, pool);
+            if (existing != null) {
+                pool = existing;
+            }
+        }
+        return pool;
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.web.common;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.servlet.jsp.tagext.TagSupport;
+
+import org.jboss.as.ee.component.ComponentRegistry;
+import org.jboss.as.naming.ManagedReference;
+import org.jboss.as.naming.ManagedReferenceFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for tag handler pooling in {@link WebInjectionContainer}.
+ */
+public class WebInjectionContainerTestCase {
+
+    private final ComponentRegistry registry = mock(ComponentRegistry.class);
+    private final ManagedReferenceFactory factory = mock(ManagedReferenceFactory.class);
+    private final ManagedReference reference1 = mock(ManagedReference.class);
+    private final ManagedReference reference2 = mock(ManagedReference.class);
+    private final TagSupport tag1 = new TagSupport();
+    private final TagSupport tag2 = new TagSupport();
+
+    public WebInjectionContainerTestCase() {
+        when(this.registry.createInstanceFactory(TagSupport.class)).thenReturn(this.factory);
+        when(this.factory.getReference()).thenReturn(this.reference1, this.reference2);
+        when(this.reference1.getInstance()).thenReturn(this.tag1);
+        when(this.reference2.getInstance()).thenReturn(this.tag2);
+    }
+
+    @Test
+    public void pooled() throws Exception {
+        WebInjectionContainer container = new WebInjectionContainer(this.getClass().getClassLoader(), this.registry, 1);
+
+        assertSame(this.tag1, container.newInstance(TagSupport.class));
+        container.destroyInstance(this.tag1);
+        verify(this.reference1, never()).release();
+
+        // the released handler is handed out again without a new injection
+        assertSame(this.tag1, container.newInstance(TagSupport.class));
+        assertSame(this.tag2, container.newInstance(TagSupport.class));
+        verify(this.factory, times(2)).getReference();
+
+        container.destroyInstance(this.tag1);
+        // the pool is full
+        container.destroyInstance(this.tag2);
+        verify(this.reference2).release();
+
+        container.destroyPooledInstances();
+        verify(this.reference1).release();
+    }
+
+    @Test
+    public void releasedAfterStop() throws Exception {
+        WebInjectionContainer container = new WebInjectionContainer(this.getClass().getClassLoader(), this.registry, 1);
+
+        assertSame(this.tag1, container.newInstance(TagSupport.class));
+        container.destroyPooledInstances();
+
+        // a handler still in use when the deployment stopped is released when it is returned
+        container.destroyInstance(this.tag1);
+        verify(this.reference1).release();
+        assertSame(this.tag2, container.newInstance(TagSupport.class));
+    }
+
+    @Test
+    public void notPooled() throws Exception {
+        WebInjectionContainer container = new WebInjectionContainer(this.getClass().getClassLoader(), this.registry);
+
+        assertSame(this.tag1, container.newInstance(TagSupport.class));
+        container.destroyInstance(this.tag1);
+        verify(this.reference1).release();
+        assertNotSame(this.tag1, container.newInstance(TagSupport.class));
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.weld.deployment;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.as.weld.logging.WeldLogger;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * On-disk cache of the class index of bean archive files, reused across deployments and server restarts.
+ * The index of an archive holds the class info of each of its classes, including their annotations, so a cached archive
+ * needs neither to be opened nor its class files read to determine its classes, the classes carrying a bean defining
+ * annotation, or the class file info used by Weld.
+ * <p>
+ * There is one entry per archive path, which records the size and modification time of the archive it was created from,
+ * so an archive that is replaced or modified is reindexed and its entry overwritten. Entries of archives that no longer
+ * exist are pruned once per server start. Any problem reading an entry is treated as a cache miss.
+ */
+public class BeanArchiveCache {
+
+    /**
+     * System property that disables the cache when set to {@code false}.
+     */
+    public static final String ENABLED_PROPERTY = "org.jboss.as.weld.bean-archive-cache";
+
+    private static final String SERVER_DATA_DIR = "jboss.server.data.dir";
+    private static final String CACHE_DIR = "weld" + File.separator + "bean-archives";
+    private static final String ENTRY_SUFFIX = ".index";
+    private static final String TEMP_SUFFIX = ".tmp";
+    // Bump whenever the format of an entry, or what is discovered in an archive, changes
+    private static final String VERSION = "3";
+    private static final AtomicBoolean PRUNED = new AtomicBoolean(false);
+
+    private final File directory;
+    private int hits = 0;
+    private int misses = 0;
+
+    /**
+     * Creates a cache located in the server data directory, or a disabled cache if there is no such directory
+     * or the cache was disabled via {@link #ENABLED_PROPERTY}.
+     * The first cache created prunes the entries of archives that no longer exist.
+     */
+    public static BeanArchiveCache create() {
+        String dataDir = WildFlySecurityManager.getPropertyPrivileged(SERVER_DATA_DIR, null);
+        boolean enabled = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, Boolean.TRUE.toString()));
+        BeanArchiveCache cache = new BeanArchiveCache((enabled && (dataDir != null)) ? new File(dataDir, CACHE_DIR) : null);
+        if (PRUNED.compareAndSet(false, true)) {
+            cache.prune(ManagementFactory.getRuntimeMXBean().getStartTime());
+        }
+        return cache;
+    }
+
+    public BeanArchiveCache(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the index of the specified archive, as recorded by a previous {@link #store(File, Index)}.
+     *
+     * @return the index of the archive, or null if it was not found in the cache or the archive changed since
+     */
+    public Index load(File archive) {
+        File entry = this.getEntry(archive);
+        if (entry == null) return null;
+        if (entry.isFile()) {
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(entry)))) {
+                if (header(archive).equals(input.readUTF())) {
+                    Index index = new IndexReader(input).read();
+                    this.hits += 1;
+                    return index;
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Could not read cached bean archive metadata %s", entry);
+            }
+        }
+        this.misses += 1;
+        return null;
+    }
+
+    /**
+     * Records the index of the specified archive, replacing any entry recorded for a previous version of the archive.
+     */
+    public void store(File archive, Index index) {
+        File entry = this.getEntry(archive);
+        if (entry == null) return;
+        try {
+            String header = header(archive);
+            this.directory.mkdirs();
+            // Write to a temporary file first, so that concurrent readers never observe a partial entry
+            File temp = File.createTempFile(entry.getName(), TEMP_SUFFIX, this.directory);
+            try {
+                try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                    output.writeUTF(header);
+                    new IndexWriter(output).write(index);
+                }
+                Files.move(temp.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                temp.delete();
+            }
+        } catch (IOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.couldNotCacheBeanArchive(archive, e);
+        }
+    }
+
+    /**
+     * Removes the entries of archives that no longer exist, unreadable entries and entries of a previous format,
+     * as well as temporary files older than the specified time, which were left behind by an interrupted {@link #store(File, Index)}.
+     *
+     * @param time a time in milliseconds since the epoch, before which no store can still be in progress
+     */
+    public void prune(long time) {
+        File[] entries = (this.directory != null) ? this.directory.listFiles() : null;
+        if (entries == null) return;
+        for (File entry : entries) {
+            if (entry.getName().endsWith(TEMP_SUFFIX)) {
+                if (entry.lastModified() < time) {
+                    entry.delete();
+                }
+                continue;
+            }
+            if (!entry.getName().endsWith(ENTRY_SUFFIX)) {
+                // e.g. an entry of a previous format
+                entry.delete();
+                continue;
+            }
+            String header = null;
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(entry)))) {
+                header = input.readUTF();
+            } catch (IOException e) {
+                WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Could not read cached bean archive metadata %s", entry);
+            }
+            // Header is of the form: version, size, modification time, path
+            String[] fields = (header != null) ? header.split("\t", 4) : null;
+            if ((fields == null) || (fields.length < 4) || !fields[0].equals(VERSION) || !new File(fields[3]).isFile()) {
+                entry.delete();
+            }
+        }
+    }
+
+    /**
+     * @return the number of archives found in the cache
+     */
+    public int getHits() {
+        return this.hits;
+    }
+
+    /**
+     * @return the number of archives not found in the cache, not counting lookups while the cache is disabled
+     */
+    public int getMisses() {
+        return this.misses;
+    }
+
+    private static String header(File archive) throws IOException {
+        return VERSION + '\t' + archive.length() + '\t' + archive.lastModified() + '\t' + archive.getCanonicalPath();
+    }
+
+    private File getEntry(File archive) {
+        if ((this.directory == null) || !archive.isFile()) return null;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            StringBuilder name = new StringBuilder();
+            for (byte b : digest.digest(archive.getCanonicalPath().getBytes(StandardCharsets.UTF_8))) {
+                name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return new File(this.directory, name.append(ENTRY_SUFFIX).toString());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+}
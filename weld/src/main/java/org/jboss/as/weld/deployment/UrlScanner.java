@@ -24,10 +24,12 @@ package org.jboss.as.weld.deployment;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.zip.ZipEntry;
@@ -35,11 +37,30 @@ import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
 
 import org.jboss.as.weld.logging.WeldLogger;
+import org.jboss.as.weld.util.Indices;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
 import org.jboss.vfs.VFS;
 import org.jboss.vfs.VirtualFile;
 
+import com.google.common.collect.Collections2;
+
 public class UrlScanner {
 
+    private final BeanArchiveCache cache;
+    private Index index;
+
+    public UrlScanner() {
+        this(new BeanArchiveCache(null));
+    }
+
+    /**
+     * @param cache cache of the class index of archive files
+     */
+    public UrlScanner(BeanArchiveCache cache) {
+        this.cache = cache;
+    }
+
 
     public boolean handleBeansXml(final URL url, final List<String> discoveredClasses) {
         String urlPath = url.toExternalForm();
@@ -86,6 +107,15 @@ public class UrlScanner {
         }
     }
 
+    /**
+     * Returns the class index of the bean archive scanned by {@link #handleBeansXml(URL, List)}.
+     *
+     * @return the index of the archive, or null if the bean archive is not an archive file, or could not be indexed
+     */
+    public Index getIndex() {
+        return index;
+    }
+
     private void handle(VirtualFile urlPath, List<String> discoveredClasses) {
         WeldLogger.DEPLOYMENT_LOGGER.tracef("scanning: %s", urlPath);
         handleDirectory(urlPath, null, discoveredClasses);
@@ -114,18 +144,42 @@ public class UrlScanner {
     }
 
     private void handleArchiveByFile(File file, List<String> discoveredClasses) throws IOException {
+        Index cached = cache.load(file);
+        if (cached != null) {
+            WeldLogger.DEPLOYMENT_LOGGER.tracef("archive (cached): %s", file);
+            index = cached;
+            discoveredClasses.addAll(Collections2.transform(cached.getKnownClasses(), Indices.CLASS_INFO_TO_FQCN));
+            return;
+        }
         try {
             WeldLogger.DEPLOYMENT_LOGGER.trace("archive: " + file);
 
-            String archiveUrl = "jar:" + file.toURI().toURL().toExternalForm() + "!/";
-            ZipFile zip = new ZipFile(file);
-            Enumeration<? extends ZipEntry> entries = zip.entries();
-
-            while (entries.hasMoreElements()) {
-                ZipEntry entry = entries.nextElement();
-                String name = entry.getName();
-                handleFile(name, discoveredClasses);
+            List<String> archiveClasses = new ArrayList<String>();
+            Indexer indexer = new Indexer();
+            boolean indexed = true;
+            try (ZipFile zip = new ZipFile(file)) {
+                Enumeration<? extends ZipEntry> entries = zip.entries();
+
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    String name = entry.getName();
+                    handleFile(name, archiveClasses);
+                    if (indexed && name.endsWith(".class")) {
+                        try (InputStream input = zip.getInputStream(entry)) {
+                            indexer.index(input);
+                        } catch (IOException | RuntimeException e) {
+                            // the classes of the archive are still discovered, but the archive is neither indexed nor cached
+                            WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Could not index %s of %s", name, file);
+                            indexed = false;
+                        }
+                    }
+                }
+            }
+            if (indexed) {
+                index = indexer.complete();
+                cache.store(file, index);
             }
+            discoveredClasses.addAll(archiveClasses);
         } catch (ZipException e) {
             throw new RuntimeException("Error handling file " + file, e);
         }
@@ -39,6 +39,8 @@ public class WeldClassIntrospector implements EEClassIntrospector, Service<EECla
 
     private final ConcurrentMap<Class<?>, InjectionTarget<?>> injectionTargets = new ConcurrentHashMap<>();
 
+    private final ConcurrentMap<Class<?>, ManagedReferenceFactory> factories = new ConcurrentHashMap<>();
+
     public static void install(final DeploymentUnit deploymentUnit, final ServiceTarget serviceTarget) {
         final WeldClassIntrospector introspector = new WeldClassIntrospector();
         serviceTarget.addService(serviceName(deploymentUnit), introspector)
@@ -52,10 +54,13 @@ public class WeldClassIntrospector implements EEClassIntrospector, Service<EECla
 
     @Override
     public ManagedReferenceFactory createFactory(Class<?> clazz) {
-
+        ManagedReferenceFactory factory = factories.get(clazz);
+        if (factory != null) {
+            return factory;
+        }
         final BeanManager beanManager = this.beanManager.getValue();
         final InjectionTarget injectionTarget = getInjectionTarget(clazz);
-        return new ManagedReferenceFactory() {
+        factory = new ManagedReferenceFactory() {
             @Override
             public ManagedReference getReference() {
                 final CreationalContext context = beanManager.createCreationalContext(null);
@@ -65,6 +70,8 @@ public class WeldClassIntrospector implements EEClassIntrospector, Service<EECla
                 return new WeldManagedReference(injectionTarget, context, instance);
             }
         };
+        ManagedReferenceFactory existing = factories.putIfAbsent(clazz, factory);
+        return (existing != null) ? existing : factory;
     }
 
     private InjectionTarget getInjectionTarget(Class<?> clazz) {
@@ -116,6 +123,7 @@ public class WeldClassIntrospector implements EEClassIntrospector, Service<EECla
 
     @Override
     public void stop(StopContext stopContext) {
+        factories.clear();
         injectionTargets.clear();
     }
 
@@ -39,7 +39,9 @@ import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.DeploymentUnitProcessor;
+import org.jboss.as.server.deployment.annotation.CompositeIndex;
 import org.jboss.as.weld.logging.WeldLogger;
+import org.jboss.as.weld.deployment.BeanArchiveCache;
 import org.jboss.as.weld.deployment.BeanDeploymentArchiveImpl;
 import org.jboss.as.weld.deployment.BeanDeploymentArchiveImpl.BeanArchiveType;
 import org.jboss.as.weld.deployment.ExplicitBeanArchiveMetadata;
@@ -47,19 +49,27 @@ import org.jboss.as.weld.deployment.ExplicitBeanArchiveMetadataContainer;
 import org.jboss.as.weld.deployment.PropertyReplacingBeansXmlParser;
 import org.jboss.as.weld.deployment.UrlScanner;
 import org.jboss.as.weld.deployment.WeldAttachments;
+import org.jboss.as.weld.discovery.AnnotationType;
+import org.jboss.as.weld.discovery.WeldClassFileServices;
 import org.jboss.as.weld.services.bootstrap.WeldJaxwsInjectionServices;
 import org.jboss.as.weld.services.bootstrap.WeldJpaInjectionServices;
+import org.jboss.as.weld.util.Indices;
+import org.jboss.jandex.Index;
 import org.jboss.modules.DependencySpec;
 import org.jboss.modules.Module;
 import org.jboss.modules.ModuleDependencySpec;
 import org.jboss.modules.ModuleLoadException;
 import org.jboss.modules.ModuleLoader;
 import org.jboss.modules.Resource;
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
 import org.jboss.weld.bootstrap.spi.BeansXml;
 import org.jboss.weld.injection.spi.JaxwsInjectionServices;
 import org.jboss.weld.injection.spi.JpaInjectionServices;
+import org.jboss.weld.resources.spi.ClassFileServices;
 import org.jboss.weld.xml.BeansXmlParser;
 
+import com.google.common.collect.Lists;
+
 /**
  * Deployment processor that builds bean archives from external deployments.
  * <p/>
@@ -98,6 +108,9 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
         PropertyReplacingBeansXmlParser parser = new PropertyReplacingBeansXmlParser(deploymentUnit);
 
         final HashSet<URL> existing = new HashSet<URL>();
+        final BeanArchiveCache cache = BeanArchiveCache.create();
+        final Set<AnnotationType> beanDefiningAnnotations = new HashSet<>(deploymentUnit.getAttachmentList(WeldAttachments.BEAN_DEFINING_ANNOTATIONS));
+        beanDefiningAnnotations.addAll(deploymentUnit.getAttachmentList(WeldAttachments.INJECTION_TARGET_DEFINING_ANNOTATIONS));
 
         for (DeploymentUnit deployment : deploymentUnits) {
             try {
@@ -125,7 +138,7 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
         for (DeploymentUnit deployment : deploymentUnits) {
             final Module module = deployment.getAttachment(Attachments.MODULE);
             if (module == null) {
-                return;
+                break;
             }
             for (DependencySpec dep : module.getDependencies()) {
                 final Module dependency = loadModuleDependency(dep);
@@ -150,16 +163,25 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
                     WeldLogger.DEPLOYMENT_LOGGER.debugf("Found external beans.xml: %s", url.toString());
                     final BeansXml beansXml = parseBeansXml(url, parser, deploymentUnit);
 
-                    final UrlScanner urlScanner = new UrlScanner();
+                    final UrlScanner urlScanner = new UrlScanner(cache);
 
                     final List<String> discoveredClasses = new ArrayList<String>();
                     if(!urlScanner.handleBeansXml(url, discoveredClasses)) {
                         continue;
                     }
+                    final Index index = urlScanner.getIndex();
+                    if (index != null && beansXml.getBeanDiscoveryMode().equals(BeanDiscoveryMode.ANNOTATED)) {
+                        // only classes with a bean defining annotation are beans, which requires the class index of the archive
+                        discoveredClasses.retainAll(getImplicitBeanClasses(index, beanDefiningAnnotations));
+                    }
                     discoveredClasses.removeAll(componentClassNames);
 
                     final BeanDeploymentArchiveImpl bda = new BeanDeploymentArchiveImpl(new HashSet<String>(discoveredClasses), beansXml, dependency, beanArchiveIdPrefix + url.toExternalForm(), BeanArchiveType.EXTERNAL);
                     WeldLogger.DEPLOYMENT_LOGGER.beanArchiveDiscovered(bda);
+                    if (index != null) {
+                        // the classes of an external archive are not part of the deployment index
+                        bda.getServices().add(ClassFileServices.class, new WeldClassFileServices(new CompositeIndex(Collections.singleton(index)), dependency.getClassLoader()));
+                    }
 
                     final JpaInjectionServices jpaInjectionServices = new WeldJpaInjectionServices(deploymentUnit);
                     final JaxwsInjectionServices jaxwsInjectionServices = new WeldJaxwsInjectionServices(deploymentUnit);
@@ -172,6 +194,18 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
                 }
             }
         }
+
+        if (cache.getHits() + cache.getMisses() > 0) {
+            WeldLogger.DEPLOYMENT_LOGGER.externalBeanArchivesCached(cache.getHits(), cache.getHits() + cache.getMisses(), deploymentUnit.getName());
+        }
+    }
+
+    private static Set<String> getImplicitBeanClasses(Index index, Set<AnnotationType> beanDefiningAnnotations) {
+        Set<String> implicitBeanClasses = new HashSet<String>();
+        for (AnnotationType beanDefiningAnnotation : beanDefiningAnnotations) {
+            implicitBeanClasses.addAll(Lists.transform(Indices.getAnnotatedClasses(index.getAnnotations(beanDefiningAnnotation.getName())), Indices.CLASS_INFO_TO_FQCN));
+        }
+        return implicitBeanClasses;
     }
 
     private URL findExportedLocalBeansXml(Module dependencyModule) {
@@ -221,7 +221,7 @@ public class WeldDeploymentProcessor implements DeploymentUnitProcessor {
             beanDeploymentArchives.add(additional);
             additional.getServices().add(EjbInjectionServices.class, ejbInjectionServices);
             additional.getServices().add(ResourceInjectionServices.class, resourceInjectionServices);
-            if (classFileServices != null) {
+            if (classFileServices != null && !additional.getServices().contains(ClassFileServices.class)) {
                 additional.getServices().add(ClassFileServices.class, classFileServices);
             }
         }
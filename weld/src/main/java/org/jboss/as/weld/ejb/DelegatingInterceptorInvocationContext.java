@@ -19,7 +19,6 @@ package org.jboss.as.weld.ejb;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -33,17 +32,24 @@ public class DelegatingInterceptorInvocationContext implements InvocationContext
 
     private InvocationContext delegateInvocationContext;
 
-    private final List<Interceptor> invocationQueue;
-    private final List<Object> interceptorInstances;
+    private final Interceptor[] invocationQueue;
+    private final Object[] interceptorInstances;
     private int position;
 
     private InterceptionType interceptionType;
 
     public DelegatingInterceptorInvocationContext(InvocationContext delegateInvocationContext, List<Interceptor<?>> interceptors, List<Object> instances, InterceptionType interceptionType) {
+        this(delegateInvocationContext, interceptors.toArray(new Interceptor<?>[interceptors.size()]), instances.toArray(), interceptionType);
+    }
+
+    /**
+     * Creates an invocation context over the specified interceptors, which are not copied.
+     */
+    public DelegatingInterceptorInvocationContext(InvocationContext delegateInvocationContext, Interceptor<?>[] interceptors, Object[] instances, InterceptionType interceptionType) {
         this.delegateInvocationContext = delegateInvocationContext;
         this.interceptionType = interceptionType;
-        this.invocationQueue = new ArrayList<Interceptor>(interceptors);
-        this.interceptorInstances = new ArrayList<Object>(instances);
+        this.invocationQueue = interceptors;
+        this.interceptorInstances = instances;
         position = 0;
     }
 
@@ -71,10 +77,10 @@ public class DelegatingInterceptorInvocationContext implements InvocationContext
     public Object proceed() throws Exception {
         int oldPosition = position;
         try {
-            if (position < invocationQueue.size()) {
-                Object interceptorInstance = interceptorInstances.get(position);
+            if (position < invocationQueue.length) {
+                Object interceptorInstance = interceptorInstances[position];
                 try {
-                    return invocationQueue.get(position++).intercept(interceptionType, interceptorInstance, this);
+                    return invocationQueue[position++].intercept(interceptionType, interceptorInstance, this);
                 } catch (Exception e) {
                     // Unwrap WeldException
                     if (e instanceof WeldException && e.getCause() instanceof Exception) {
@@ -20,6 +20,8 @@ package org.jboss.as.weld.ejb;
 import java.io.Serializable;
 import java.security.AccessController;
 
+import javax.enterprise.context.RequestScoped;
+
 import org.jboss.as.server.CurrentServiceContainer;
 import org.jboss.as.weld.WeldBootstrapService;
 import org.jboss.invocation.Interceptor;
@@ -35,8 +37,9 @@ import org.jboss.weld.manager.BeanManagerImpl;
 /**
  * Interceptor for activating the CDI request scope on some EJB invocations.
  * <p/>
- * For efficiency reasons we do not check to see if the scope is already active. For this reason this interceptor
- * can only be used for request paths where we know that the scope is not active, such as MDB's and the timer service.
+ * If a request context is already active on the current thread, the invocation simply proceeds, checking the EJB
+ * request context first. This interceptor is intended for request paths where the scope is not usually active, such
+ * as MDB's and the timer service.
  * <p/>
  * Remote EJB invocations must also have the request scope active, but it may already be active for in-VM requests.
  * <p/>
@@ -80,9 +83,21 @@ public class EjbRequestScopeActivationInterceptor extends AbstractEJBRequestScop
 
     @Override
     public Object processInvocation(final InterceptorContext context) throws Exception {
+        if (isRequestScopeActive()) {
+            return context.proceed();
+        }
         return aroundInvoke(context.getInvocationContext());
     }
 
+    boolean isRequestScopeActive() {
+        // fast path for nested invocations on a request path for which this interceptor already activated the scope
+        if (getEjbRequestContext().isActive()) {
+            return true;
+        }
+        // fast path for in-VM invocations from a request for which another request context is active
+        return getBeanManager().isContextActive(RequestScoped.class);
+    }
+
 
     public static class Factory implements InterceptorFactory {
 
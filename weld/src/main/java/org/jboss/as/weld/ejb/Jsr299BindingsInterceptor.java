@@ -17,8 +17,11 @@
 
 package org.jboss.as.weld.ejb;
 
-import java.util.ArrayList;
+import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.enterprise.inject.spi.InterceptionType;
 import javax.enterprise.inject.spi.Interceptor;
@@ -33,6 +36,7 @@ import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.value.InjectedValue;
 import org.jboss.weld.ejb.spi.InterceptorBindings;
+import org.jboss.weld.serialization.spi.helpers.SerializableContextualInstance;
 
 /**
  * Interceptor for applying the JSR-299 specific interceptor bindings.
@@ -47,6 +51,8 @@ public class Jsr299BindingsInterceptor implements org.jboss.invocation.Intercept
 
     private final InterceptionType interceptionType;
     private final InjectedValue<InterceptorBindings> interceptorBindings = new InjectedValue<InterceptorBindings>();
+    // Interceptor chains are computed once per method, rather than on every invocation
+    private volatile InterceptorChains chains;
 
     private Jsr299BindingsInterceptor(InterceptionType interceptionType) {
         this.interceptionType = interceptionType;
@@ -58,26 +64,33 @@ public class Jsr299BindingsInterceptor implements org.jboss.invocation.Intercept
         return new ImmediateInterceptorFactory(interceptor);
     }
 
-    protected Object delegateInterception(InvocationContext invocationContext, InterceptionType interceptionType, List<Interceptor<?>> currentInterceptors, WeldInterceptorInstances interceptorInstances)
+    private Object delegateInterception(InvocationContext invocationContext, InterceptionType interceptionType, InterceptorChain chain, WeldInterceptorInstances interceptorInstances)
             throws Exception {
-        List<Object> currentInterceptorInstances = new ArrayList<Object>();
-        for (Interceptor<?> interceptor : currentInterceptors) {
-            currentInterceptorInstances.add(interceptorInstances.getInterceptorInstances().get(interceptor.getBeanClass().getName()).getInstance());
-        }
-        if (currentInterceptorInstances.size() > 0) {
-            return new DelegatingInterceptorInvocationContext(invocationContext, currentInterceptors, currentInterceptorInstances, interceptionType).proceed();
-        } else {
+        if (chain.interceptors.length == 0) {
             return invocationContext.proceed();
         }
-
+        Map<String, SerializableContextualInstance<Interceptor<Object>, Object>> instances = interceptorInstances.getInterceptorInstances();
+        Object[] currentInterceptorInstances = new Object[chain.interceptors.length];
+        for (int i = 0; i < chain.interceptors.length; ++i) {
+            currentInterceptorInstances[i] = instances.get(chain.beanClassNames[i]).getInstance();
+        }
+        return new DelegatingInterceptorInvocationContext(invocationContext, chain.interceptors, currentInterceptorInstances, interceptionType).proceed();
     }
 
-
     private Object doMethodInterception(InvocationContext invocationContext, InterceptionType interceptionType, WeldInterceptorInstances interceptorInstances, InterceptorBindings interceptorBindings)
             throws Exception {
         if (interceptorBindings != null) {
-            List<Interceptor<?>> currentInterceptors = interceptorBindings.getMethodInterceptors(interceptionType, invocationContext.getMethod());
-            return delegateInterception(invocationContext, interceptionType, currentInterceptors, interceptorInstances);
+            InterceptorChains chains = getInterceptorChains(interceptorBindings);
+            Method method = invocationContext.getMethod();
+            InterceptorChain chain = chains.methodChains.get(method);
+            if (chain == null) {
+                chain = new InterceptorChain(interceptorBindings.getMethodInterceptors(interceptionType, method));
+                InterceptorChain existing = chains.methodChains.putIfAbsent(method, chain);
+                if (existing != null) {
+                    chain = existing;
+                }
+            }
+            return delegateInterception(invocationContext, interceptionType, chain, interceptorInstances);
         } else {
             return invocationContext.proceed();
         }
@@ -113,8 +126,52 @@ public class Jsr299BindingsInterceptor implements org.jboss.invocation.Intercept
         if (interceptorBindings == null) {
             return context.proceed();
         } else {
-            List<Interceptor<?>> currentInterceptors = interceptorBindings.getLifecycleInterceptors(interceptionType);
-            return delegateInterception(context.getInvocationContext(), interceptionType, currentInterceptors, interceptorInstances);
+            InterceptorChains chains = getInterceptorChains(interceptorBindings);
+            InterceptorChain chain = chains.lifecycleChain;
+            if (chain == null) {
+                chain = new InterceptorChain(interceptorBindings.getLifecycleInterceptors(interceptionType));
+                chains.lifecycleChain = chain;
+            }
+            return delegateInterception(context.getInvocationContext(), interceptionType, chain, interceptorInstances);
+        }
+    }
+
+    private InterceptorChains getInterceptorChains(InterceptorBindings interceptorBindings) {
+        InterceptorChains chains = this.chains;
+        // interceptor bindings are replaced if the bindings service restarts
+        if ((chains == null) || (chains.bindings != interceptorBindings)) {
+            chains = new InterceptorChains(interceptorBindings);
+            this.chains = chains;
+        }
+        return chains;
+    }
+
+    /**
+     * Interceptor chains resolved from a given set of interceptor bindings.
+     */
+    private static class InterceptorChains {
+        final InterceptorBindings bindings;
+        final ConcurrentMap<Method, InterceptorChain> methodChains = new ConcurrentHashMap<Method, InterceptorChain>();
+        volatile InterceptorChain lifecycleChain;
+
+        InterceptorChains(InterceptorBindings bindings) {
+            this.bindings = bindings;
+        }
+    }
+
+    /**
+     * The CDI interceptors applicable to an interception, with the bean class names by which their instances are found.
+     */
+    private static class InterceptorChain {
+        final Interceptor<?>[] interceptors;
+        final String[] beanClassNames;
+
+        InterceptorChain(List<Interceptor<?>> interceptors) {
+            this.interceptors = interceptors.toArray(new Interceptor<?>[interceptors.size()]);
+            this.beanClassNames = new String[this.interceptors.length];
+            for (int i = 0; i < this.interceptors.length; ++i) {
+                this.beanClassNames[i] = this.interceptors[i].getBeanClass().getName();
+            }
         }
     }
 }
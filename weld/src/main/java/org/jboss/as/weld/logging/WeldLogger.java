@@ -22,6 +22,7 @@
 
 package org.jboss.as.weld.logging;
 
+import java.io.File;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Member;
@@ -249,4 +250,12 @@ public interface WeldLogger extends BasicLogger {
     @Message(id = 52, value = "Using deployment classloader to load proxy classes for module %s. Package-private access will not work. To fix this the module should declare dependencies on %s")
     void loadingProxiesUsingDeploymentClassLoader(ModuleIdentifier moduleIdentifier, String dependencies);
 
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 53, value = "Reused cached class index for %d of %d external bean archives of deployment %s")
+    void externalBeanArchivesCached(int hits, int archives, String deploymentName);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 54, value = "Could not cache bean archive metadata for %s")
+    void couldNotCacheBeanArchive(File archive, @Cause Throwable throwable);
+
 }
@@ -0,0 +1,155 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.weld.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BeanArchiveCacheTest {
+
+    private File directory;
+    private File archive;
+
+    @Before
+    public void init() throws IOException {
+        this.directory = Files.createTempDirectory("bean-archives").toFile();
+        this.archive = File.createTempFile("archive", ".jar");
+        write(this.archive, 10);
+    }
+
+    @After
+    public void destroy() {
+        for (File file : this.directory.listFiles()) {
+            file.delete();
+        }
+        this.directory.delete();
+        this.archive.delete();
+    }
+
+    @Test
+    public void testStoreAndLoad() throws IOException {
+        BeanArchiveCache cache = new BeanArchiveCache(this.directory);
+        assertNull(cache.load(this.archive));
+        cache.store(this.archive, index(BeanArchiveCache.class, UrlScanner.class));
+
+        // a new cache instance simulates a server restart
+        cache = new BeanArchiveCache(this.directory);
+        Index result = cache.load(this.archive);
+        assertNotNull(result);
+        assertEquals(2, result.getKnownClasses().size());
+        assertNotNull(result.getClassByName(DotName.createSimple(BeanArchiveCache.class.getName())));
+        assertNotNull(result.getClassByName(DotName.createSimple(UrlScanner.class.getName())));
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void testModifiedArchiveIsRescanned() throws IOException {
+        BeanArchiveCache cache = new BeanArchiveCache(this.directory);
+        cache.store(this.archive, index(BeanArchiveCache.class));
+        write(this.archive, 20);
+        assertNull(cache.load(this.archive));
+        assertEquals(1, cache.getMisses());
+
+        // the entry of the previous version is replaced
+        cache.store(this.archive, index(UrlScanner.class));
+        assertEquals(1, this.directory.listFiles().length);
+        Index result = cache.load(this.archive);
+        assertNotNull(result);
+        assertEquals(1, result.getKnownClasses().size());
+        assertNotNull(result.getClassByName(DotName.createSimple(UrlScanner.class.getName())));
+    }
+
+    @Test
+    public void testPrune() throws IOException {
+        File removed = File.createTempFile("removed", ".jar");
+        write(removed, 10);
+        BeanArchiveCache cache = new BeanArchiveCache(this.directory);
+        cache.store(this.archive, index(BeanArchiveCache.class));
+        cache.store(removed, index(UrlScanner.class));
+        assertEquals(2, this.directory.listFiles().length);
+        removed.delete();
+
+        cache = new BeanArchiveCache(this.directory);
+        cache.prune(System.currentTimeMillis());
+        assertEquals(1, this.directory.listFiles().length);
+        assertNotNull(cache.load(this.archive));
+    }
+
+    @Test
+    public void testPruneTemporaryFiles() throws IOException {
+        long time = System.currentTimeMillis();
+        // left behind by a store interrupted before the given time
+        File leftover = new File(this.directory, "leftover.index.tmp");
+        write(leftover, 10);
+        assertTrue(leftover.setLastModified(time - 60000));
+        // a store that may still be in progress
+        File current = new File(this.directory, "current.index.tmp");
+        write(current, 10);
+        assertTrue(current.setLastModified(time + 60000));
+
+        new BeanArchiveCache(this.directory).prune(time);
+        assertFalse(leftover.exists());
+        assertTrue(current.exists());
+    }
+
+    @Test
+    public void testDisabled() throws IOException {
+        BeanArchiveCache cache = new BeanArchiveCache(null);
+        cache.store(this.archive, index(BeanArchiveCache.class));
+        assertNull(cache.load(this.archive));
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, this.directory.listFiles().length);
+    }
+
+    private static Index index(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : classes) {
+            try (InputStream input = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+                indexer.index(input);
+            }
+        }
+        return indexer.complete();
+    }
+
+    private static void write(File file, int length) throws IOException {
+        try (FileOutputStream output = new FileOutputStream(file)) {
+            output.write(new byte[length]);
+        }
+    }
+}
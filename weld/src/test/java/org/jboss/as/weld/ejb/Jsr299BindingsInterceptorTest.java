@@ -0,0 +1,238 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.weld.ejb;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.InterceptionType;
+import javax.enterprise.inject.spi.Interceptor;
+import javax.interceptor.InvocationContext;
+
+import org.jboss.as.ee.component.ComponentInstance;
+import org.jboss.invocation.InterceptorContext;
+import org.jboss.msc.inject.Injector;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.weld.context.ejb.EjbRequestContext;
+import org.jboss.weld.ejb.spi.InterceptorBindings;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.serialization.spi.helpers.SerializableContextualInstance;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the interceptor chains computed by {@link Jsr299BindingsInterceptor}, and the request scope fast path of
+ * {@link EjbRequestScopeActivationInterceptor}.
+ */
+public class Jsr299BindingsInterceptorTest {
+
+    public static class Target {
+        int invocations = 0;
+
+        public void intercepted() {
+            this.invocations += 1;
+        }
+
+        public void notIntercepted() {
+            this.invocations += 1;
+        }
+    }
+
+    private final AtomicInteger interceptions = new AtomicInteger();
+    private final Map<String, SerializableContextualInstance<Interceptor<Object>, Object>> instances = new HashMap<String, SerializableContextualInstance<Interceptor<Object>, Object>>();
+    private final Target target = new Target();
+    private Method intercepted;
+    private Method notIntercepted;
+    private Injector<Object> injector;
+    private ComponentInstance componentInstance;
+
+    @Before
+    public void init() throws NoSuchMethodException {
+        this.intercepted = Target.class.getMethod("intercepted");
+        this.notIntercepted = Target.class.getMethod("notIntercepted");
+        final WeldInterceptorInstances interceptorInstances = new WeldInterceptorInstances(proxy(CreationalContext.class, null), this.instances);
+        this.componentInstance = proxy(ComponentInstance.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return "getInstanceData".equals(method.getName()) ? interceptorInstances : null;
+            }
+        });
+    }
+
+    @Test
+    public void testChainReused() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        org.jboss.invocation.Interceptor interceptor = this.createBindingsInterceptor(InterceptionType.AROUND_INVOKE);
+        this.injector.inject(this.createBindings(lookups, this.createCdiInterceptor(String.class), this.createCdiInterceptor(Integer.class)));
+
+        for (int i = 0; i < 3; ++i) {
+            this.invoke(interceptor, this.intercepted);
+            this.invoke(interceptor, this.notIntercepted);
+        }
+        assertEquals(6, this.target.invocations);
+        // both interceptors applied on each invocation of the intercepted method
+        assertEquals(6, this.interceptions.get());
+        // chain resolved once per method
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void testChainRebuiltWhenBindingsReplaced() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        org.jboss.invocation.Interceptor interceptor = this.createBindingsInterceptor(InterceptionType.AROUND_INVOKE);
+        this.injector.inject(this.createBindings(lookups, this.createCdiInterceptor(String.class), this.createCdiInterceptor(Integer.class)));
+        this.invoke(interceptor, this.intercepted);
+        assertEquals(2, this.interceptions.get());
+
+        // e.g. the bindings service restarts
+        AtomicInteger newLookups = new AtomicInteger();
+        this.injector.uninject();
+        this.injector.inject(this.createBindings(newLookups, this.createCdiInterceptor(Long.class)));
+        this.invoke(interceptor, this.intercepted);
+        this.invoke(interceptor, this.intercepted);
+
+        assertEquals(3, this.target.invocations);
+        assertEquals(4, this.interceptions.get());
+        assertEquals(1, lookups.get());
+        assertEquals(1, newLookups.get());
+    }
+
+    @Test
+    public void testRequestScopeFastPath() throws Exception {
+        final AtomicInteger activations = new AtomicInteger();
+        final EjbRequestContext requestContext = proxy(EjbRequestContext.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if ("activate".equals(method.getName())) {
+                    activations.incrementAndGet();
+                }
+                return "isActive".equals(method.getName()) ? Boolean.TRUE : null;
+            }
+        });
+        EjbRequestScopeActivationInterceptor interceptor = new EjbRequestScopeActivationInterceptor(ServiceName.of("weld")) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected BeanManagerImpl getBeanManager() {
+                throw new AssertionError("bean manager consulted although the EJB request context is active");
+            }
+
+            @Override
+            protected EjbRequestContext getEjbRequestContext() {
+                return requestContext;
+            }
+        };
+
+        this.invoke(interceptor, this.intercepted);
+
+        assertEquals(1, this.target.invocations);
+        assertEquals(0, activations.get());
+    }
+
+    private org.jboss.invocation.Interceptor createBindingsInterceptor(InterceptionType type) {
+        ServiceBuilder<?> builder = proxy(ServiceBuilder.class, new InvocationHandler() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if ("addDependency".equals(method.getName())) {
+                    Jsr299BindingsInterceptorTest.this.injector = (Injector<Object>) args[args.length - 1];
+                }
+                return proxy;
+            }
+        });
+        return Jsr299BindingsInterceptor.factory(type, builder, ServiceName.of("bindings")).create(null);
+    }
+
+    private InterceptorBindings createBindings(final AtomicInteger lookups, Interceptor<?>... interceptors) {
+        final List<Interceptor<?>> chain = Arrays.asList(interceptors);
+        return proxy(InterceptorBindings.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if ("getMethodInterceptors".equals(method.getName())) {
+                    lookups.incrementAndGet();
+                    return Jsr299BindingsInterceptorTest.this.intercepted.equals(args[1]) ? chain : Collections.<Interceptor<?>>emptyList();
+                }
+                return Collections.emptyList();
+            }
+        });
+    }
+
+    private Interceptor<?> createCdiInterceptor(final Class<?> beanClass) {
+        final Object instance = new Object();
+        this.instances.put(beanClass.getName(), proxy(SerializableContextualInstance.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return "getInstance".equals(method.getName()) ? instance : null;
+            }
+        }));
+        return proxy(Interceptor.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Exception {
+                if ("intercept".equals(method.getName())) {
+                    assertEquals(instance, args[1]);
+                    Jsr299BindingsInterceptorTest.this.interceptions.incrementAndGet();
+                    return ((InvocationContext) args[2]).proceed();
+                }
+                if ("getBeanClass".equals(method.getName())) {
+                    return beanClass;
+                }
+                return null;
+            }
+        });
+    }
+
+    private void invoke(org.jboss.invocation.Interceptor interceptor, Method method) throws Exception {
+        InterceptorContext context = new InterceptorContext();
+        context.putPrivateData(ComponentInstance.class, this.componentInstance);
+        context.setTarget(this.target);
+        context.setMethod(method);
+        context.setParameters(new Object[0]);
+        context.setInterceptors(Arrays.asList(interceptor, new org.jboss.invocation.Interceptor() {
+            @Override
+            public Object processInvocation(InterceptorContext context) throws Exception {
+                return context.getMethod().invoke(context.getTarget());
+            }
+        }));
+        context.proceed();
+    }
+
+    private static <T> T proxy(Class<T> targetClass, InvocationHandler handler) {
+        InvocationHandler nullHandler = new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return null;
+            }
+        };
+        return targetClass.cast(Proxy.newProxyInstance(targetClass.getClassLoader(), new Class<?>[] { targetClass }, (handler != null) ? handler : nullHandler));
+    }
+}